@@ -0,0 +1,30 @@
+package com.vaultstream.account.application.command;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * One deposit or withdrawal within a bulk posting.
+ */
+@Value
+@Builder
+public class PostingCommand {
+
+    UUID accountId;
+    Type type;
+    BigDecimal amount;
+    String description;
+
+    /**
+     * Client-chosen reference; a posting whose reference was already used on the account is not posted again
+     */
+    String transactionReference;
+
+    public enum Type {
+        DEPOSIT,
+        WITHDRAWAL
+    }
+}
@@ -0,0 +1,37 @@
+package com.vaultstream.account.application.command;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Command to move money from one account to another.
+ */
+@Value
+@Builder
+public class TransferMoneyCommand {
+
+    @NotNull(message = "Source account ID is required")
+    UUID sourceAccountId;
+
+    @NotNull(message = "Target account ID is required")
+    UUID targetAccountId;
+
+    @Positive(message = "Amount must be positive")
+    BigDecimal amount;
+
+    @NotBlank(message = "Description is required")
+    String description;
+
+    /**
+     * Client-chosen reference, recorded on both legs of the transfer
+     */
+    @Size(max = 100, message = "Transaction reference must be at most 100 characters")
+    String transactionReference;
+}
@@ -3,6 +3,7 @@ package com.vaultstream.account.application.command;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
 import lombok.Builder;
 import lombok.Value;
 
@@ -25,5 +26,9 @@ public class WithdrawMoneyCommand {
     @NotBlank(message = "Description is required")
     String description;
 
+    /**
+     * Client-chosen reference; a repeat with the same reference returns the original result
+     */
+    @Size(max = 100, message = "Transaction reference must be at most 100 characters")
     String transactionReference;
 }
@@ -0,0 +1,24 @@
+package com.vaultstream.account.application.dto;
+
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * One account's closing balance and posting volume for one UTC day.
+ */
+@Value
+@Builder
+@Jacksonized
+public class AccountDailyRollupDto {
+
+    LocalDate date;
+    BigDecimal closingBalance;
+    BigDecimal depositTotal;
+    long depositCount;
+    BigDecimal withdrawalTotal;
+    long withdrawalCount;
+}
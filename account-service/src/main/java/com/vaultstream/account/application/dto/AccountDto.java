@@ -5,6 +5,7 @@ import com.vaultstream.account.domain.model.AccountStatus;
 import com.vaultstream.account.domain.model.AccountType;
 import lombok.Builder;
 import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
 
 import java.math.BigDecimal;
 import java.time.Instant;
@@ -16,6 +17,7 @@ import java.util.UUID;
  */
 @Value
 @Builder
+@Jacksonized
 public class AccountDto {
 
     String id;
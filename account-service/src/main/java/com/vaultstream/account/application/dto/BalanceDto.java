@@ -0,0 +1,29 @@
+package com.vaultstream.account.application.dto;
+
+import com.vaultstream.account.domain.model.AccountStatus;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Balance and status of an account at a point in time.
+ */
+@Value
+@Builder
+@Jacksonized
+public class BalanceDto {
+
+    String accountId;
+    Instant asOf;
+    BigDecimal balance;
+    String currency;
+    AccountStatus status;
+
+    /**
+     * Stream version of the account at asOf
+     */
+    long version;
+}
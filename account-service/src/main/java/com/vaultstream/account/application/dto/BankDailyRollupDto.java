@@ -0,0 +1,32 @@
+package com.vaultstream.account.application.dto;
+
+import com.vaultstream.account.domain.model.AccountType;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Bank-wide balances and posting volume for one UTC day, currency and account type.
+ */
+@Value
+@Builder
+@Jacksonized
+public class BankDailyRollupDto {
+
+    LocalDate date;
+    String currency;
+    AccountType accountType;
+
+    /**
+     * Sum of the closing balances of every account in the group
+     */
+    BigDecimal closingBalance;
+    BigDecimal depositTotal;
+    long depositCount;
+    BigDecimal withdrawalTotal;
+    long withdrawalCount;
+    long accountsOpened;
+}
@@ -0,0 +1,30 @@
+package com.vaultstream.account.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+import java.math.BigDecimal;
+
+/**
+ * Outcome of one line of a bulk posting.
+ */
+@Value
+@Builder
+@Jacksonized
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PostingResultDto {
+
+    public static final String APPLIED = "APPLIED";
+    public static final String REJECTED = "REJECTED";
+
+    /**
+     * 1-based line (NDJSON) or element (JSON array) number in the request
+     */
+    long line;
+    String accountId;
+    String status;
+    BigDecimal balance;
+    String error;
+}
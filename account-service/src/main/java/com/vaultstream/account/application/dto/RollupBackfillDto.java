@@ -0,0 +1,43 @@
+package com.vaultstream.account.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.vaultstream.account.infrastructure.persistence.rollup.DailyRollupBackfill;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+import java.time.Instant;
+
+/**
+ * Progress of the latest daily rollup backfill on this instance.
+ */
+@Value
+@Builder
+@Jacksonized
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class RollupBackfillDto {
+
+    DailyRollupBackfill.State state;
+    Instant startedAt;
+    Instant finishedAt;
+
+    /**
+     * Accounts folded, once completed
+     */
+    Long accountsRebuilt;
+
+    /**
+     * Failure message, once failed
+     */
+    String error;
+
+    public static RollupBackfillDto fromStatus(DailyRollupBackfill.Status status) {
+        return RollupBackfillDto.builder()
+                .state(status.state())
+                .startedAt(status.startedAt())
+                .finishedAt(status.finishedAt())
+                .accountsRebuilt(status.accounts())
+                .error(status.error())
+                .build();
+    }
+}
@@ -0,0 +1,76 @@
+package com.vaultstream.account.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.vaultstream.account.domain.event.AccountEvent;
+import com.vaultstream.account.domain.event.MoneyDepositedEvent;
+import com.vaultstream.account.domain.event.MoneyWithdrawnEvent;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * One line of an account statement: a deposit or a withdrawal.
+ */
+@Value
+@Builder
+@Jacksonized
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TransactionDto {
+
+    public static final String DEPOSIT = "DEPOSIT";
+    public static final String WITHDRAWAL = "WITHDRAWAL";
+
+    /**
+     * Position in the account's event stream; also the paging cursor
+     */
+    long version;
+    String eventId;
+    String type;
+    BigDecimal amount;
+    BigDecimal balanceAfter;
+    String description;
+    String transactionReference;
+    String transferId;
+    String counterpartyAccountId;
+    Instant occurredAt;
+
+    /**
+     * @throws IllegalArgumentException if the event is not a deposit or withdrawal
+     */
+    public static TransactionDto fromEvent(long version, AccountEvent event) {
+        TransactionDtoBuilder builder = TransactionDto.builder()
+                .version(version)
+                .eventId(event.getEventId().toString())
+                .occurredAt(event.getOccurredAt());
+        return switch (event) {
+            case MoneyDepositedEvent e -> builder
+                    .type(DEPOSIT)
+                    .amount(e.getAmount())
+                    .balanceAfter(e.getBalanceAfter())
+                    .description(e.getDescription())
+                    .transactionReference(e.getTransactionReference())
+                    .transferId(toString(e.getTransferId()))
+                    .counterpartyAccountId(toString(e.getCounterpartyAccountId()))
+                    .build();
+            case MoneyWithdrawnEvent e -> builder
+                    .type(WITHDRAWAL)
+                    .amount(e.getAmount())
+                    .balanceAfter(e.getBalanceAfter())
+                    .description(e.getDescription())
+                    .transactionReference(e.getTransactionReference())
+                    .transferId(toString(e.getTransferId()))
+                    .counterpartyAccountId(toString(e.getCounterpartyAccountId()))
+                    .build();
+            default -> throw new IllegalArgumentException("Not a monetary event: " + event.getEventType());
+        };
+    }
+
+    private static String toString(UUID id) {
+        return Objects.toString(id, null);
+    }
+}
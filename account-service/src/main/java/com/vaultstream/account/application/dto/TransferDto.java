@@ -0,0 +1,22 @@
+package com.vaultstream.account.application.dto;
+
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO for a committed transfer, with both accounts as they stood afterwards.
+ */
+@Value
+@Builder
+@Jacksonized
+public class TransferDto {
+
+    String transferId;
+    BigDecimal amount;
+    String currency;
+    AccountDto source;
+    AccountDto target;
+}
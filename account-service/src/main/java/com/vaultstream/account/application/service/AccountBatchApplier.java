@@ -0,0 +1,90 @@
+package com.vaultstream.account.application.service;
+
+import com.vaultstream.account.application.dto.AccountDto;
+import com.vaultstream.account.domain.model.Account;
+import com.vaultstream.account.infrastructure.persistence.EventStore;
+import com.vaultstream.common.exception.ResourceNotFoundException;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Applies many account commands in a single transaction.
+ *
+ * All touched aggregates are loaded with one multi-aggregate read, commands
+ * are applied in order, and every resulting event is appended in one batched
+ * write. A command that the aggregate rejects is reported on its own and
+ * does not fail the others. This relies on Account validating before it
+ * raises any event, so a rejected command leaves the aggregate untouched.
+ */
+@Slf4j
+@ApplicationScoped
+public class AccountBatchApplier {
+
+    @Inject
+    EventStore eventStore;
+
+    /**
+     * Apply commands in order and commit their events together.
+     *
+     * @return one result per command, in the same order
+     * @throws RuntimeException if the transaction itself fails, in which case nothing was committed
+     */
+    public List<BatchResult> apply(List<BatchCommand> commands) {
+        return QuarkusTransaction.requiringNew().call(() -> {
+            List<UUID> accountIds = commands.stream().map(BatchCommand::accountId).toList();
+            Map<UUID, Account> accounts = eventStore.loadAggregates(accountIds);
+
+            List<BatchResult> results = new ArrayList<>(commands.size());
+            for (BatchCommand command : commands) {
+                Account account = accounts.get(command.accountId());
+                if (account == null) {
+                    results.add(BatchResult.rejected(
+                            new ResourceNotFoundException("Account", command.accountId().toString())));
+                    continue;
+                }
+                try {
+                    command.action().accept(account);
+                    results.add(BatchResult.applied(AccountDto.fromAggregate(account)));
+                } catch (RuntimeException e) {
+                    results.add(BatchResult.rejected(e));
+                }
+            }
+
+            eventStore.saveEvents(accounts.values());
+            log.debug("Applied batch of {} commands over {} accounts", commands.size(), accounts.size());
+            return results;
+        });
+    }
+
+    /**
+     * A command against one account
+     */
+    public record BatchCommand(UUID accountId, Consumer<Account> action) {
+    }
+
+    /**
+     * Outcome of one command: the account state right after it, or why it was rejected
+     */
+    public record BatchResult(AccountDto account, RuntimeException failure) {
+
+        static BatchResult applied(AccountDto account) {
+            return new BatchResult(account, null);
+        }
+
+        static BatchResult rejected(RuntimeException failure) {
+            return new BatchResult(null, failure);
+        }
+
+        public boolean isApplied() {
+            return failure == null;
+        }
+    }
+}
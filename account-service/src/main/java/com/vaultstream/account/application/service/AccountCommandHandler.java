@@ -2,35 +2,106 @@ package com.vaultstream.account.application.service;
 
 import com.vaultstream.account.application.command.CreateAccountCommand;
 import com.vaultstream.account.application.command.DepositMoneyCommand;
+import com.vaultstream.account.application.command.PostingCommand;
+import com.vaultstream.account.application.command.TransferMoneyCommand;
 import com.vaultstream.account.application.command.WithdrawMoneyCommand;
 import com.vaultstream.account.application.dto.AccountDto;
+import com.vaultstream.account.application.dto.RollupBackfillDto;
+import com.vaultstream.account.application.dto.TransferDto;
+import com.vaultstream.account.application.service.AccountBatchApplier.BatchCommand;
+import com.vaultstream.account.application.service.AccountBatchApplier.BatchResult;
 import com.vaultstream.account.domain.model.Account;
 import com.vaultstream.account.domain.model.Money;
+import com.vaultstream.account.infrastructure.persistence.AccountSummaryProjection;
 import com.vaultstream.account.infrastructure.persistence.EventStore;
+import com.vaultstream.account.infrastructure.persistence.IdempotencyStore;
+import com.vaultstream.account.infrastructure.persistence.IdempotencyStore.Operation;
+import com.vaultstream.account.infrastructure.persistence.rollup.DailyRollupBackfill;
+import com.vaultstream.common.exception.ConcurrencyException;
+import com.vaultstream.common.exception.IdempotencyConflictException;
 import com.vaultstream.common.exception.ResourceNotFoundException;
+import com.vaultstream.common.util.IdGenerator;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Currency;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 /**
  * Account Command Handler - CQRS Write Side.
  * 
  * Handles commands, coordinates with aggregates, and persists events.
+ * Commands on existing accounts go through the AccountCommandSequencer so
+ * that they are applied one at a time per account.
  */
 @Slf4j
 @ApplicationScoped
 public class AccountCommandHandler {
 
-    private static final AtomicInteger accountCounter = new AtomicInteger(0);
-
     @Inject
     EventStore eventStore;
 
+    @Inject
+    AccountNumberGenerator accountNumberGenerator;
+
+    @Inject
+    AccountCommandSequencer sequencer;
+
+    @Inject
+    AccountBatchApplier batchApplier;
+
+    @Inject
+    AccountSummaryProjection summaryProjection;
+
+    @Inject
+    IdempotencyStore idempotencyStore;
+
+    @Inject
+    DailyRollupBackfill rollupBackfill;
+
+    @ConfigProperty(name = "vaultstream.group-commit.enabled", defaultValue = "false")
+    boolean groupCommitEnabled;
+
+    @ConfigProperty(name = "vaultstream.group-commit.window", defaultValue = "5ms")
+    Duration groupCommitWindow;
+
+    @ConfigProperty(name = "vaultstream.group-commit.max-batch-size", defaultValue = "256")
+    int groupCommitMaxBatchSize;
+
+    @ConfigProperty(name = "vaultstream.transfer.max-attempts", defaultValue = "5")
+    int transferMaxAttempts;
+
+    @ConfigProperty(name = "vaultstream.batch-postings.max-attempts", defaultValue = "3")
+    int batchPostingMaxAttempts;
+
+    private GroupCommitPipeline groupCommit;
+
+    @PostConstruct
+    void init() {
+        if (groupCommitEnabled) {
+            groupCommit = new GroupCommitPipeline(batchApplier, sequencer, groupCommitWindow, groupCommitMaxBatchSize);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (groupCommit != null) {
+            groupCommit.close();
+        }
+    }
+
     /**
      * Create a new account
      */
@@ -38,7 +109,7 @@ public class AccountCommandHandler {
     public AccountDto createAccount(CreateAccountCommand command) {
         log.info("Creating account for customer: {}", command.getCustomerId());
 
-        String accountNumber = generateAccountNumber();
+        String accountNumber = accountNumberGenerator.generate();
         Currency currency = Currency.getInstance(command.getCurrency());
         Money initialBalance = Money.of(command.getInitialDeposit(), currency);
 
@@ -63,84 +134,349 @@ public class AccountCommandHandler {
     /**
      * Deposit money into an account
      */
-    @Transactional
     public AccountDto deposit(DepositMoneyCommand command) {
         log.info("Depositing {} to account: {}", command.getAmount(), command.getAccountId());
 
-        Account account = loadAccount(command.getAccountId());
-        Money amount = Money.of(command.getAmount(), account.getBalance().currency());
+        IdempotencyStore.Request request = new IdempotencyStore.Request(
+                command.getAccountId(), command.getTransactionReference(), Operation.DEPOSIT, command.getAmount());
+        AccountDto result = postMoney(request, account -> {
+            Money amount = Money.of(command.getAmount(), account.getBalance().currency());
+            account.deposit(amount, command.getDescription(), command.getTransactionReference());
+        });
 
-        account.deposit(amount, command.getDescription(), command.getTransactionReference());
-        eventStore.saveEvents(account);
-
-        log.info("Deposit successful. New balance: {}", account.getBalance().amount());
-        return AccountDto.fromAggregate(account);
+        log.info("Deposit successful. New balance: {}", result.getBalance());
+        return result;
     }
 
     /**
      * Withdraw money from an account
      */
-    @Transactional
     public AccountDto withdraw(WithdrawMoneyCommand command) {
         log.info("Withdrawing {} from account: {}", command.getAmount(), command.getAccountId());
 
-        Account account = loadAccount(command.getAccountId());
-        Money amount = Money.of(command.getAmount(), account.getBalance().currency());
+        IdempotencyStore.Request request = new IdempotencyStore.Request(
+                command.getAccountId(), command.getTransactionReference(), Operation.WITHDRAWAL, command.getAmount());
+        AccountDto result = postMoney(request, account -> {
+            Money amount = Money.of(command.getAmount(), account.getBalance().currency());
+            account.withdraw(amount, command.getDescription(), command.getTransactionReference());
+        });
 
-        account.withdraw(amount, command.getDescription(), command.getTransactionReference());
-        eventStore.saveEvents(account);
+        log.info("Withdrawal successful. New balance: {}", result.getBalance());
+        return result;
+    }
 
-        log.info("Withdrawal successful. New balance: {}", account.getBalance().amount());
-        return AccountDto.fromAggregate(account);
+    /**
+     * Post a chunk of deposits and withdrawals in one transaction.
+     *
+     * Every touched account is loaded once and its postings are applied in
+     * order to that one aggregate, so a settlement file with many lines per
+     * account costs one read and one append per account. A posting the
+     * account rejects is reported on its own. If the chunk loses a version
+     * race with another writer, it is retried against fresh state; once the
+     * attempts are used up it is split in halves, so the postings of a
+     * contended account end up committed on their own and the rest of the
+     * chunk still goes through. If the chunk's transaction fails for any
+     * other reason, its postings are applied one by one the way single
+     * deposits and withdrawals are, so every line still gets a result.
+     *
+     * @return one result per posting, in the same order
+     */
+    public List<BatchResult> postBatch(List<PostingCommand> postings) {
+        BatchResult[] results = new BatchResult[postings.size()];
+        applyPostings(postings, 0, postings.size(), results);
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Apply postings [from, to) as one chunk into results. The halves of a
+     * split chunk are applied in order, so postings to the same account are
+     * still applied in file order.
+     */
+    private void applyPostings(List<PostingCommand> postings, int from, int to, BatchResult[] results) {
+        AccountDto[] replayed = new AccountDto[to - from];
+        List<BatchCommand> commands = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            int index = i - from;
+            PostingCommand posting = postings.get(i);
+            IdempotencyStore.Request request = postingRequest(posting);
+            commands.add(new BatchCommand(posting.getAccountId(), account -> {
+                replayed[index] = null;
+                if (request.transactionReference() != null) {
+                    AccountDto previous = idempotencyStore.find(request, AccountDto.class).orElse(null);
+                    if (previous != null) {
+                        replayed[index] = previous;
+                        return;
+                    }
+                }
+                post(account, posting);
+                if (request.transactionReference() != null) {
+                    idempotencyStore.record(request, AccountDto.fromAggregate(account));
+                }
+            }));
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                List<BatchResult> applied = batchApplier.apply(commands);
+                for (int i = 0; i < applied.size(); i++) {
+                    results[from + i] = replayed[i] != null ? BatchResult.applied(replayed[i]) : applied.get(i);
+                }
+                return;
+            } catch (ConcurrencyException e) {
+                if (attempt < batchPostingMaxAttempts) {
+                    log.debug("Posting chunk hit a concurrent update, retrying (attempt {})", attempt);
+                    continue;
+                }
+                if (to - from == 1) {
+                    log.warn("Posting to account {} kept conflicting after {} attempts",
+                            postings.get(from).getAccountId(), attempt);
+                    results[from] = BatchResult.rejected(e);
+                    return;
+                }
+                log.debug("Posting chunk of {} kept conflicting, splitting it", to - from);
+                int middle = (from + to) >>> 1;
+                applyPostings(postings, from, middle, results);
+                applyPostings(postings, middle, to, results);
+                return;
+            } catch (RuntimeException e) {
+                log.warn("Posting chunk of {} failed, applying its postings one by one", to - from, e);
+                for (int i = from; i < to; i++) {
+                    results[i] = postOne(postings.get(i));
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Apply one posting in its own transaction, reporting a failure as its result
+     */
+    private BatchResult postOne(PostingCommand posting) {
+        try {
+            return BatchResult.applied(postMoney(postingRequest(posting), account -> post(account, posting)));
+        } catch (RuntimeException e) {
+            return BatchResult.rejected(e);
+        }
+    }
+
+    private static IdempotencyStore.Request postingRequest(PostingCommand posting) {
+        return new IdempotencyStore.Request(posting.getAccountId(), posting.getTransactionReference(),
+                posting.getType() == PostingCommand.Type.WITHDRAWAL ? Operation.WITHDRAWAL : Operation.DEPOSIT,
+                posting.getAmount());
+    }
+
+    /**
+     * Move money between two accounts in one transaction.
+     *
+     * The debit and the credit are appended together, each carrying the
+     * transfer ID and the other account, so neither leg is ever visible
+     * without the other. Transfers bypass the per-account sequencer since
+     * they span two accounts; the version check on append is what keeps them
+     * consistent with concurrent commands, and a lost race is retried against
+     * fresh state.
+     *
+     * A transaction reference is checked and recorded on the source account
+     * in the transfer's transaction, the same way deposits and withdrawals
+     * are, so a client retry after a timeout answers with the original
+     * transfer instead of moving the money twice.
+     */
+    public TransferDto transfer(TransferMoneyCommand command) {
+        if (command.getSourceAccountId().equals(command.getTargetAccountId())) {
+            throw new IllegalArgumentException("Cannot transfer to the same account");
+        }
+        log.info("Transferring {} from account: {} to account: {}",
+                command.getAmount(), command.getSourceAccountId(), command.getTargetAccountId());
+
+        IdempotencyStore.Request request = command.getTransactionReference() != null
+                ? new IdempotencyStore.Request(command.getSourceAccountId(), command.getTransactionReference(),
+                        Operation.TRANSFER, command.getAmount(), command.getTargetAccountId())
+                : null;
+        UUID transferId = IdGenerator.generateTimeOrderedUUID();
+        try {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    TransferDto result = QuarkusTransaction.requiringNew()
+                            .call(() -> applyTransfer(command, transferId, request));
+                    log.info("Transfer {} committed", result.getTransferId());
+                    return result;
+                } catch (ConcurrencyException e) {
+                    if (attempt >= transferMaxAttempts) {
+                        throw e;
+                    }
+                    log.debug("Transfer {} hit a concurrent update, retrying (attempt {})", transferId, attempt);
+                }
+            }
+        } catch (IdempotencyConflictException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            if (request == null) {
+                throw e;
+            }
+            return idempotencyStore.findCommitted(request, TransferDto.class).orElseThrow(() -> e);
+        }
     }
 
     /**
      * Activate an account
      */
-    @Transactional
     public AccountDto activateAccount(UUID accountId) {
         log.info("Activating account: {}", accountId);
 
-        Account account = loadAccount(accountId);
-        account.activate();
-        eventStore.saveEvents(account);
-
-        return AccountDto.fromAggregate(account);
+        return sequencer.execute(accountId, Account::activate);
     }
 
     /**
      * Freeze an account
      */
-    @Transactional
     public AccountDto freezeAccount(UUID accountId, String reason) {
         log.info("Freezing account: {} - Reason: {}", accountId, reason);
 
-        Account account = loadAccount(accountId);
-        account.freeze(reason);
-        eventStore.saveEvents(account);
-
-        return AccountDto.fromAggregate(account);
+        return sequencer.execute(accountId, account -> account.freeze(reason));
     }
 
     /**
      * Close an account
      */
-    @Transactional
     public void closeAccount(UUID accountId, String reason) {
         log.info("Closing account: {} - Reason: {}", accountId, reason);
 
-        Account account = loadAccount(accountId);
-        account.close(reason);
-        eventStore.saveEvents(account);
+        sequencer.execute(accountId, account -> account.close(reason));
     }
 
-    private Account loadAccount(UUID accountId) {
-        return eventStore.loadAggregate(accountId)
-                .orElseThrow(() -> new ResourceNotFoundException("Account", accountId.toString()));
+    /**
+     * Rebuild the account_summary read model from the event store
+     *
+     * @return number of accounts projected
+     */
+    public long rebuildAccountSummaries() {
+        return summaryProjection.rebuild();
+    }
+
+    /**
+     * Start rebuilding the daily rollups from the event store in the background
+     *
+     * @return the status of the backfill just started
+     */
+    public RollupBackfillDto rebuildDailyRollups() {
+        return RollupBackfillDto.fromStatus(rollupBackfill.start());
     }
 
-    private String generateAccountNumber() {
-        int counter = accountCounter.incrementAndGet();
-        return String.format("ACC-%08d", counter);
+    /**
+     * Progress of the latest daily rollup backfill on this instance
+     */
+    public RollupBackfillDto getDailyRollupBackfill() {
+        return RollupBackfillDto.fromStatus(rollupBackfill.status());
+    }
+
+    /**
+     * Both aggregates are loaded and appended in ascending account ID order.
+     * Opposite transfers over the same pair therefore take their row and
+     * index locks in the same order and cannot deadlock each other; one of
+     * them fails the version check instead.
+     *
+     * @param request idempotency key of the transfer, or null if it has no reference
+     */
+    private TransferDto applyTransfer(TransferMoneyCommand command, UUID transferId, IdempotencyStore.Request request) {
+        if (request != null) {
+            TransferDto previous = idempotencyStore.find(request, TransferDto.class).orElse(null);
+            if (previous != null) {
+                log.info("Replayed transaction reference {} on account: {}",
+                        request.transactionReference(), request.accountId());
+                return previous;
+            }
+        }
+
+        UUID sourceId = command.getSourceAccountId();
+        UUID targetId = command.getTargetAccountId();
+        List<UUID> ordered = sourceId.compareTo(targetId) < 0 ? List.of(sourceId, targetId) : List.of(targetId, sourceId);
+
+        Map<UUID, Account> accounts = eventStore.loadAggregates(ordered);
+        Account source = requireLoaded(accounts, sourceId);
+        Account target = requireLoaded(accounts, targetId);
+        if (!source.getBalance().currency().equals(target.getBalance().currency())) {
+            throw new IllegalArgumentException("Cannot transfer between accounts in different currencies");
+        }
+
+        Money amount = Money.of(command.getAmount(), source.getBalance().currency());
+        source.transferOut(amount, transferId, targetId, command.getDescription(), command.getTransactionReference());
+        target.transferIn(amount, transferId, sourceId, command.getDescription(), command.getTransactionReference());
+        eventStore.saveEvents(List.of(accounts.get(ordered.get(0)), accounts.get(ordered.get(1))));
+
+        TransferDto result = TransferDto.builder()
+                .transferId(transferId.toString())
+                .amount(amount.amount())
+                .currency(amount.currency().getCurrencyCode())
+                .source(AccountDto.fromAggregate(source))
+                .target(AccountDto.fromAggregate(target))
+                .build();
+        if (request != null) {
+            idempotencyStore.record(request, result);
+        }
+        return result;
+    }
+
+    private static void post(Account account, PostingCommand posting) {
+        if (posting.getType() == null) {
+            throw new IllegalArgumentException("Posting type is required");
+        }
+        Money amount = Money.of(posting.getAmount(), account.getBalance().currency());
+        switch (posting.getType()) {
+            case DEPOSIT -> account.deposit(amount, posting.getDescription(), posting.getTransactionReference());
+            case WITHDRAWAL -> account.withdraw(amount, posting.getDescription(), posting.getTransactionReference());
+        }
+    }
+
+    private static Account requireLoaded(Map<UUID, Account> accounts, UUID accountId) {
+        Account account = accounts.get(accountId);
+        if (account == null) {
+            throw new ResourceNotFoundException("Account", accountId.toString());
+        }
+        return account;
+    }
+
+    /**
+     * Post a deposit or withdrawal at most once per transaction reference.
+     * 
+     * The duplicate check and the stored response share the command's
+     * transaction. If a concurrent retry with the same reference commits
+     * first, this command fails on the idempotency key and answers with the
+     * response that was stored. A reference reused for a different operation
+     * or amount fails with an IdempotencyConflictException.
+     */
+    private AccountDto postMoney(IdempotencyStore.Request request, Consumer<Account> command) {
+        UUID accountId = request.accountId();
+        if (request.transactionReference() == null) {
+            return dispatch(accountId, command);
+        }
+
+        AccountDto[] replayed = new AccountDto[1];
+        try {
+            AccountDto result = dispatch(accountId, account -> {
+                replayed[0] = idempotencyStore.find(request, AccountDto.class).orElse(null);
+                if (replayed[0] == null) {
+                    command.accept(account);
+                    idempotencyStore.record(request, AccountDto.fromAggregate(account));
+                }
+            });
+            if (replayed[0] != null) {
+                log.info("Replayed transaction reference {} on account: {}", request.transactionReference(), accountId);
+                return replayed[0];
+            }
+            return result;
+        } catch (IdempotencyConflictException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            return idempotencyStore.findCommitted(request, AccountDto.class).orElseThrow(() -> e);
+        }
+    }
+
+    /**
+     * Deposits and withdrawals are group-committed when enabled, since they
+     * are the high-volume commands (payroll, card settlement)
+     */
+    private AccountDto dispatch(UUID accountId, Consumer<Account> command) {
+        return groupCommit != null
+                ? groupCommit.submit(accountId, command)
+                : sequencer.execute(accountId, command);
     }
 }
@@ -0,0 +1,218 @@
+package com.vaultstream.account.application.service;
+
+import com.vaultstream.account.application.dto.AccountDto;
+import com.vaultstream.account.domain.model.Account;
+import com.vaultstream.account.infrastructure.persistence.EventStore;
+import com.vaultstream.common.exception.ConcurrencyException;
+import com.vaultstream.common.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Runs commands one at a time per account, in arrival order.
+ *
+ * Account IDs are hashed onto a fixed number of stripes. Each stripe has a
+ * lock-free queue drained by at most one virtual thread at a time, so
+ * commands on the same account never race each other to the event store
+ * while commands on accounts in different stripes run in parallel.
+ *
+ * During a burst the drainer keeps the most recently committed aggregates
+ * of its stripe in a small LRU map, and only reloads an account after a
+ * failure, once it is evicted, or once its stripe goes idle. Another node
+ * can still append to the same account; that surfaces as a
+ * ConcurrencyException, after which the aggregate is reloaded and the
+ * command retried once.
+ *
+ * Commands must not call execute() themselves: a command runs on its
+ * stripe's drainer, and waiting there for another command on the same
+ * stripe would never return. Such calls are rejected.
+ */
+@Slf4j
+@ApplicationScoped
+public class AccountCommandSequencer {
+
+    /**
+     * Set on a drainer thread, to reject execute() calls from inside a command
+     */
+    private static final ThreadLocal<Boolean> DRAINING = ThreadLocal.withInitial(() -> false);
+
+    private final EventStore eventStore;
+    private final boolean enabled;
+    private final Stripe[] stripes;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Inject
+    public AccountCommandSequencer(
+            EventStore eventStore,
+            MeterRegistry registry,
+            @ConfigProperty(name = "vaultstream.command-sequencer.enabled", defaultValue = "true") boolean enabled,
+            @ConfigProperty(name = "vaultstream.command-sequencer.stripes", defaultValue = "64") int stripeCount,
+            @ConfigProperty(name = "vaultstream.command-sequencer.hot-aggregates", defaultValue = "32") int hotAggregates) {
+        this.eventStore = eventStore;
+        this.enabled = enabled;
+        this.stripes = new Stripe[stripeCount];
+
+        for (int i = 0; i < stripeCount; i++) {
+            Stripe stripe = new Stripe(hotAggregates, Timer.builder("vaultstream.account.sequencer.wait")
+                    .description("Time a command waited in its stripe queue")
+                    .tag("service", "account-service")
+                    .tag("stripe", String.valueOf(i))
+                    .register(registry));
+            Gauge.builder("vaultstream.account.sequencer.queue.depth", stripe.depth, AtomicInteger::get)
+                    .description("Commands waiting in a stripe queue")
+                    .tag("service", "account-service")
+                    .tag("stripe", String.valueOf(i))
+                    .register(registry);
+            stripes[i] = stripe;
+        }
+
+        log.info("Account command sequencer initialized (enabled={}, stripes={})", enabled, stripeCount);
+    }
+
+    /**
+     * Apply a command to an account and persist the resulting events.
+     *
+     * Blocks until the command has committed or failed, and rethrows the
+     * command's own exception on failure.
+     *
+     * @param command mutates the loaded aggregate; runs inside the saving transaction
+     * @return the account state after the command committed
+     * @throws IllegalStateException if called from inside a sequenced command
+     */
+    public AccountDto execute(UUID accountId, Consumer<Account> command) {
+        if (!enabled) {
+            return applyAndSave(accountId, command, null);
+        }
+
+        if (DRAINING.get()) {
+            throw new IllegalStateException("execute() cannot be called from inside a sequenced command");
+        }
+
+        Task task = new Task(accountId, command, System.nanoTime(), new CompletableFuture<>());
+        Stripe stripe = stripeFor(accountId);
+        stripe.depth.incrementAndGet();
+        stripe.queue.offer(task);
+        if (stripe.wip.getAndIncrement() == 0) {
+            executor.execute(() -> drain(stripe));
+        }
+
+        try {
+            return task.result().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void drain(Stripe stripe) {
+        DRAINING.set(true);
+        try {
+            int missed = 1;
+            do {
+                Task task;
+                while ((task = stripe.queue.poll()) != null) {
+                    stripe.depth.decrementAndGet();
+                    stripe.waitTimer.record(System.nanoTime() - task.enqueuedAt(), TimeUnit.NANOSECONDS);
+                    run(stripe, task);
+                }
+                // The burst is over: drop hot aggregates before giving up ownership
+                stripe.hot.clear();
+                missed = stripe.wip.addAndGet(-missed);
+            } while (missed != 0);
+        } finally {
+            DRAINING.remove();
+        }
+    }
+
+    private void run(Stripe stripe, Task task) {
+        try {
+            task.result().complete(applyAndSave(task.accountId(), task.command(), stripe.hot));
+        } catch (ConcurrencyException e) {
+            log.debug("Stale aggregate for account: {}, reloading and retrying", task.accountId());
+            try {
+                task.result().complete(applyAndSave(task.accountId(), task.command(), stripe.hot));
+            } catch (Throwable retryFailure) {
+                task.result().completeExceptionally(retryFailure);
+            }
+        } catch (Throwable e) {
+            task.result().completeExceptionally(e);
+        }
+    }
+
+    /**
+     * The aggregate is taken out of the hot map for the duration of the
+     * command and only put back once it has committed, so any failure leaves
+     * the next attempt to reload it from the event store.
+     *
+     * @param hot committed aggregates to reuse and refresh, or null to always load
+     */
+    private AccountDto applyAndSave(UUID accountId, Consumer<Account> command, Map<UUID, Account> hot) {
+        Account cached = hot != null ? hot.remove(accountId) : null;
+        Account account = QuarkusTransaction.requiringNew().call(() -> {
+            Account loaded = cached != null ? cached : eventStore.loadAggregate(accountId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Account", accountId.toString()));
+            command.accept(loaded);
+            eventStore.saveEvents(loaded);
+            return loaded;
+        });
+        if (hot != null) {
+            hot.put(accountId, account);
+        }
+        return AccountDto.fromAggregate(account);
+    }
+
+    private Stripe stripeFor(UUID accountId) {
+        int hash = accountId.hashCode();
+        return stripes[Math.floorMod(hash ^ (hash >>> 16), stripes.length)];
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    private record Task(UUID accountId, Consumer<Account> command, long enqueuedAt,
+                        CompletableFuture<AccountDto> result) {
+    }
+
+    private static final class Stripe {
+        final Queue<Task> queue = new ConcurrentLinkedQueue<>();
+        final AtomicInteger wip = new AtomicInteger();
+        final AtomicInteger depth = new AtomicInteger();
+        /** Only touched by the thread currently draining this stripe; least recently used evicted first */
+        final Map<UUID, Account> hot;
+        final Timer waitTimer;
+
+        Stripe(int hotAggregates, Timer waitTimer) {
+            this.hot = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<UUID, Account> eldest) {
+                    return size() > hotAggregates;
+                }
+            };
+            this.waitTimer = waitTimer;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.vaultstream.account.application.service;
+
+import com.vaultstream.common.util.BlockAllocator;
+import com.vaultstream.common.util.BusinessNumberFormat;
+import com.vaultstream.common.util.RangeSource;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * Generates account numbers in the format ACC-XXXXXXXX.
+ * 
+ * Numbers come from blocks leased from the shared number sequence, so they
+ * are unique across restarts and replicas without a database round-trip per
+ * account.
+ */
+@ApplicationScoped
+public class AccountNumberGenerator {
+
+    static final String SEQUENCE = "account-number";
+
+    private static final String PREFIX = "ACC-";
+    private static final int SEQUENCE_LENGTH = 8;
+
+    private final BlockAllocator allocator;
+
+    @Inject
+    public AccountNumberGenerator(
+            RangeSource rangeSource,
+            @ConfigProperty(name = "vaultstream.numbering.block-size", defaultValue = "100") int blockSize) {
+        this.allocator = new BlockAllocator(rangeSource, SEQUENCE, blockSize);
+    }
+
+    /**
+     * Generate a unique account number
+     */
+    public String generate() {
+        return BusinessNumberFormat.format(PREFIX, allocator.next(), SEQUENCE_LENGTH);
+    }
+}
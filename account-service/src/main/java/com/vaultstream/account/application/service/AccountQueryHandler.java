@@ -1,48 +1,90 @@
 package com.vaultstream.account.application.service;
 
+import com.vaultstream.account.application.dto.AccountCursor;
+import com.vaultstream.account.application.dto.AccountDailyRollupDto;
 import com.vaultstream.account.application.dto.AccountDto;
-import com.vaultstream.account.domain.model.Account;
+import com.vaultstream.account.application.dto.BankDailyRollupDto;
+import com.vaultstream.account.application.dto.BalanceDto;
+import com.vaultstream.account.application.dto.TransactionDto;
+import com.vaultstream.account.domain.event.AccountCreatedEvent;
+import com.vaultstream.account.domain.event.MoneyDepositedEvent;
+import com.vaultstream.account.domain.event.MoneyWithdrawnEvent;
+import com.vaultstream.account.domain.model.AccountStatus;
+import com.vaultstream.account.domain.model.AccountType;
+import com.vaultstream.account.infrastructure.persistence.AccountNumberIndex;
+import com.vaultstream.account.infrastructure.persistence.AccountSummaryEntity;
 import com.vaultstream.account.infrastructure.persistence.EventStore;
+import com.vaultstream.account.infrastructure.persistence.StateEvents;
+import com.vaultstream.account.infrastructure.persistence.rollup.AccountDailyRollupEntity;
+import com.vaultstream.account.infrastructure.persistence.rollup.BankDailyRollupEntity;
+import com.vaultstream.common.dto.CursorPageResponse;
 import com.vaultstream.common.dto.PageResponse;
 import com.vaultstream.common.exception.ResourceNotFoundException;
+import io.quarkus.narayana.jta.QuarkusTransaction;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
 import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Currency;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Account Query Handler - CQRS Read Side.
  * 
- * Handles queries by loading aggregates from event store.
- * In a full CQRS implementation, this would read from projections.
+ * Handles queries from the account_summary projection, which is kept in
+ * sync with the event store in the same transaction as every append.
  */
 @Slf4j
 @ApplicationScoped
 public class AccountQueryHandler {
 
     @Inject
-    EventStore eventStore;
+    EntityManager em;
 
     @Inject
-    EntityManager em;
+    AccountNumberIndex accountNumberIndex;
+
+    @Inject
+    EventStore eventStore;
+
+    @ConfigProperty(name = "vaultstream.history.export-timeout", defaultValue = "10m")
+    Duration exportTimeout;
 
     /**
      * Get account by ID
      */
     public AccountDto getAccountById(UUID accountId) {
-        Account account = eventStore.loadAggregate(accountId)
-                .orElseThrow(() -> new ResourceNotFoundException("Account", accountId.toString()));
-        return AccountDto.fromAggregate(account);
+        AccountSummaryEntity summary = em.find(AccountSummaryEntity.class, accountId);
+        if (summary == null) {
+            throw new ResourceNotFoundException("Account", accountId.toString());
+        }
+        return toDto(summary);
     }
 
     /**
      * Get account by account number
      */
     public AccountDto getAccountByNumber(String accountNumber) {
-        UUID accountId = findAccountIdByNumber(accountNumber);
+        UUID accountId = accountNumberIndex.findAccountId(accountNumber)
+                .orElseThrow(() -> new ResourceNotFoundException("Account", accountNumber));
         return getAccountById(accountId);
     }
 
@@ -50,62 +92,338 @@ public class AccountQueryHandler {
      * Get all accounts for a customer
      */
     public List<AccountDto> getAccountsByCustomerId(UUID customerId) {
-        List<UUID> accountIds = findAccountIdsByCustomerId(customerId);
+        return em.createQuery(
+                "SELECT s FROM AccountSummaryEntity s WHERE s.customerId = :customerId ORDER BY s.createdAt",
+                AccountSummaryEntity.class)
+                .setParameter("customerId", customerId)
+                .getResultList()
+                .stream()
+                .map(AccountQueryHandler::toDto)
+                .toList();
+    }
+
+    /**
+     * Get several accounts by ID in one query, in the order requested.
+     * Unknown IDs are left out rather than failing the whole lookup.
+     */
+    public List<AccountDto> getAccountsByIds(List<UUID> accountIds) {
+        if (accountIds.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, AccountSummaryEntity> found = em.createQuery(
+                "SELECT s FROM AccountSummaryEntity s WHERE s.accountId IN :ids",
+                AccountSummaryEntity.class)
+                .setParameter("ids", accountIds)
+                .getResultList()
+                .stream()
+                .collect(Collectors.toMap(AccountSummaryEntity::getAccountId, Function.identity()));
+
         return accountIds.stream()
-                .map(id -> eventStore.loadAggregate(id))
-                .filter(opt -> opt.isPresent())
-                .map(opt -> AccountDto.fromAggregate(opt.get()))
+                .distinct()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .map(AccountQueryHandler::toDto)
                 .toList();
     }
 
     /**
-     * Get paginated list of all accounts
+     * Get paginated list of all accounts using offset paging.
+     * Prefer {@link #getAccountsAfter} for deep listings.
      */
     public PageResponse<AccountDto> getAllAccounts(int page, int size) {
-        List<UUID> allAccountIds = findAllAccountIds();
-        long total = allAccountIds.size();
-
-        List<AccountDto> accounts = allAccountIds.stream()
-                .skip((long) page * size)
-                .limit(size)
-                .map(id -> eventStore.loadAggregate(id))
-                .filter(opt -> opt.isPresent())
-                .map(opt -> AccountDto.fromAggregate(opt.get()))
+        long total = em.createQuery("SELECT COUNT(s) FROM AccountSummaryEntity s", Long.class)
+                .getSingleResult();
+
+        List<AccountDto> accounts = em.createQuery(
+                "SELECT s FROM AccountSummaryEntity s ORDER BY s.createdAt, s.accountId",
+                AccountSummaryEntity.class)
+                .setFirstResult(page * size)
+                .setMaxResults(size)
+                .getResultList()
+                .stream()
+                .map(AccountQueryHandler::toDto)
                 .toList();
 
         return PageResponse.of(accounts, page, size, total);
     }
 
-    private UUID findAccountIdByNumber(String accountNumber) {
-        // Query distinct aggregate IDs from event store for AccountCreated events
-        List<UUID> results = em.createQuery(
-                "SELECT DISTINCT e.aggregateId FROM EventStoreEntity e " +
-                "WHERE e.eventType = 'AccountCreated' AND e.payload LIKE :pattern",
-                UUID.class)
-                .setParameter("pattern", "%\"accountNumber\":\"" + accountNumber + "\"%")
+    /**
+     * Get one page of accounts after the given cursor.
+     * 
+     * Seeks on the (created_at, account_id) order and reads size + 1 rows to
+     * learn whether another page exists, so cost depends on the page size
+     * rather than on how deep the client has scrolled.
+     *
+     * @param after        position to continue from, or null for the first page
+     * @param includeTotal whether to also run a COUNT over the summary table
+     */
+    public CursorPageResponse<AccountDto> getAccountsAfter(AccountCursor after, int size, boolean includeTotal) {
+        TypedQuery<AccountSummaryEntity> query;
+        if (after == null) {
+            query = em.createQuery(
+                    "SELECT s FROM AccountSummaryEntity s ORDER BY s.createdAt, s.accountId",
+                    AccountSummaryEntity.class);
+        } else {
+            query = em.createQuery(
+                    "SELECT s FROM AccountSummaryEntity s "
+                            + "WHERE s.createdAt > :createdAt OR (s.createdAt = :createdAt AND s.accountId > :accountId) "
+                            + "ORDER BY s.createdAt, s.accountId",
+                    AccountSummaryEntity.class)
+                    .setParameter("createdAt", after.createdAt())
+                    .setParameter("accountId", after.accountId());
+        }
+
+        List<AccountSummaryEntity> rows = query.setMaxResults(size + 1).getResultList();
+        boolean hasMore = rows.size() > size;
+        List<AccountSummaryEntity> page = hasMore ? rows.subList(0, size) : rows;
+
+        String nextCursor = null;
+        if (hasMore) {
+            AccountSummaryEntity last = page.get(page.size() - 1);
+            nextCursor = new AccountCursor(last.getCreatedAt(), last.getAccountId()).encode();
+        }
+
+        Long total = includeTotal
+                ? em.createQuery("SELECT COUNT(s) FROM AccountSummaryEntity s", Long.class).getSingleResult()
+                : null;
+
+        return CursorPageResponse.of(
+                page.stream().map(AccountQueryHandler::toDto).toList(),
+                size,
+                nextCursor,
+                total);
+    }
+
+    /**
+     * Get one page of an account's deposits and withdrawals after the given version.
+     * 
+     * Seeks on the (aggregate_id, version) index and reads size + 1 events
+     * to learn whether another page exists; the next cursor is the version
+     * of the last transaction on the page.
+     *
+     * @param afterVersion version to continue from, or 0 for the first page
+     * @param from         inclusive lower bound on occurredAt, or null
+     * @param to           exclusive upper bound on occurredAt, or null
+     */
+    public CursorPageResponse<TransactionDto> getTransactions(UUID accountId, long afterVersion,
+                                                        Instant from, Instant to, int size) {
+        getAccountById(accountId);
+
+        List<TransactionDto> rows = new ArrayList<>(size + 1);
+        eventStore.readPostings(accountId, afterVersion, from, to, size + 1,
+                (event, version) -> rows.add(TransactionDto.fromEvent(version, event)));
+
+        boolean hasMore = rows.size() > size;
+        List<TransactionDto> page = hasMore ? rows.subList(0, size) : rows;
+        String nextCursor = hasMore ? Long.toString(page.get(page.size() - 1).getVersion()) : null;
+        return CursorPageResponse.of(page, size, nextCursor, null);
+    }
+
+    /**
+     * Hand every deposit and withdrawal of an account to the sink, oldest first.
+     * 
+     * Runs in one read transaction so the database can stream the rows
+     * through a cursor; the caller is expected to write each line out as it
+     * arrives. Does not check that the account exists.
+     */
+    public void streamTransactions(UUID accountId, Instant from, Instant to, Consumer<TransactionDto> sink) {
+        int exported = QuarkusTransaction.requiringNew()
+                .timeout((int) exportTimeout.toSeconds())
+                .call(() -> eventStore.readPostings(accountId, 0, from, to, 0,
+                        (event, version) -> sink.accept(TransactionDto.fromEvent(version, event))));
+        log.debug("Exported {} transactions for account: {}", exported, accountId);
+    }
+
+    /**
+     * Get the balance and status of an account at a past instant
+     *
+     * @throws ResourceNotFoundException if the account did not exist yet at asOf
+     */
+    public BalanceDto getBalanceAsOf(UUID accountId, Instant asOf) {
+        StateEvents state = eventStore.loadStatesAt(List.of(accountId), asOf).get(accountId);
+        if (state == null) {
+            throw new ResourceNotFoundException(
+                    String.format("Account %s did not exist at %s", accountId, asOf));
+        }
+        return toBalance(accountId, asOf, state);
+    }
+
+    /**
+     * Get the balances of several accounts at the same instant, for period-end reporting
+     *
+     * @return balances in request order; accounts that did not exist yet at asOf are omitted
+     */
+    public List<BalanceDto> getBalancesAsOf(List<UUID> accountIds, Instant asOf) {
+        List<BalanceDto> balances = new ArrayList<>(accountIds.size());
+        eventStore.loadStatesAt(new LinkedHashSet<>(accountIds), asOf)
+                .forEach((accountId, state) -> balances.add(toBalance(accountId, asOf, state)));
+        return balances;
+    }
+
+    private static BalanceDto toBalance(UUID accountId, Instant asOf, StateEvents state) {
+        AccountCreatedEvent created = state.created();
+        BigDecimal balance = switch (state.lastPosting()) {
+            case null -> created.getInitialBalance();
+            case MoneyDepositedEvent e -> e.getBalanceAfter();
+            case MoneyWithdrawnEvent e -> e.getBalanceAfter();
+            default -> throw new IllegalStateException("Not a posting: " + state.lastPosting().getEventType());
+        };
+        AccountStatus status = state.lastStatusChange() == null
+                ? created.getStatus()
+                : state.lastStatusChange().getNewStatus();
+        String currency = created.getCurrency().getCurrencyCode();
+        return BalanceDto.builder()
+                .accountId(accountId.toString())
+                .asOf(asOf)
+                .balance(toCurrencyScale(balance, currency))
+                .currency(currency)
+                .status(status)
+                .version(state.version())
+                .build();
+    }
+
+    /**
+     * Get an account's daily closing balances and posting volumes.
+     * 
+     * Reads only the rollup rows: days without activity carry the previous
+     * closing balance with zero volume, and days before the account was
+     * opened or after today (UTC) are left out.
+     *
+     * @param from first day, inclusive
+     * @param to   last day, inclusive
+     */
+    public List<AccountDailyRollupDto> getDailyRollups(UUID accountId, LocalDate from, LocalDate to) {
+        String currency = getAccountById(accountId).getCurrency();
+        LocalDate last = min(to, LocalDate.now(ZoneOffset.UTC));
+
+        List<AccountDailyRollupEntity> before = em.createQuery(
+                "SELECT r FROM AccountDailyRollupEntity r WHERE r.accountId = :id AND r.rollupDate < :from "
+                        + "ORDER BY r.rollupDate DESC",
+                AccountDailyRollupEntity.class)
+                .setParameter("id", accountId)
+                .setParameter("from", from)
                 .setMaxResults(1)
                 .getResultList();
+        Map<LocalDate, AccountDailyRollupEntity> rows = em.createQuery(
+                "SELECT r FROM AccountDailyRollupEntity r WHERE r.accountId = :id "
+                        + "AND r.rollupDate BETWEEN :from AND :to",
+                AccountDailyRollupEntity.class)
+                .setParameter("id", accountId)
+                .setParameter("from", from)
+                .setParameter("to", last)
+                .getResultStream()
+                .collect(Collectors.toMap(AccountDailyRollupEntity::getRollupDate, Function.identity()));
 
-        if (results.isEmpty()) {
-            throw new ResourceNotFoundException("Account", accountNumber);
+        BigDecimal balance = before.isEmpty() ? null : before.get(0).getClosingBalance();
+        List<AccountDailyRollupDto> days = new ArrayList<>();
+        for (LocalDate day = from; !day.isAfter(last); day = day.plusDays(1)) {
+            AccountDailyRollupEntity row = rows.get(day);
+            if (row != null) {
+                balance = row.getClosingBalance();
+            } else if (balance == null) {
+                continue;
+            }
+            days.add(AccountDailyRollupDto.builder()
+                    .date(day)
+                    .closingBalance(toCurrencyScale(balance, currency))
+                    .depositTotal(toCurrencyScale(row != null ? row.getDepositTotal() : BigDecimal.ZERO, currency))
+                    .depositCount(row != null ? row.getDepositCount() : 0)
+                    .withdrawalTotal(toCurrencyScale(row != null ? row.getWithdrawalTotal() : BigDecimal.ZERO, currency))
+                    .withdrawalCount(row != null ? row.getWithdrawalCount() : 0)
+                    .build());
         }
-        return results.get(0);
+        return days;
     }
 
-    private List<UUID> findAccountIdsByCustomerId(UUID customerId) {
-        return em.createQuery(
-                "SELECT DISTINCT e.aggregateId FROM EventStoreEntity e " +
-                "WHERE e.eventType = 'AccountCreated' AND e.payload LIKE :pattern",
-                UUID.class)
-                .setParameter("pattern", "%\"customerId\":\"" + customerId + "\"%")
-                .getResultList();
+    /**
+     * Get bank-wide daily balances and posting volumes per currency and account type.
+     * 
+     * The closing balance of each group is the sum of its daily net changes:
+     * everything before the range in one grouped query, then day by day.
+     * Groups appear from the first day they hold any account.
+     *
+     * @param currency only this currency, or null for all of them
+     */
+    public List<BankDailyRollupDto> getBankDailyRollups(LocalDate from, LocalDate to, String currency) {
+        LocalDate last = min(to, LocalDate.now(ZoneOffset.UTC));
+        String currencyFilter = currency != null ? " AND r.currency = :currency" : "";
+
+        TypedQuery<Object[]> openingQuery = em.createQuery(
+                "SELECT r.currency, r.accountType, SUM(r.netChange) FROM BankDailyRollupEntity r "
+                        + "WHERE r.rollupDate < :from" + currencyFilter + " GROUP BY r.currency, r.accountType",
+                Object[].class)
+                .setParameter("from", from);
+        TypedQuery<BankDailyRollupEntity> rowQuery = em.createQuery(
+                "SELECT r FROM BankDailyRollupEntity r WHERE r.rollupDate BETWEEN :from AND :to" + currencyFilter,
+                BankDailyRollupEntity.class)
+                .setParameter("from", from)
+                .setParameter("to", last);
+        if (currency != null) {
+            openingQuery.setParameter("currency", currency);
+            rowQuery.setParameter("currency", currency);
+        }
+
+        TreeMap<BankGroup, BigDecimal> balances = new TreeMap<>(BankGroup.ORDER);
+        for (Object[] opening : openingQuery.getResultList()) {
+            balances.put(new BankGroup((String) opening[0], (AccountType) opening[1]), (BigDecimal) opening[2]);
+        }
+        Map<LocalDate, Map<BankGroup, BankDailyRollupEntity>> rows = rowQuery.getResultStream()
+                .collect(Collectors.groupingBy(BankDailyRollupEntity::getRollupDate,
+                        Collectors.toMap(row -> new BankGroup(row.getCurrency(), row.getAccountType()), Function.identity())));
+
+        List<BankDailyRollupDto> days = new ArrayList<>();
+        for (LocalDate day = from; !day.isAfter(last); day = day.plusDays(1)) {
+            Map<BankGroup, BankDailyRollupEntity> today = rows.getOrDefault(day, Map.of());
+            today.forEach((group, row) -> balances.merge(group, row.getNetChange(), BigDecimal::add));
+            for (Map.Entry<BankGroup, BigDecimal> balance : balances.entrySet()) {
+                BankGroup group = balance.getKey();
+                BankDailyRollupEntity row = today.get(group);
+                days.add(BankDailyRollupDto.builder()
+                        .date(day)
+                        .currency(group.currency())
+                        .accountType(group.accountType())
+                        .closingBalance(toCurrencyScale(balance.getValue(), group.currency()))
+                        .depositTotal(toCurrencyScale(row != null ? row.getDepositTotal() : BigDecimal.ZERO, group.currency()))
+                        .depositCount(row != null ? row.getDepositCount() : 0)
+                        .withdrawalTotal(toCurrencyScale(row != null ? row.getWithdrawalTotal() : BigDecimal.ZERO, group.currency()))
+                        .withdrawalCount(row != null ? row.getWithdrawalCount() : 0)
+                        .accountsOpened(row != null ? row.getAccountsOpened() : 0)
+                        .build());
+            }
+        }
+        return days;
     }
 
-    private List<UUID> findAllAccountIds() {
-        return em.createQuery(
-                "SELECT DISTINCT e.aggregateId FROM EventStoreEntity e " +
-                "WHERE e.eventType = 'AccountCreated'",
-                UUID.class)
-                .getResultList();
+    private record BankGroup(String currency, AccountType accountType) {
+
+        static final Comparator<BankGroup> ORDER =
+                Comparator.comparing(BankGroup::currency).thenComparing(BankGroup::accountType);
+    }
+
+    private static LocalDate min(LocalDate a, LocalDate b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    static AccountDto toDto(AccountSummaryEntity summary) {
+        return AccountDto.builder()
+                .id(summary.getAccountId().toString())
+                .accountNumber(summary.getAccountNumber())
+                .customerId(summary.getCustomerId().toString())
+                .type(summary.getType())
+                .status(summary.getStatus())
+                .balance(toCurrencyScale(summary.getBalance(), summary.getCurrency()))
+                .currency(summary.getCurrency())
+                .createdAt(summary.getCreatedAt())
+                .updatedAt(summary.getUpdatedAt())
+                .build();
+    }
+
+    /**
+     * Drop the column's padding zeros but keep at least the currency's minor digits
+     */
+    private static BigDecimal toCurrencyScale(BigDecimal amount, String currency) {
+        BigDecimal stripped = amount.stripTrailingZeros();
+        int scale = Math.max(stripped.scale(), Currency.getInstance(currency).getDefaultFractionDigits());
+        return stripped.setScale(scale);
     }
 }
@@ -0,0 +1,167 @@
+package com.vaultstream.account.application.service;
+
+import com.vaultstream.account.application.dto.AccountDto;
+import com.vaultstream.account.application.service.AccountBatchApplier.BatchCommand;
+import com.vaultstream.account.application.service.AccountBatchApplier.BatchResult;
+import com.vaultstream.account.domain.model.Account;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Collects commands from many callers and commits them in groups.
+ *
+ * A single collector thread waits for the first command, then keeps taking
+ * more until the window elapses or the batch is full, and hands the batch to
+ * the AccountBatchApplier. One commit (and one fsync) then covers the whole
+ * batch. Each caller still gets its own result or exception.
+ *
+ * If the batch transaction fails as a whole, for example because another
+ * writer moved one of the accounts, its commands are replayed one by one
+ * through the AccountCommandSequencer.
+ */
+@Slf4j
+public class GroupCommitPipeline implements AutoCloseable {
+
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final AccountBatchApplier applier;
+    private final AccountCommandSequencer fallback;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final BlockingQueue<Pending> queue = new LinkedBlockingQueue<>();
+    private final Thread collector;
+    private volatile boolean running = true;
+
+    public GroupCommitPipeline(AccountBatchApplier applier, AccountCommandSequencer fallback,
+                               Duration window, int maxBatchSize) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be positive");
+        }
+        this.applier = applier;
+        this.fallback = fallback;
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+        this.collector = Thread.ofPlatform()
+                .name("account-group-commit")
+                .daemon()
+                .start(this::collect);
+
+        log.info("Group commit pipeline started (window={}, maxBatchSize={})", window, maxBatchSize);
+    }
+
+    /**
+     * Queue a command for the next group commit and wait for its outcome.
+     *
+     * @return the account state right after this command was applied
+     */
+    public AccountDto submit(UUID accountId, Consumer<Account> command) {
+        if (!running) {
+            throw new IllegalStateException("Group commit pipeline is closed");
+        }
+        Pending pending = new Pending(new BatchCommand(accountId, command), new CompletableFuture<>());
+        queue.add(pending);
+        if (!collector.isAlive() && queue.remove(pending)) {
+            throw new IllegalStateException("Group commit pipeline is closed");
+        }
+
+        try {
+            return pending.result().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void collect() {
+        List<Pending> batch = new ArrayList<>(maxBatchSize);
+        try {
+            while (running || !queue.isEmpty()) {
+                Pending first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                fill(batch, System.nanoTime() + windowNanos);
+                commit(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            batch.addAll(queue);
+            queue.clear();
+            batch.forEach(pending -> pending.result().completeExceptionally(
+                    new IllegalStateException("Group commit pipeline is closed")));
+        }
+    }
+
+    private void fill(List<Pending> batch, long deadline) throws InterruptedException {
+        while (batch.size() < maxBatchSize) {
+            queue.drainTo(batch, maxBatchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= maxBatchSize || remaining <= 0) {
+                return;
+            }
+            Pending next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void commit(List<Pending> batch) {
+        List<BatchResult> results;
+        try {
+            results = applier.apply(batch.stream().map(Pending::command).toList());
+        } catch (RuntimeException e) {
+            log.warn("Group commit of {} commands failed, committing them individually", batch.size(), e);
+            for (Pending pending : batch) {
+                try {
+                    pending.result().complete(
+                            fallback.execute(pending.command().accountId(), pending.command().action()));
+                } catch (RuntimeException individual) {
+                    pending.result().completeExceptionally(individual);
+                }
+            }
+            return;
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            BatchResult result = results.get(i);
+            if (result.isApplied()) {
+                batch.get(i).result().complete(result.account());
+            } else {
+                batch.get(i).result().completeExceptionally(result.failure());
+            }
+        }
+    }
+
+    /**
+     * Stop accepting commands, commit what is already queued and stop the collector
+     */
+    @Override
+    public void close() {
+        running = false;
+        try {
+            collector.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record Pending(BatchCommand command, CompletableFuture<AccountDto> result) {
+    }
+}
@@ -2,8 +2,10 @@ package com.vaultstream.account.domain.event;
 
 import com.vaultstream.account.domain.model.AccountStatus;
 import com.vaultstream.account.domain.model.AccountType;
+import com.vaultstream.common.util.IdGenerator;
 import lombok.Builder;
 import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
 
 import java.math.BigDecimal;
 import java.time.Instant;
@@ -15,10 +17,11 @@ import java.util.UUID;
  */
 @Value
 @Builder
+@Jacksonized
 public class AccountCreatedEvent implements AccountEvent {
 
     @Builder.Default
-    UUID eventId = UUID.randomUUID();
+    UUID eventId = IdGenerator.generateTimeOrderedUUID();
 
     UUID accountId;
     String accountNumber;
@@ -1,8 +1,10 @@
 package com.vaultstream.account.domain.event;
 
 import com.vaultstream.account.domain.model.AccountStatus;
+import com.vaultstream.common.util.IdGenerator;
 import lombok.Builder;
 import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
 
 import java.time.Instant;
 import java.util.UUID;
@@ -12,10 +14,11 @@ import java.util.UUID;
  */
 @Value
 @Builder
+@Jacksonized
 public class AccountStatusChangedEvent implements AccountEvent {
 
     @Builder.Default
-    UUID eventId = UUID.randomUUID();
+    UUID eventId = IdGenerator.generateTimeOrderedUUID();
 
     UUID accountId;
     AccountStatus previousStatus;
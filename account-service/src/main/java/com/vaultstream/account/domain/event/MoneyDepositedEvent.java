@@ -1,7 +1,9 @@
 package com.vaultstream.account.domain.event;
 
+import com.vaultstream.common.util.IdGenerator;
 import lombok.Builder;
 import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
 
 import java.math.BigDecimal;
 import java.time.Instant;
@@ -12,10 +14,11 @@ import java.util.UUID;
  */
 @Value
 @Builder
+@Jacksonized
 public class MoneyDepositedEvent implements AccountEvent {
 
     @Builder.Default
-    UUID eventId = UUID.randomUUID();
+    UUID eventId = IdGenerator.generateTimeOrderedUUID();
 
     UUID accountId;
     BigDecimal amount;
@@ -23,9 +26,27 @@ public class MoneyDepositedEvent implements AccountEvent {
     String description;
     String transactionReference;
 
+    /**
+     * Set when this posting is one leg of a transfer; both legs share the ID
+     */
+    UUID transferId;
+
+    /**
+     * The transfer's source account, when transferId is set
+     */
+    UUID counterpartyAccountId;
+
     @Builder.Default
     Instant occurredAt = Instant.now();
 
+    /**
+     * Version 2 adds the transfer link
+     */
+    @Override
+    public int getEventVersion() {
+        return 2;
+    }
+
     @Override
     public String getEventType() {
         return "MoneyDeposited";
@@ -1,6 +1,7 @@
 package com.vaultstream.account.domain.model;
 
 import com.vaultstream.account.domain.event.*;
+import com.vaultstream.common.util.IdGenerator;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
@@ -50,10 +51,11 @@ public class Account {
             AccountType type,
             Money initialBalance) {
 
+        validateWholeMinorUnits(initialBalance);
         Account account = new Account();
         
         AccountCreatedEvent event = AccountCreatedEvent.builder()
-                .accountId(UUID.randomUUID())
+                .accountId(IdGenerator.generateTimeOrderedUUID())
                 .accountNumber(accountNumber)
                 .customerId(customerId)
                 .accountType(type)
@@ -73,14 +75,75 @@ public class Account {
      * Reconstruct an account from its event history
      */
     public static Account fromHistory(List<AccountEvent> events) {
+        Account account = new Account();
+        account.replay(events);
+        return account;
+    }
+
+    /**
+     * Reconstruct an account from a snapshot plus the events recorded after it
+     */
+    public static Account fromSnapshot(AccountSnapshot snapshot, List<AccountEvent> eventsAfterSnapshot) {
+        Account account = new Account();
+        account.id = snapshot.accountId();
+        account.accountNumber = snapshot.accountNumber();
+        account.customerId = snapshot.customerId();
+        account.type = snapshot.type();
+        account.status = snapshot.status();
+        account.balance = Money.of(snapshot.balance(), snapshot.currency());
+        account.createdAt = snapshot.createdAt();
+        account.updatedAt = snapshot.updatedAt();
+        account.version = snapshot.version();
+        account.replay(eventsAfterSnapshot);
+        return account;
+    }
+
+    /**
+     * Reconstruct an account from only the events that decide its current state.
+     * 
+     * Postings carry balanceAfter and status changes the new status, so the
+     * creation event, the latest status change and the latest posting give
+     * the same state as replaying the whole stream.
+     *
+     * @param events  those events, in version order; the last two are optional
+     * @param version the stream version of the account, i.e. of its newest event
+     */
+    public static Account fromLatestEvents(List<AccountEvent> events, long version) {
+        if (events.isEmpty() || !(events.get(0) instanceof AccountCreatedEvent)) {
+            throw new IllegalArgumentException("Latest-state load must start with the AccountCreated event");
+        }
         Account account = new Account();
         for (AccountEvent event : events) {
             account.apply(event);
-            account.version++;
         }
+        account.version = version;
         return account;
     }
 
+    /**
+     * Capture the current committed state of the account
+     */
+    public AccountSnapshot toSnapshot() {
+        return new AccountSnapshot(
+                id,
+                accountNumber,
+                customerId,
+                type,
+                status,
+                balance.amount(),
+                balance.currency(),
+                createdAt,
+                updatedAt,
+                version);
+    }
+
+    private void replay(List<AccountEvent> events) {
+        for (AccountEvent event : events) {
+            apply(event);
+            version++;
+        }
+    }
+
     // ========================================
     // Commands (Business Operations)
     // ========================================
@@ -106,8 +169,39 @@ public class Account {
      * Deposit money into the account
      */
     public void deposit(Money amount, String description, String transactionRef) {
+        credit(amount, description, transactionRef, null, null);
+    }
+
+    /**
+     * Withdraw money from the account
+     */
+    public void withdraw(Money amount, String description, String transactionRef) {
+        debit(amount, description, transactionRef, null, null);
+    }
+
+    /**
+     * Debit this account as the source leg of a transfer
+     */
+    public void transferOut(Money amount, UUID transferId, UUID targetAccountId,
+                            String description, String transactionRef) {
+        validateTransferLink(transferId, targetAccountId);
+        debit(amount, description, transactionRef, transferId, targetAccountId);
+    }
+
+    /**
+     * Credit this account as the target leg of a transfer
+     */
+    public void transferIn(Money amount, UUID transferId, UUID sourceAccountId,
+                           String description, String transactionRef) {
+        validateTransferLink(transferId, sourceAccountId);
+        credit(amount, description, transactionRef, transferId, sourceAccountId);
+    }
+
+    private void credit(Money amount, String description, String transactionRef,
+                        UUID transferId, UUID counterpartyAccountId) {
         validateActiveStatus();
         validatePositiveAmount(amount);
+        validateWholeMinorUnits(amount);
         validateSameCurrency(amount);
 
         Money newBalance = balance.add(amount);
@@ -118,18 +212,19 @@ public class Account {
                 .balanceAfter(newBalance.amount())
                 .description(description)
                 .transactionReference(transactionRef)
+                .transferId(transferId)
+                .counterpartyAccountId(counterpartyAccountId)
                 .build();
 
         apply(event);
         uncommittedEvents.add(event);
     }
 
-    /**
-     * Withdraw money from the account
-     */
-    public void withdraw(Money amount, String description, String transactionRef) {
+    private void debit(Money amount, String description, String transactionRef,
+                       UUID transferId, UUID counterpartyAccountId) {
         validateActiveStatus();
         validatePositiveAmount(amount);
+        validateWholeMinorUnits(amount);
         validateSameCurrency(amount);
         validateSufficientFunds(amount);
 
@@ -141,6 +236,8 @@ public class Account {
                 .balanceAfter(newBalance.amount())
                 .description(description)
                 .transactionReference(transactionRef)
+                .transferId(transferId)
+                .counterpartyAccountId(counterpartyAccountId)
                 .build();
 
         apply(event);
@@ -232,6 +329,7 @@ public class Account {
     }
 
     public void markEventsAsCommitted() {
+        version += uncommittedEvents.size();
         uncommittedEvents.clear();
     }
 
@@ -251,6 +349,17 @@ public class Account {
         }
     }
 
+    /**
+     * Amounts are stored and reported at the currency's scale, so a finer
+     * amount would silently round away in the read models
+     */
+    private static void validateWholeMinorUnits(Money amount) {
+        if (amount.hasSubMinorUnits()) {
+            throw new IllegalArgumentException("Amount " + amount.amount() + " has more decimal places than "
+                    + amount.currency() + " allows (" + amount.currency().getDefaultFractionDigits() + ")");
+        }
+    }
+
     private void validateSameCurrency(Money amount) {
         if (!amount.currency().equals(balance.currency())) {
             throw new IllegalArgumentException("Currency mismatch");
@@ -263,6 +372,15 @@ public class Account {
         }
     }
 
+    private void validateTransferLink(UUID transferId, UUID counterpartyAccountId) {
+        if (transferId == null || counterpartyAccountId == null) {
+            throw new IllegalArgumentException("Transfer ID and counterparty account are required");
+        }
+        if (counterpartyAccountId.equals(id)) {
+            throw new IllegalArgumentException("Cannot transfer to the same account");
+        }
+    }
+
     private void validateStatusTransition(AccountStatus targetStatus) {
         if (status == AccountStatus.CLOSED) {
             throw new IllegalStateException("Cannot change status of closed account");
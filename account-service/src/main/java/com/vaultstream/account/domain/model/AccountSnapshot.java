@@ -0,0 +1,24 @@
+package com.vaultstream.account.domain.model;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Currency;
+import java.util.UUID;
+
+/**
+ * Immutable state of an Account aggregate as of a given version.
+ * 
+ * Used to rebuild aggregates without replaying their full event history.
+ */
+public record AccountSnapshot(
+        UUID accountId,
+        String accountNumber,
+        UUID customerId,
+        AccountType type,
+        AccountStatus status,
+        BigDecimal balance,
+        Currency currency,
+        Instant createdAt,
+        Instant updatedAt,
+        long version) {
+}
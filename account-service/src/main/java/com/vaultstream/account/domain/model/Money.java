@@ -1,61 +1,166 @@
 package com.vaultstream.account.domain.model;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.Currency;
+import java.util.Objects;
 
 /**
  * Value Object representing a monetary amount with currency.
+ *
+ * Amounts are held as a long count of the currency's minor units (cents for
+ * USD, yen for JPY), so validation, comparison and arithmetic on ordinary
+ * amounts allocate nothing but the result. Amounts finer than the currency's
+ * minor unit, currencies without one, and results that would overflow a
+ * long are kept as an exact BigDecimal instead. Both forms compare and
+ * combine transparently.
  */
-public record Money(BigDecimal amount, Currency currency) {
+public final class Money {
 
     public static final Currency USD = Currency.getInstance("USD");
 
-    public Money {
+    /**
+     * Digits that always fit in a long, bounding the cheap conversion path
+     */
+    private static final int MAX_LONG_DIGITS = 18;
+
+    private final long minorUnits;
+    private final BigDecimal exact;
+    private final Currency currency;
+
+    private Money(long minorUnits, BigDecimal exact, Currency currency) {
+        this.minorUnits = minorUnits;
+        this.exact = exact;
+        this.currency = currency;
+    }
+
+    public static Money of(BigDecimal amount, Currency currency) {
         if (amount == null) {
             throw new IllegalArgumentException("Amount cannot be null");
         }
         if (currency == null) {
             throw new IllegalArgumentException("Currency cannot be null");
         }
+        Money fixed = fixedPoint(amount, currency);
+        if (fixed == null && amount.scale() > 0) {
+            fixed = fixedPoint(amount.stripTrailingZeros(), currency);
+        }
+        return fixed != null ? fixed : new Money(0, amount, currency);
     }
 
-    public static Money of(BigDecimal amount, Currency currency) {
-        return new Money(amount, currency);
+    /**
+     * Money from a count of the currency's minor units
+     *
+     * @throws IllegalArgumentException if the currency has no minor unit
+     */
+    public static Money ofMinor(long minorUnits, Currency currency) {
+        if (currency == null) {
+            throw new IllegalArgumentException("Currency cannot be null");
+        }
+        if (currency.getDefaultFractionDigits() < 0) {
+            throw new IllegalArgumentException("Currency has no minor unit: " + currency);
+        }
+        return new Money(minorUnits, null, currency);
     }
 
     public static Money usd(BigDecimal amount) {
-        return new Money(amount, USD);
+        return of(amount, USD);
     }
 
     public static Money zero(Currency currency) {
-        return new Money(BigDecimal.ZERO, currency);
+        return currency != null && currency.getDefaultFractionDigits() >= 0
+                ? new Money(0, null, currency)
+                : of(BigDecimal.ZERO, currency);
+    }
+
+    /**
+     * The amount as a BigDecimal, at the currency's scale on the fixed-point path
+     */
+    public BigDecimal amount() {
+        return exact != null ? exact : BigDecimal.valueOf(minorUnits, currency.getDefaultFractionDigits());
+    }
+
+    public Currency currency() {
+        return currency;
+    }
+
+    /**
+     * Whether the amount is held as minor units
+     */
+    public boolean isFixedPoint() {
+        return exact == null;
+    }
+
+    /**
+     * Whether the amount is finer than the currency's minor unit, such as 0.001 USD
+     */
+    public boolean hasSubMinorUnits() {
+        int scale = currency.getDefaultFractionDigits();
+        return exact != null && scale >= 0 && exact.stripTrailingZeros().scale() > scale;
+    }
+
+    /**
+     * The amount in minor units
+     *
+     * @throws ArithmeticException if the amount is not a whole number of minor units that fits a long
+     */
+    public long minorUnits() {
+        if (exact != null) {
+            throw new ArithmeticException("Amount " + exact + " is not a whole number of " + currency + " minor units");
+        }
+        return minorUnits;
     }
 
     public Money add(Money other) {
         validateSameCurrency(other);
-        return new Money(amount.add(other.amount), currency);
+        if (exact == null && other.exact == null) {
+            long sum = minorUnits + other.minorUnits;
+            // Overflow iff both operands have the same sign and the result's sign differs
+            if (((minorUnits ^ sum) & (other.minorUnits ^ sum)) >= 0) {
+                return new Money(sum, null, currency);
+            }
+        }
+        return of(amount().add(other.amount()), currency);
     }
 
     public Money subtract(Money other) {
         validateSameCurrency(other);
-        return new Money(amount.subtract(other.amount), currency);
+        if (exact == null && other.exact == null) {
+            long difference = minorUnits - other.minorUnits;
+            // Overflow iff the operands have different signs and the result's sign differs from the minuend
+            if (((minorUnits ^ other.minorUnits) & (minorUnits ^ difference)) >= 0) {
+                return new Money(difference, null, currency);
+            }
+        }
+        return of(amount().subtract(other.amount()), currency);
     }
 
     public boolean isNegative() {
-        return amount.compareTo(BigDecimal.ZERO) < 0;
+        return signum() < 0;
     }
 
     public boolean isPositive() {
-        return amount.compareTo(BigDecimal.ZERO) > 0;
+        return signum() > 0;
     }
 
     public boolean isZero() {
-        return amount.compareTo(BigDecimal.ZERO) == 0;
+        return signum() == 0;
     }
 
     public boolean isGreaterThanOrEqual(Money other) {
         validateSameCurrency(other);
-        return amount.compareTo(other.amount) >= 0;
+        return compareAmount(other) >= 0;
+    }
+
+    private int signum() {
+        return exact != null ? exact.signum() : Long.signum(minorUnits);
+    }
+
+    private int compareAmount(Money other) {
+        if (exact == null && other.exact == null) {
+            return Long.compare(minorUnits, other.minorUnits);
+        }
+        return amount().compareTo(other.amount());
     }
 
     private void validateSameCurrency(Money other) {
@@ -64,4 +169,49 @@ public record Money(BigDecimal amount, Currency currency) {
                     "Cannot operate on different currencies: " + currency + " vs " + other.currency);
         }
     }
+
+    /**
+     * The amount as minor units, or null if it is not a whole number of minor units that fits a long
+     */
+    private static Money fixedPoint(BigDecimal amount, Currency currency) {
+        int scale = currency.getDefaultFractionDigits();
+        if (scale < 0 || amount.scale() > scale) {
+            return null;
+        }
+        int digits = amount.precision() - amount.scale() + scale;
+        if (digits <= MAX_LONG_DIGITS) {
+            // Compact values shift without inflating a BigInteger
+            return new Money(amount.movePointRight(scale).longValueExact(), null, currency);
+        }
+        if (digits == MAX_LONG_DIGITS + 1) {
+            BigInteger unscaled = amount.setScale(scale).unscaledValue();
+            if (unscaled.bitLength() < Long.SIZE) {
+                return new Money(unscaled.longValue(), null, currency);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Equal when the currency and the numeric value are equal, regardless of representation or scale
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof Money other && currency.equals(other.currency) && compareAmount(other) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return exact == null
+                ? Objects.hash(minorUnits, currency)
+                : Objects.hash(exact.stripTrailingZeros(), currency);
+    }
+
+    @Override
+    public String toString() {
+        return "Money[amount=" + amount() + ", currency=" + currency + "]";
+    }
 }
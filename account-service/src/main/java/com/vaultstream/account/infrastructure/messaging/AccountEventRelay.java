@@ -0,0 +1,331 @@
+package com.vaultstream.account.infrastructure.messaging;
+
+import com.vaultstream.account.infrastructure.persistence.AccountEventsAppended;
+import com.vaultstream.account.infrastructure.persistence.AccountOutboxEntity;
+import com.vaultstream.account.infrastructure.persistence.AccountOutboxLeaseEntity;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.runtime.StartupEvent;
+import io.smallrye.reactive.messaging.kafka.api.OutgoingKafkaRecordMetadata;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.reactive.messaging.Channel;
+import org.eclipse.microprofile.reactive.messaging.Emitter;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.messaging.OnOverflow;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publishes the account outbox to Kafka, keyed by account ID.
+ * 
+ * A background thread drains the outbox in id order. A partial batch is held
+ * back until its oldest row has waited for the linger time, so bursts go out
+ * in few large batches. Rows are deleted only after the broker acknowledged
+ * the whole batch; on failure they are sent again, so delivery is at least
+ * once and consumers should de-duplicate by eventId.
+ * 
+ * Every replica runs a relay, but only the holder of the outbox lease
+ * drains it, so each event is sent once and per-account order holds. The
+ * lease is renewed before every batch and released once the outbox is
+ * empty. A relay that stalls past its lease can overlap with the next
+ * holder; that is covered by the same at-least-once contract.
+ */
+@Slf4j
+@ApplicationScoped
+@IfBuildProperty(name = "vaultstream.event-store.engine", stringValue = "jpa", enableIfMissing = true)
+public class AccountEventRelay {
+
+    /**
+     * Upper bound on unacknowledged messages, matching the emitter buffer
+     */
+    private static final int MAX_IN_FLIGHT = 4096;
+
+    private static final String LEASE = "account-outbox";
+
+    private final EntityManager em;
+    private final Emitter<String> emitter;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration linger;
+    private final Duration pollInterval;
+    private final Duration ackTimeout;
+    private final Duration lease;
+    private final String owner = UUID.randomUUID().toString();
+    private final Counter published;
+    private final AtomicLong depth = new AtomicLong();
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final Semaphore wakeUps = new Semaphore(0);
+
+    private volatile boolean running = true;
+    private Thread relay;
+
+    @Inject
+    public AccountEventRelay(
+            EntityManager em,
+            @Channel("account-events-out")
+            @OnOverflow(value = OnOverflow.Strategy.BUFFER, bufferSize = MAX_IN_FLIGHT) Emitter<String> emitter,
+            MeterRegistry registry,
+            @ConfigProperty(name = "vaultstream.outbox.enabled", defaultValue = "true") boolean enabled,
+            @ConfigProperty(name = "vaultstream.outbox.relay.batch-size", defaultValue = "500") int batchSize,
+            @ConfigProperty(name = "vaultstream.outbox.relay.linger", defaultValue = "20ms") Duration linger,
+            @ConfigProperty(name = "vaultstream.outbox.relay.poll-interval", defaultValue = "1s") Duration pollInterval,
+            @ConfigProperty(name = "vaultstream.outbox.relay.ack-timeout", defaultValue = "30s") Duration ackTimeout,
+            @ConfigProperty(name = "vaultstream.outbox.relay.lease", defaultValue = "2m") Duration lease) {
+        if (batchSize < 1 || batchSize > MAX_IN_FLIGHT) {
+            throw new IllegalArgumentException("vaultstream.outbox.relay.batch-size must be between 1 and " + MAX_IN_FLIGHT);
+        }
+        if (lease.compareTo(linger.plus(ackTimeout)) <= 0) {
+            throw new IllegalArgumentException("vaultstream.outbox.relay.lease must be longer than linger + ack-timeout");
+        }
+        this.em = em;
+        this.emitter = emitter;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.linger = linger;
+        this.pollInterval = pollInterval;
+        this.ackTimeout = ackTimeout;
+        this.lease = lease;
+
+        this.published = Counter.builder("vaultstream.account.outbox.published")
+                .description("Events published from the outbox")
+                .tag("service", "account-service")
+                .register(registry);
+        Gauge.builder("vaultstream.account.outbox.depth", depth, AtomicLong::get)
+                .description("Events waiting in the outbox, as of the last relay pass")
+                .tag("service", "account-service")
+                .register(registry);
+        Gauge.builder("vaultstream.account.outbox.lag", lagMillis, lag -> lag.get() / 1000.0)
+                .description("Age of the oldest event not yet published, as of the last relay pass")
+                .baseUnit("seconds")
+                .tag("service", "account-service")
+                .register(registry);
+    }
+
+    void onStart(@Observes StartupEvent startup) {
+        if (!enabled) {
+            return;
+        }
+        relay = Thread.ofPlatform()
+                .name("account-outbox-relay")
+                .daemon()
+                .start(this::run);
+        log.info("Outbox relay started (batchSize={}, linger={})", batchSize, linger);
+    }
+
+    /**
+     * Wake the relay as soon as new events are committed locally
+     */
+    void onEventsAppended(@Observes(during = TransactionPhase.AFTER_SUCCESS) AccountEventsAppended appended) {
+        if (wakeUps.availablePermits() == 0) {
+            wakeUps.release();
+        }
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                relayPending();
+                wakeUps.tryAcquire(pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+                wakeUps.drainPermits();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.warn("Outbox relay pass failed, retrying in {}", pollInterval, e);
+                sleep(pollInterval);
+            }
+        }
+    }
+
+    /**
+     * Publish everything currently in the outbox, if this relay holds the lease
+     *
+     * @return number of events published
+     */
+    int relayPending() throws InterruptedException {
+        if (!acquireLease()) {
+            return 0;
+        }
+        try {
+            return drain();
+        } finally {
+            releaseLease();
+        }
+    }
+
+    private int drain() throws InterruptedException {
+        int total = 0;
+        while (running) {
+            if (total > 0 && !acquireLease()) {
+                log.warn("Outbox lease lost to another relay after {} events", total);
+                return total;
+            }
+            List<AccountOutboxEntity> batch = nextBatch();
+            if (batch.size() < batchSize && !batch.isEmpty()) {
+                Duration waited = Duration.between(batch.get(0).getCreatedAt(), Instant.now());
+                if (waited.compareTo(linger) < 0) {
+                    sleep(linger.minus(waited));
+                    batch = nextBatch();
+                }
+            }
+            updateMetrics(batch);
+            if (batch.isEmpty()) {
+                return total;
+            }
+
+            publish(batch);
+            List<Long> ids = batch.stream().map(AccountOutboxEntity::getId).toList();
+            QuarkusTransaction.requiringNew().run(() -> em.createQuery(
+                            "DELETE FROM AccountOutboxEntity o WHERE o.id IN :ids")
+                    .setParameter("ids", ids)
+                    .executeUpdate());
+            published.increment(batch.size());
+            total += batch.size();
+            log.debug("Relayed {} events up to outbox id {}", batch.size(), ids.get(ids.size() - 1));
+
+            if (batch.size() < batchSize) {
+                return total;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Take or renew the outbox lease
+     *
+     * @return whether this relay holds the lease now
+     */
+    private boolean acquireLease() {
+        Instant now = Instant.now();
+        try {
+            return QuarkusTransaction.requiringNew().call(() -> {
+                int renewed = em.createQuery(
+                                "UPDATE AccountOutboxLeaseEntity l SET l.owner = :owner, l.expiresAt = :until "
+                                        + "WHERE l.name = :name AND (l.owner = :owner OR l.expiresAt < :now)")
+                        .setParameter("owner", owner)
+                        .setParameter("until", now.plus(lease))
+                        .setParameter("name", LEASE)
+                        .setParameter("now", now)
+                        .executeUpdate();
+                if (renewed > 0) {
+                    return true;
+                }
+                if (em.find(AccountOutboxLeaseEntity.class, LEASE) != null) {
+                    return false;
+                }
+                em.persist(AccountOutboxLeaseEntity.builder().name(LEASE).owner(owner).expiresAt(now.plus(lease)).build());
+                em.flush();
+                return true;
+            });
+        } catch (PersistenceException e) {
+            // Another relay created the lease row first and holds it
+            log.debug("Concurrent creation of the outbox lease");
+            return false;
+        }
+    }
+
+    private void releaseLease() {
+        QuarkusTransaction.requiringNew().run(() -> em.createQuery(
+                        "UPDATE AccountOutboxLeaseEntity l SET l.expiresAt = :now WHERE l.name = :name AND l.owner = :owner")
+                .setParameter("now", Instant.now())
+                .setParameter("name", LEASE)
+                .setParameter("owner", owner)
+                .executeUpdate());
+    }
+
+    private List<AccountOutboxEntity> nextBatch() {
+        return QuarkusTransaction.requiringNew().call(() -> em.createQuery(
+                        "SELECT o FROM AccountOutboxEntity o ORDER BY o.id", AccountOutboxEntity.class)
+                .setMaxResults(batchSize)
+                .getResultList());
+    }
+
+    /**
+     * Send a batch and wait until the broker acknowledged every message
+     */
+    private void publish(List<AccountOutboxEntity> batch) throws InterruptedException {
+        CompletableFuture<?>[] acks = new CompletableFuture<?>[batch.size()];
+        for (int i = 0; i < batch.size(); i++) {
+            AccountOutboxEntity row = batch.get(i);
+            CompletableFuture<Void> ack = new CompletableFuture<>();
+            acks[i] = ack;
+
+            RecordHeaders headers = new RecordHeaders();
+            headers.add("eventType", row.getEventType().getBytes(StandardCharsets.UTF_8));
+            headers.add("eventId", row.getEventId().toString().getBytes(StandardCharsets.UTF_8));
+            headers.add("version", Long.toString(row.getVersion()).getBytes(StandardCharsets.UTF_8));
+
+            emitter.send(Message.of(row.getPayload())
+                    .addMetadata(OutgoingKafkaRecordMetadata.<String>builder()
+                            .withKey(row.getAggregateId().toString())
+                            .withHeaders(headers)
+                            .build())
+                    .withAck(() -> {
+                        ack.complete(null);
+                        return CompletableFuture.completedFuture(null);
+                    })
+                    .withNack(failure -> {
+                        ack.completeExceptionally(failure);
+                        return CompletableFuture.completedFuture(null);
+                    }));
+        }
+
+        try {
+            CompletableFuture.allOf(acks).get(ackTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new IllegalStateException("Outbox batch of " + batch.size() + " events was not acknowledged", e);
+        }
+    }
+
+    private void updateMetrics(List<AccountOutboxEntity> batch) {
+        if (batch.isEmpty()) {
+            depth.set(0);
+            lagMillis.set(0);
+            return;
+        }
+        Object[] range = QuarkusTransaction.requiringNew().call(() -> em.createQuery(
+                        "SELECT MIN(o.id), MAX(o.id) FROM AccountOutboxEntity o", Object[].class)
+                .getSingleResult());
+        // Ids are assigned in order, so the range is a cheap upper bound on the row count
+        depth.set(range[0] != null ? (Long) range[1] - (Long) range[0] + 1 : 0);
+        lagMillis.set(Duration.between(batch.get(0).getCreatedAt(), Instant.now()).toMillis());
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        running = false;
+        if (relay != null) {
+            relay.interrupt();
+        }
+    }
+}
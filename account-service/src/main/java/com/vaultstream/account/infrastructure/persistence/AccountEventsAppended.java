@@ -0,0 +1,29 @@
+package com.vaultstream.account.infrastructure.persistence;
+
+import com.vaultstream.account.domain.event.AccountEvent;
+import com.vaultstream.account.domain.model.AccountSnapshot;
+
+import java.util.List;
+
+/**
+ * CDI event fired by the EventStore after events of one aggregate are appended.
+ * 
+ * Carries the appended events and the aggregate state right after them, so
+ * observers never need to reload the aggregate.
+ */
+public record AccountEventsAppended(AccountSnapshot state, List<AccountEvent> events) {
+
+    /**
+     * Aggregate version before the append
+     */
+    public long fromVersion() {
+        return state.version() - events.size();
+    }
+
+    /**
+     * Aggregate version after the append
+     */
+    public long toVersion() {
+        return state.version();
+    }
+}
@@ -0,0 +1,62 @@
+package com.vaultstream.account.infrastructure.persistence;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Response of a committed money command, keyed by account and the client's
+ * transaction reference, so a retried command can be answered without
+ * posting it twice. The operation and amount are kept so that a reference
+ * reused for a different request can be told apart from a retry.
+ */
+@Entity
+@Table(name = "account_idempotency",
+    indexes = @Index(name = "idx_account_idempotency_created", columnList = "created_at"))
+@IdClass(AccountIdempotencyEntity.Key.class)
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountIdempotencyEntity {
+
+    @Id
+    @Column(name = "account_id", nullable = false)
+    private UUID accountId;
+
+    @Id
+    @Column(name = "transaction_reference", nullable = false, length = 100)
+    private String transactionReference;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "operation", nullable = false, length = 20)
+    private IdempotencyStore.Operation operation;
+
+    @Column(name = "amount", nullable = false, precision = 38, scale = 18)
+    private BigDecimal amount;
+
+    @Column(name = "counterparty_id")
+    private UUID counterpartyId;
+
+    @Column(name = "response", nullable = false, columnDefinition = "TEXT")
+    private String response;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private UUID accountId;
+        private String transactionReference;
+    }
+}
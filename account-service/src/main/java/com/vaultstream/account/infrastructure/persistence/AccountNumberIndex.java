@@ -0,0 +1,93 @@
+package com.vaultstream.account.infrastructure.persistence;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.vaultstream.account.domain.event.AccountCreatedEvent;
+import com.vaultstream.account.domain.event.AccountEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Account number to account ID lookup.
+ * 
+ * Backed by the account_number_index table, whose primary key makes the
+ * lookup a single index probe regardless of how many accounts exist.
+ * Account numbers never change, so resolved mappings are cached in-process
+ * without any invalidation; unknown numbers are never cached.
+ */
+@Slf4j
+@ApplicationScoped
+public class AccountNumberIndex {
+
+    private final EntityManager em;
+    private final Cache<String, UUID> cache;
+
+    @Inject
+    public AccountNumberIndex(
+            EntityManager em,
+            MeterRegistry registry,
+            @ConfigProperty(name = "vaultstream.account-number-index.cache.maximum-size", defaultValue = "100000") long maximumSize) {
+        this.em = em;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(registry, cache, "account-number-index", Tags.of("service", "account-service"));
+    }
+
+    /**
+     * Resolve an account number to its account ID
+     */
+    public Optional<UUID> findAccountId(String accountNumber) {
+        UUID cached = cache.getIfPresent(accountNumber);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Optional<UUID> accountId = lookup(accountNumber);
+        accountId.ifPresent(id -> cache.put(accountNumber, id));
+        return accountId;
+    }
+
+    /**
+     * Record a mapping; idempotent for an already indexed account
+     */
+    public void register(String accountNumber, UUID accountId) {
+        em.merge(AccountNumberIndexEntity.builder()
+                .accountNumber(accountNumber)
+                .accountId(accountId)
+                .build());
+    }
+
+    /**
+     * Index newly created accounts within the appending transaction
+     */
+    void onEventsAppended(@Observes AccountEventsAppended appended) {
+        for (AccountEvent event : appended.events()) {
+            if (event instanceof AccountCreatedEvent created) {
+                em.persist(AccountNumberIndexEntity.builder()
+                        .accountNumber(created.getAccountNumber())
+                        .accountId(created.getAccountId())
+                        .build());
+            }
+        }
+    }
+
+    /**
+     * Database lookup without the in-process cache
+     */
+    Optional<UUID> lookup(String accountNumber) {
+        AccountNumberIndexEntity entity = em.find(AccountNumberIndexEntity.class, accountNumber);
+        return Optional.ofNullable(entity).map(AccountNumberIndexEntity::getAccountId);
+    }
+}
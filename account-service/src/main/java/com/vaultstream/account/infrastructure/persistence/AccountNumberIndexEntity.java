@@ -0,0 +1,28 @@
+package com.vaultstream.account.infrastructure.persistence;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Unique mapping from a business account number to its aggregate ID.
+ */
+@Entity
+@Table(name = "account_number_index")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountNumberIndexEntity {
+
+    @Id
+    @Column(name = "account_number", length = 30)
+    private String accountNumber;
+
+    @Column(name = "account_id", nullable = false, unique = true)
+    private UUID accountId;
+}
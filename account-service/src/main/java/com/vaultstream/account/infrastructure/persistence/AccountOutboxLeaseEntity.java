@@ -0,0 +1,31 @@
+package com.vaultstream.account.infrastructure.persistence;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * The replica currently allowed to relay the outbox, until the lease expires.
+ */
+@Entity
+@Table(name = "account_outbox_lease")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountOutboxLeaseEntity {
+
+    @Id
+    @Column(name = "name", length = 50)
+    private String name;
+
+    @Column(name = "owner", nullable = false, length = 64)
+    private String owner;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+}
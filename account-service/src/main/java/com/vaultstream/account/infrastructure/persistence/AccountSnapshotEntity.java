@@ -0,0 +1,44 @@
+package com.vaultstream.account.infrastructure.persistence;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Entity representing a point-in-time snapshot of an Account aggregate.
+ */
+@Entity
+@Table(name = "account_snapshots",
+    uniqueConstraints = @UniqueConstraint(name = "uk_account_snapshots_version", columnNames = {"aggregate_id", "version"}),
+    indexes = @Index(name = "idx_account_snapshots_latest", columnList = "aggregate_id, version DESC"))
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountSnapshotEntity {
+
+    @Id
+    @Column(name = "snapshot_id")
+    private UUID snapshotId;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private UUID aggregateId;
+
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    @Column(name = "snapshot_version", nullable = false)
+    private int snapshotVersion;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    @Builder.Default
+    private Instant createdAt = Instant.now();
+}
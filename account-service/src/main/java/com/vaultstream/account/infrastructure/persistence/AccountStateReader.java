@@ -0,0 +1,197 @@
+package com.vaultstream.account.infrastructure.persistence;
+
+import com.vaultstream.account.domain.event.AccountEvent;
+import com.vaultstream.account.infrastructure.persistence.codec.EventCodecs;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.hibernate.Session;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Finds the few events that determine an account's state, now or at a past
+ * instant, without reading the rest of its stream.
+ * 
+ * Every monetary event carries balanceAfter, so the balance is that of the
+ * last deposit or withdrawal, and the status is that of the last status
+ * change (or the creation event when there is none). Each lookup is a
+ * LIMIT 1 seek on an index: (aggregate_id, event_type, version) for the
+ * latest state; for a past instant, (aggregate_id, event_type, occurred_at)
+ * for the status change and (aggregate_id, occurred_at) for the posting. The hot
+ * table is asked first; the archive only when it holds nothing, since
+ * archived months are always older.
+ */
+@ApplicationScoped
+public class AccountStateReader {
+
+    private static final String HOT_TABLE = "account_events";
+    private static final String ARCHIVE_TABLE = "archive.account_events";
+    private static final String COLUMNS = "version, " + EventRows.COLUMNS;
+
+    private static final String STATUS_CHANGED = "AccountStatusChanged";
+    private static final String DEPOSITED = "MoneyDeposited";
+    private static final String WITHDRAWN = "MoneyWithdrawn";
+
+    @Inject
+    EntityManager em;
+
+    @Inject
+    EventCodecs eventCodecs;
+
+    @ConfigProperty(name = "vaultstream.event-store.partitioning.enabled", defaultValue = "false")
+    boolean partitioned;
+
+    /**
+     * Read the state-deciding events of several accounts at their latest version
+     *
+     * @return states keyed by account ID, in request order; unknown accounts are absent
+     */
+    public Map<UUID, StateEvents> readLatest(Collection<UUID> accountIds) {
+        return read(accountIds, null);
+    }
+
+    /**
+     * Read the state-deciding events of several accounts at one instant
+     *
+     * @return states keyed by account ID, in request order; accounts that did
+     *         not exist yet at the instant are absent
+     */
+    public Map<UUID, StateEvents> readAt(Collection<UUID> accountIds, Instant asOf) {
+        return read(accountIds, asOf);
+    }
+
+    private Map<UUID, StateEvents> read(Collection<UUID> accountIds, Instant asOf) {
+        return em.unwrap(Session.class).doReturningWork(connection -> {
+            Map<UUID, StateEvents> states = new LinkedHashMap<>();
+            try (Lookup hot = new Lookup(connection, HOT_TABLE);
+                 Lookup archive = partitioned ? new Lookup(connection, ARCHIVE_TABLE) : null) {
+                for (UUID accountId : accountIds) {
+                    Row created = hot.created(accountId);
+                    if (created == null && archive != null) {
+                        created = archive.created(accountId);
+                    }
+                    if (created == null || (asOf != null && created.event().getOccurredAt().isAfter(asOf))) {
+                        continue;
+                    }
+                    List<Row> rows = new ArrayList<>(3);
+                    rows.add(created);
+                    addIfPresent(rows, latest(hot, archive, accountId, asOf, STATUS_CHANGED));
+                    if (asOf == null) {
+                        // One probe per type: an IN list would defeat the LIMIT on the type index
+                        Row deposit = latest(hot, archive, accountId, null, DEPOSITED);
+                        Row withdrawal = latest(hot, archive, accountId, null, WITHDRAWN);
+                        addIfPresent(rows, deposit == null || (withdrawal != null && withdrawal.version() > deposit.version())
+                                ? withdrawal : deposit);
+                    } else {
+                        addIfPresent(rows, latest(hot, archive, accountId, asOf, null));
+                    }
+                    rows.sort(Comparator.comparingLong(Row::version));
+                    states.put(accountId, new StateEvents(
+                            rows.stream().map(Row::event).toList(), rows.get(rows.size() - 1).version()));
+                }
+            }
+            return states;
+        });
+    }
+
+    private static Row latest(Lookup hot, Lookup archive, UUID accountId, Instant asOf, String eventType)
+            throws SQLException {
+        Row row = hot.latest(accountId, asOf, eventType);
+        return row != null || archive == null ? row : archive.latest(accountId, asOf, eventType);
+    }
+
+    private static void addIfPresent(List<Row> rows, Row row) {
+        if (row != null) {
+            rows.add(row);
+        }
+    }
+
+    private record Row(long version, AccountEvent event) {
+    }
+
+    /**
+     * Prepared lookups against one table, reused for every account of a request
+     */
+    private final class Lookup implements AutoCloseable {
+
+        private final Connection connection;
+        private final String table;
+        private final Map<String, PreparedStatement> statements = new HashMap<>();
+
+        Lookup(Connection connection, String table) {
+            this.connection = connection;
+            this.table = table;
+        }
+
+        Row created(UUID accountId) throws SQLException {
+            PreparedStatement statement = prepare("created",
+                    "SELECT " + COLUMNS + " FROM " + table + " WHERE aggregate_id = ? AND version = 1");
+            statement.setObject(1, accountId);
+            return single(statement);
+        }
+
+        /**
+         * Latest event of a type, or of either posting type when eventType is
+         * null; only at or before asOf when given
+         */
+        Row latest(UUID accountId, Instant asOf, String eventType) throws SQLException {
+            String typeCondition = eventType != null
+                    ? "event_type = ?"
+                    : "event_type IN ('" + DEPOSITED + "', '" + WITHDRAWN + "')";
+            String sql = asOf == null
+                    ? "SELECT " + COLUMNS + " FROM " + table + " WHERE aggregate_id = ? AND " + typeCondition
+                            + " ORDER BY version DESC LIMIT 1"
+                    : "SELECT " + COLUMNS + " FROM " + table + " WHERE aggregate_id = ? AND occurred_at <= ? AND "
+                            + typeCondition + " ORDER BY occurred_at DESC, version DESC LIMIT 1";
+            PreparedStatement statement = prepare(sql, sql);
+            int parameter = 1;
+            statement.setObject(parameter++, accountId);
+            if (asOf != null) {
+                statement.setObject(parameter++, JpaEventStore.toTimestamp(asOf));
+            }
+            if (eventType != null) {
+                statement.setString(parameter, eventType);
+            }
+            return single(statement);
+        }
+
+        private PreparedStatement prepare(String key, String sql) throws SQLException {
+            PreparedStatement statement = statements.get(key);
+            if (statement == null) {
+                statement = connection.prepareStatement(sql);
+                statements.put(key, statement);
+            }
+            return statement;
+        }
+
+        private Row single(PreparedStatement statement) throws SQLException {
+            try (ResultSet rows = statement.executeQuery()) {
+                if (!rows.next()) {
+                    return null;
+                }
+                return new Row(rows.getLong(1), EventRows.decode(eventCodecs, rows, 2));
+            }
+        }
+
+        @Override
+        public void close() throws SQLException {
+            for (PreparedStatement statement : statements.values()) {
+                statement.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.vaultstream.account.infrastructure.persistence;
+
+import com.vaultstream.account.domain.model.AccountSnapshot;
+import com.vaultstream.account.domain.model.AccountStatus;
+import com.vaultstream.account.domain.model.AccountType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Denormalized read model row for one account (CQRS read side).
+ * 
+ * Maintained in the same transaction as the events it is derived from.
+ */
+@Entity
+@Table(name = "account_summary",
+    uniqueConstraints = @UniqueConstraint(name = "uk_account_summary_number", columnNames = "account_number"),
+    indexes = {
+        @Index(name = "idx_account_summary_customer", columnList = "customer_id, created_at, account_id"),
+        @Index(name = "idx_account_summary_created", columnList = "created_at, account_id")
+    })
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountSummaryEntity {
+
+    @Id
+    @Column(name = "account_id")
+    private UUID accountId;
+
+    @Column(name = "account_number", nullable = false, length = 30)
+    private String accountNumber;
+
+    @Column(name = "customer_id", nullable = false)
+    private UUID customerId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "account_type", nullable = false, length = 30)
+    private AccountType type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private AccountStatus status;
+
+    @Column(name = "balance", nullable = false, precision = 19, scale = 4)
+    private BigDecimal balance;
+
+    @Column(name = "currency", nullable = false, length = 3)
+    private String currency;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    public static AccountSummaryEntity fromSnapshot(AccountSnapshot state) {
+        return AccountSummaryEntity.builder()
+                .accountId(state.accountId())
+                .accountNumber(state.accountNumber())
+                .customerId(state.customerId())
+                .type(state.type())
+                .status(state.status())
+                .balance(state.balance())
+                .currency(state.currency().getCurrencyCode())
+                .createdAt(state.createdAt())
+                .updatedAt(state.updatedAt())
+                .version(state.version())
+                .build();
+    }
+}
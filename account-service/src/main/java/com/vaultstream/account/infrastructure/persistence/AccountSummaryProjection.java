@@ -0,0 +1,109 @@
+package com.vaultstream.account.infrastructure.persistence;
+
+import com.vaultstream.account.domain.model.Account;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Keeps the account_summary read model up to date.
+ * 
+ * Appends are projected synchronously, inside the transaction that writes the
+ * events, so the read model never lags behind the event store. The whole
+ * table, together with the account number index, can also be rebuilt from
+ * the event store.
+ */
+@Slf4j
+@ApplicationScoped
+public class AccountSummaryProjection {
+
+    private static final int REBUILD_CHUNK_SIZE = 500;
+
+    @Inject
+    EntityManager em;
+
+    @Inject
+    EventStore eventStore;
+
+    @Inject
+    AccountNumberIndex accountNumberIndex;
+
+    @ConfigProperty(name = "vaultstream.event-store.partitioning.enabled", defaultValue = "false")
+    boolean partitioned;
+
+    /**
+     * Project an append within the appending transaction
+     */
+    void onEventsAppended(@Observes AccountEventsAppended appended) {
+        em.merge(AccountSummaryEntity.fromSnapshot(appended.state()));
+    }
+
+    /**
+     * Rebuild every summary row from the event store.
+     * 
+     * Runs in chunks of accounts, each in its own transaction, so a rebuild
+     * of a large bank neither holds one huge transaction nor all IDs in memory.
+     *
+     * @return number of accounts projected
+     */
+    public long rebuild() {
+        log.info("Rebuilding account_summary from the event store");
+        long rebuilt = 0;
+        UUID after = null;
+
+        while (true) {
+            UUID cursor = after;
+            List<UUID> accountIds = QuarkusTransaction.requiringNew().call(() -> nextAccountIds(cursor));
+            if (accountIds.isEmpty()) {
+                break;
+            }
+
+            QuarkusTransaction.requiringNew().run(() -> {
+                for (Account account : eventStore.loadAggregates(accountIds).values()) {
+                    em.merge(AccountSummaryEntity.fromSnapshot(account.toSnapshot()));
+                    accountNumberIndex.register(account.getAccountNumber(), account.getId());
+                }
+            });
+
+            rebuilt += accountIds.size();
+            after = accountIds.get(accountIds.size() - 1);
+            log.debug("Rebuilt {} account summaries", rebuilt);
+        }
+
+        log.info("Rebuilt account_summary for {} accounts", rebuilt);
+        return rebuilt;
+    }
+
+    /**
+     * With partitioning, AccountCreated events of archived months are no
+     * longer in account_events; account_streams holds every stream instead
+     */
+    @SuppressWarnings("unchecked")
+    private List<UUID> nextAccountIds(UUID after) {
+        if (partitioned) {
+            var query = em.createNativeQuery("SELECT aggregate_id FROM account_streams"
+                            + (after != null ? " WHERE aggregate_id > :after" : "")
+                            + " ORDER BY aggregate_id", UUID.class)
+                    .setMaxResults(REBUILD_CHUNK_SIZE);
+            if (after != null) {
+                query.setParameter("after", after);
+            }
+            return query.getResultList();
+        }
+        String jpql = "SELECT e.aggregateId FROM EventStoreEntity e WHERE e.eventType = 'AccountCreated'"
+                + (after != null ? " AND e.aggregateId > :after" : "")
+                + " ORDER BY e.aggregateId";
+        var query = em.createQuery(jpql, UUID.class).setMaxResults(REBUILD_CHUNK_SIZE);
+        if (after != null) {
+            query.setParameter("after", after);
+        }
+        return query.getResultList();
+    }
+}
@@ -0,0 +1,107 @@
+package com.vaultstream.account.infrastructure.persistence;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.vaultstream.account.domain.model.AccountSnapshot;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Bounded in-memory cache of Account aggregate state keyed by account ID.
+ * 
+ * Entries are immutable snapshots tagged with the version they were taken at,
+ * so callers can check freshness against the stored max version and replay
+ * only the missing tail. The cache is written through after each committed
+ * append and evicts least-recently-used accounts beyond its maximum size.
+ */
+@Slf4j
+@ApplicationScoped
+public class AggregateCache {
+
+    /**
+     * Rough retained size of one entry: snapshot record, UUIDs, BigDecimal,
+     * account number string and the cache node itself
+     */
+    static final long ESTIMATED_ENTRY_BYTES = 480;
+
+    private static final String CACHE_NAME = "account-aggregates";
+
+    private final Cache<UUID, AccountSnapshot> cache;
+    private final boolean enabled;
+
+    @Inject
+    public AggregateCache(
+            MeterRegistry registry,
+            @ConfigProperty(name = "vaultstream.event-store.cache.enabled", defaultValue = "true") boolean enabled,
+            @ConfigProperty(name = "vaultstream.event-store.cache.maximum-size", defaultValue = "10000") long maximumSize) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME, Tags.of("service", "account-service"));
+
+        Gauge.builder("vaultstream.account.aggregate-cache.memory.estimated", cache,
+                        c -> c.estimatedSize() * ESTIMATED_ENTRY_BYTES)
+                .description("Estimated heap used by cached account aggregates")
+                .baseUnit("bytes")
+                .tag("service", "account-service")
+                .register(registry);
+
+        log.info("Aggregate cache initialized (enabled={}, maximumSize={})", enabled, maximumSize);
+    }
+
+    /**
+     * Get the cached state of an account, if any
+     */
+    public Optional<AccountSnapshot> get(UUID accountId) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(cache.getIfPresent(accountId));
+    }
+
+    /**
+     * Store a state, keeping whichever of the cached and given state is newer
+     */
+    public void put(AccountSnapshot state) {
+        if (!enabled) {
+            return;
+        }
+        cache.asMap().merge(state.accountId(), state,
+                (cached, candidate) -> candidate.version() >= cached.version() ? candidate : cached);
+    }
+
+    /**
+     * Drop the cached state of an account
+     */
+    public void invalidate(UUID accountId) {
+        cache.invalidate(accountId);
+    }
+
+    /**
+     * Approximate number of cached accounts
+     */
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    /**
+     * Write through once the appending transaction has committed
+     */
+    void onEventsAppended(@Observes(during = TransactionPhase.AFTER_SUCCESS) AccountEventsAppended appended) {
+        put(appended.state());
+    }
+}
@@ -0,0 +1,36 @@
+package com.vaultstream.account.infrastructure.persistence;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reads events from partitions that were moved to the archive schema.
+ * 
+ * Archived rows keep the account_events layout, so they map onto the same
+ * entity. Only consulted when the hot table cannot answer a read on its own.
+ */
+@ApplicationScoped
+public class ArchivedEventReader {
+
+    @Inject
+    EntityManager em;
+
+    /**
+     * Load archived events of an aggregate with from < version < to, in order
+     */
+    @SuppressWarnings("unchecked")
+    public List<EventStoreEntity> loadBetween(UUID aggregateId, long fromVersion, long toVersion) {
+        return em.createNativeQuery(
+                "SELECT * FROM archive.account_events WHERE aggregate_id = :id "
+                        + "AND version > :from AND version < :to ORDER BY version",
+                EventStoreEntity.class)
+                .setParameter("id", aggregateId)
+                .setParameter("from", fromVersion)
+                .setParameter("to", toVersion)
+                .getResultList();
+    }
+}
@@ -0,0 +1,156 @@
+package com.vaultstream.account.infrastructure.persistence;
+
+import com.vaultstream.account.domain.model.Account;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Keeps the monthly partitions of account_events in shape.
+ * 
+ * Each run creates the partitions for the coming months and moves months
+ * older than the retention window to the archive schema. A month is only
+ * archived once every aggregate with events in it has a snapshot at or
+ * beyond its last event there, so aggregate loads keep reading the hot
+ * table alone. Aggregates without such a snapshot are snapshotted first, a
+ * bounded number per run.
+ * 
+ * Requires the PostgreSQL schema from the V2 migration; disabled elsewhere.
+ */
+@Slf4j
+@ApplicationScoped
+public class EventPartitionMaintenance {
+
+    private static final Pattern PARTITION_NAME = Pattern.compile("account_events_p(\\d{6})");
+    private static final DateTimeFormatter PARTITION_MONTH = DateTimeFormatter.ofPattern("yyyyMM");
+
+    @Inject
+    EntityManager em;
+
+    @Inject
+    EventStore eventStore;
+
+    @Inject
+    SnapshotStore snapshotStore;
+
+    @ConfigProperty(name = "vaultstream.event-store.partitioning.enabled", defaultValue = "false")
+    boolean enabled;
+
+    @ConfigProperty(name = "vaultstream.event-store.partitioning.months-ahead", defaultValue = "3")
+    int monthsAhead;
+
+    @ConfigProperty(name = "vaultstream.event-store.partitioning.archive-after-months", defaultValue = "6")
+    int archiveAfterMonths;
+
+    @ConfigProperty(name = "vaultstream.event-store.partitioning.snapshot-batch-size", defaultValue = "1000")
+    int snapshotBatchSize;
+
+    void onStart(@Observes StartupEvent startup) {
+        if (enabled) {
+            createUpcomingPartitions();
+        }
+    }
+
+    @Scheduled(cron = "{vaultstream.event-store.partitioning.cron}", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void maintain() {
+        if (!enabled) {
+            return;
+        }
+        createUpcomingPartitions();
+
+        YearMonth cutoff = YearMonth.now(ZoneOffset.UTC).minusMonths(archiveAfterMonths);
+        for (String partition : hotPartitions()) {
+            YearMonth month = monthOf(partition);
+            if (month.isBefore(cutoff)) {
+                archiveIfCovered(partition, month);
+            }
+        }
+    }
+
+    /**
+     * Create the partitions from the current month up to months-ahead
+     */
+    void createUpcomingPartitions() {
+        QuarkusTransaction.requiringNew().run(() -> em.createNativeQuery(
+                        "SELECT account_events_create_partitions(CAST(:month AS DATE), :months)")
+                .setParameter("month", LocalDate.now(ZoneOffset.UTC).withDayOfMonth(1))
+                .setParameter("months", monthsAhead)
+                .getSingleResult());
+    }
+
+    /**
+     * Move a partition to the archive, snapshotting uncovered aggregates first
+     */
+    void archiveIfCovered(String partition, YearMonth month) {
+        List<UUID> uncovered = uncoveredAggregates(partition);
+        for (UUID accountId : uncovered) {
+            QuarkusTransaction.requiringNew().run(() -> eventStore.loadAggregate(accountId)
+                    .map(Account::toSnapshot)
+                    .ifPresent(snapshotStore::save));
+        }
+        if (!uncovered.isEmpty() && !uncoveredAggregates(partition).isEmpty()) {
+            log.info("Partition {} still has aggregates without snapshots, archiving on a later run", partition);
+            return;
+        }
+
+        QuarkusTransaction.requiringNew().run(() -> {
+            em.createNativeQuery("ALTER TABLE account_events DETACH PARTITION " + partition).executeUpdate();
+            em.createNativeQuery("ALTER TABLE " + partition + " SET SCHEMA archive").executeUpdate();
+            em.createNativeQuery(String.format(
+                            "ALTER TABLE archive.account_events ATTACH PARTITION archive.%s FOR VALUES FROM ('%s') TO ('%s')",
+                            partition, month.atDay(1), month.plusMonths(1).atDay(1)))
+                    .executeUpdate();
+        });
+        log.info("Archived event partition {}", partition);
+    }
+
+    /**
+     * Monthly partitions currently attached to account_events, oldest first
+     */
+    @SuppressWarnings("unchecked")
+    private List<String> hotPartitions() {
+        List<String> names = QuarkusTransaction.requiringNew().call(() -> em.createNativeQuery(
+                        "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid "
+                                + "WHERE i.inhparent = 'public.account_events'::regclass ORDER BY c.relname")
+                .getResultList());
+        return names.stream()
+                .filter(name -> PARTITION_NAME.matcher(name).matches())
+                .toList();
+    }
+
+    /**
+     * Aggregates whose latest snapshot is older than their last event in the partition
+     */
+    @SuppressWarnings("unchecked")
+    private List<UUID> uncoveredAggregates(String partition) {
+        return QuarkusTransaction.requiringNew().call(() -> em.createNativeQuery(
+                        "SELECT e.aggregate_id FROM " + partition + " e GROUP BY e.aggregate_id "
+                                + "HAVING MAX(e.version) > COALESCE((SELECT MAX(s.version) FROM account_snapshots s "
+                                + "WHERE s.aggregate_id = e.aggregate_id), 0)")
+                .setMaxResults(snapshotBatchSize)
+                .getResultList());
+    }
+
+    private static YearMonth monthOf(String partition) {
+        Matcher matcher = PARTITION_NAME.matcher(partition);
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Not a monthly event partition: " + partition);
+        }
+        return YearMonth.parse(matcher.group(1), PARTITION_MONTH);
+    }
+}
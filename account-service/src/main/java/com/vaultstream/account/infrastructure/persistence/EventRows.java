@@ -0,0 +1,40 @@
+package com.vaultstream.account.infrastructure.persistence;
+
+import com.vaultstream.account.domain.event.AccountEvent;
+import com.vaultstream.account.infrastructure.persistence.codec.EventCodecs;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Decodes account_events rows read over plain JDBC, for the readers that
+ * stream past the persistence context.
+ *
+ * Queries select {@link #COLUMNS} next to each other, in that order, and
+ * pass the index of the first one.
+ */
+public final class EventRows {
+
+    /**
+     * The columns a stored event is decoded from
+     */
+    public static final String COLUMNS = "event_type, event_version, payload, payload_bytes, codec";
+
+    private EventRows() {
+    }
+
+    /**
+     * Decode the event in the current row with the codec that wrote it
+     *
+     * @param first index of the first of {@link #COLUMNS} in the row
+     */
+    public static AccountEvent decode(EventCodecs eventCodecs, ResultSet rows, int first) throws SQLException {
+        return JpaEventStore.decode(eventCodecs, EventStoreEntity.builder()
+                .eventType(rows.getString(first))
+                .eventVersion(rows.getInt(first + 1))
+                .payload(rows.getString(first + 2))
+                .payloadBytes(rows.getBytes(first + 3))
+                .codec(rows.getString(first + 4))
+                .build());
+    }
+}
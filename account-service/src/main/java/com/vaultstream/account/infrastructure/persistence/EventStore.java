@@ -1,127 +1,93 @@
 package com.vaultstream.account.infrastructure.persistence;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.vaultstream.account.domain.event.*;
+import com.vaultstream.account.domain.event.AccountEvent;
 import com.vaultstream.account.domain.model.Account;
-import jakarta.enterprise.context.ApplicationScoped;
-import jakarta.inject.Inject;
-import jakarta.persistence.EntityManager;
-import jakarta.transaction.Transactional;
-import lombok.extern.slf4j.Slf4j;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.ObjLongConsumer;
 
 /**
- * Event Store implementation using PostgreSQL.
+ * Append-only store of Account events.
  * 
- * Persists domain events and reconstructs aggregates from event history.
+ * The engine is chosen at build time with vaultstream.event-store.engine:
+ * "jpa" (PostgreSQL, the default) or "segment-file" (memory-mapped log on
+ * local disk). Every engine appends optimistically and fires
+ * {@link AccountEventsAppended} once per aggregate after a successful append.
  */
-@Slf4j
-@ApplicationScoped
-public class EventStore {
-
-    private static final String AGGREGATE_TYPE = "Account";
-
-    @Inject
-    EntityManager em;
-
-    @Inject
-    ObjectMapper objectMapper;
+public interface EventStore {
 
     /**
      * Save all uncommitted events from an aggregate
+     *
+     * @throws com.vaultstream.common.exception.ConcurrencyException if the aggregate changed since it was loaded
      */
-    @Transactional
-    public void saveEvents(Account account) {
-        List<AccountEvent> events = account.getUncommittedEvents();
-        long currentVersion = getCurrentVersion(account.getId());
+    void saveEvents(Account account);
 
-        for (AccountEvent event : events) {
-            currentVersion++;
-            EventStoreEntity entity = toEntity(event, currentVersion);
-            em.persist(entity);
-            log.debug("Persisted event: {} for account: {}", event.getEventType(), account.getId());
-        }
+    /**
+     * Save the uncommitted events of several aggregates together
+     *
+     * @throws com.vaultstream.common.exception.ConcurrencyException if any aggregate changed since it was loaded
+     */
+    void saveEvents(Collection<Account> accounts);
 
-        account.markEventsAsCommitted();
-        log.info("Saved {} events for account: {}", events.size(), account.getId());
-    }
+    /**
+     * Load an account aggregate at its latest version
+     */
+    Optional<Account> loadAggregate(UUID accountId);
 
     /**
-     * Load an account aggregate from its event history
+     * Load several account aggregates at once
+     *
+     * @return loaded aggregates keyed by ID, in request order; unknown IDs are absent
      */
-    public Optional<Account> loadAggregate(UUID accountId) {
-        List<AccountEvent> events = loadEvents(accountId);
-        if (events.isEmpty()) {
-            return Optional.empty();
-        }
-        return Optional.of(Account.fromHistory(events));
-    }
+    Map<UUID, Account> loadAggregates(Collection<UUID> accountIds);
 
     /**
-     * Load all events for an aggregate
+     * Load an account aggregate at its latest version without replaying its
+     * history, from the creation event, the latest status change and the
+     * latest posting (which carries balanceAfter)
      */
-    public List<AccountEvent> loadEvents(UUID aggregateId) {
-        List<EventStoreEntity> entities = em.createQuery(
-                "SELECT e FROM EventStoreEntity e WHERE e.aggregateId = :id ORDER BY e.version",
-                EventStoreEntity.class)
-                .setParameter("id", aggregateId)
-                .getResultList();
+    Optional<Account> loadLatestState(UUID accountId);
 
-        return entities.stream()
-                .map(this::fromEntity)
-                .toList();
-    }
+    /**
+     * Find the events that decided the state of several accounts at one instant
+     *
+     * @return states keyed by account ID, in request order; accounts that did
+     *         not exist yet at the instant are absent
+     */
+    Map<UUID, StateEvents> loadStatesAt(Collection<UUID> accountIds, Instant asOf);
 
     /**
-     * Get current version of an aggregate
+     * Load all events for an aggregate, in version order
      */
-    public long getCurrentVersion(UUID aggregateId) {
-        Long version = em.createQuery(
-                "SELECT MAX(e.version) FROM EventStoreEntity e WHERE e.aggregateId = :id",
-                Long.class)
-                .setParameter("id", aggregateId)
-                .getSingleResult();
-        return version != null ? version : 0L;
-    }
+    List<AccountEvent> loadEvents(UUID aggregateId);
 
-    private EventStoreEntity toEntity(AccountEvent event, long version) {
-        try {
-            String payload = objectMapper.writeValueAsString(event);
-            return EventStoreEntity.builder()
-                    .eventId(event.getEventId())
-                    .aggregateId(event.getAccountId())
-                    .aggregateType(AGGREGATE_TYPE)
-                    .eventType(event.getEventType())
-                    .eventVersion(event.getEventVersion())
-                    .version(version)
-                    .payload(payload)
-                    .occurredAt(event.getOccurredAt())
-                    .build();
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("Failed to serialize event", e);
-        }
-    }
+    /**
+     * Load the events of an aggregate with a version greater than the given one
+     */
+    List<AccountEvent> loadEventsAfter(UUID aggregateId, long afterVersion);
 
-    private AccountEvent fromEntity(EventStoreEntity entity) {
-        try {
-            Class<? extends AccountEvent> eventClass = getEventClass(entity.getEventType());
-            return objectMapper.readValue(entity.getPayload(), eventClass);
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("Failed to deserialize event", e);
-        }
-    }
+    /**
+     * Hand the deposits and withdrawals of an account to the sink in version
+     * order, one at a time, for transaction history and statements
+     *
+     * @param afterVersion only events after this version; 0 for the start
+     * @param from         inclusive lower bound on occurredAt, or null
+     * @param to           exclusive upper bound on occurredAt, or null
+     * @param limit        maximum number of events, or 0 for all of them
+     * @param sink         receives each event with its stream version
+     * @return number of events read
+     */
+    int readPostings(UUID accountId, long afterVersion, Instant from, Instant to, int limit,
+                     ObjLongConsumer<AccountEvent> sink);
 
-    private Class<? extends AccountEvent> getEventClass(String eventType) {
-        return switch (eventType) {
-            case "AccountCreated" -> AccountCreatedEvent.class;
-            case "MoneyDeposited" -> MoneyDepositedEvent.class;
-            case "MoneyWithdrawn" -> MoneyWithdrawnEvent.class;
-            case "AccountStatusChanged" -> AccountStatusChangedEvent.class;
-            default -> throw new IllegalArgumentException("Unknown event type: " + eventType);
-        };
-    }
+    /**
+     * Get current version of an aggregate, 0 if it has no events
+     */
+    long getCurrentVersion(UUID aggregateId);
 }
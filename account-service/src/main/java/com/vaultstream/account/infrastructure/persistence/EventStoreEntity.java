@@ -12,12 +12,22 @@ import java.util.UUID;
 
 /**
  * Entity representing a stored event in the Event Store.
+ * 
+ * In production the table is created by Flyway and partitioned by month on
+ * occurred_at; version uniqueness is then enforced through account_streams
+ * rather than the constraint declared here.
  */
 @Entity
-@Table(name = "account_events", indexes = {
-    @Index(name = "idx_account_events_aggregate", columnList = "aggregateId, version"),
-    @Index(name = "idx_account_events_timestamp", columnList = "occurredAt")
-})
+@Table(name = "account_events",
+    uniqueConstraints = @UniqueConstraint(name = "uk_account_events_aggregate_version", columnNames = {"aggregate_id", "version"}),
+    indexes = {
+        @Index(name = "idx_account_events_timestamp", columnList = "occurred_at"),
+        @Index(name = "idx_account_events_aggregate_occurred", columnList = "aggregate_id, occurred_at"),
+        @Index(name = "idx_account_events_aggregate_type", columnList = "aggregate_id, event_type, version"),
+        @Index(name = "idx_account_events_aggregate_type_occurred",
+                columnList = "aggregate_id, event_type, occurred_at, version"),
+        @Index(name = "idx_account_events_global_position", columnList = "global_position")
+    })
 @Getter
 @Builder
 @NoArgsConstructor
@@ -43,9 +53,24 @@ public class EventStoreEntity {
     @Column(name = "version", nullable = false)
     private long version;
 
-    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    /**
+     * JSON payload; populated for rows written with the JSON codec
+     */
+    @Column(name = "payload", columnDefinition = "TEXT")
     private String payload;
 
+    /**
+     * Binary payload; populated for rows written with a binary codec
+     */
+    @Column(name = "payload_bytes", length = 1048576)
+    private byte[] payloadBytes;
+
+    /**
+     * Codec that wrote the payload; null for rows that predate codecs (JSON)
+     */
+    @Column(name = "codec", length = 20)
+    private String codec;
+
     @Column(name = "metadata", columnDefinition = "TEXT")
     private String metadata;
 
@@ -55,4 +80,13 @@ public class EventStoreEntity {
     @Column(name = "created_at", nullable = false)
     @Builder.Default
     private Instant createdAt = Instant.now();
+
+    /**
+     * Store-wide append order, assigned by the database on insert. Increases
+     * monotonically but may have gaps, and positions can become visible out
+     * of order while concurrent transactions commit.
+     */
+    @Column(name = "global_position", insertable = false, updatable = false,
+            columnDefinition = "BIGINT GENERATED BY DEFAULT AS IDENTITY")
+    private Long globalPosition;
 }
@@ -0,0 +1,241 @@
+package com.vaultstream.account.infrastructure.persistence;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vaultstream.common.exception.IdempotencyConflictException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Remembers the response of each money command by (account, transaction
+ * reference) for a limited time, so client retries are answered instead of
+ * posted twice.
+ *
+ * A rotating Bloom filter of recent keys sits in front of the table. Most
+ * commands carry a new reference, and for those the filter answers "not
+ * seen" without touching the database. Only possible duplicates are looked
+ * up. The table's primary key is the real guarantee: a duplicate that slips
+ * past the filter fails to insert, and the caller falls back to the stored
+ * response.
+ *
+ * Each key also remembers the operation, amount and, for transfers, the
+ * target account it was used for. A
+ * command that reuses a reference for anything else is not a retry, and is
+ * rejected with an IdempotencyConflictException instead of being answered
+ * with the earlier response.
+ */
+@Slf4j
+@ApplicationScoped
+public class IdempotencyStore {
+
+    private static final int FILTER_GENERATIONS = 4;
+
+    private final EntityManager em;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final RotatingBloomFilter filter;
+    private final Counter databaseLookups;
+    private final Counter replays;
+
+    @Inject
+    public IdempotencyStore(
+            EntityManager em,
+            ObjectMapper objectMapper,
+            MeterRegistry registry,
+            @ConfigProperty(name = "vaultstream.idempotency.ttl", defaultValue = "24h") Duration ttl,
+            @ConfigProperty(name = "vaultstream.idempotency.filter.expected-keys", defaultValue = "1000000") long expectedKeys,
+            @ConfigProperty(name = "vaultstream.idempotency.filter.false-positive-rate", defaultValue = "0.01") double falsePositiveRate) {
+        this.em = em;
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+        // Each generation takes new keys for ttl / (n - 1), so a key stays visible for at least the ttl
+        this.filter = new RotatingBloomFilter(FILTER_GENERATIONS, ttl.toMillis() / (FILTER_GENERATIONS - 1),
+                expectedKeys, falsePositiveRate, System::currentTimeMillis);
+
+        this.databaseLookups = Counter.builder("vaultstream.account.idempotency.lookups")
+                .description("Idempotency checks that the filter could not answer alone")
+                .tag("service", "account-service")
+                .register(registry);
+        this.replays = Counter.builder("vaultstream.account.idempotency.replays")
+                .description("Commands answered from a stored response")
+                .tag("service", "account-service")
+                .register(registry);
+        Gauge.builder("vaultstream.account.idempotency.filter.memory", filter, RotatingBloomFilter::memoryBytes)
+                .description("Heap held by the idempotency filter")
+                .baseUnit("bytes")
+                .tag("service", "account-service")
+                .register(registry);
+    }
+
+    /**
+     * Find the stored response for a reference, if it may have been seen.
+     * Must be called inside the transaction that would record it.
+     *
+     * @throws IdempotencyConflictException if the reference was used for a different request
+     */
+    public <T> Optional<T> find(Request request, Class<T> responseType) {
+        if (!filter.mightContain(hash1(request.accountId(), request.transactionReference()),
+                hash2(request.accountId(), request.transactionReference()))) {
+            return Optional.empty();
+        }
+        databaseLookups.increment();
+        return lookup(request, responseType);
+    }
+
+    /**
+     * Find a committed response without consulting the filter, in a new transaction
+     *
+     * @throws IdempotencyConflictException if the reference was used for a different request
+     */
+    public <T> Optional<T> findCommitted(Request request, Class<T> responseType) {
+        return QuarkusTransaction.requiringNew().call(() -> lookup(request, responseType));
+    }
+
+    /**
+     * Store the response of a command in the current transaction
+     */
+    public void record(Request request, Object response) {
+        em.persist(AccountIdempotencyEntity.builder()
+                .accountId(request.accountId())
+                .transactionReference(request.transactionReference())
+                .operation(request.operation())
+                .amount(request.amount())
+                .counterpartyId(request.counterpartyId())
+                .response(serialize(response))
+                .createdAt(Instant.now())
+                .build());
+        filter.add(hash1(request.accountId(), request.transactionReference()),
+                hash2(request.accountId(), request.transactionReference()));
+    }
+
+    /**
+     * Load unexpired keys into the filter so replays across a restart are still caught
+     */
+    void warmUp(@Observes StartupEvent startup) {
+        long loaded = QuarkusTransaction.requiringNew().call(() -> em.createQuery(
+                        "SELECT i.accountId, i.transactionReference FROM AccountIdempotencyEntity i "
+                                + "WHERE i.createdAt > :since", Object[].class)
+                .setParameter("since", Instant.now().minus(ttl))
+                .getResultStream()
+                .peek(key -> filter.add(hash1((UUID) key[0], (String) key[1]), hash2((UUID) key[0], (String) key[1])))
+                .count());
+        log.info("Idempotency filter warmed with {} keys ({} bytes)", loaded, filter.memoryBytes());
+    }
+
+    /**
+     * Delete responses older than the ttl
+     */
+    @Scheduled(every = "{vaultstream.idempotency.purge-every}", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void purgeExpired() {
+        int deleted = QuarkusTransaction.requiringNew().call(() -> em.createQuery(
+                        "DELETE FROM AccountIdempotencyEntity i WHERE i.createdAt < :before")
+                .setParameter("before", Instant.now().minus(ttl))
+                .executeUpdate());
+        if (deleted > 0) {
+            log.info("Purged {} expired idempotency records", deleted);
+        }
+    }
+
+    private <T> Optional<T> lookup(Request request, Class<T> responseType) {
+        AccountIdempotencyEntity entity = em.find(AccountIdempotencyEntity.class,
+                new AccountIdempotencyEntity.Key(request.accountId(), request.transactionReference()));
+        if (entity == null || entity.getCreatedAt().isBefore(Instant.now().minus(ttl))) {
+            return Optional.empty();
+        }
+        if (!request.matches(entity)) {
+            throw new IdempotencyConflictException(request.transactionReference());
+        }
+        replays.increment();
+        return Optional.of(deserialize(entity.getResponse(), responseType));
+    }
+
+    private String serialize(Object response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize idempotent response", e);
+        }
+    }
+
+    private <T> T deserialize(String response, Class<T> responseType) {
+        try {
+            return objectMapper.readValue(response, responseType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to deserialize idempotent response", e);
+        }
+    }
+
+    private static long hash1(UUID accountId, String transactionReference) {
+        return mix(seed(accountId, transactionReference));
+    }
+
+    private static long hash2(UUID accountId, String transactionReference) {
+        // Odd, so successive probes never collapse onto the same bit
+        return mix(seed(accountId, transactionReference) ^ 0xC2B2AE3D27D4EB4FL) | 1L;
+    }
+
+    private static long seed(UUID accountId, String transactionReference) {
+        long hash = accountId.getMostSignificantBits() * 0x9E3779B97F4A7C15L ^ accountId.getLeastSignificantBits();
+        for (int i = 0; i < transactionReference.length(); i++) {
+            hash = (hash ^ transactionReference.charAt(i)) * 0x100000001B3L;
+        }
+        return hash;
+    }
+
+    /**
+     * Money operations a transaction reference can be used for
+     */
+    public enum Operation {
+        DEPOSIT,
+        WITHDRAWAL,
+        TRANSFER
+    }
+
+    /**
+     * A money command as seen by the store: its key plus what it asked for.
+     * The counterparty is the target account of a transfer, null otherwise.
+     */
+    public record Request(UUID accountId, String transactionReference, Operation operation, BigDecimal amount,
+                          UUID counterpartyId) {
+
+        public Request(UUID accountId, String transactionReference, Operation operation, BigDecimal amount) {
+            this(accountId, transactionReference, operation, amount, null);
+        }
+
+        boolean matches(AccountIdempotencyEntity entity) {
+            return entity.getOperation() == operation
+                    && amount != null
+                    && entity.getAmount().compareTo(amount) == 0
+                    && Objects.equals(entity.getCounterpartyId(), counterpartyId);
+        }
+    }
+
+    /**
+     * MurmurHash3 64-bit finalizer
+     */
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
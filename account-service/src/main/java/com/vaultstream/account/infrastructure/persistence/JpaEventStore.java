@@ -0,0 +1,478 @@
+package com.vaultstream.account.infrastructure.persistence;
+
+import com.vaultstream.account.domain.event.*;
+import com.vaultstream.account.domain.model.Account;
+import com.vaultstream.account.domain.model.AccountSnapshot;
+import com.vaultstream.account.infrastructure.persistence.codec.EventCodec;
+import com.vaultstream.account.infrastructure.persistence.codec.EventCodecs;
+import com.vaultstream.account.infrastructure.persistence.codec.JsonEventCodec;
+import com.vaultstream.common.exception.ConcurrencyException;
+import io.quarkus.arc.properties.IfBuildProperty;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.hibernate.Session;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.ObjLongConsumer;
+import java.util.stream.Collectors;
+
+/**
+ * Event Store implementation using PostgreSQL, the default engine.
+ * 
+ * Persists domain events and reconstructs aggregates from the aggregate cache
+ * or the latest snapshot, plus the events recorded after it. Aggregates with
+ * no snapshot are rebuilt from their state-deciding events alone rather than
+ * by replaying the stream.
+ * 
+ * With partitioning enabled, old months of account_events may have been
+ * moved to the archive schema. Those events are always covered by a
+ * snapshot, so normal loads never touch them; full-history reads and reads
+ * that find a gap before the first hot event fall back to the archive.
+ */
+@Slf4j
+@ApplicationScoped
+@IfBuildProperty(name = "vaultstream.event-store.engine", stringValue = "jpa", enableIfMissing = true)
+public class JpaEventStore implements EventStore {
+
+    private static final String AGGREGATE_TYPE = "Account";
+    private static final String UNIQUE_VIOLATION_SQL_STATE = "23505";
+    private static final int MULTI_LOAD_CHUNK_SIZE = 500;
+
+    private static final String INSERT_EVENT_SQL =
+            "INSERT INTO account_events (event_id, aggregate_id, aggregate_type, event_type, event_version, "
+            + "version, payload, payload_bytes, codec, occurred_at, created_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_OUTBOX_SQL =
+            "INSERT INTO account_outbox (event_id, aggregate_id, event_type, version, payload, created_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?)";
+
+    @Inject
+    EntityManager em;
+
+    @Inject
+    EventCodecs eventCodecs;
+
+    @Inject
+    SnapshotStore snapshotStore;
+
+    @Inject
+    AggregateCache aggregateCache;
+
+    @Inject
+    ArchivedEventReader archivedEvents;
+
+    @Inject
+    AccountStateReader stateReader;
+
+    @Inject
+    TransactionHistoryReader historyReader;
+
+    @Inject
+    Event<AccountEventsAppended> eventsAppended;
+
+    @ConfigProperty(name = "vaultstream.event-store.partitioning.enabled", defaultValue = "false")
+    boolean partitioned;
+
+    @ConfigProperty(name = "vaultstream.outbox.enabled", defaultValue = "true")
+    boolean outboxEnabled;
+
+    /**
+     * Save all uncommitted events from an aggregate.
+     * 
+     * Appends optimistically after the version the aggregate was loaded at;
+     * the unique (aggregate_id, version) constraint rejects the append if
+     * another writer got there first.
+     *
+     * @throws ConcurrencyException if the aggregate changed since it was loaded
+     */
+    @Override
+    @Transactional
+    public void saveEvents(Account account) {
+        saveEvents(List.of(account));
+    }
+
+    /**
+     * Save the uncommitted events of several aggregates in one JDBC batch.
+     * 
+     * Rows are written directly through the connection, bypassing the
+     * persistence context, so the whole append costs a single round-trip
+     * (the PostgreSQL driver rewrites the batch into a multi-VALUES insert).
+     * With the outbox enabled, a JSON copy of every event is queued for
+     * publishing in the same transaction.
+     *
+     * @throws ConcurrencyException if any aggregate changed since it was loaded
+     */
+    @Override
+    @Transactional
+    public void saveEvents(Collection<Account> accounts) {
+        List<Account> dirty = accounts.stream()
+                .filter(account -> !account.getUncommittedEvents().isEmpty())
+                .toList();
+        if (dirty.isEmpty()) {
+            return;
+        }
+
+        try {
+            em.unwrap(Session.class).doWork(connection -> insertBatch(connection, dirty));
+        } catch (PersistenceException e) {
+            if (isUniqueViolation(e)) {
+                throw conflict(dirty);
+            }
+            throw e;
+        }
+
+        for (Account account : dirty) {
+            List<AccountEvent> appended = List.copyOf(account.getUncommittedEvents());
+            account.markEventsAsCommitted();
+            eventsAppended.fire(new AccountEventsAppended(account.toSnapshot(), appended));
+            log.debug("Saved {} events for account: {}", appended.size(), account.getId());
+        }
+        log.info("Saved events for {} account(s)", dirty.size());
+    }
+
+    private void insertBatch(Connection connection, List<Account> accounts) throws SQLException {
+        Instant now = Instant.now();
+        EventCodec codec = eventCodecs.writeCodec();
+        boolean json = JsonEventCodec.ID.equals(codec.id());
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_EVENT_SQL)) {
+            for (Account account : accounts) {
+                long version = account.getVersion();
+                for (AccountEvent event : account.getUncommittedEvents()) {
+                    version++;
+                    statement.setObject(1, event.getEventId());
+                    statement.setObject(2, event.getAccountId());
+                    statement.setString(3, AGGREGATE_TYPE);
+                    statement.setString(4, event.getEventType());
+                    statement.setInt(5, event.getEventVersion());
+                    statement.setLong(6, version);
+                    byte[] payload = codec.encode(event);
+                    statement.setString(7, json ? new String(payload, StandardCharsets.UTF_8) : null);
+                    statement.setBytes(8, json ? null : payload);
+                    statement.setString(9, codec.id());
+                    statement.setObject(10, toTimestamp(event.getOccurredAt()));
+                    statement.setObject(11, toTimestamp(now));
+                    statement.addBatch();
+                }
+            }
+            statement.executeBatch();
+        }
+        if (outboxEnabled) {
+            insertOutbox(connection, accounts, now);
+        }
+    }
+
+    private void insertOutbox(Connection connection, List<Account> accounts, Instant now) throws SQLException {
+        EventCodec json = eventCodecs.forId(JsonEventCodec.ID);
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_OUTBOX_SQL)) {
+            for (Account account : accounts) {
+                long version = account.getVersion();
+                for (AccountEvent event : account.getUncommittedEvents()) {
+                    statement.setObject(1, event.getEventId());
+                    statement.setObject(2, event.getAccountId());
+                    statement.setString(3, event.getEventType());
+                    statement.setLong(4, ++version);
+                    statement.setString(5, new String(json.encode(event), StandardCharsets.UTF_8));
+                    statement.setObject(6, toTimestamp(now));
+                    statement.addBatch();
+                }
+            }
+            statement.executeBatch();
+        }
+    }
+
+    /**
+     * Load an account aggregate, preferring cached state that is still fresh
+     */
+    @Override
+    public Optional<Account> loadAggregate(UUID accountId) {
+        Optional<AccountSnapshot> cached = aggregateCache.get(accountId);
+        if (cached.isPresent()) {
+            long currentVersion = getCurrentVersion(accountId);
+            if (cached.get().version() == currentVersion) {
+                return Optional.of(Account.fromSnapshot(cached.get(), List.of()));
+            }
+            if (cached.get().version() < currentVersion) {
+                List<AccountEvent> tail = loadEventsAfter(accountId, cached.get().version());
+                // Empty only if the missing events were archived; the latest snapshot covers them
+                if (!tail.isEmpty()) {
+                    return Optional.of(cache(Account.fromSnapshot(cached.get(), tail)));
+                }
+            }
+            aggregateCache.invalidate(accountId);
+        }
+
+        return loadUncached(accountId).map(this::cache);
+    }
+
+    /**
+     * Load an account aggregate from its latest snapshot and subsequent
+     * events, or from its latest state when it has no snapshot yet
+     */
+    private Optional<Account> loadUncached(UUID accountId) {
+        Optional<AccountSnapshot> snapshot = snapshotStore.loadLatest(accountId);
+        if (snapshot.isPresent()) {
+            List<AccountEvent> events = loadEventsAfter(accountId, snapshot.get().version());
+            return Optional.of(Account.fromSnapshot(snapshot.get(), events));
+        }
+        return Optional.ofNullable(stateReader.readLatest(List.of(accountId)).get(accountId))
+                .map(StateEvents::toAccount);
+    }
+
+    /**
+     * Load an account from its creation event, latest status change and
+     * latest posting: at most four index probes, whatever the stream length
+     */
+    @Override
+    public Optional<Account> loadLatestState(UUID accountId) {
+        return Optional.ofNullable(stateReader.readLatest(List.of(accountId)).get(accountId))
+                .map(state -> cache(state.toAccount()));
+    }
+
+    /**
+     * Load several account aggregates at once.
+     * 
+     * Fetches the latest snapshots in one query and every event after them in
+     * a single query ordered by aggregate and version, then folds the rows
+     * per aggregate. Cached state that is newer than the snapshot is used as
+     * the starting point instead, and only the events after it are read. Aggregates with neither are loaded from
+     * their latest state.
+     *
+     * @return loaded aggregates keyed by ID; unknown IDs are absent
+     */
+    @Override
+    public Map<UUID, Account> loadAggregates(Collection<UUID> accountIds) {
+        Map<UUID, Account> loaded = new LinkedHashMap<>();
+        List<UUID> distinct = accountIds.stream().distinct().toList();
+        for (int from = 0; from < distinct.size(); from += MULTI_LOAD_CHUNK_SIZE) {
+            List<UUID> chunk = distinct.subList(from, Math.min(distinct.size(), from + MULTI_LOAD_CHUNK_SIZE));
+            loadChunk(chunk, loaded);
+        }
+        return loaded;
+    }
+
+    private void loadChunk(List<UUID> accountIds, Map<UUID, Account> loaded) {
+        Map<UUID, AccountSnapshot> bases = new HashMap<>(snapshotStore.loadLatest(accountIds));
+        for (UUID accountId : accountIds) {
+            aggregateCache.get(accountId).ifPresent(cached -> bases.merge(accountId, cached,
+                    (snapshot, candidate) -> candidate.version() > snapshot.version() ? candidate : snapshot));
+        }
+
+        List<UUID> based = accountIds.stream().filter(bases::containsKey).toList();
+        Map<UUID, StateEvents> latest = based.size() == accountIds.size()
+                ? Map.of()
+                : stateReader.readLatest(accountIds.stream().filter(id -> !bases.containsKey(id)).toList());
+
+        Map<UUID, List<AccountEvent>> tails = new HashMap<>();
+        for (EventStoreEntity entity : loadTails(based, bases)) {
+            tails.computeIfAbsent(entity.getAggregateId(), id -> new ArrayList<>()).add(fromEntity(entity));
+        }
+
+        for (UUID accountId : accountIds) {
+            AccountSnapshot base = bases.get(accountId);
+            List<AccountEvent> tail = tails.getOrDefault(accountId, List.of());
+            if (base != null) {
+                loaded.put(accountId, cache(Account.fromSnapshot(base, tail)));
+            } else if (latest.containsKey(accountId)) {
+                loaded.put(accountId, cache(latest.get(accountId).toAccount()));
+            }
+        }
+    }
+
+    /**
+     * Events after each aggregate's own base, in one query. Aggregates are
+     * grouped by base version so each group is one range condition on
+     * (aggregate_id, version), and a cached base newer than the snapshot
+     * skips the events it already covers.
+     */
+    private List<EventStoreEntity> loadTails(List<UUID> accountIds, Map<UUID, AccountSnapshot> bases) {
+        if (accountIds.isEmpty()) {
+            return List.of();
+        }
+        List<List<UUID>> groups = new ArrayList<>(accountIds.stream()
+                .collect(Collectors.groupingBy(id -> bases.get(id).version()))
+                .values());
+        StringBuilder jpql = new StringBuilder("SELECT e FROM EventStoreEntity e WHERE ");
+        for (int i = 0; i < groups.size(); i++) {
+            jpql.append(i == 0 ? "" : " OR ").append("(e.aggregateId IN :ids").append(i)
+                    .append(" AND e.version > :version").append(i).append(')');
+        }
+        var query = em.createQuery(jpql.append(" ORDER BY e.aggregateId, e.version").toString(), EventStoreEntity.class);
+        for (int i = 0; i < groups.size(); i++) {
+            List<UUID> group = groups.get(i);
+            query.setParameter("ids" + i, group).setParameter("version" + i, bases.get(group.get(0)).version());
+        }
+        return query.getResultList();
+    }
+
+    private Account cache(Account account) {
+        aggregateCache.put(account.toSnapshot());
+        return account;
+    }
+
+    /**
+     * Load all events for an aggregate
+     */
+    @Override
+    public List<AccountEvent> loadEvents(UUID aggregateId) {
+        List<EventStoreEntity> entities = em.createQuery(
+                "SELECT e FROM EventStoreEntity e WHERE e.aggregateId = :id ORDER BY e.version",
+                EventStoreEntity.class)
+                .setParameter("id", aggregateId)
+                .getResultList();
+
+        return withArchived(aggregateId, 0L, entities).stream()
+                .map(this::fromEntity)
+                .toList();
+    }
+
+    /**
+     * Load the events of an aggregate with a version greater than the given one
+     */
+    @Override
+    public List<AccountEvent> loadEventsAfter(UUID aggregateId, long afterVersion) {
+        List<EventStoreEntity> entities = em.createQuery(
+                "SELECT e FROM EventStoreEntity e WHERE e.aggregateId = :id AND e.version > :version ORDER BY e.version",
+                EventStoreEntity.class)
+                .setParameter("id", aggregateId)
+                .setParameter("version", afterVersion)
+                .getResultList();
+
+        return withArchived(aggregateId, afterVersion, entities).stream()
+                .map(this::fromEntity)
+                .toList();
+    }
+
+    /**
+     * Seek the deciding events of each account on the occurred_at indexes;
+     * see {@link AccountStateReader}
+     */
+    @Override
+    public Map<UUID, StateEvents> loadStatesAt(Collection<UUID> accountIds, Instant asOf) {
+        return stateReader.readAt(accountIds, asOf);
+    }
+
+    /**
+     * Stream postings straight from account_events through a JDBC cursor;
+     * see {@link TransactionHistoryReader}
+     */
+    @Override
+    public int readPostings(UUID accountId, long afterVersion, Instant from, Instant to, int limit,
+                            ObjLongConsumer<AccountEvent> sink) {
+        return historyReader.read(accountId, afterVersion, from, to, limit, sink);
+    }
+
+    /**
+     * Get current version of an aggregate
+     */
+    @Override
+    public long getCurrentVersion(UUID aggregateId) {
+        if (partitioned) {
+            // The stream head survives archiving; MAX over the hot table would not
+            List<?> head = em.createNativeQuery("SELECT version FROM account_streams WHERE aggregate_id = :id")
+                    .setParameter("id", aggregateId)
+                    .getResultList();
+            return head.isEmpty() ? 0L : ((Number) head.get(0)).longValue();
+        }
+        Long version = em.createQuery(
+                "SELECT MAX(e.version) FROM EventStoreEntity e WHERE e.aggregateId = :id",
+                Long.class)
+                .setParameter("id", aggregateId)
+                .getSingleResult();
+        return version != null ? version : 0L;
+    }
+
+    /**
+     * Prepend archived events when the hot rows do not start right after the
+     * requested version. An empty hot result after a non-zero version means
+     * the caller is already up to date, since only snapshotted events are
+     * ever archived.
+     */
+    private List<EventStoreEntity> withArchived(UUID aggregateId, long afterVersion, List<EventStoreEntity> hot) {
+        if (!partitioned) {
+            return hot;
+        }
+        if (hot.isEmpty() ? afterVersion > 0 : hot.get(0).getVersion() == afterVersion + 1) {
+            return hot;
+        }
+        long before = hot.isEmpty() ? Long.MAX_VALUE : hot.get(0).getVersion();
+        List<EventStoreEntity> archived = archivedEvents.loadBetween(aggregateId, afterVersion, before);
+        if (archived.isEmpty()) {
+            return hot;
+        }
+        List<EventStoreEntity> merged = new ArrayList<>(archived.size() + hot.size());
+        merged.addAll(archived);
+        merged.addAll(hot);
+        return merged;
+    }
+
+    private ConcurrencyException conflict(List<Account> accounts) {
+        accounts.forEach(account -> aggregateCache.invalidate(account.getId()));
+        if (accounts.size() == 1) {
+            Account account = accounts.get(0);
+            log.warn("Concurrent append rejected for account: {} at expected version: {}",
+                    account.getId(), account.getVersion());
+            return new ConcurrencyException(String.format(
+                    "Concurrency conflict for aggregate %s. Expected version: %d",
+                    account.getId(), account.getVersion()));
+        }
+        String ids = accounts.stream().map(account -> account.getId().toString()).collect(Collectors.joining(", "));
+        log.warn("Concurrent batch append rejected for accounts: {}", ids);
+        return new ConcurrencyException("Concurrency conflict for one of the aggregates: " + ids);
+    }
+
+    /**
+     * Whether a persistence failure was caused by a unique constraint violation
+     */
+    static boolean isUniqueViolation(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sql) {
+                for (SQLException next = sql; next != null; next = next.getNextException()) {
+                    if (UNIQUE_VIOLATION_SQL_STATE.equals(next.getSQLState())) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    static OffsetDateTime toTimestamp(Instant instant) {
+        return instant.atOffset(ZoneOffset.UTC);
+    }
+
+    private AccountEvent fromEntity(EventStoreEntity entity) {
+        return decode(eventCodecs, entity);
+    }
+
+    /**
+     * Decode a stored row with the codec that wrote it
+     */
+    public static AccountEvent decode(EventCodecs eventCodecs, EventStoreEntity entity) {
+        EventCodec codec = eventCodecs.forId(entity.getCodec());
+        byte[] payload = entity.getPayloadBytes() != null
+                ? entity.getPayloadBytes()
+                : entity.getPayload().getBytes(StandardCharsets.UTF_8);
+        return codec.decode(entity.getEventType(), entity.getEventVersion(), payload);
+    }
+}
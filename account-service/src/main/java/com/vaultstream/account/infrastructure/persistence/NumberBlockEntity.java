@@ -0,0 +1,37 @@
+package com.vaultstream.account.infrastructure.persistence;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Next unleased value of a named number sequence.
+ */
+@Entity
+@Table(name = "number_blocks")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NumberBlockEntity {
+
+    @Id
+    @Column(name = "name", length = 50)
+    private String name;
+
+    @Column(name = "next_value", nullable = false)
+    private long nextValue;
+
+    /**
+     * Lease the next {@code size} values
+     *
+     * @return the first leased value
+     */
+    public long lease(int size) {
+        long first = nextValue;
+        nextValue += size;
+        return first;
+    }
+}
@@ -0,0 +1,71 @@
+package com.vaultstream.account.infrastructure.persistence;
+
+import com.vaultstream.common.util.RangeSource;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Leases number ranges from the number_blocks table.
+ * 
+ * Each lease row-locks the sequence in its own short transaction, so replicas
+ * never receive overlapping ranges and the lock is never held by a business
+ * transaction.
+ */
+@Slf4j
+@ApplicationScoped
+public class NumberBlockRangeSource implements RangeSource {
+
+    /**
+     * The sequence the account number generator leases from
+     */
+    private static final String LEGACY_ACCOUNT_NUMBER_SEQUENCE = "account-number";
+
+    private static final String LEGACY_ACCOUNT_NUMBER_PREFIX = "ACC-";
+
+    @Inject
+    EntityManager em;
+
+    @Override
+    public long reserve(String name, int size) {
+        try {
+            return QuarkusTransaction.requiringNew().call(() -> lease(name, size));
+        } catch (PersistenceException e) {
+            // Another replica created the sequence row first; it exists now
+            log.debug("Concurrent creation of number sequence {}, retrying", name);
+            return QuarkusTransaction.requiringNew().call(() -> lease(name, size));
+        }
+    }
+
+    private long lease(String name, int size) {
+        NumberBlockEntity block = em.find(NumberBlockEntity.class, name, LockModeType.PESSIMISTIC_WRITE);
+        if (block == null) {
+            block = NumberBlockEntity.builder().name(name).nextValue(initialValue(name)).build();
+            em.persist(block);
+            em.flush();
+        }
+        long first = block.lease(size);
+        log.debug("Leased {} numbers of {} starting at {}", size, name, first);
+        return first;
+    }
+
+    /**
+     * Continue after numbers issued before the sequence existed, when the old
+     * generator counted ACC-00000001 upwards from every boot
+     */
+    private long initialValue(String name) {
+        if (!LEGACY_ACCOUNT_NUMBER_SEQUENCE.equals(name)) {
+            return 1;
+        }
+        String highest = em.createQuery(
+                "SELECT MAX(i.accountNumber) FROM AccountNumberIndexEntity i WHERE i.accountNumber LIKE :pattern",
+                String.class)
+                .setParameter("pattern", LEGACY_ACCOUNT_NUMBER_PREFIX + "0%")
+                .getSingleResult();
+        return highest == null ? 1 : Long.parseLong(highest.substring(LEGACY_ACCOUNT_NUMBER_PREFIX.length())) + 1;
+    }
+}
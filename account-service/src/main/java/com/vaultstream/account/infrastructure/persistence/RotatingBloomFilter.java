@@ -0,0 +1,133 @@
+package com.vaultstream.account.infrastructure.persistence;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Bloom filter split into time generations, so old keys age out.
+ *
+ * Keys are added to the current generation and looked up in all of them.
+ * When a generation has been current for its span, the oldest one is
+ * cleared and becomes the new current generation. A key therefore stays
+ * visible for at least (generations - 1) spans and at most generations
+ * spans, while memory stays fixed at generations * bits.
+ *
+ * Answers are "definitely not seen" or "maybe seen"; callers must confirm a
+ * maybe against the real store. Thread-safe and lock-free except for
+ * rotation.
+ */
+final class RotatingBloomFilter {
+
+    private final AtomicLongArray[] generations;
+    private final int bitCount;
+    private final int hashCount;
+    private final long spanMillis;
+    private final LongSupplier clock;
+
+    private volatile int current;
+    private volatile long currentSince;
+
+    /**
+     * @param generationCount   number of generations, at least 2
+     * @param spanMillis        how long each generation receives new keys
+     * @param expectedKeys      keys expected per generation
+     * @param falsePositiveRate target false-positive rate per generation
+     */
+    RotatingBloomFilter(int generationCount, long spanMillis, long expectedKeys, double falsePositiveRate,
+                        LongSupplier clock) {
+        if (generationCount < 2) {
+            throw new IllegalArgumentException("At least two generations are required");
+        }
+        long bits = (long) Math.ceil(-expectedKeys * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        long words = Math.max(1, (bits + 63) / 64);
+        if (words > Integer.MAX_VALUE / 64) {
+            throw new IllegalArgumentException("Bloom filter too large: " + bits + " bits");
+        }
+        this.bitCount = (int) (words * 64);
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedKeys * Math.log(2)));
+        this.spanMillis = spanMillis;
+        this.clock = clock;
+        this.generations = new AtomicLongArray[generationCount];
+        for (int i = 0; i < generationCount; i++) {
+            generations[i] = new AtomicLongArray((int) words);
+        }
+        this.currentSince = clock.getAsLong();
+    }
+
+    void add(long hash1, long hash2) {
+        rotateIfDue();
+        AtomicLongArray bits = generations[current];
+        for (int i = 0; i < hashCount; i++) {
+            int bit = index(hash1, hash2, i);
+            long mask = 1L << bit;
+            int word = bit >>> 6;
+            long value = bits.get(word);
+            while ((value & mask) == 0 && !bits.compareAndSet(word, value, value | mask)) {
+                value = bits.get(word);
+            }
+        }
+    }
+
+    boolean mightContain(long hash1, long hash2) {
+        rotateIfDue();
+        for (AtomicLongArray bits : generations) {
+            if (contains(bits, hash1, hash2)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Heap held by the bit arrays
+     */
+    long memoryBytes() {
+        return (long) generations.length * bitCount / 8;
+    }
+
+    private boolean contains(AtomicLongArray bits, long hash1, long hash2) {
+        for (int i = 0; i < hashCount; i++) {
+            int bit = index(hash1, hash2, i);
+            if ((bits.get(bit >>> 6) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Kirsch-Mitzenmacher double hashing: the i-th probe is hash1 + i * hash2
+     */
+    private int index(long hash1, long hash2, int i) {
+        return (int) Math.floorMod(hash1 + i * hash2, (long) bitCount);
+    }
+
+    private void rotateIfDue() {
+        if (clock.getAsLong() - currentSince < spanMillis) {
+            return;
+        }
+        synchronized (this) {
+            long now = clock.getAsLong();
+            if (now - currentSince >= spanMillis * generations.length) {
+                // Idle for longer than the whole ring: everything has expired
+                for (AtomicLongArray bits : generations) {
+                    clear(bits);
+                }
+                currentSince = now;
+                return;
+            }
+            while (now - currentSince >= spanMillis) {
+                int next = (current + 1) % generations.length;
+                clear(generations[next]);
+                current = next;
+                currentSince += spanMillis;
+            }
+        }
+    }
+
+    private static void clear(AtomicLongArray bits) {
+        for (int i = 0; i < bits.length(); i++) {
+            bits.set(i, 0L);
+        }
+    }
+}
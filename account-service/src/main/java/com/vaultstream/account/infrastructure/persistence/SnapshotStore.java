@@ -0,0 +1,114 @@
+package com.vaultstream.account.infrastructure.persistence;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vaultstream.account.domain.model.AccountSnapshot;
+import com.vaultstream.common.util.IdGenerator;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Persists and loads Account snapshots.
+ * 
+ * Snapshots are versioned: each row captures the aggregate state as of the
+ * event with the same version, so loading resumes from the next event.
+ */
+@Slf4j
+@ApplicationScoped
+public class SnapshotStore {
+
+    /**
+     * Schema version of the serialized snapshot payload
+     */
+    static final int SNAPSHOT_SCHEMA_VERSION = 1;
+
+    @Inject
+    EntityManager em;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    /**
+     * Load the most recent snapshot of an aggregate
+     */
+    public Optional<AccountSnapshot> loadLatest(UUID aggregateId) {
+        List<AccountSnapshotEntity> entities = em.createQuery(
+                "SELECT s FROM AccountSnapshotEntity s WHERE s.aggregateId = :id ORDER BY s.version DESC",
+                AccountSnapshotEntity.class)
+                .setParameter("id", aggregateId)
+                .setMaxResults(1)
+                .getResultList();
+
+        return entities.stream()
+                .findFirst()
+                .map(this::fromEntity);
+    }
+
+    /**
+     * Load the most recent snapshot of each of several aggregates in one query
+     */
+    public Map<UUID, AccountSnapshot> loadLatest(Collection<UUID> aggregateIds) {
+        if (aggregateIds.isEmpty()) {
+            return Map.of();
+        }
+        return em.createQuery(
+                "SELECT s FROM AccountSnapshotEntity s WHERE s.aggregateId IN :ids AND s.version = "
+                        + "(SELECT MAX(s2.version) FROM AccountSnapshotEntity s2 WHERE s2.aggregateId = s.aggregateId)",
+                AccountSnapshotEntity.class)
+                .setParameter("ids", aggregateIds)
+                .getResultList()
+                .stream()
+                .collect(Collectors.toMap(AccountSnapshotEntity::getAggregateId, this::fromEntity));
+    }
+
+    /**
+     * Save a snapshot, ignoring it if one already exists for the same version
+     */
+    @Transactional
+    public void save(AccountSnapshot snapshot) {
+        Long existing = em.createQuery(
+                "SELECT COUNT(s) FROM AccountSnapshotEntity s WHERE s.aggregateId = :id AND s.version = :version",
+                Long.class)
+                .setParameter("id", snapshot.accountId())
+                .setParameter("version", snapshot.version())
+                .getSingleResult();
+        if (existing > 0) {
+            return;
+        }
+
+        em.persist(toEntity(snapshot));
+        log.debug("Saved snapshot for account: {} at version: {}", snapshot.accountId(), snapshot.version());
+    }
+
+    private AccountSnapshotEntity toEntity(AccountSnapshot snapshot) {
+        try {
+            return AccountSnapshotEntity.builder()
+                    .snapshotId(IdGenerator.generateTimeOrderedUUID())
+                    .aggregateId(snapshot.accountId())
+                    .version(snapshot.version())
+                    .snapshotVersion(SNAPSHOT_SCHEMA_VERSION)
+                    .payload(objectMapper.writeValueAsString(snapshot))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize snapshot", e);
+        }
+    }
+
+    private AccountSnapshot fromEntity(AccountSnapshotEntity entity) {
+        try {
+            return objectMapper.readValue(entity.getPayload(), AccountSnapshot.class);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to deserialize snapshot", e);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.vaultstream.account.infrastructure.persistence;
+
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes Account snapshots off the request path.
+ * 
+ * Every time an append crosses a multiple of the configured interval, the
+ * post-commit aggregate state is handed to a background writer. Snapshots are
+ * an optimization only: when the queue is full the snapshot is dropped and the
+ * next interval takes one instead.
+ */
+@Slf4j
+@ApplicationScoped
+public class SnapshotWriter {
+
+    private static final int MAX_PENDING_SNAPSHOTS = 1000;
+
+    @Inject
+    SnapshotStore snapshotStore;
+
+    @ConfigProperty(name = "vaultstream.event-store.snapshot.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @ConfigProperty(name = "vaultstream.event-store.snapshot.every-n-events", defaultValue = "100")
+    int everyNEvents;
+
+    private final ExecutorService executor = new ThreadPoolExecutor(
+            1, 1, 0L, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(MAX_PENDING_SNAPSHOTS),
+            runnable -> {
+                Thread thread = new Thread(runnable, "account-snapshot-writer");
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.DiscardPolicy());
+
+    /**
+     * Schedule a snapshot once the appending transaction has committed
+     */
+    void onEventsAppended(@Observes(during = TransactionPhase.AFTER_SUCCESS) AccountEventsAppended appended) {
+        if (!enabled || !crossesInterval(appended.fromVersion(), appended.toVersion())) {
+            return;
+        }
+
+        executor.execute(() -> {
+            try {
+                QuarkusTransaction.requiringNew().run(() -> snapshotStore.save(appended.state()));
+            } catch (Exception e) {
+                log.warn("Failed to write snapshot for account: {} at version: {}",
+                        appended.state().accountId(), appended.toVersion(), e);
+            }
+        });
+    }
+
+    /**
+     * Whether an append from one version to another passed a snapshot boundary
+     */
+    boolean crossesInterval(long fromVersion, long toVersion) {
+        return everyNEvents > 0 && toVersion / everyNEvents > fromVersion / everyNEvents;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,50 @@
+package com.vaultstream.account.infrastructure.persistence;
+
+import com.vaultstream.account.domain.event.AccountCreatedEvent;
+import com.vaultstream.account.domain.event.AccountEvent;
+import com.vaultstream.account.domain.event.AccountStatusChangedEvent;
+import com.vaultstream.account.domain.model.Account;
+
+import java.util.List;
+
+/**
+ * The events that decide an account's state, now or at a past instant
+ *
+ * @param events  the creation event, then the last status change and the
+ *                last posting if there are any, in version order
+ * @param version the stream version of the account
+ */
+public record StateEvents(List<AccountEvent> events, long version) {
+
+    public AccountCreatedEvent created() {
+        return (AccountCreatedEvent) events.get(0);
+    }
+
+    /**
+     * @return the last status change, or null if the status never changed
+     */
+    public AccountStatusChangedEvent lastStatusChange() {
+        for (AccountEvent event : events) {
+            if (event instanceof AccountStatusChangedEvent statusChange) {
+                return statusChange;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the last deposit or withdrawal, or null if there was none
+     */
+    public AccountEvent lastPosting() {
+        for (AccountEvent event : events) {
+            if (!(event instanceof AccountCreatedEvent) && !(event instanceof AccountStatusChangedEvent)) {
+                return event;
+            }
+        }
+        return null;
+    }
+
+    public Account toAccount() {
+        return Account.fromLatestEvents(events, version);
+    }
+}
@@ -0,0 +1,117 @@
+package com.vaultstream.account.infrastructure.persistence;
+
+import com.vaultstream.account.domain.event.AccountEvent;
+import com.vaultstream.account.infrastructure.persistence.codec.EventCodecs;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.hibernate.Session;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * Reads an account's deposits and withdrawals straight from account_events,
+ * for statements and exports. Serves {@link EventStore#readPostings} for
+ * the jpa engine.
+ *
+ * Rows come through a forward-only JDBC cursor with a bounded fetch size
+ * and are decoded and handed over one at a time, bypassing the persistence
+ * context, so even a multi-year history is read with constant heap.
+ * PostgreSQL only honours the fetch size inside a transaction, so callers
+ * reading without a limit must hold one open. With partitioning enabled the
+ * archive schema is read first, since archived months hold an account's
+ * oldest versions.
+ */
+@ApplicationScoped
+public class TransactionHistoryReader {
+
+    private static final String HOT_TABLE = "account_events";
+    private static final String ARCHIVE_TABLE = "archive.account_events";
+
+    @Inject
+    EntityManager em;
+
+    @Inject
+    EventCodecs eventCodecs;
+
+    @ConfigProperty(name = "vaultstream.event-store.partitioning.enabled", defaultValue = "false")
+    boolean partitioned;
+
+    @ConfigProperty(name = "vaultstream.history.fetch-size", defaultValue = "500")
+    int fetchSize;
+
+    /**
+     * Read the monetary events of an account in version order
+     *
+     * @param afterVersion only events after this version; 0 for the start
+     * @param from         inclusive lower bound on occurredAt, or null
+     * @param to           exclusive upper bound on occurredAt, or null
+     * @param limit        maximum number of events, or 0 for all of them
+     * @param sink         receives each event with its stream version
+     * @return number of events read
+     */
+    public int read(UUID accountId, long afterVersion, Instant from, Instant to, int limit,
+                    ObjLongConsumer<AccountEvent> sink) {
+        return em.unwrap(Session.class).doReturningWork(connection -> {
+            int read = 0;
+            if (partitioned) {
+                read += readTable(connection, ARCHIVE_TABLE, accountId, afterVersion, from, to, limit, sink);
+            }
+            if (limit == 0 || read < limit) {
+                read += readTable(connection, HOT_TABLE, accountId, afterVersion, from, to,
+                        limit == 0 ? 0 : limit - read, sink);
+            }
+            return read;
+        });
+    }
+
+    private int readTable(Connection connection, String table, UUID accountId, long afterVersion,
+                          Instant from, Instant to, int limit, ObjLongConsumer<AccountEvent> sink) throws SQLException {
+        StringBuilder sql = new StringBuilder("SELECT version, " + EventRows.COLUMNS + " FROM ")
+                .append(table)
+                .append(" WHERE aggregate_id = ? AND event_type IN ('MoneyDeposited', 'MoneyWithdrawn') AND version > ?");
+        if (from != null) {
+            sql.append(" AND occurred_at >= ?");
+        }
+        if (to != null) {
+            sql.append(" AND occurred_at < ?");
+        }
+        sql.append(" ORDER BY version");
+        if (limit > 0) {
+            sql.append(" LIMIT ?");
+        }
+
+        try (PreparedStatement statement = connection.prepareStatement(
+                sql.toString(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            int parameter = 1;
+            statement.setObject(parameter++, accountId);
+            statement.setLong(parameter++, afterVersion);
+            if (from != null) {
+                statement.setObject(parameter++, JpaEventStore.toTimestamp(from));
+            }
+            if (to != null) {
+                statement.setObject(parameter++, JpaEventStore.toTimestamp(to));
+            }
+            if (limit > 0) {
+                statement.setInt(parameter, limit);
+            }
+            statement.setFetchSize(limit > 0 ? Math.min(limit, fetchSize) : fetchSize);
+
+            int read = 0;
+            try (ResultSet rows = statement.executeQuery()) {
+                while (rows.next()) {
+                    sink.accept(EventRows.decode(eventCodecs, rows, 2), rows.getLong(1));
+                    read++;
+                }
+            }
+            return read;
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package com.vaultstream.account.infrastructure.persistence.codec;
+
+import com.vaultstream.account.domain.event.*;
+import com.vaultstream.account.domain.model.AccountStatus;
+import com.vaultstream.account.domain.model.AccountType;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Currency;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Compact binary event codec.
+ * 
+ * Layout: format byte, flags byte, then the body (deflated when the
+ * compression flag is set). The body starts with a type tag and the event
+ * schema version, followed by the fields in declaration order with no field
+ * names. Enums are written by ordinal, so their constants must only ever be
+ * appended. Fields added by a later schema version go at the end and are
+ * only read when the recorded version has them.
+ */
+@ApplicationScoped
+public class BinaryEventCodec implements EventCodec {
+
+    public static final String ID = "binary";
+
+    static final int FORMAT_VERSION = 1;
+    static final int FLAG_COMPRESSED = 0x01;
+    private static final int HEADER_SIZE = 2;
+
+    private static final int TAG_ACCOUNT_CREATED = 1;
+    private static final int TAG_MONEY_DEPOSITED = 2;
+    private static final int TAG_MONEY_WITHDRAWN = 3;
+    private static final int TAG_STATUS_CHANGED = 4;
+
+    private static final AccountType[] ACCOUNT_TYPES = AccountType.values();
+    private static final AccountStatus[] ACCOUNT_STATUSES = AccountStatus.values();
+
+    private final int compressionThreshold;
+
+    @Inject
+    public BinaryEventCodec(
+            @ConfigProperty(name = "vaultstream.event-store.codec.compression-threshold", defaultValue = "256")
+            int compressionThreshold) {
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    @Override
+    public String id() {
+        return ID;
+    }
+
+    @Override
+    public byte[] encode(AccountEvent event) {
+        BinaryWriter writer = new BinaryWriter(96);
+        writer.writeByte(FORMAT_VERSION);
+        writer.writeByte(0);
+
+        switch (event) {
+            case AccountCreatedEvent e -> writeAccountCreated(writer, e);
+            case MoneyDepositedEvent e -> writeMoneyDeposited(writer, e);
+            case MoneyWithdrawnEvent e -> writeMoneyWithdrawn(writer, e);
+            case AccountStatusChangedEvent e -> writeStatusChanged(writer, e);
+            default -> throw new IllegalArgumentException("Unknown event type: " + event.getClass());
+        }
+
+        byte[] encoded = writer.toByteArray();
+        if (compressionThreshold > 0 && encoded.length - HEADER_SIZE >= compressionThreshold) {
+            byte[] compressed = compress(encoded);
+            if (compressed.length < encoded.length) {
+                return compressed;
+            }
+        }
+        return encoded;
+    }
+
+    @Override
+    public AccountEvent decode(String eventType, int eventVersion, byte[] payload) {
+        if (payload.length < HEADER_SIZE || payload[0] != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unsupported binary event format for " + eventType);
+        }
+        byte[] body = (payload[1] & FLAG_COMPRESSED) != 0 ? decompress(payload) : payload;
+        BinaryReader reader = new BinaryReader(body, body == payload ? HEADER_SIZE : 0);
+
+        int tag = reader.readByte();
+        int schemaVersion = reader.readByte();
+        return switch (tag) {
+            case TAG_ACCOUNT_CREATED -> readAccountCreated(reader, schemaVersion);
+            case TAG_MONEY_DEPOSITED -> readMoneyDeposited(reader, schemaVersion);
+            case TAG_MONEY_WITHDRAWN -> readMoneyWithdrawn(reader, schemaVersion);
+            case TAG_STATUS_CHANGED -> readStatusChanged(reader, schemaVersion);
+            default -> throw new IllegalArgumentException("Unknown binary event tag: " + tag);
+        };
+    }
+
+    // ========================================
+    // Writers
+    // ========================================
+
+    private void writeHeader(BinaryWriter writer, int tag, AccountEvent event) {
+        writer.writeByte(tag);
+        writer.writeByte(event.getEventVersion());
+        writer.writeUuid(event.getEventId());
+        writer.writeUuid(event.getAccountId());
+        writer.writeInstant(event.getOccurredAt());
+    }
+
+    private void writeAccountCreated(BinaryWriter writer, AccountCreatedEvent event) {
+        writeHeader(writer, TAG_ACCOUNT_CREATED, event);
+        writer.writeString(event.getAccountNumber());
+        writer.writeUuid(event.getCustomerId());
+        writer.writeVarLong(event.getAccountType().ordinal());
+        writer.writeVarLong(event.getStatus().ordinal());
+        writer.writeDecimal(event.getInitialBalance());
+        writer.writeString(event.getCurrency().getCurrencyCode());
+    }
+
+    private void writeMoneyDeposited(BinaryWriter writer, MoneyDepositedEvent event) {
+        writeHeader(writer, TAG_MONEY_DEPOSITED, event);
+        writer.writeDecimal(event.getAmount());
+        writer.writeDecimal(event.getBalanceAfter());
+        writer.writeString(event.getDescription());
+        writer.writeString(event.getTransactionReference());
+        writer.writeNullableUuid(event.getTransferId());
+        writer.writeNullableUuid(event.getCounterpartyAccountId());
+    }
+
+    private void writeMoneyWithdrawn(BinaryWriter writer, MoneyWithdrawnEvent event) {
+        writeHeader(writer, TAG_MONEY_WITHDRAWN, event);
+        writer.writeDecimal(event.getAmount());
+        writer.writeDecimal(event.getBalanceAfter());
+        writer.writeString(event.getDescription());
+        writer.writeString(event.getTransactionReference());
+        writer.writeNullableUuid(event.getTransferId());
+        writer.writeNullableUuid(event.getCounterpartyAccountId());
+    }
+
+    private void writeStatusChanged(BinaryWriter writer, AccountStatusChangedEvent event) {
+        writeHeader(writer, TAG_STATUS_CHANGED, event);
+        writer.writeVarLong(event.getPreviousStatus() != null ? event.getPreviousStatus().ordinal() : -1);
+        writer.writeVarLong(event.getNewStatus().ordinal());
+        writer.writeString(event.getReason());
+    }
+
+    // ========================================
+    // Readers
+    // ========================================
+
+    private AccountCreatedEvent readAccountCreated(BinaryReader reader, int schemaVersion) {
+        return AccountCreatedEvent.builder()
+                .eventId(reader.readUuid())
+                .accountId(reader.readUuid())
+                .occurredAt(reader.readInstant())
+                .accountNumber(reader.readString())
+                .customerId(reader.readUuid())
+                .accountType(ACCOUNT_TYPES[reader.readVarInt()])
+                .status(ACCOUNT_STATUSES[reader.readVarInt()])
+                .initialBalance(reader.readDecimal())
+                .currency(Currency.getInstance(reader.readString()))
+                .build();
+    }
+
+    private MoneyDepositedEvent readMoneyDeposited(BinaryReader reader, int schemaVersion) {
+        MoneyDepositedEvent.MoneyDepositedEventBuilder builder = MoneyDepositedEvent.builder()
+                .eventId(reader.readUuid())
+                .accountId(reader.readUuid())
+                .occurredAt(reader.readInstant())
+                .amount(reader.readDecimal())
+                .balanceAfter(reader.readDecimal())
+                .description(reader.readString())
+                .transactionReference(reader.readString());
+        if (schemaVersion >= 2) {
+            builder.transferId(reader.readNullableUuid())
+                    .counterpartyAccountId(reader.readNullableUuid());
+        }
+        return builder.build();
+    }
+
+    private MoneyWithdrawnEvent readMoneyWithdrawn(BinaryReader reader, int schemaVersion) {
+        MoneyWithdrawnEvent.MoneyWithdrawnEventBuilder builder = MoneyWithdrawnEvent.builder()
+                .eventId(reader.readUuid())
+                .accountId(reader.readUuid())
+                .occurredAt(reader.readInstant())
+                .amount(reader.readDecimal())
+                .balanceAfter(reader.readDecimal())
+                .description(reader.readString())
+                .transactionReference(reader.readString());
+        if (schemaVersion >= 2) {
+            builder.transferId(reader.readNullableUuid())
+                    .counterpartyAccountId(reader.readNullableUuid());
+        }
+        return builder.build();
+    }
+
+    private AccountStatusChangedEvent readStatusChanged(BinaryReader reader, int schemaVersion) {
+        AccountStatusChangedEvent.AccountStatusChangedEventBuilder builder = AccountStatusChangedEvent.builder()
+                .eventId(reader.readUuid())
+                .accountId(reader.readUuid())
+                .occurredAt(reader.readInstant());
+        int previous = reader.readVarInt();
+        return builder
+                .previousStatus(previous >= 0 ? ACCOUNT_STATUSES[previous] : null)
+                .newStatus(ACCOUNT_STATUSES[reader.readVarInt()])
+                .reason(reader.readString())
+                .build();
+    }
+
+    // ========================================
+    // Compression
+    // ========================================
+
+    private static byte[] compress(byte[] encoded) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(encoded, HEADER_SIZE, encoded.length - HEADER_SIZE);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(encoded.length);
+            out.write(FORMAT_VERSION);
+            out.write(FLAG_COMPRESSED);
+            byte[] chunk = new byte[256];
+            while (!deflater.finished()) {
+                int length = deflater.deflate(chunk);
+                out.write(chunk, 0, length);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] decompress(byte[] payload) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(payload, HEADER_SIZE, payload.length - HEADER_SIZE);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(payload.length * 3);
+            byte[] chunk = new byte[256];
+            while (!inflater.finished()) {
+                int length = inflater.inflate(chunk);
+                if (length == 0 && inflater.needsInput()) {
+                    throw new IllegalArgumentException("Truncated compressed event payload");
+                }
+                out.write(chunk, 0, length);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("Corrupt compressed event payload", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
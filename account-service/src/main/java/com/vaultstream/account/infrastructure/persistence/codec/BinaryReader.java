@@ -0,0 +1,99 @@
+package com.vaultstream.account.infrastructure.persistence.codec;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Reads the primitive encodings written by {@link BinaryWriter}.
+ */
+final class BinaryReader {
+
+    private final byte[] buffer;
+    private int position;
+
+    BinaryReader(byte[] buffer, int offset) {
+        this.buffer = buffer;
+        this.position = offset;
+    }
+
+    int readByte() {
+        checkAvailable(1);
+        return buffer[position++];
+    }
+
+    long readVarLong() {
+        long zigZag = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            checkAvailable(1);
+            byte b = buffer[position++];
+            zigZag |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return (zigZag >>> 1) ^ -(zigZag & 1);
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint in event payload");
+    }
+
+    int readVarInt() {
+        return Math.toIntExact(readVarLong());
+    }
+
+    UUID readUuid() {
+        return new UUID(readFixedLong(), readFixedLong());
+    }
+
+    UUID readNullableUuid() {
+        return readByte() != 0 ? readUuid() : null;
+    }
+
+    Instant readInstant() {
+        return Instant.ofEpochSecond(readVarLong(), readVarLong());
+    }
+
+    BigDecimal readDecimal() {
+        int scale = readVarInt();
+        if (readByte() == 0) {
+            return BigDecimal.valueOf(readVarLong(), scale);
+        }
+        byte[] unscaled = readBytes(readVarInt());
+        return new BigDecimal(new BigInteger(unscaled), scale);
+    }
+
+    String readString() {
+        int lengthPlusOne = readVarInt();
+        if (lengthPlusOne == 0) {
+            return null;
+        }
+        int length = lengthPlusOne - 1;
+        checkAvailable(length);
+        String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    byte[] readBytes(int length) {
+        checkAvailable(length);
+        byte[] bytes = Arrays.copyOfRange(buffer, position, position + length);
+        position += length;
+        return bytes;
+    }
+
+    private long readFixedLong() {
+        checkAvailable(8);
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (buffer[position++] & 0xFF);
+        }
+        return value;
+    }
+
+    private void checkAvailable(int length) {
+        if (position + length > buffer.length) {
+            throw new IllegalArgumentException("Truncated event payload");
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.vaultstream.account.infrastructure.persistence.codec;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Growable byte buffer with the primitive encodings used by the binary codec.
+ * 
+ * Integers are written as zig-zag varints, so small values such as scales,
+ * ordinals and amounts in minor units take one or two bytes.
+ */
+final class BinaryWriter {
+
+    private byte[] buffer;
+    private int position;
+
+    BinaryWriter(int initialCapacity) {
+        this.buffer = new byte[initialCapacity];
+    }
+
+    void writeByte(int value) {
+        ensureCapacity(1);
+        buffer[position++] = (byte) value;
+    }
+
+    void writeVarLong(long value) {
+        long zigZag = (value << 1) ^ (value >> 63);
+        ensureCapacity(10);
+        while ((zigZag & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((zigZag & 0x7F) | 0x80);
+            zigZag >>>= 7;
+        }
+        buffer[position++] = (byte) zigZag;
+    }
+
+    void writeUuid(UUID value) {
+        writeFixedLong(value.getMostSignificantBits());
+        writeFixedLong(value.getLeastSignificantBits());
+    }
+
+    /**
+     * Writes a presence byte, then the UUID if present
+     */
+    void writeNullableUuid(UUID value) {
+        writeByte(value != null ? 1 : 0);
+        if (value != null) {
+            writeUuid(value);
+        }
+    }
+
+    void writeInstant(Instant value) {
+        writeVarLong(value.getEpochSecond());
+        writeVarLong(value.getNano());
+    }
+
+    /**
+     * Writes scale plus unscaled value; values that fit in a long avoid BigInteger
+     */
+    void writeDecimal(BigDecimal value) {
+        writeVarLong(value.scale());
+        if (value.precision() <= 18) {
+            writeByte(0);
+            writeVarLong(value.unscaledValue().longValue());
+        } else {
+            byte[] unscaled = value.unscaledValue().toByteArray();
+            writeByte(1);
+            writeVarLong(unscaled.length);
+            writeBytes(unscaled);
+        }
+    }
+
+    /**
+     * Writes a nullable string as length + 1 (0 meaning null) followed by UTF-8
+     */
+    void writeString(String value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(bytes.length + 1L);
+        writeBytes(bytes);
+    }
+
+    void writeBytes(byte[] bytes) {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    int size() {
+        return position;
+    }
+
+    byte[] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+
+    private void writeFixedLong(long value) {
+        ensureCapacity(8);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            buffer[position++] = (byte) (value >>> shift);
+        }
+    }
+
+    private void ensureCapacity(int additional) {
+        if (position + additional > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + additional));
+        }
+    }
+}
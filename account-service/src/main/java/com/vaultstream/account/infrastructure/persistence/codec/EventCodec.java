@@ -0,0 +1,32 @@
+package com.vaultstream.account.infrastructure.persistence.codec;
+
+import com.vaultstream.account.domain.event.AccountEvent;
+
+/**
+ * SPI for serializing account events into the event store payload.
+ * 
+ * Every stored row records the id of the codec that wrote it, so codecs can
+ * be changed without migrating existing rows: reads always pick the codec
+ * the row was written with.
+ */
+public interface EventCodec {
+
+    /**
+     * Identifier stored alongside each encoded payload
+     */
+    String id();
+
+    /**
+     * Encode an event into its stored payload
+     */
+    byte[] encode(AccountEvent event);
+
+    /**
+     * Decode a stored payload
+     *
+     * @param eventType    event type name recorded with the row
+     * @param eventVersion event schema version recorded with the row
+     * @param payload      bytes written by {@link #encode(AccountEvent)}
+     */
+    AccountEvent decode(String eventType, int eventVersion, byte[] payload);
+}
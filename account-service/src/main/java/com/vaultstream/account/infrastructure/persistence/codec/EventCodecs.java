@@ -0,0 +1,54 @@
+package com.vaultstream.account.infrastructure.persistence.codec;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Registry of the available event codecs.
+ * 
+ * New events are written with the configured codec; stored events are read
+ * with the codec recorded on their row, falling back to JSON for rows written
+ * before the codec column existed.
+ */
+@Slf4j
+@ApplicationScoped
+public class EventCodecs {
+
+    private final Map<String, EventCodec> codecs = new HashMap<>();
+    private final EventCodec writeCodec;
+
+    @Inject
+    public EventCodecs(
+            Instance<EventCodec> available,
+            @ConfigProperty(name = "vaultstream.event-store.codec.write", defaultValue = BinaryEventCodec.ID) String writeCodecId) {
+        for (EventCodec codec : available) {
+            codecs.put(codec.id(), codec);
+        }
+        this.writeCodec = forId(writeCodecId);
+        log.info("Event codecs available: {}, writing with: {}", codecs.keySet(), writeCodecId);
+    }
+
+    /**
+     * Codec used for new events
+     */
+    public EventCodec writeCodec() {
+        return writeCodec;
+    }
+
+    /**
+     * Codec that wrote a stored row; null means a legacy JSON row
+     */
+    public EventCodec forId(String codecId) {
+        EventCodec codec = codecs.get(codecId != null ? codecId : JsonEventCodec.ID);
+        if (codec == null) {
+            throw new IllegalArgumentException("Unknown event codec: " + codecId);
+        }
+        return codec;
+    }
+}
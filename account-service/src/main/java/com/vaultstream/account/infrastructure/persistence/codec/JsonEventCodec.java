@@ -0,0 +1,61 @@
+package com.vaultstream.account.infrastructure.persistence.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vaultstream.account.domain.event.*;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * JSON event codec using the shared ObjectMapper.
+ * 
+ * This is the format of every row written before codecs were introduced,
+ * which is why rows without a codec id are decoded with it.
+ */
+@ApplicationScoped
+public class JsonEventCodec implements EventCodec {
+
+    public static final String ID = "json";
+
+    private static final Map<String, Class<? extends AccountEvent>> EVENT_CLASSES = Map.of(
+            "AccountCreated", AccountCreatedEvent.class,
+            "MoneyDeposited", MoneyDepositedEvent.class,
+            "MoneyWithdrawn", MoneyWithdrawnEvent.class,
+            "AccountStatusChanged", AccountStatusChangedEvent.class);
+
+    private final ObjectMapper objectMapper;
+
+    @Inject
+    public JsonEventCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public String id() {
+        return ID;
+    }
+
+    @Override
+    public byte[] encode(AccountEvent event) {
+        try {
+            return objectMapper.writeValueAsBytes(event);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to serialize event", e);
+        }
+    }
+
+    @Override
+    public AccountEvent decode(String eventType, int eventVersion, byte[] payload) {
+        Class<? extends AccountEvent> eventClass = EVENT_CLASSES.get(eventType);
+        if (eventClass == null) {
+            throw new IllegalArgumentException("Unknown event type: " + eventType);
+        }
+        try {
+            return objectMapper.readValue(payload, eventClass);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to deserialize event", e);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.vaultstream.account.infrastructure.persistence.rollup;
+
+import com.vaultstream.account.domain.model.AccountType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * One account's closing balance and posting totals for one UTC day.
+ * 
+ * Only days with activity have a row; the balance carries over the days
+ * in between.
+ */
+@Entity
+@Table(name = "account_daily_rollups")
+@IdClass(AccountDailyRollupEntity.Key.class)
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountDailyRollupEntity {
+
+    @Id
+    @Column(name = "account_id", nullable = false)
+    private UUID accountId;
+
+    @Id
+    @Column(name = "rollup_date", nullable = false)
+    private LocalDate rollupDate;
+
+    @Column(name = "currency", nullable = false, length = 3)
+    private String currency;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "account_type", nullable = false, length = 30)
+    private AccountType accountType;
+
+    @Column(name = "closing_balance", nullable = false, precision = 19, scale = 4)
+    private BigDecimal closingBalance;
+
+    /**
+     * Stream version the closing balance was taken from
+     */
+    @Column(name = "last_version", nullable = false)
+    private long lastVersion;
+
+    @Column(name = "deposit_total", nullable = false, precision = 19, scale = 4)
+    private BigDecimal depositTotal;
+
+    @Column(name = "deposit_count", nullable = false)
+    private long depositCount;
+
+    @Column(name = "withdrawal_total", nullable = false, precision = 19, scale = 4)
+    private BigDecimal withdrawalTotal;
+
+    @Column(name = "withdrawal_count", nullable = false)
+    private long withdrawalCount;
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private UUID accountId;
+        private LocalDate rollupDate;
+    }
+}
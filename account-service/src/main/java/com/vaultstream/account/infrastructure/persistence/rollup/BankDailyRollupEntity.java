@@ -0,0 +1,72 @@
+package com.vaultstream.account.infrastructure.persistence.rollup;
+
+import com.vaultstream.account.domain.model.AccountType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Bank-wide posting totals for one UTC day, per currency and account type.
+ * 
+ * The closing balance is not stored: it is the running sum of netChange,
+ * which a query adds up from the days before its range.
+ */
+@Entity
+@Table(name = "bank_daily_rollups")
+@IdClass(BankDailyRollupEntity.Key.class)
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BankDailyRollupEntity {
+
+    @Id
+    @Column(name = "rollup_date", nullable = false)
+    private LocalDate rollupDate;
+
+    @Id
+    @Column(name = "currency", nullable = false, length = 3)
+    private String currency;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "account_type", nullable = false, length = 30)
+    private AccountType accountType;
+
+    @Column(name = "deposit_total", nullable = false, precision = 19, scale = 4)
+    private BigDecimal depositTotal;
+
+    @Column(name = "deposit_count", nullable = false)
+    private long depositCount;
+
+    @Column(name = "withdrawal_total", nullable = false, precision = 19, scale = 4)
+    private BigDecimal withdrawalTotal;
+
+    @Column(name = "withdrawal_count", nullable = false)
+    private long withdrawalCount;
+
+    /**
+     * Opening balances of accounts opened that day, plus deposits, minus withdrawals
+     */
+    @Column(name = "net_change", nullable = false, precision = 19, scale = 4)
+    private BigDecimal netChange;
+
+    @Column(name = "accounts_opened", nullable = false)
+    private long accountsOpened;
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private LocalDate rollupDate;
+        private String currency;
+        private AccountType accountType;
+    }
+}
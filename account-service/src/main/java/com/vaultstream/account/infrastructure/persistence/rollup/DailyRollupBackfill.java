@@ -0,0 +1,375 @@
+package com.vaultstream.account.infrastructure.persistence.rollup;
+
+import com.vaultstream.account.domain.model.AccountType;
+import com.vaultstream.account.infrastructure.persistence.EventRows;
+import com.vaultstream.account.infrastructure.persistence.codec.EventCodecs;
+import com.vaultstream.account.infrastructure.persistence.subscription.SubscriptionCheckpointEntity;
+import com.vaultstream.account.infrastructure.persistence.subscription.SubscriptionGapEntity;
+import com.vaultstream.common.exception.ConcurrencyException;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.context.ManagedExecutor;
+import org.hibernate.Session;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Rebuilds the daily rollups from the historical event table in parallel.
+ * 
+ * The accounts are cut into contiguous aggregate ID ranges of about
+ * partition-size accounts each. A ForkJoinPool splits the list of ranges in
+ * halves down to single ranges; each leaf streams its accounts' events up to
+ * a fixed global position, folds them, writes its account rows in its own
+ * transaction and hands its bank-wide totals back up, where they are merged
+ * pairwise and written once at the root.
+ * 
+ * The fixed position is the highest one older than the subscription gap
+ * timeout. The rollup tables are cleared and the live subscriber's
+ * checkpoint moved to that position in one transaction before the fold
+ * starts, so the subscriber carries on from exactly where the backfill
+ * stops. Positions at or below it that may still be filled by a late
+ * commit, the subscriber's skipped gaps and any recent holes, are left out
+ * of the fold and tracked as skipped, so the subscriber delivers them
+ * instead when they turn up. Rollup writes add up, so the two may run at the same time. A
+ * backfill that fails part-way leaves partial totals; run it again.
+ * 
+ * A backfill takes minutes on a large ledger, so start() runs it on the
+ * managed executor and returns at once; status() reports its progress. The
+ * status is held in memory and only covers backfills run by this instance.
+ */
+@Slf4j
+@ApplicationScoped
+public class DailyRollupBackfill {
+
+    private static final int MAX_PARTITION_ATTEMPTS = 3;
+    private static final String HOT_TABLE = "account_events";
+    private static final String ARCHIVE_TABLE = "archive.account_events";
+
+    @Inject
+    EntityManager em;
+
+    @Inject
+    EventCodecs eventCodecs;
+
+    @Inject
+    DailyRollupWriter writer;
+
+    @Inject
+    ManagedExecutor executor;
+
+    @ConfigProperty(name = "vaultstream.rollups.backfill.parallelism", defaultValue = "4")
+    int parallelism;
+
+    @ConfigProperty(name = "vaultstream.rollups.backfill.partition-size", defaultValue = "500")
+    int partitionSize;
+
+    @ConfigProperty(name = "vaultstream.rollups.backfill.partition-timeout", defaultValue = "5m")
+    Duration partitionTimeout;
+
+    @ConfigProperty(name = "vaultstream.subscriptions.gap-timeout", defaultValue = "10s")
+    Duration gapTimeout;
+
+    @ConfigProperty(name = "vaultstream.subscriptions.gap-retention", defaultValue = "1h")
+    Duration gapRetention;
+
+    @ConfigProperty(name = "vaultstream.event-store.partitioning.enabled", defaultValue = "false")
+    boolean partitioned;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private volatile Status status = Status.idle();
+
+    public enum State {
+        IDLE, RUNNING, COMPLETED, FAILED
+    }
+
+    /**
+     * Progress of the latest backfill on this instance
+     *
+     * @param accounts accounts folded, once completed
+     * @param error failure message, once failed
+     */
+    public record Status(State state, Instant startedAt, Instant finishedAt, Long accounts, String error) {
+
+        static Status idle() {
+            return new Status(State.IDLE, null, null, null, null);
+        }
+    }
+
+    /**
+     * Result of one range, or of several merged
+     */
+    private record Partial(DailyRollupFold bankFold, long accounts) {
+    }
+
+    /**
+     * Where the fold stops, and the positions below it left to the live subscriber
+     */
+    private record Cutoff(long upTo, Set<Long> pending) {
+    }
+
+    /**
+     * Start rebuilding every rollup row from the event store in the background
+     *
+     * @return the status of the backfill just started
+     * @throws ConcurrencyException if a backfill is already running on this instance
+     */
+    public Status start() {
+        if (!running.compareAndSet(false, true)) {
+            throw new ConcurrencyException("A rollup backfill is already running");
+        }
+        Instant started = Instant.now();
+        Status current = new Status(State.RUNNING, started, null, null, null);
+        status = current;
+        try {
+            executor.runAsync(() -> run(started));
+        } catch (RuntimeException e) {
+            status = new Status(State.FAILED, started, Instant.now(), null, e.getMessage());
+            running.set(false);
+            throw e;
+        }
+        return current;
+    }
+
+    public Status status() {
+        return status;
+    }
+
+    private void run(Instant started) {
+        try {
+            long accounts = backfill(started);
+            status = new Status(State.COMPLETED, started, Instant.now(), accounts, null);
+        } catch (RuntimeException e) {
+            log.error("Rollup backfill failed", e);
+            status = new Status(State.FAILED, started, Instant.now(), null, e.getMessage());
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * @return number of accounts folded
+     */
+    private long backfill(Instant started) {
+        Cutoff cutoff = QuarkusTransaction.requiringNew().call(this::reset);
+        List<UUID> boundaries = QuarkusTransaction.requiringNew().call(this::partitionBoundaries);
+        if (boundaries.isEmpty()) {
+            log.info("Rollup backfill found no accounts");
+            return 0;
+        }
+        log.info("Rollup backfill up to position {} ({} pending): {} partitions on {} threads",
+                cutoff.upTo(), cutoff.pending().size(), boundaries.size(), parallelism);
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        Partial total;
+        try {
+            total = pool.invoke(new FoldRanges(boundaries, 0, boundaries.size(), cutoff));
+        } finally {
+            pool.shutdown();
+        }
+        QuarkusTransaction.requiringNew().run(() -> writer.writeBankDays(total.bankFold()));
+
+        log.info("Rollup backfill folded {} accounts in {} ms",
+                total.accounts(), Duration.between(started, Instant.now()).toMillis());
+        return total.accounts();
+    }
+
+    /**
+     * Clear the rollups and hand everything after the returned position to the live subscriber
+     */
+    private Cutoff reset() {
+        Instant now = Instant.now();
+        Instant settled = now.minus(gapTimeout);
+        long upTo = maxSettledPosition(HOT_TABLE, settled);
+        if (upTo == 0 && partitioned) {
+            upTo = maxSettledPosition(ARCHIVE_TABLE, settled);
+        }
+
+        em.createQuery("DELETE FROM AccountDailyRollupEntity").executeUpdate();
+        em.createQuery("DELETE FROM BankDailyRollupEntity").executeUpdate();
+
+        int updated = em.createQuery(
+                        "UPDATE SubscriptionCheckpointEntity c SET c.position = :position, c.updatedAt = :now "
+                                + "WHERE c.name = :name")
+                .setParameter("position", upTo)
+                .setParameter("now", Instant.now())
+                .setParameter("name", DailyRollupSubscriber.NAME)
+                .executeUpdate();
+        if (updated == 0) {
+            em.persist(SubscriptionCheckpointEntity.builder()
+                    .name(DailyRollupSubscriber.NAME)
+                    .position(upTo)
+                    .updatedAt(Instant.now())
+                    .build());
+        }
+        return new Cutoff(upTo, trackPending(upTo, now));
+    }
+
+    /**
+     * Hand the positions at or below upTo that may still be filled to the
+     * live subscriber as skipped gaps. Gaps above upTo are dropped, since the
+     * subscriber reads everything after it again.
+     *
+     * @return every position at or below upTo now tracked as skipped
+     */
+    @SuppressWarnings("unchecked")
+    private Set<Long> trackPending(long upTo, Instant now) {
+        em.createQuery("DELETE FROM SubscriptionGapEntity g WHERE g.name = :name AND g.position > :upTo")
+                .setParameter("name", DailyRollupSubscriber.NAME)
+                .setParameter("upTo", upTo)
+                .executeUpdate();
+        Set<Long> pending = new HashSet<>(em.createQuery(
+                        "SELECT g.position FROM SubscriptionGapEntity g WHERE g.name = :name", Long.class)
+                .setParameter("name", DailyRollupSubscriber.NAME)
+                .getResultList());
+
+        List<Object[]> holes = em.createNativeQuery(
+                        "SELECT previous, global_position FROM (SELECT global_position, "
+                                + "LAG(global_position) OVER (ORDER BY global_position) AS previous FROM " + HOT_TABLE
+                                + " WHERE created_at >= :since AND global_position <= :upTo) positioned "
+                                + "WHERE global_position > previous + 1")
+                .setParameter("since", now.minus(gapRetention))
+                .setParameter("upTo", upTo)
+                .getResultList();
+        for (Object[] hole : holes) {
+            long next = ((Number) hole[1]).longValue();
+            for (long position = ((Number) hole[0]).longValue() + 1; position < next; position++) {
+                if (pending.add(position)) {
+                    em.persist(SubscriptionGapEntity.builder()
+                            .name(DailyRollupSubscriber.NAME)
+                            .position(position)
+                            .skippedAt(now)
+                            .build());
+                }
+            }
+        }
+        return pending;
+    }
+
+    private long maxSettledPosition(String table, Instant settled) {
+        Object max = em.createNativeQuery(
+                        "SELECT COALESCE(MAX(global_position), 0) FROM " + table + " WHERE created_at < :settled")
+                .setParameter("settled", settled)
+                .getSingleResult();
+        return ((Number) max).longValue();
+    }
+
+    /**
+     * The first account ID of every range, in database order; ranges run up to the next boundary
+     */
+    @SuppressWarnings("unchecked")
+    private List<UUID> partitionBoundaries() {
+        return em.createNativeQuery(
+                        "SELECT account_id FROM (SELECT account_id, ROW_NUMBER() OVER (ORDER BY account_id) AS n "
+                                + "FROM account_summary) numbered WHERE MOD(n - 1, :size) = 0 ORDER BY account_id")
+                .setParameter("size", partitionSize)
+                .getResultList();
+    }
+
+    private final class FoldRanges extends RecursiveTask<Partial> {
+
+        private final List<UUID> boundaries;
+        private final int from;
+        private final int to;
+        private final Cutoff cutoff;
+
+        FoldRanges(List<UUID> boundaries, int from, int to, Cutoff cutoff) {
+            this.boundaries = boundaries;
+            this.from = from;
+            this.to = to;
+            this.cutoff = cutoff;
+        }
+
+        @Override
+        protected Partial compute() {
+            if (to - from == 1) {
+                UUID last = from + 1 < boundaries.size() ? boundaries.get(from + 1) : null;
+                return foldRange(boundaries.get(from), last, cutoff);
+            }
+            int middle = (from + to) >>> 1;
+            FoldRanges right = new FoldRanges(boundaries, middle, to, cutoff);
+            right.fork();
+            Partial left = new FoldRanges(boundaries, from, middle, cutoff).compute();
+            Partial other = right.join();
+            left.bankFold().mergeBankDays(other.bankFold());
+            return new Partial(left.bankFold(), left.accounts() + other.accounts());
+        }
+    }
+
+    /**
+     * Fold and write the accounts with first <= account_id < end (or no upper bound)
+     */
+    private Partial foldRange(UUID first, UUID end, Cutoff cutoff) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return QuarkusTransaction.requiringNew()
+                        .timeout((int) partitionTimeout.toSeconds())
+                        .call(() -> {
+                            DailyRollupFold fold = new DailyRollupFold();
+                            Set<UUID> accounts = new HashSet<>();
+                            em.unwrap(Session.class).doWork(connection -> {
+                                if (partitioned) {
+                                    readRange(connection, ARCHIVE_TABLE, first, end, cutoff, fold, accounts);
+                                }
+                                readRange(connection, HOT_TABLE, first, end, cutoff, fold, accounts);
+                            });
+                            writer.writeAccountDays(fold);
+                            fold.accountDays().clear();
+                            return new Partial(fold, accounts.size());
+                        });
+            } catch (RuntimeException e) {
+                // Usually the live subscriber inserting the same row first; the retry merges onto it
+                if (attempt == MAX_PARTITION_ATTEMPTS) {
+                    throw e;
+                }
+                log.warn("Rollup backfill of range starting at {} failed (attempt {}), retrying", first, attempt, e);
+            }
+        }
+    }
+
+    private void readRange(Connection connection, String table, UUID first, UUID end, Cutoff cutoff,
+                           DailyRollupFold fold, Set<UUID> accounts) throws SQLException {
+        String sql = "SELECT e.aggregate_id, e.version, " + EventRows.COLUMNS + ", "
+                + "s.account_type, s.currency, e.global_position FROM " + table + " e "
+                + "JOIN account_summary s ON s.account_id = e.aggregate_id "
+                + "WHERE e.aggregate_id >= ?" + (end != null ? " AND e.aggregate_id < ?" : "")
+                + " AND e.global_position <= ? AND e.event_type <> 'AccountStatusChanged'";
+        try (PreparedStatement statement = connection.prepareStatement(
+                sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            int parameter = 1;
+            statement.setObject(parameter++, first);
+            if (end != null) {
+                statement.setObject(parameter++, end);
+            }
+            statement.setLong(parameter, cutoff.upTo());
+            statement.setFetchSize(1000);
+            try (ResultSet rows = statement.executeQuery()) {
+                while (rows.next()) {
+                    if (cutoff.pending().contains(rows.getLong(10))) {
+                        continue;
+                    }
+                    UUID accountId = rows.getObject(1, UUID.class);
+                    fold.add(accountId, rows.getLong(2), EventRows.decode(eventCodecs, rows, 3),
+                            AccountType.valueOf(rows.getString(8)), rows.getString(9));
+                    accounts.add(accountId);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.vaultstream.account.infrastructure.persistence.rollup;
+
+import com.vaultstream.account.domain.event.AccountCreatedEvent;
+import com.vaultstream.account.domain.event.AccountEvent;
+import com.vaultstream.account.domain.event.MoneyDepositedEvent;
+import com.vaultstream.account.domain.event.MoneyWithdrawnEvent;
+import com.vaultstream.account.domain.model.AccountType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Per-day totals folded in memory from account events, before they are written.
+ * 
+ * Days are calendar days in UTC. Folding is order-independent: sums add up
+ * and an account's closing balance is the balanceAfter of its highest
+ * version that day. Folds of disjoint event sets can therefore be merged,
+ * and written on top of existing rows, in any order.
+ */
+final class DailyRollupFold {
+
+    record AccountDayKey(UUID accountId, LocalDate day) {
+    }
+
+    record BankDayKey(LocalDate day, String currency, AccountType accountType) {
+    }
+
+    static final class AccountDay {
+        final String currency;
+        final AccountType accountType;
+        BigDecimal closingBalance;
+        long lastVersion;
+        BigDecimal depositTotal = BigDecimal.ZERO;
+        long depositCount;
+        BigDecimal withdrawalTotal = BigDecimal.ZERO;
+        long withdrawalCount;
+
+        AccountDay(String currency, AccountType accountType) {
+            this.currency = currency;
+            this.accountType = accountType;
+        }
+
+        void close(long version, BigDecimal balance) {
+            if (closingBalance == null || version > lastVersion) {
+                closingBalance = balance;
+                lastVersion = version;
+            }
+        }
+    }
+
+    static final class BankDay {
+        BigDecimal depositTotal = BigDecimal.ZERO;
+        long depositCount;
+        BigDecimal withdrawalTotal = BigDecimal.ZERO;
+        long withdrawalCount;
+        /**
+         * Opening balances of new accounts plus deposits minus withdrawals
+         */
+        BigDecimal netChange = BigDecimal.ZERO;
+        long accountsOpened;
+    }
+
+    private final Map<AccountDayKey, AccountDay> accountDays = new HashMap<>();
+    private final Map<BankDayKey, BankDay> bankDays = new HashMap<>();
+
+    /**
+     * Fold one event; status changes do not move any total and are ignored
+     */
+    void add(UUID accountId, long version, AccountEvent event, AccountType accountType, String currency) {
+        LocalDate day = LocalDate.ofInstant(event.getOccurredAt(), ZoneOffset.UTC);
+        switch (event) {
+            case AccountCreatedEvent e -> {
+                accountDay(accountId, day, currency, accountType).close(version, e.getInitialBalance());
+                BankDay bank = bankDay(day, currency, accountType);
+                bank.netChange = bank.netChange.add(e.getInitialBalance());
+                bank.accountsOpened++;
+            }
+            case MoneyDepositedEvent e -> {
+                AccountDay account = accountDay(accountId, day, currency, accountType);
+                account.depositTotal = account.depositTotal.add(e.getAmount());
+                account.depositCount++;
+                account.close(version, e.getBalanceAfter());
+                BankDay bank = bankDay(day, currency, accountType);
+                bank.depositTotal = bank.depositTotal.add(e.getAmount());
+                bank.depositCount++;
+                bank.netChange = bank.netChange.add(e.getAmount());
+            }
+            case MoneyWithdrawnEvent e -> {
+                AccountDay account = accountDay(accountId, day, currency, accountType);
+                account.withdrawalTotal = account.withdrawalTotal.add(e.getAmount());
+                account.withdrawalCount++;
+                account.close(version, e.getBalanceAfter());
+                BankDay bank = bankDay(day, currency, accountType);
+                bank.withdrawalTotal = bank.withdrawalTotal.add(e.getAmount());
+                bank.withdrawalCount++;
+                bank.netChange = bank.netChange.subtract(e.getAmount());
+            }
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * Add another fold's bank-wide totals to this one
+     */
+    void mergeBankDays(DailyRollupFold other) {
+        other.bankDays.forEach((key, day) -> {
+            BankDay into = bankDays.computeIfAbsent(key, k -> new BankDay());
+            into.depositTotal = into.depositTotal.add(day.depositTotal);
+            into.depositCount += day.depositCount;
+            into.withdrawalTotal = into.withdrawalTotal.add(day.withdrawalTotal);
+            into.withdrawalCount += day.withdrawalCount;
+            into.netChange = into.netChange.add(day.netChange);
+            into.accountsOpened += day.accountsOpened;
+        });
+    }
+
+    Map<AccountDayKey, AccountDay> accountDays() {
+        return accountDays;
+    }
+
+    Map<BankDayKey, BankDay> bankDays() {
+        return bankDays;
+    }
+
+    private AccountDay accountDay(UUID accountId, LocalDate day, String currency, AccountType accountType) {
+        return accountDays.computeIfAbsent(new AccountDayKey(accountId, day), key -> new AccountDay(currency, accountType));
+    }
+
+    private BankDay bankDay(LocalDate day, String currency, AccountType accountType) {
+        return bankDays.computeIfAbsent(new BankDayKey(day, currency, accountType), key -> new BankDay());
+    }
+}
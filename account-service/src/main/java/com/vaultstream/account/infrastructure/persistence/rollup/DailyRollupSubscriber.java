@@ -0,0 +1,89 @@
+package com.vaultstream.account.infrastructure.persistence.rollup;
+
+import com.vaultstream.account.domain.event.AccountCreatedEvent;
+import com.vaultstream.account.domain.model.AccountType;
+import com.vaultstream.account.infrastructure.persistence.subscription.EventSubscriber;
+import com.vaultstream.account.infrastructure.persistence.subscription.PositionedEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Keeps the daily rollups current from the global event sequence.
+ * 
+ * Each batch is folded in memory and merged onto the stored rows in the
+ * transaction that advances the subscription checkpoint, so every event is
+ * counted exactly once. Account type and currency, which postings do not
+ * carry, come from the creation event or from account_summary.
+ */
+@Slf4j
+@ApplicationScoped
+public class DailyRollupSubscriber implements EventSubscriber {
+
+    static final String NAME = "daily-rollups";
+
+    @Inject
+    EntityManager em;
+
+    @Inject
+    DailyRollupWriter writer;
+
+    record Attributes(AccountType accountType, String currency) {
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void handle(List<PositionedEvent> events) {
+        Map<UUID, Attributes> attributes = attributes(events);
+        DailyRollupFold fold = new DailyRollupFold();
+        for (PositionedEvent positioned : events) {
+            Attributes account = attributes.get(positioned.aggregateId());
+            if (account == null) {
+                log.warn("Skipping rollup of event {} v{}: account attributes not found",
+                        positioned.aggregateId(), positioned.version());
+                continue;
+            }
+            fold.add(positioned.aggregateId(), positioned.version(), positioned.event(),
+                    account.accountType(), account.currency());
+        }
+        writer.writeAccountDays(fold);
+        writer.writeBankDays(fold);
+    }
+
+    private Map<UUID, Attributes> attributes(List<PositionedEvent> events) {
+        Map<UUID, Attributes> attributes = new HashMap<>();
+        Set<UUID> missing = new HashSet<>();
+        for (PositionedEvent positioned : events) {
+            if (positioned.event() instanceof AccountCreatedEvent created) {
+                attributes.put(positioned.aggregateId(),
+                        new Attributes(created.getAccountType(), created.getCurrency().getCurrencyCode()));
+            }
+        }
+        for (PositionedEvent positioned : events) {
+            if (!attributes.containsKey(positioned.aggregateId())) {
+                missing.add(positioned.aggregateId());
+            }
+        }
+        if (!missing.isEmpty()) {
+            em.createQuery(
+                            "SELECT s.accountId, s.type, s.currency FROM AccountSummaryEntity s WHERE s.accountId IN :ids",
+                            Object[].class)
+                    .setParameter("ids", missing)
+                    .getResultList()
+                    .forEach(row -> attributes.put((UUID) row[0], new Attributes((AccountType) row[1], (String) row[2])));
+        }
+        return attributes;
+    }
+}
@@ -0,0 +1,115 @@
+package com.vaultstream.account.infrastructure.persistence.rollup;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.util.Map;
+
+/**
+ * Adds folded totals onto the stored rollup rows in one JDBC batch per table.
+ * 
+ * Each row is a MERGE that sums counts and totals into the existing row and
+ * keeps the closing balance of the higher version, so concurrent writers
+ * (the live subscriber and a backfill) compose instead of overwriting each
+ * other. Runs in the caller's transaction.
+ */
+@ApplicationScoped
+public class DailyRollupWriter {
+
+    private static final String MERGE_ACCOUNT_DAY_SQL =
+            "MERGE INTO account_daily_rollups r USING (SELECT CAST(? AS UUID) AS account_id, "
+            + "CAST(? AS DATE) AS rollup_date, CAST(? AS VARCHAR(3)) AS currency, "
+            + "CAST(? AS VARCHAR(30)) AS account_type, CAST(? AS NUMERIC(19, 4)) AS closing_balance, "
+            + "CAST(? AS BIGINT) AS last_version, CAST(? AS NUMERIC(19, 4)) AS deposit_total, "
+            + "CAST(? AS BIGINT) AS deposit_count, CAST(? AS NUMERIC(19, 4)) AS withdrawal_total, "
+            + "CAST(? AS BIGINT) AS withdrawal_count) s "
+            + "ON (r.account_id = s.account_id AND r.rollup_date = s.rollup_date) "
+            + "WHEN MATCHED THEN UPDATE SET "
+            + "closing_balance = CASE WHEN s.last_version > r.last_version THEN s.closing_balance ELSE r.closing_balance END, "
+            + "last_version = GREATEST(r.last_version, s.last_version), "
+            + "deposit_total = r.deposit_total + s.deposit_total, "
+            + "deposit_count = r.deposit_count + s.deposit_count, "
+            + "withdrawal_total = r.withdrawal_total + s.withdrawal_total, "
+            + "withdrawal_count = r.withdrawal_count + s.withdrawal_count "
+            + "WHEN NOT MATCHED THEN INSERT (account_id, rollup_date, currency, account_type, closing_balance, "
+            + "last_version, deposit_total, deposit_count, withdrawal_total, withdrawal_count) "
+            + "VALUES (s.account_id, s.rollup_date, s.currency, s.account_type, s.closing_balance, "
+            + "s.last_version, s.deposit_total, s.deposit_count, s.withdrawal_total, s.withdrawal_count)";
+
+    private static final String MERGE_BANK_DAY_SQL =
+            "MERGE INTO bank_daily_rollups r USING (SELECT CAST(? AS DATE) AS rollup_date, "
+            + "CAST(? AS VARCHAR(3)) AS currency, CAST(? AS VARCHAR(30)) AS account_type, "
+            + "CAST(? AS NUMERIC(19, 4)) AS deposit_total, CAST(? AS BIGINT) AS deposit_count, "
+            + "CAST(? AS NUMERIC(19, 4)) AS withdrawal_total, CAST(? AS BIGINT) AS withdrawal_count, "
+            + "CAST(? AS NUMERIC(19, 4)) AS net_change, CAST(? AS BIGINT) AS accounts_opened) s "
+            + "ON (r.rollup_date = s.rollup_date AND r.currency = s.currency AND r.account_type = s.account_type) "
+            + "WHEN MATCHED THEN UPDATE SET "
+            + "deposit_total = r.deposit_total + s.deposit_total, "
+            + "deposit_count = r.deposit_count + s.deposit_count, "
+            + "withdrawal_total = r.withdrawal_total + s.withdrawal_total, "
+            + "withdrawal_count = r.withdrawal_count + s.withdrawal_count, "
+            + "net_change = r.net_change + s.net_change, "
+            + "accounts_opened = r.accounts_opened + s.accounts_opened "
+            + "WHEN NOT MATCHED THEN INSERT (rollup_date, currency, account_type, deposit_total, deposit_count, "
+            + "withdrawal_total, withdrawal_count, net_change, accounts_opened) "
+            + "VALUES (s.rollup_date, s.currency, s.account_type, s.deposit_total, s.deposit_count, "
+            + "s.withdrawal_total, s.withdrawal_count, s.net_change, s.accounts_opened)";
+
+    @Inject
+    EntityManager em;
+
+    void writeAccountDays(DailyRollupFold fold) {
+        Map<DailyRollupFold.AccountDayKey, DailyRollupFold.AccountDay> days = fold.accountDays();
+        if (days.isEmpty()) {
+            return;
+        }
+        em.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(MERGE_ACCOUNT_DAY_SQL)) {
+                for (var entry : days.entrySet()) {
+                    DailyRollupFold.AccountDay day = entry.getValue();
+                    statement.setObject(1, entry.getKey().accountId());
+                    statement.setDate(2, Date.valueOf(entry.getKey().day()));
+                    statement.setString(3, day.currency);
+                    statement.setString(4, day.accountType.name());
+                    statement.setBigDecimal(5, day.closingBalance);
+                    statement.setLong(6, day.lastVersion);
+                    statement.setBigDecimal(7, day.depositTotal);
+                    statement.setLong(8, day.depositCount);
+                    statement.setBigDecimal(9, day.withdrawalTotal);
+                    statement.setLong(10, day.withdrawalCount);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+        });
+    }
+
+    void writeBankDays(DailyRollupFold fold) {
+        Map<DailyRollupFold.BankDayKey, DailyRollupFold.BankDay> days = fold.bankDays();
+        if (days.isEmpty()) {
+            return;
+        }
+        em.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(MERGE_BANK_DAY_SQL)) {
+                for (var entry : days.entrySet()) {
+                    DailyRollupFold.BankDay day = entry.getValue();
+                    statement.setDate(1, Date.valueOf(entry.getKey().day()));
+                    statement.setString(2, entry.getKey().currency());
+                    statement.setString(3, entry.getKey().accountType().name());
+                    statement.setBigDecimal(4, day.depositTotal);
+                    statement.setLong(5, day.depositCount);
+                    statement.setBigDecimal(6, day.withdrawalTotal);
+                    statement.setLong(7, day.withdrawalCount);
+                    statement.setBigDecimal(8, day.netChange);
+                    statement.setLong(9, day.accountsOpened);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+        });
+    }
+}
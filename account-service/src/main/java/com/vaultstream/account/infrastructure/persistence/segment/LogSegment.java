@@ -0,0 +1,291 @@
+package com.vaultstream.account.infrastructure.persistence.segment;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+/**
+ * A fixed-size, memory-mapped file holding a run of event records.
+ * 
+ * The file starts with an 8-byte header (magic and format version). Each
+ * record is framed as [payload length][CRC32C of payload][payload]. Records
+ * are appended in batches, and each batch ends with a commit frame
+ * [-1][record count]; recovery only hands out records of batches whose
+ * commit frame is present. The file is preallocated and zero-filled, so a
+ * zero length marks the end of the written data. Appends are
+ * single-threaded; reads use absolute positions and may run concurrently
+ * with them.
+ */
+@Slf4j
+final class LogSegment implements AutoCloseable {
+
+    static final int HEADER_SIZE = 8;
+    static final int FRAME_SIZE = 8;
+
+    private static final int MAGIC = 0x56534547; // "VSEG"
+    private static final int FORMAT_VERSION = 2;
+    private static final int COMMIT_MARKER = -1;
+
+    private final long number;
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private int writePosition;
+
+    private LogSegment(long number, Path path, FileChannel channel, MappedByteBuffer buffer, int writePosition) {
+        this.number = number;
+        this.path = path;
+        this.channel = channel;
+        this.buffer = buffer;
+        this.capacity = buffer.capacity();
+        this.writePosition = writePosition;
+    }
+
+    /**
+     * Create and preallocate a new segment file
+     */
+    static LogSegment create(Path file, long number, int capacity) {
+        try {
+            FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(4, FORMAT_VERSION);
+            buffer.force(0, HEADER_SIZE);
+            return new LogSegment(number, file, channel, buffer, HEADER_SIZE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create event segment " + file, e);
+        }
+    }
+
+    /**
+     * Map an existing segment file; call {@link #recover} before appending
+     */
+    static LogSegment open(Path file, long number) {
+        try {
+            FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, Files.size(file));
+            if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC || buffer.getInt(4) != FORMAT_VERSION) {
+                channel.close();
+                throw new IllegalStateException("Not an event segment: " + file);
+            }
+            return new LogSegment(number, file, channel, buffer, HEADER_SIZE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open event segment " + file, e);
+        }
+    }
+
+    /**
+     * Scan the segment, handing every record of a committed batch to the visitor.
+     * 
+     * Scanning stops at the first zero length, out-of-bounds length, CRC
+     * mismatch or commit frame that does not match its batch. Anything after
+     * the last complete commit frame is a torn or uncommitted write from a
+     * crash: it is zeroed so the segment can be appended to again.
+     *
+     * @return number of committed records
+     */
+    int recover(RecordVisitor visitor) {
+        int position = HEADER_SIZE;
+        int committed = HEADER_SIZE;
+        int records = 0;
+        List<Integer> pendingOffsets = new ArrayList<>();
+        List<byte[]> pendingPayloads = new ArrayList<>();
+        while (position + FRAME_SIZE <= capacity) {
+            int length = buffer.getInt(position);
+            if (length == COMMIT_MARKER) {
+                if (pendingPayloads.isEmpty() || buffer.getInt(position + 4) != pendingPayloads.size()) {
+                    log.warn("Unmatched commit frame in event segment {} at offset {}, truncating", path, position);
+                    break;
+                }
+                for (int i = 0; i < pendingPayloads.size(); i++) {
+                    visitor.accept(pendingOffsets.get(i), pendingPayloads.get(i));
+                }
+                records += pendingPayloads.size();
+                pendingOffsets.clear();
+                pendingPayloads.clear();
+                position += FRAME_SIZE;
+                committed = position;
+                continue;
+            }
+            if (length <= 0 || length > capacity - position - FRAME_SIZE) {
+                break;
+            }
+            byte[] payload = new byte[length];
+            buffer.get(position + FRAME_SIZE, payload);
+            if (crc(payload) != buffer.getInt(position + 4)) {
+                log.warn("CRC mismatch in event segment {} at offset {}, truncating", path, position);
+                break;
+            }
+            pendingOffsets.add(position);
+            pendingPayloads.add(payload);
+            position += FRAME_SIZE + length;
+        }
+        if (!pendingPayloads.isEmpty()) {
+            log.warn("Discarding {} records of an uncommitted batch in event segment {}", pendingPayloads.size(), path);
+        }
+        writePosition = committed;
+        truncateTail(committed);
+        return records;
+    }
+
+    private void truncateTail(int from) {
+        int end = from;
+        while (end + FRAME_SIZE <= capacity && buffer.getInt(end) != 0) {
+            int length = buffer.getInt(end);
+            if (length == COMMIT_MARKER) {
+                end += FRAME_SIZE;
+            } else {
+                end = length > 0 && length <= capacity - end - FRAME_SIZE ? end + FRAME_SIZE + length : capacity;
+            }
+        }
+        if (end > from) {
+            zero(from, end);
+            buffer.force(from, end - from);
+            log.warn("Discarded {} bytes of incomplete records in event segment {}", end - from, path);
+        }
+    }
+
+    /**
+     * Bytes a batch takes in the segment, commit frame included
+     */
+    static int batchLength(List<byte[]> payloads) {
+        int length = FRAME_SIZE;
+        for (byte[] payload : payloads) {
+            length += FRAME_SIZE + payload.length;
+        }
+        return length;
+    }
+
+    boolean fits(int batchLength) {
+        return (long) writePosition + batchLength <= capacity;
+    }
+
+    /**
+     * Write a single record as its own batch
+     *
+     * @return offset of the record within the segment
+     */
+    int append(byte[] payload) {
+        return append(List.of(payload))[0];
+    }
+
+    /**
+     * Write a batch of records and its commit frame at the end of the
+     * segment, without forcing them to disk. If writing fails part way, the
+     * bytes written so far are zeroed and the write position is left where
+     * it was, so no later commit frame can adopt them.
+     *
+     * @return offset of each record within the segment
+     */
+    int[] append(List<byte[]> payloads) {
+        int start = writePosition;
+        int end = start;
+        int[] offsets = new int[payloads.size()];
+        try {
+            for (int i = 0; i < payloads.size(); i++) {
+                byte[] payload = payloads.get(i);
+                offsets[i] = end;
+                end += FRAME_SIZE + payload.length;
+                buffer.put(offsets[i] + FRAME_SIZE, payload);
+                buffer.putInt(offsets[i] + 4, crc(payload));
+                buffer.putInt(offsets[i], payload.length);
+            }
+            end += FRAME_SIZE;
+            buffer.putInt(end - FRAME_SIZE + 4, payloads.size());
+            // Marker last: the batch becomes visible to recovery only once complete
+            buffer.putInt(end - FRAME_SIZE, COMMIT_MARKER);
+            writePosition = end;
+            return offsets;
+        } catch (RuntimeException | Error e) {
+            zero(start, Math.min(end, capacity));
+            throw e;
+        }
+    }
+
+    /**
+     * Drop everything written from an offset on, such as a batch that could not be forced to disk
+     */
+    void truncate(int from) {
+        zero(from, writePosition);
+        force(from, writePosition);
+        writePosition = from;
+    }
+
+    private void zero(int from, int to) {
+        for (int i = from; i < to; i++) {
+            buffer.put(i, (byte) 0);
+        }
+    }
+
+    /**
+     * Flush the given byte range of the mapping to the storage device
+     */
+    void force(int from, int to) {
+        if (to > from) {
+            buffer.force(from, to - from);
+        }
+    }
+
+    /**
+     * Read the payload of the record at an offset returned by {@link #append}
+     */
+    byte[] read(int offset) {
+        byte[] payload = new byte[buffer.getInt(offset)];
+        buffer.get(offset + FRAME_SIZE, payload);
+        return payload;
+    }
+
+    long number() {
+        return number;
+    }
+
+    int writePosition() {
+        return writePosition;
+    }
+
+    /**
+     * Largest record that fits in an empty segment on its own
+     */
+    static int maxPayload(int capacity) {
+        return maxBatchLength(capacity) - 2 * FRAME_SIZE;
+    }
+
+    /**
+     * Largest batch, commit frame included, that fits in an empty segment
+     */
+    static int maxBatchLength(int capacity) {
+        return capacity - HEADER_SIZE;
+    }
+
+    @Override
+    public void close() {
+        try {
+            buffer.force();
+            channel.close();
+        } catch (IOException e) {
+            log.warn("Failed to close event segment {}", path, e);
+        }
+    }
+
+    private static int crc(byte[] payload) {
+        CRC32C crc = new CRC32C();
+        crc.update(payload, 0, payload.length);
+        return (int) crc.getValue();
+    }
+
+    @FunctionalInterface
+    interface RecordVisitor {
+        void accept(int offset, byte[] payload);
+    }
+}
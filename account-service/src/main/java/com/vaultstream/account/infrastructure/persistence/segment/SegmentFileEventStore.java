@@ -0,0 +1,461 @@
+package com.vaultstream.account.infrastructure.persistence.segment;
+
+import com.vaultstream.account.domain.event.AccountEvent;
+import com.vaultstream.account.domain.model.Account;
+import com.vaultstream.account.domain.model.AccountSnapshot;
+import com.vaultstream.account.infrastructure.persistence.AccountEventsAppended;
+import com.vaultstream.account.infrastructure.persistence.AggregateCache;
+import com.vaultstream.account.infrastructure.persistence.EventStore;
+import com.vaultstream.account.infrastructure.persistence.StateEvents;
+import com.vaultstream.account.infrastructure.persistence.codec.EventCodec;
+import com.vaultstream.account.infrastructure.persistence.codec.EventCodecs;
+import com.vaultstream.common.exception.ConcurrencyException;
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.quarkus.runtime.configuration.MemorySize;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ObjLongConsumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Event Store engine writing an append-only log of memory-mapped segment
+ * files on local disk, without JPA.
+ * 
+ * Each saveEvents call is written to the active segment as one batch, by a
+ * single writer, followed by a commit frame, and forced to disk before the
+ * append returns. When a batch does not fit, it goes to a new segment, so a
+ * batch never spans two files. An in-memory index maps every aggregate to
+ * the positions of its records by version, so loads read exactly the
+ * records they need. On startup all segments are scanned: records of
+ * committed batches rebuild the index, and a torn or uncommitted tail left
+ * by a crash is discarded, so an aggregate never recovers part of a batch.
+ * 
+ * Appends are durable as soon as saveEvents returns and do not take part in
+ * the surrounding JTA transaction. Observers of {@link AccountEventsAppended}
+ * still run inside it.
+ */
+@Slf4j
+@ApplicationScoped
+@IfBuildProperty(name = "vaultstream.event-store.engine", stringValue = "segment-file")
+public class SegmentFileEventStore implements EventStore {
+
+    private static final Pattern SEGMENT_NAME = Pattern.compile("segment-(\\d{10})\\.log");
+    private static final Set<String> POSTING_TYPES = Set.of("MoneyDeposited", "MoneyWithdrawn");
+    private static final String STATUS_CHANGED = "AccountStatusChanged";
+
+    @Inject
+    EventCodecs eventCodecs;
+
+    @Inject
+    AggregateCache aggregateCache;
+
+    @Inject
+    Event<AccountEventsAppended> eventsAppended;
+
+    @ConfigProperty(name = "vaultstream.event-store.segment.directory", defaultValue = "data/account-events")
+    String directory;
+
+    @ConfigProperty(name = "vaultstream.event-store.segment.size", defaultValue = "64M")
+    MemorySize segmentSize;
+
+    @ConfigProperty(name = "vaultstream.event-store.segment.force-on-append", defaultValue = "true")
+    boolean forceOnAppend;
+
+    private final Map<UUID, StreamIndex> streams = new ConcurrentHashMap<>();
+    private final Object appendLock = new Object();
+    private volatile LogSegment[] segments = new LogSegment[0];
+
+    private Path root;
+
+    @PostConstruct
+    void open() {
+        root = Path.of(directory);
+        try {
+            Files.createDirectories(root);
+            List<Path> files;
+            try (Stream<Path> listing = Files.list(root)) {
+                files = listing.filter(file -> SEGMENT_NAME.matcher(file.getFileName().toString()).matches())
+                        .sorted()
+                        .toList();
+            }
+
+            List<LogSegment> recovered = new ArrayList<>(files.size());
+            long records = 0;
+            for (Path file : files) {
+                Matcher matcher = SEGMENT_NAME.matcher(file.getFileName().toString());
+                matcher.matches();
+                long number = Long.parseLong(matcher.group(1));
+                if (number != recovered.size()) {
+                    throw new IllegalStateException("Event segment missing before " + file);
+                }
+                LogSegment segment = LogSegment.open(file, number);
+                records += segment.recover((offset, payload) -> index(number, offset, SegmentRecord.decodeHeader(payload)));
+                recovered.add(segment);
+            }
+            if (recovered.isEmpty()) {
+                recovered.add(createSegment(0));
+            }
+            segments = recovered.toArray(LogSegment[]::new);
+
+            log.info("Segment event store opened at {}: {} segments, {} records, {} aggregates",
+                    directory, segments.length, records, streams.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open segment event store at " + directory, e);
+        }
+    }
+
+    private void index(long segment, int offset, SegmentRecord.Header record) {
+        StreamIndex stream = streams.computeIfAbsent(record.aggregateId(), id -> new StreamIndex());
+        if (record.version() != stream.version() + 1) {
+            log.warn("Skipping out-of-sequence record for aggregate {} at version {} (indexed up to {})",
+                    record.aggregateId(), record.version(), stream.version());
+            return;
+        }
+        stream.add(StreamIndex.position(segment, offset), record.eventType());
+    }
+
+    @Override
+    public void saveEvents(Account account) {
+        saveEvents(List.of(account));
+    }
+
+    /**
+     * Append the uncommitted events of several aggregates.
+     * 
+     * Every aggregate's expected version is checked before anything is
+     * written, and the batch is forced to disk once.
+     *
+     * @throws ConcurrencyException if any aggregate changed since it was loaded
+     */
+    @Override
+    public void saveEvents(Collection<Account> accounts) {
+        List<Account> dirty = accounts.stream()
+                .filter(account -> !account.getUncommittedEvents().isEmpty())
+                .toList();
+        if (dirty.isEmpty()) {
+            return;
+        }
+
+        synchronized (appendLock) {
+            for (Account account : dirty) {
+                if (currentVersion(account.getId()) != account.getVersion()) {
+                    throw conflict(dirty);
+                }
+            }
+            append(dirty);
+        }
+
+        for (Account account : dirty) {
+            List<AccountEvent> appended = List.copyOf(account.getUncommittedEvents());
+            account.markEventsAsCommitted();
+            eventsAppended.fire(new AccountEventsAppended(account.toSnapshot(), appended));
+        }
+        log.debug("Appended events for {} account(s)", dirty.size());
+    }
+
+    private void append(List<Account> accounts) {
+        // Encode everything first, so an oversized batch fails before any write
+        EventCodec codec = eventCodecs.writeCodec();
+        List<UUID> ids = new ArrayList<>();
+        List<String> types = new ArrayList<>();
+        List<byte[]> payloads = new ArrayList<>();
+        for (Account account : accounts) {
+            long version = account.getVersion();
+            for (AccountEvent event : account.getUncommittedEvents()) {
+                ids.add(account.getId());
+                types.add(event.getEventType());
+                payloads.add(new SegmentRecord(event.getAccountId(), ++version, event.getEventVersion(),
+                        codec.id(), event.getEventType(), codec.encode(event)).encode());
+            }
+        }
+        int batchLength = LogSegment.batchLength(payloads);
+        if (batchLength > LogSegment.maxBatchLength((int) segmentSize.asLongValue())) {
+            throw new IllegalArgumentException("Batch of " + batchLength + " bytes exceeds the segment size");
+        }
+
+        LogSegment active = segments[segments.length - 1];
+        if (!active.fits(batchLength)) {
+            active = rollover(active);
+        }
+        int start = active.writePosition();
+        int[] offsets = active.append(payloads);
+        try {
+            flush(active, start);
+        } catch (RuntimeException e) {
+            active.truncate(start);
+            throw e;
+        }
+
+        // Publish only once durable, so readers never see an event a crash could lose
+        for (int i = 0; i < offsets.length; i++) {
+            streams.computeIfAbsent(ids.get(i), id -> new StreamIndex())
+                    .add(StreamIndex.position(active.number(), offsets[i]), types.get(i));
+        }
+    }
+
+    private void flush(LogSegment segment, int from) {
+        if (forceOnAppend) {
+            segment.force(from, segment.writePosition());
+        }
+    }
+
+    private LogSegment rollover(LogSegment full) {
+        LogSegment next = createSegment(full.number() + 1);
+        LogSegment[] grown = Arrays.copyOf(segments, segments.length + 1);
+        grown[grown.length - 1] = next;
+        segments = grown;
+        log.info("Rolled event log over to segment {}", next.number());
+        return next;
+    }
+
+    private LogSegment createSegment(long number) {
+        Path file = root.resolve(String.format("segment-%010d.log", number));
+        return LogSegment.create(file, number, (int) segmentSize.asLongValue());
+    }
+
+    /**
+     * Load an account aggregate, replaying only the tail after cached state,
+     * or from its latest state when nothing usable is cached
+     */
+    @Override
+    public Optional<Account> loadAggregate(UUID accountId) {
+        long currentVersion = currentVersion(accountId);
+        Optional<AccountSnapshot> cached = aggregateCache.get(accountId);
+        if (cached.isPresent() && cached.get().version() <= currentVersion) {
+            if (cached.get().version() == currentVersion) {
+                return Optional.of(Account.fromSnapshot(cached.get(), List.of()));
+            }
+            return Optional.of(cache(Account.fromSnapshot(cached.get(),
+                    loadEventsAfter(accountId, cached.get().version()))));
+        }
+        cached.ifPresent(stale -> aggregateCache.invalidate(accountId));
+
+        return loadLatestState(accountId);
+    }
+
+    /**
+     * Load several aggregates; the index is in memory, so this is a plain loop
+     */
+    @Override
+    public Map<UUID, Account> loadAggregates(Collection<UUID> accountIds) {
+        Map<UUID, Account> loaded = new LinkedHashMap<>();
+        for (UUID accountId : accountIds) {
+            if (!loaded.containsKey(accountId)) {
+                loadAggregate(accountId).ifPresent(account -> loaded.put(accountId, account));
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Load an account from the records that decide its state.
+     * 
+     * The stream index knows the versions of the latest posting and the
+     * latest status change, so only those two and the creation record are
+     * read and decoded, however long the stream is.
+     */
+    @Override
+    public Optional<Account> loadLatestState(UUID accountId) {
+        StreamIndex stream = streams.get(accountId);
+        StreamIndex.Latest latest = stream != null ? stream.latest() : null;
+        if (latest == null || latest.version() == 0) {
+            return Optional.empty();
+        }
+        LogSegment[] mapped = segments;
+        List<Long> versions = new ArrayList<>(3);
+        versions.add(1L);
+        if (latest.statusChangeVersion() > 1) {
+            versions.add(latest.statusChangeVersion());
+        }
+        if (latest.postingVersion() > 1) {
+            versions.add(latest.postingVersion());
+        }
+        versions.sort(Comparator.naturalOrder());
+
+        List<AccountEvent> deciding = versions.stream()
+                .map(version -> decode(read(mapped, stream.at(version))))
+                .toList();
+        return Optional.of(cache(Account.fromLatestEvents(deciding, latest.version())));
+    }
+
+    @Override
+    public List<AccountEvent> loadEvents(UUID aggregateId) {
+        return loadEventsAfter(aggregateId, 0L);
+    }
+
+    @Override
+    public List<AccountEvent> loadEventsAfter(UUID aggregateId, long afterVersion) {
+        StreamIndex stream = streams.get(aggregateId);
+        if (stream == null) {
+            return List.of();
+        }
+        LogSegment[] mapped = segments;
+        long[] positions = stream.after(afterVersion);
+        List<AccountEvent> events = new ArrayList<>(positions.length);
+        for (long position : positions) {
+            events.add(decode(read(mapped, position)));
+        }
+        return events;
+    }
+
+    /**
+     * Walk each stream back from its head to the last status change and the
+     * last posting that occurred by asOf. Records are appended in occurredAt
+     * order, so the first match going back is the latest one.
+     */
+    @Override
+    public Map<UUID, StateEvents> loadStatesAt(Collection<UUID> accountIds, Instant asOf) {
+        LogSegment[] mapped = segments;
+        Map<UUID, StateEvents> states = new LinkedHashMap<>();
+        for (UUID accountId : accountIds) {
+            StreamIndex stream = streams.get(accountId);
+            if (stream == null || states.containsKey(accountId)) {
+                continue;
+            }
+            long[] positions = stream.after(0);
+            if (positions.length == 0) {
+                continue;
+            }
+            AccountEvent created = decode(read(mapped, positions[0]));
+            if (created.getOccurredAt().isAfter(asOf)) {
+                continue;
+            }
+
+            AccountEvent statusChange = null;
+            AccountEvent posting = null;
+            long statusChangeVersion = 0;
+            long postingVersion = 0;
+            for (int i = positions.length - 1; i > 0 && (statusChange == null || posting == null); i--) {
+                SegmentRecord record = read(mapped, positions[i]);
+                boolean isPosting = POSTING_TYPES.contains(record.eventType());
+                boolean isStatusChange = STATUS_CHANGED.equals(record.eventType());
+                if ((isPosting && posting == null) || (isStatusChange && statusChange == null)) {
+                    AccountEvent event = decode(record);
+                    if (event.getOccurredAt().isAfter(asOf)) {
+                        continue;
+                    }
+                    if (isPosting) {
+                        posting = event;
+                        postingVersion = record.version();
+                    } else {
+                        statusChange = event;
+                        statusChangeVersion = record.version();
+                    }
+                }
+            }
+
+            List<AccountEvent> events = new ArrayList<>(3);
+            events.add(created);
+            if (statusChange != null && postingVersion > statusChangeVersion) {
+                events.add(statusChange);
+            }
+            if (posting != null) {
+                events.add(posting);
+            }
+            if (statusChange != null && statusChangeVersion > postingVersion) {
+                events.add(statusChange);
+            }
+            states.put(accountId, new StateEvents(events, Math.max(1, Math.max(statusChangeVersion, postingVersion))));
+        }
+        return states;
+    }
+
+    /**
+     * Walk the stream index after the version, decoding only postings in the range
+     */
+    @Override
+    public int readPostings(UUID accountId, long afterVersion, Instant from, Instant to, int limit,
+                            ObjLongConsumer<AccountEvent> sink) {
+        StreamIndex stream = streams.get(accountId);
+        if (stream == null) {
+            return 0;
+        }
+        LogSegment[] mapped = segments;
+        int read = 0;
+        for (long position : stream.after(afterVersion)) {
+            SegmentRecord record = read(mapped, position);
+            if (!POSTING_TYPES.contains(record.eventType())) {
+                continue;
+            }
+            AccountEvent event = decode(record);
+            Instant occurredAt = event.getOccurredAt();
+            if ((from != null && occurredAt.isBefore(from)) || (to != null && !occurredAt.isBefore(to))) {
+                continue;
+            }
+            sink.accept(event, record.version());
+            if (++read == limit) {
+                break;
+            }
+        }
+        return read;
+    }
+
+    private static SegmentRecord read(LogSegment[] mapped, long position) {
+        return SegmentRecord.decode(mapped[StreamIndex.segmentOf(position)].read(StreamIndex.offsetOf(position)));
+    }
+
+    private AccountEvent decode(SegmentRecord record) {
+        return eventCodecs.forId(record.codec()).decode(record.eventType(), record.eventVersion(), record.data());
+    }
+
+    @Override
+    public long getCurrentVersion(UUID aggregateId) {
+        return currentVersion(aggregateId);
+    }
+
+    private long currentVersion(UUID aggregateId) {
+        StreamIndex stream = streams.get(aggregateId);
+        return stream != null ? stream.version() : 0L;
+    }
+
+    private Account cache(Account account) {
+        aggregateCache.put(account.toSnapshot());
+        return account;
+    }
+
+    private ConcurrencyException conflict(List<Account> accounts) {
+        accounts.forEach(account -> aggregateCache.invalidate(account.getId()));
+        Account first = accounts.stream()
+                .filter(account -> currentVersion(account.getId()) != account.getVersion())
+                .findFirst()
+                .orElse(accounts.get(0));
+        log.warn("Concurrent append rejected for account: {} at expected version: {}",
+                first.getId(), first.getVersion());
+        return new ConcurrencyException(String.format(
+                "Concurrency conflict for aggregate %s. Expected version: %d",
+                first.getId(), first.getVersion()));
+    }
+
+    @PreDestroy
+    void close() {
+        synchronized (appendLock) {
+            for (LogSegment segment : segments) {
+                segment.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.vaultstream.account.infrastructure.persistence.segment;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * One stored event inside a log segment.
+ * 
+ * Layout, big-endian: aggregate id (16), version (8), event version (4),
+ * codec id and event type as length-prefixed UTF-8 (2 + n each), then the
+ * codec payload up to the end of the record.
+ */
+record SegmentRecord(UUID aggregateId, long version, int eventVersion, String codec, String eventType, byte[] data) {
+
+    byte[] encode() {
+        byte[] codecBytes = codec.getBytes(StandardCharsets.UTF_8);
+        byte[] typeBytes = eventType.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocate(16 + 8 + 4 + 2 + codecBytes.length + 2 + typeBytes.length + data.length);
+        buffer.putLong(aggregateId.getMostSignificantBits());
+        buffer.putLong(aggregateId.getLeastSignificantBits());
+        buffer.putLong(version);
+        buffer.putInt(eventVersion);
+        buffer.putShort((short) codecBytes.length);
+        buffer.put(codecBytes);
+        buffer.putShort((short) typeBytes.length);
+        buffer.put(typeBytes);
+        buffer.put(data);
+        return buffer.array();
+    }
+
+    /**
+     * The fields needed to index a record, read without copying its payload
+     */
+    record Header(UUID aggregateId, long version, String eventType) {
+    }
+
+    static Header decodeHeader(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        UUID aggregateId = new UUID(buffer.getLong(), buffer.getLong());
+        long version = buffer.getLong();
+        buffer.getInt();
+        int codecLength = Short.toUnsignedInt(buffer.getShort());
+        buffer.position(buffer.position() + codecLength);
+        return new Header(aggregateId, version, readString(buffer));
+    }
+
+    static SegmentRecord decode(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        UUID aggregateId = new UUID(buffer.getLong(), buffer.getLong());
+        long version = buffer.getLong();
+        int eventVersion = buffer.getInt();
+        String codec = readString(buffer);
+        String eventType = readString(buffer);
+        byte[] data = new byte[buffer.remaining()];
+        buffer.get(data);
+        return new SegmentRecord(aggregateId, version, eventVersion, codec, eventType, data);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[Short.toUnsignedInt(buffer.getShort())];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
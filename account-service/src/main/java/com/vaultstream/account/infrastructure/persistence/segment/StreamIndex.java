@@ -0,0 +1,95 @@
+package com.vaultstream.account.infrastructure.persistence.segment;
+
+import java.util.Arrays;
+
+/**
+ * Positions of one aggregate's records, indexed by version - 1.
+ * 
+ * A position packs the segment number in the high 32 bits and the record
+ * offset in the low 32 bits. Only the appender thread adds positions; readers
+ * see a consistent prefix without locking because the count is published
+ * after the array slot it covers.
+ * 
+ * The index also tracks the versions of the latest status change and the
+ * latest posting, so the latest state of an aggregate is found without
+ * walking its stream.
+ */
+final class StreamIndex {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private volatile long[] positions = new long[INITIAL_CAPACITY];
+    private volatile int count;
+    private volatile Latest latest = new Latest(0, 0, 0);
+
+    /**
+     * Head version and the versions of the records that decide the state
+     * at that head, 0 where there is none. Published as one value, so the
+     * three always belong together.
+     */
+    record Latest(long version, long statusChangeVersion, long postingVersion) {
+    }
+
+    static long position(long segment, int offset) {
+        return segment << 32 | offset;
+    }
+
+    static int segmentOf(long position) {
+        return (int) (position >>> 32);
+    }
+
+    static int offsetOf(long position) {
+        return (int) position;
+    }
+
+    /**
+     * Version of the last indexed record
+     */
+    int version() {
+        return count;
+    }
+
+    void add(long position, String eventType) {
+        int n = count;
+        long[] current = positions;
+        if (n == current.length) {
+            current = Arrays.copyOf(current, n * 2);
+            positions = current;
+        }
+        current[n] = position;
+        count = n + 1;
+
+        Latest previous = latest;
+        long version = n + 1;
+        latest = switch (eventType) {
+            case "AccountStatusChanged" -> new Latest(version, version, previous.postingVersion());
+            case "MoneyDeposited", "MoneyWithdrawn" -> new Latest(version, previous.statusChangeVersion(), version);
+            default -> new Latest(version, previous.statusChangeVersion(), previous.postingVersion());
+        };
+    }
+
+    /**
+     * Versions deciding the latest state; positions of all of them are readable via {@link #at}
+     */
+    Latest latest() {
+        return latest;
+    }
+
+    /**
+     * Position of the record at a version no newer than a previously read {@link #version()}
+     */
+    long at(long version) {
+        return positions[(int) version - 1];
+    }
+
+    /**
+     * Positions of the records after a version, in version order
+     */
+    long[] after(long afterVersion) {
+        // Count first: the array read afterwards is at least as new and holds every counted slot
+        int n = count;
+        long[] current = positions;
+        int from = (int) Math.min(Math.max(afterVersion, 0), n);
+        return Arrays.copyOfRange(current, from, n);
+    }
+}
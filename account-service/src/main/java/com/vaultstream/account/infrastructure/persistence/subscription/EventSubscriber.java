@@ -0,0 +1,27 @@
+package com.vaultstream.account.infrastructure.persistence.subscription;
+
+import java.util.List;
+
+/**
+ * A named consumer of the global event sequence.
+ * 
+ * Implementations exposed as CDI beans are started automatically. Each
+ * subscriber has its own checkpoint, and handle() runs in the same
+ * transaction that advances it: database work done by the subscriber is
+ * committed exactly once together with its position, so after a crash
+ * delivery resumes right after the last committed batch.
+ */
+public interface EventSubscriber {
+
+    /**
+     * Stable name the checkpoint is stored under
+     */
+    String name();
+
+    /**
+     * Process a batch of events, in global position order except for events
+     * that committed after their position was skipped as a gap. Those come
+     * first in a later batch, so handlers must not depend on strict order.
+     */
+    void handle(List<PositionedEvent> events);
+}
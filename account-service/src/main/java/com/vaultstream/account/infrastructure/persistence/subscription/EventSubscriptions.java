@@ -0,0 +1,352 @@
+package com.vaultstream.account.infrastructure.persistence.subscription;
+
+import com.vaultstream.account.infrastructure.persistence.AccountEventsAppended;
+import com.vaultstream.account.infrastructure.persistence.EventStoreEntity;
+import com.vaultstream.account.infrastructure.persistence.JpaEventStore;
+import com.vaultstream.account.infrastructure.persistence.codec.EventCodecs;
+import com.vaultstream.common.exception.ConcurrencyException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Delivers the global event sequence to subscribers from stored checkpoints.
+ * 
+ * Each subscriber runs on its own virtual thread. It first catches up in
+ * full batches, then goes live: it waits until a local append signals new
+ * events or the poll interval elapses (covering appends made by other
+ * instances), and reads again.
+ * 
+ * Positions come from a database sequence, so a lower position can commit
+ * after a higher one. Delivery stops at such a gap until it is filled or
+ * the event after it is older than the gap timeout, which covers positions
+ * lost to rolled-back transactions. A gap moved past that way is not given
+ * up on: its positions are stored with the checkpoint and re-scanned on
+ * every batch for the gap retention, so an event from a transaction that
+ * committed late is still delivered, after events with higher positions.
+ * The checkpoint is advanced with a compare-and-set, so two instances never
+ * commit the same batch twice.
+ */
+@Slf4j
+@ApplicationScoped
+@IfBuildProperty(name = "vaultstream.event-store.engine", stringValue = "jpa", enableIfMissing = true)
+public class EventSubscriptions {
+
+    @Inject
+    EntityManager em;
+
+    @Inject
+    EventCodecs eventCodecs;
+
+    @Inject
+    Instance<EventSubscriber> subscribers;
+
+    @Inject
+    MeterRegistry registry;
+
+    @ConfigProperty(name = "vaultstream.subscriptions.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @ConfigProperty(name = "vaultstream.subscriptions.batch-size", defaultValue = "500")
+    int batchSize;
+
+    @ConfigProperty(name = "vaultstream.subscriptions.poll-interval", defaultValue = "1s")
+    Duration pollInterval;
+
+    @ConfigProperty(name = "vaultstream.subscriptions.gap-timeout", defaultValue = "10s")
+    Duration gapTimeout;
+
+    @ConfigProperty(name = "vaultstream.subscriptions.gap-retention", defaultValue = "1h")
+    Duration gapRetention;
+
+    @ConfigProperty(name = "vaultstream.subscriptions.retry-delay", defaultValue = "5s")
+    Duration retryDelay;
+
+    private final List<Runner> runners = new CopyOnWriteArrayList<>();
+    private final Map<String, AtomicLong> positions = new ConcurrentHashMap<>();
+    private volatile boolean running = true;
+
+    void onStart(@Observes StartupEvent startup) {
+        if (!enabled) {
+            return;
+        }
+        for (EventSubscriber subscriber : subscribers) {
+            start(subscriber);
+        }
+    }
+
+    /**
+     * Start delivering to a subscriber in the background, from its stored checkpoint
+     */
+    public void start(EventSubscriber subscriber) {
+        Gauge.builder("vaultstream.account.subscription.position", position(subscriber.name()), AtomicLong::get)
+                .description("Last global position committed by the subscriber")
+                .tag("service", "account-service")
+                .tag("subscription", subscriber.name())
+                .register(registry);
+
+        Runner runner = new Runner(subscriber);
+        runners.add(runner);
+        runner.thread = Thread.ofVirtual().name("subscription-" + subscriber.name()).start(runner);
+    }
+
+    /**
+     * Wake live subscribers as soon as a local append commits
+     */
+    void onEventsAppended(@Observes(during = TransactionPhase.AFTER_SUCCESS) AccountEventsAppended appended) {
+        runners.forEach(Runner::wake);
+    }
+
+    /**
+     * Deliver every event that is currently available, batch by batch
+     *
+     * @return number of events delivered
+     */
+    public long catchUp(EventSubscriber subscriber) {
+        long delivered = 0;
+        Delivery batch;
+        do {
+            batch = deliverBatch(subscriber);
+            delivered += batch.delivered();
+        } while (batch.advanced() == batchSize);
+        return delivered;
+    }
+
+    /**
+     * Last committed position of a subscriber, 0 if it has never run
+     */
+    public long checkpoint(String name) {
+        return QuarkusTransaction.requiringNew().call(() -> {
+            SubscriptionCheckpointEntity checkpoint = em.find(SubscriptionCheckpointEntity.class, name);
+            return checkpoint != null ? checkpoint.getPosition() : 0L;
+        });
+    }
+
+    /**
+     * Late events from skipped gaps come first, then the events after the
+     * checkpoint. Both, and the gaps skipped on the way, commit together
+     * with the new checkpoint.
+     */
+    private Delivery deliverBatch(EventSubscriber subscriber) {
+        String name = subscriber.name();
+        Delivery delivery = QuarkusTransaction.requiringNew().call(() -> {
+            long from = loadCheckpoint(name);
+            Instant now = Instant.now();
+            List<PositionedEvent> late = readSkipped(name, now);
+            List<PositionedEvent> events = readAfter(name, from, now);
+            if (late.isEmpty() && events.isEmpty()) {
+                return new Delivery(0, 0, from);
+            }
+            List<PositionedEvent> batch = new ArrayList<>(late.size() + events.size());
+            batch.addAll(late);
+            batch.addAll(events);
+            subscriber.handle(batch);
+            long to = events.isEmpty() ? from : events.get(events.size() - 1).globalPosition();
+            if (to != from) {
+                advance(name, from, to);
+            }
+            return new Delivery(batch.size(), events.size(), to);
+        });
+
+        if (delivery.advanced() > 0) {
+            position(name).set(delivery.position());
+            log.debug("Subscription {} processed {} events up to position {}",
+                    name, delivery.delivered(), delivery.position());
+        } else if (delivery.delivered() > 0) {
+            log.info("Subscription {} processed {} late events from skipped positions", name, delivery.delivered());
+        }
+        return delivery;
+    }
+
+    /**
+     * Events after a position, cut at the first gap that may still be filled.
+     * The positions of a gap that is moved past are recorded as skipped.
+     */
+    private List<PositionedEvent> readAfter(String name, long position, Instant now) {
+        List<EventStoreEntity> rows = em.createQuery(
+                "SELECT e FROM EventStoreEntity e WHERE e.globalPosition > :after ORDER BY e.globalPosition",
+                EventStoreEntity.class)
+                .setParameter("after", position)
+                .setMaxResults(batchSize)
+                .getResultList();
+
+        Instant settled = now.minus(gapTimeout);
+        long expected = position + 1;
+        List<PositionedEvent> events = new ArrayList<>(rows.size());
+        for (EventStoreEntity row : rows) {
+            if (row.getGlobalPosition() != expected) {
+                if (row.getCreatedAt().isAfter(settled)) {
+                    break;
+                }
+                for (long skipped = expected; skipped < row.getGlobalPosition(); skipped++) {
+                    em.persist(SubscriptionGapEntity.builder().name(name).position(skipped).skippedAt(now).build());
+                }
+            }
+            events.add(toPositioned(row));
+            expected = row.getGlobalPosition() + 1;
+        }
+        return events;
+    }
+
+    /**
+     * Events that have turned up at skipped positions. Found positions and
+     * those past the gap retention stop being tracked.
+     */
+    private List<PositionedEvent> readSkipped(String name, Instant now) {
+        int abandoned = em.createQuery(
+                        "DELETE FROM SubscriptionGapEntity g WHERE g.name = :name AND g.skippedAt < :before")
+                .setParameter("name", name)
+                .setParameter("before", now.minus(gapRetention))
+                .executeUpdate();
+        if (abandoned > 0) {
+            log.warn("Subscription {} gave up on {} skipped positions after {}", name, abandoned, gapRetention);
+        }
+
+        List<Long> skipped = em.createQuery(
+                        "SELECT g.position FROM SubscriptionGapEntity g WHERE g.name = :name ORDER BY g.position",
+                        Long.class)
+                .setParameter("name", name)
+                .getResultList();
+        if (skipped.isEmpty()) {
+            return List.of();
+        }
+
+        List<PositionedEvent> late = new ArrayList<>();
+        for (int i = 0; i < skipped.size(); i += batchSize) {
+            List<Long> chunk = skipped.subList(i, Math.min(i + batchSize, skipped.size()));
+            em.createQuery(
+                            "SELECT e FROM EventStoreEntity e WHERE e.globalPosition IN :positions "
+                                    + "ORDER BY e.globalPosition",
+                            EventStoreEntity.class)
+                    .setParameter("positions", chunk)
+                    .getResultStream()
+                    .forEach(row -> late.add(toPositioned(row)));
+        }
+        if (!late.isEmpty()) {
+            em.createQuery("DELETE FROM SubscriptionGapEntity g WHERE g.name = :name AND g.position IN :positions")
+                    .setParameter("name", name)
+                    .setParameter("positions", late.stream().map(PositionedEvent::globalPosition).toList())
+                    .executeUpdate();
+        }
+        return late;
+    }
+
+    private PositionedEvent toPositioned(EventStoreEntity row) {
+        return new PositionedEvent(row.getGlobalPosition(), row.getAggregateId(), row.getVersion(),
+                JpaEventStore.decode(eventCodecs, row));
+    }
+
+    private long loadCheckpoint(String name) {
+        SubscriptionCheckpointEntity checkpoint = em.find(SubscriptionCheckpointEntity.class, name);
+        if (checkpoint != null) {
+            return checkpoint.getPosition();
+        }
+        em.persist(SubscriptionCheckpointEntity.builder()
+                .name(name)
+                .position(0L)
+                .updatedAt(Instant.now())
+                .build());
+        return 0L;
+    }
+
+    private void advance(String name, long from, long to) {
+        int updated = em.createQuery(
+                        "UPDATE SubscriptionCheckpointEntity c SET c.position = :to, c.updatedAt = :now "
+                                + "WHERE c.name = :name AND c.position = :from")
+                .setParameter("to", to)
+                .setParameter("now", Instant.now())
+                .setParameter("name", name)
+                .setParameter("from", from)
+                .executeUpdate();
+        if (updated == 0) {
+            throw new ConcurrencyException("Subscription " + name + " was advanced concurrently from " + from);
+        }
+    }
+
+    private AtomicLong position(String name) {
+        return positions.computeIfAbsent(name, key -> new AtomicLong());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        running = false;
+        runners.forEach(runner -> runner.thread.interrupt());
+    }
+
+    /**
+     * Events handed to the subscriber in one batch, how many of them moved
+     * the checkpoint, and where it ended up
+     */
+    private record Delivery(int delivered, int advanced, long position) {
+    }
+
+    private final class Runner implements Runnable {
+
+        private final EventSubscriber subscriber;
+        private final Semaphore wakeUps = new Semaphore(0);
+        private volatile Thread thread;
+
+        Runner(EventSubscriber subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        void wake() {
+            if (wakeUps.availablePermits() == 0) {
+                wakeUps.release();
+            }
+        }
+
+        @Override
+        public void run() {
+            long from = checkpoint(subscriber.name());
+            position(subscriber.name()).set(from);
+            log.info("Subscription {} catching up from position {}", subscriber.name(), from);
+            boolean live = false;
+            while (running) {
+                try {
+                    catchUp(subscriber);
+                    if (!live) {
+                        live = true;
+                        log.info("Subscription {} caught up at position {}, now live",
+                                subscriber.name(), position(subscriber.name()).get());
+                    }
+                    wakeUps.tryAcquire(pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+                    wakeUps.drainPermits();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (RuntimeException e) {
+                    log.warn("Subscription {} failed, retrying in {}", subscriber.name(), retryDelay, e);
+                    try {
+                        Thread.sleep(retryDelay);
+                    } catch (InterruptedException interrupted) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            }
+        }
+    }
+}
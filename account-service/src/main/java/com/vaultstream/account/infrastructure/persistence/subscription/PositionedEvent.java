@@ -0,0 +1,11 @@
+package com.vaultstream.account.infrastructure.persistence.subscription;
+
+import com.vaultstream.account.domain.event.AccountEvent;
+
+import java.util.UUID;
+
+/**
+ * An event together with where it sits in its stream and in the store
+ */
+public record PositionedEvent(long globalPosition, UUID aggregateId, long version, AccountEvent event) {
+}
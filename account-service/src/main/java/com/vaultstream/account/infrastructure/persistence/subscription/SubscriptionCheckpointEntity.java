@@ -0,0 +1,34 @@
+package com.vaultstream.account.infrastructure.persistence.subscription;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Last global position a subscriber has fully processed
+ */
+@Entity
+@Table(name = "event_subscriptions")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SubscriptionCheckpointEntity {
+
+    @Id
+    @Column(name = "name", length = 100)
+    private String name;
+
+    @Column(name = "position", nullable = false)
+    private long position;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+}
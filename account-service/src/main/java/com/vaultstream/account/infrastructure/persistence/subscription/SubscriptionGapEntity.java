@@ -0,0 +1,48 @@
+package com.vaultstream.account.infrastructure.persistence.subscription;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * A global position a subscriber moved past before any event was seen at it.
+ * It is re-scanned until an event turns up there or the gap retention ends.
+ */
+@Entity
+@Table(name = "event_subscription_gaps")
+@IdClass(SubscriptionGapEntity.Key.class)
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SubscriptionGapEntity {
+
+    @Id
+    @Column(name = "name", length = 100)
+    private String name;
+
+    @Id
+    @Column(name = "position")
+    private long position;
+
+    @Column(name = "skipped_at", nullable = false)
+    private Instant skippedAt;
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private String name;
+        private long position;
+    }
+}
@@ -1,22 +1,46 @@
 package com.vaultstream.account.infrastructure.rest;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.vaultstream.account.application.command.CreateAccountCommand;
 import com.vaultstream.account.application.command.DepositMoneyCommand;
+import com.vaultstream.account.application.command.TransferMoneyCommand;
 import com.vaultstream.account.application.command.WithdrawMoneyCommand;
+import com.vaultstream.account.application.dto.AccountCursor;
+import com.vaultstream.account.application.dto.AccountDailyRollupDto;
 import com.vaultstream.account.application.dto.AccountDto;
+import com.vaultstream.account.application.dto.BalanceDto;
+import com.vaultstream.account.application.dto.BankDailyRollupDto;
+import com.vaultstream.account.application.dto.RollupBackfillDto;
+import com.vaultstream.account.application.dto.TransactionDto;
+import com.vaultstream.account.application.dto.TransferDto;
 import com.vaultstream.account.application.service.AccountCommandHandler;
 import com.vaultstream.account.application.service.AccountQueryHandler;
+import com.vaultstream.common.dto.CursorPageResponse;
 import com.vaultstream.common.dto.PageResponse;
 import jakarta.annotation.security.RolesAllowed;
 import jakarta.inject.Inject;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
 import jakarta.ws.rs.*;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.eclipse.microprofile.openapi.annotations.Operation;
 import org.eclipse.microprofile.openapi.annotations.tags.Tag;
 
+import java.io.InputStream;
+import java.net.URI;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.UUID;
 
@@ -32,13 +56,27 @@ import java.util.UUID;
 @Tag(name = "Accounts", description = "Account management with CQRS and Event Sourcing")
 public class AccountController {
 
+    private static final int MAX_PAGE_SIZE = 500;
+
+    private static final String NDJSON = "application/x-ndjson";
+
+    private static final int MAX_ROLLUP_DAYS = 366;
+
     private final AccountCommandHandler commandHandler;
     private final AccountQueryHandler queryHandler;
+    private final ObjectMapper objectMapper;
+    private final int postingChunkSize;
 
     @Inject
-    public AccountController(AccountCommandHandler commandHandler, AccountQueryHandler queryHandler) {
+    public AccountController(
+            AccountCommandHandler commandHandler,
+            AccountQueryHandler queryHandler,
+            ObjectMapper objectMapper,
+            @ConfigProperty(name = "vaultstream.batch-postings.chunk-size", defaultValue = "1000") int postingChunkSize) {
         this.commandHandler = commandHandler;
         this.queryHandler = queryHandler;
+        this.objectMapper = objectMapper;
+        this.postingChunkSize = postingChunkSize;
     }
 
     // ========================================
@@ -90,6 +128,37 @@ public class AccountController {
         return Response.ok(account).build();
     }
 
+    @POST
+    @Path("/{id}/transfer")
+    @RolesAllowed({"admin", "user"})
+    @Operation(summary = "Transfer money to another account", description = "Debit and credit commit together")
+    public Response transfer(
+            @PathParam("id") UUID accountId,
+            @Valid TransferRequest request) {
+        TransferMoneyCommand command = TransferMoneyCommand.builder()
+                .sourceAccountId(accountId)
+                .targetAccountId(request.targetAccountId())
+                .amount(request.amount())
+                .description(request.description())
+                .transactionReference(request.transactionReference())
+                .build();
+
+        TransferDto transfer = commandHandler.transfer(command);
+        return Response.ok(transfer).build();
+    }
+
+    @POST
+    @Path("/postings:batch")
+    @RolesAllowed("admin")
+    @Consumes({NDJSON, MediaType.APPLICATION_JSON})
+    @Produces(NDJSON)
+    @Operation(summary = "Post many deposits and withdrawals",
+            description = "Accepts NDJSON or a JSON array of postings and streams one NDJSON result per line")
+    public Response postBatch(InputStream body) {
+        log.info("REST: Bulk posting started");
+        return Response.ok(new BatchPostingOutput(commandHandler, objectMapper, body, postingChunkSize)).build();
+    }
+
     @POST
     @Path("/{id}/activate")
     @Operation(summary = "Activate an account")
@@ -118,6 +187,34 @@ public class AccountController {
         return Response.noContent().build();
     }
 
+    @POST
+    @Path("/admin/summary/rebuild")
+    @RolesAllowed("admin")
+    @Operation(summary = "Rebuild the account summary read model from the event store")
+    public Response rebuildAccountSummaries() {
+        long rebuilt = commandHandler.rebuildAccountSummaries();
+        return Response.ok(new RebuildResponse(rebuilt)).build();
+    }
+
+    @POST
+    @Path("/admin/rollups/backfill")
+    @RolesAllowed("admin")
+    @Operation(summary = "Start rebuilding the daily rollups from the event store")
+    public Response rebuildDailyRollups() {
+        RollupBackfillDto backfill = commandHandler.rebuildDailyRollups();
+        return Response.status(Response.Status.ACCEPTED).entity(backfill)
+                .location(URI.create("/api/v1/accounts/admin/rollups/backfill"))
+                .build();
+    }
+
+    @GET
+    @Path("/admin/rollups/backfill")
+    @RolesAllowed("admin")
+    @Operation(summary = "Get the progress of the latest daily rollup backfill")
+    public Response getDailyRollupBackfill() {
+        return Response.ok(commandHandler.getDailyRollupBackfill()).build();
+    }
+
     // ========================================
     // Queries (Read Operations)
     // ========================================
@@ -147,14 +244,165 @@ public class AccountController {
     }
 
     @GET
-    @Operation(summary = "Get all accounts (paginated)")
+    @Path("/{id}/balance")
+    @Operation(summary = "Get account balance at a point in time",
+            description = "Balance and status as of the given ISO-8601 instant")
+    public Response getBalanceAsOf(
+            @PathParam("id") UUID accountId,
+            @QueryParam("asOf") String asOf) {
+        Instant instant = parseInstant("asOf", asOf);
+        if (instant == null) {
+            throw new BadRequestException("asOf is required");
+        }
+        BalanceDto balance = queryHandler.getBalanceAsOf(accountId, instant);
+        return Response.ok(balance).build();
+    }
+
+    @POST
+    @Path("/balances:asOf")
+    @Operation(summary = "Get several account balances at one point in time",
+            description = "For period-end reporting; accounts opened after asOf are omitted")
+    public Response getBalancesAsOf(@Valid BalancesAsOfRequest request) {
+        List<BalanceDto> balances = queryHandler.getBalancesAsOf(request.ids(), request.asOf());
+        return Response.ok(balances).build();
+    }
+
+    @GET
+    @Path("/{id}/transactions")
+    @Operation(summary = "Get account transactions (paginated)",
+            description = "Deposits and withdrawals oldest first; pass nextCursor back as cursor for the next page")
+    public Response getTransactions(
+            @PathParam("id") UUID accountId,
+            @QueryParam("cursor") String cursor,
+            @QueryParam("from") String from,
+            @QueryParam("to") String to,
+            @QueryParam("size") @DefaultValue("20") @Min(1) @Max(MAX_PAGE_SIZE) int size) {
+        long afterVersion;
+        try {
+            afterVersion = cursor == null || cursor.isBlank() ? 0 : Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+        CursorPageResponse<TransactionDto> response = queryHandler.getTransactions(
+                accountId, afterVersion, parseInstant("from", from), parseInstant("to", to), size);
+        return Response.ok(response).build();
+    }
+
+    @GET
+    @Path("/{id}/transactions/stream")
+    @Produces(NDJSON)
+    @Operation(summary = "Export account transactions",
+            description = "Streams every deposit and withdrawal in the range as NDJSON, oldest first")
+    public Response streamTransactions(
+            @PathParam("id") UUID accountId,
+            @QueryParam("from") String from,
+            @QueryParam("to") String to) {
+        Instant fromInstant = parseInstant("from", from);
+        Instant toInstant = parseInstant("to", to);
+        // Fail with 404 before the response is committed
+        queryHandler.getAccountById(accountId);
+        log.info("REST: Exporting transactions for account: {}", accountId);
+        return Response.ok(new TransactionExportOutput(queryHandler, objectMapper, accountId, fromInstant, toInstant))
+                .build();
+    }
+
+    @GET
+    @Path("/{id}/rollups/daily")
+    @Operation(summary = "Get daily account balances and volumes",
+            description = "One row per UTC day from the rollups; quiet days carry the previous closing balance")
+    public Response getDailyRollups(
+            @PathParam("id") UUID accountId,
+            @QueryParam("from") String from,
+            @QueryParam("to") String to) {
+        LocalDate fromDate = parseDate("from", from);
+        LocalDate toDate = parseDate("to", to);
+        checkRollupRange(fromDate, toDate);
+        List<AccountDailyRollupDto> days = queryHandler.getDailyRollups(accountId, fromDate, toDate);
+        return Response.ok(days).build();
+    }
+
+    @GET
+    @Path("/rollups/daily")
+    @RolesAllowed("admin")
+    @Operation(summary = "Get bank-wide daily balances and volumes",
+            description = "One row per UTC day, currency and account type")
+    public Response getBankDailyRollups(
+            @QueryParam("from") String from,
+            @QueryParam("to") String to,
+            @QueryParam("currency") String currency) {
+        LocalDate fromDate = parseDate("from", from);
+        LocalDate toDate = parseDate("to", to);
+        checkRollupRange(fromDate, toDate);
+        List<BankDailyRollupDto> days = queryHandler.getBankDailyRollups(
+                fromDate, toDate, currency == null || currency.isBlank() ? null : currency.toUpperCase());
+        return Response.ok(days).build();
+    }
+
+    @POST
+    @Path("/multi-get")
+    @Operation(summary = "Get several accounts by ID")
+    public Response getAccountsByIds(@Valid MultiGetRequest request) {
+        List<AccountDto> accounts = queryHandler.getAccountsByIds(request.ids());
+        return Response.ok(accounts).build();
+    }
+
+    @GET
+    @Operation(summary = "Get all accounts (paginated)",
+            description = "Offset-paginated by default; pass cursor (empty for the first page) for keyset paging")
     public Response getAllAccounts(
-            @QueryParam("page") @DefaultValue("0") int page,
-            @QueryParam("size") @DefaultValue("20") int size) {
-        PageResponse<AccountDto> response = queryHandler.getAllAccounts(page, size);
+            @QueryParam("cursor") String cursor,
+            @QueryParam("page") @Min(0) Integer page,
+            @QueryParam("size") @DefaultValue("20") @Min(1) @Max(MAX_PAGE_SIZE) int size,
+            @QueryParam("includeTotal") @DefaultValue("false") boolean includeTotal) {
+        if (cursor == null) {
+            PageResponse<AccountDto> response = queryHandler.getAllAccounts(page != null ? page : 0, size);
+            return Response.ok(response).build();
+        }
+        if (page != null) {
+            throw new BadRequestException("Pass either page or cursor, not both");
+        }
+
+        AccountCursor after;
+        try {
+            after = cursor.isBlank() ? null : AccountCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+        CursorPageResponse<AccountDto> response = queryHandler.getAccountsAfter(after, size, includeTotal);
         return Response.ok(response).build();
     }
 
+    private static Instant parseInstant(String name, String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Instant.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new BadRequestException("Invalid " + name + " timestamp, expected ISO-8601 such as 2024-01-31T00:00:00Z");
+        }
+    }
+
+    private static LocalDate parseDate(String name, String value) {
+        if (value == null || value.isBlank()) {
+            throw new BadRequestException(name + " is required");
+        }
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new BadRequestException("Invalid " + name + " date, expected ISO-8601 such as 2024-01-31");
+        }
+    }
+
+    private static void checkRollupRange(LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new BadRequestException("to must not be before from");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_ROLLUP_DAYS) {
+            throw new BadRequestException("Range must be at most " + MAX_ROLLUP_DAYS + " days");
+        }
+    }
+
     // ========================================
     // Request DTOs
     // ========================================
@@ -162,14 +410,29 @@ public class AccountController {
     public record DepositRequest(
             java.math.BigDecimal amount,
             String description,
-            String transactionReference) {}
+            @Size(max = 100) String transactionReference) {}
 
     public record WithdrawRequest(
             java.math.BigDecimal amount,
             String description,
-            String transactionReference) {}
+            @Size(max = 100) String transactionReference) {}
+
+    public record TransferRequest(
+            @NotNull UUID targetAccountId,
+            @NotNull @Positive java.math.BigDecimal amount,
+            @NotBlank String description,
+            @Size(max = 100) String transactionReference) {}
 
     public record FreezeRequest(String reason) {}
 
     public record CloseRequest(String reason) {}
+
+    public record MultiGetRequest(
+            @NotEmpty @Size(max = 1000) List<UUID> ids) {}
+
+    public record BalancesAsOfRequest(
+            @NotEmpty @Size(max = 1000) List<UUID> ids,
+            @NotNull Instant asOf) {}
+
+    public record RebuildResponse(long accountsRebuilt) {}
 }
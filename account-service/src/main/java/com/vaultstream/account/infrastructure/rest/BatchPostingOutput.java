@@ -0,0 +1,105 @@
+package com.vaultstream.account.infrastructure.rest;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vaultstream.account.application.command.PostingCommand;
+import com.vaultstream.account.application.dto.PostingResultDto;
+import com.vaultstream.account.application.service.AccountBatchApplier.BatchResult;
+import com.vaultstream.account.application.service.AccountCommandHandler;
+import jakarta.ws.rs.core.StreamingOutput;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streams a bulk posting through the command handler one chunk at a time.
+ *
+ * Reads up to chunkSize postings, commits them as one batch, writes one
+ * NDJSON result per input line in request order and flushes before reading
+ * the next chunk. Memory use is bounded by the chunk size whatever the size
+ * of the upload, and the client sees results while it is still sending.
+ */
+@Slf4j
+final class BatchPostingOutput implements StreamingOutput {
+
+    private final AccountCommandHandler commandHandler;
+    private final ObjectMapper objectMapper;
+    private final InputStream body;
+    private final int chunkSize;
+
+    BatchPostingOutput(AccountCommandHandler commandHandler, ObjectMapper objectMapper,
+                       InputStream body, int chunkSize) {
+        this.commandHandler = commandHandler;
+        this.objectMapper = objectMapper;
+        this.body = body;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public void write(OutputStream output) throws IOException {
+        long applied = 0;
+        long rejected = 0;
+        try (PostingStreamReader reader = new PostingStreamReader(objectMapper, body);
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(output)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+            List<PostingStreamReader.Line> chunk = new ArrayList<>(chunkSize);
+            PostingStreamReader.Line line;
+            do {
+                line = reader.next();
+                if (line != null) {
+                    chunk.add(line);
+                }
+                if (chunk.size() == chunkSize || (line == null && !chunk.isEmpty())) {
+                    for (PostingResultDto result : post(chunk)) {
+                        if (PostingResultDto.APPLIED.equals(result.getStatus())) {
+                            applied++;
+                        } else {
+                            rejected++;
+                        }
+                        objectMapper.writeValue(generator, result);
+                        generator.writeRaw('\n');
+                    }
+                    generator.flush();
+                    chunk.clear();
+                }
+            } while (line != null);
+        }
+        log.info("Bulk posting finished: {} applied, {} rejected", applied, rejected);
+    }
+
+    private List<PostingResultDto> post(List<PostingStreamReader.Line> chunk) {
+        List<PostingCommand> postings = new ArrayList<>(chunk.size());
+        for (PostingStreamReader.Line line : chunk) {
+            if (line.isValid()) {
+                postings.add(line.posting());
+            }
+        }
+        List<BatchResult> results = postings.isEmpty() ? List.of() : commandHandler.postBatch(postings);
+
+        List<PostingResultDto> answered = new ArrayList<>(chunk.size());
+        int next = 0;
+        for (PostingStreamReader.Line line : chunk) {
+            if (!line.isValid()) {
+                answered.add(PostingResultDto.builder()
+                        .line(line.number())
+                        .status(PostingResultDto.REJECTED)
+                        .error(line.error())
+                        .build());
+                continue;
+            }
+            BatchResult result = results.get(next++);
+            PostingResultDto.PostingResultDtoBuilder builder = PostingResultDto.builder()
+                    .line(line.number())
+                    .accountId(line.posting().getAccountId().toString());
+            answered.add(result.isApplied()
+                    ? builder.status(PostingResultDto.APPLIED).balance(result.account().getBalance()).build()
+                    : builder.status(PostingResultDto.REJECTED).error(result.failure().getMessage()).build());
+        }
+        return answered;
+    }
+}
@@ -0,0 +1,45 @@
+package com.vaultstream.account.infrastructure.rest;
+
+import com.vaultstream.common.dto.ErrorResponse;
+import com.vaultstream.common.exception.ConcurrencyException;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.UriInfo;
+import jakarta.ws.rs.ext.ExceptionMapper;
+import jakarta.ws.rs.ext.Provider;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.UUID;
+
+/**
+ * Maps rejected optimistic appends to 409 Conflict so clients can retry.
+ */
+@Slf4j
+@Provider
+public class ConcurrencyExceptionMapper implements ExceptionMapper<ConcurrencyException> {
+
+    @Context
+    UriInfo uriInfo;
+
+    @Override
+    public Response toResponse(ConcurrencyException exception) {
+        String correlationId = UUID.randomUUID().toString();
+        String path = uriInfo != null ? uriInfo.getPath() : "unknown";
+
+        log.warn("Concurrency conflict [correlationId={}]: {}", correlationId, exception.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.of(
+                Response.Status.CONFLICT.getStatusCode(),
+                "Conflict",
+                exception.getErrorCode(),
+                exception.getMessage(),
+                path,
+                correlationId);
+
+        return Response
+                .status(Response.Status.CONFLICT)
+                .entity(errorResponse)
+                .header("X-Correlation-ID", correlationId)
+                .build();
+    }
+}
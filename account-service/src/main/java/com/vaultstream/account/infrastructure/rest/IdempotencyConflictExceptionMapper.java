@@ -0,0 +1,48 @@
+package com.vaultstream.account.infrastructure.rest;
+
+import com.vaultstream.common.dto.ErrorResponse;
+import com.vaultstream.common.exception.IdempotencyConflictException;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.UriInfo;
+import jakarta.ws.rs.ext.ExceptionMapper;
+import jakarta.ws.rs.ext.Provider;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.UUID;
+
+/**
+ * Maps a reused transaction reference to 422 Unprocessable Entity; unlike a
+ * version conflict, retrying the same request cannot succeed.
+ */
+@Slf4j
+@Provider
+public class IdempotencyConflictExceptionMapper implements ExceptionMapper<IdempotencyConflictException> {
+
+    private static final int UNPROCESSABLE_ENTITY = 422;
+
+    @Context
+    UriInfo uriInfo;
+
+    @Override
+    public Response toResponse(IdempotencyConflictException exception) {
+        String correlationId = UUID.randomUUID().toString();
+        String path = uriInfo != null ? uriInfo.getPath() : "unknown";
+
+        log.warn("Idempotency conflict [correlationId={}]: {}", correlationId, exception.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.of(
+                UNPROCESSABLE_ENTITY,
+                "Unprocessable Entity",
+                exception.getErrorCode(),
+                exception.getMessage(),
+                path,
+                correlationId);
+
+        return Response
+                .status(UNPROCESSABLE_ENTITY)
+                .entity(errorResponse)
+                .header("X-Correlation-ID", correlationId)
+                .build();
+    }
+}
@@ -0,0 +1,174 @@
+package com.vaultstream.account.infrastructure.rest;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.vaultstream.account.application.command.PostingCommand;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Reads postings one at a time from an NDJSON stream or a JSON array.
+ *
+ * The format is picked from the first non-blank character, so callers do
+ * not have to get the content type right. Only the posting being parsed is
+ * held in memory. A line that cannot be read is returned as an error for
+ * that line; in NDJSON the next line is still read, while a syntax error
+ * inside a JSON array ends the stream since the parser cannot resynchronize.
+ */
+final class PostingStreamReader implements AutoCloseable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_REFERENCE_LENGTH = 100;
+
+    private final ObjectMapper objectMapper;
+    private final ObjectReader nodeReader;
+    private final BufferedReader reader;
+    private JsonParser arrayParser;
+    private boolean started;
+    private boolean finished;
+    private long line;
+
+    PostingStreamReader(ObjectMapper objectMapper, InputStream body) {
+        this.objectMapper = objectMapper;
+        // Amounts must not pass through double
+        this.nodeReader = objectMapper.reader().with(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+        this.reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    /**
+     * A parsed posting or the reason its line was rejected
+     */
+    record Line(long number, PostingCommand posting, String error) {
+
+        boolean isValid() {
+            return error == null;
+        }
+    }
+
+    /**
+     * @return the next posting, or null at the end of the stream
+     */
+    Line next() {
+        if (finished) {
+            return null;
+        }
+        try {
+            if (!started) {
+                started = true;
+                if (peekNonBlank() == '[') {
+                    arrayParser = objectMapper.getFactory().createParser(reader);
+                    arrayParser.nextToken();
+                }
+            }
+            return arrayParser != null ? nextElement() : nextLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Line nextLine() throws IOException {
+        String text;
+        do {
+            text = reader.readLine();
+            if (text == null) {
+                finished = true;
+                return null;
+            }
+            line++;
+        } while (text.isBlank());
+
+        try {
+            return toLine(nodeReader.readTree(text));
+        } catch (JsonProcessingException e) {
+            return new Line(line, null, "Malformed posting: " + e.getOriginalMessage());
+        }
+    }
+
+    private Line nextElement() throws IOException {
+        try {
+            JsonToken token = arrayParser.nextToken();
+            if (token == null || token == JsonToken.END_ARRAY) {
+                finished = true;
+                return null;
+            }
+            line++;
+            return toLine(nodeReader.readTree(arrayParser));
+        } catch (JsonProcessingException e) {
+            finished = true;
+            return new Line(line, null, "Malformed posting array: " + e.getOriginalMessage());
+        }
+    }
+
+    private Line toLine(JsonNode node) {
+        if (!node.isObject()) {
+            return new Line(line, null, "Posting must be a JSON object");
+        }
+        UUID accountId;
+        PostingCommand.Type type;
+        try {
+            accountId = UUID.fromString(node.path("accountId").asText());
+            type = PostingCommand.Type.valueOf(node.path("type").asText());
+        } catch (IllegalArgumentException e) {
+            return new Line(line, null, "accountId and type (DEPOSIT or WITHDRAWAL) are required");
+        }
+        JsonNode amount = node.path("amount");
+        if (!amount.isNumber() && !amount.isTextual()) {
+            return new Line(line, null, "Amount is required");
+        }
+        String reference = text(node, "transactionReference");
+        if (reference != null && reference.length() > MAX_REFERENCE_LENGTH) {
+            return new Line(line, null, "Transaction reference must be at most 100 characters");
+        }
+        try {
+            return new Line(line, PostingCommand.builder()
+                    .accountId(accountId)
+                    .type(type)
+                    .amount(amount.isNumber() ? amount.decimalValue() : new BigDecimal(amount.asText()))
+                    .description(text(node, "description"))
+                    .transactionReference(reference)
+                    .build(), null);
+        } catch (NumberFormatException e) {
+            return new Line(line, null, "Amount is not a number");
+        }
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    private int peekNonBlank() throws IOException {
+        while (true) {
+            reader.mark(1);
+            int c = reader.read();
+            if (c == -1 || !Character.isWhitespace(c)) {
+                reader.reset();
+                return c;
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            if (arrayParser != null) {
+                arrayParser.close();
+            }
+            reader.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
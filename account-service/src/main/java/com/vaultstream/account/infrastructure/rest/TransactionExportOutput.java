@@ -0,0 +1,58 @@
+package com.vaultstream.account.infrastructure.rest;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vaultstream.account.application.dto.TransactionDto;
+import com.vaultstream.account.application.service.AccountQueryHandler;
+import jakarta.ws.rs.core.StreamingOutput;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Writes an account's transaction history as NDJSON while it is read.
+ *
+ * Each transaction is serialized as soon as the database cursor hands it
+ * over, so an export of any length needs no more memory than one row and
+ * the output buffer.
+ */
+@Slf4j
+final class TransactionExportOutput implements StreamingOutput {
+
+    private final AccountQueryHandler queryHandler;
+    private final ObjectMapper objectMapper;
+    private final UUID accountId;
+    private final Instant from;
+    private final Instant to;
+
+    TransactionExportOutput(AccountQueryHandler queryHandler, ObjectMapper objectMapper,
+                            UUID accountId, Instant from, Instant to) {
+        this.queryHandler = queryHandler;
+        this.objectMapper = objectMapper;
+        this.accountId = accountId;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    public void write(OutputStream output) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(output)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            queryHandler.streamTransactions(accountId, from, to, transaction -> {
+                try {
+                    objectMapper.writeValue(generator, transaction);
+                    generator.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            log.warn("Transaction export aborted for account {}: {}", accountId, e.getMessage());
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+-- ============================================================
+-- V1: Account service baseline schema
+-- ============================================================
+-- Matches the JPA mappings as of the introduction of Flyway. Databases
+-- created earlier by Hibernate are baselined at this version.
+
+-- Event store
+CREATE TABLE account_events (
+    event_id UUID PRIMARY KEY,
+    aggregate_id UUID NOT NULL,
+    aggregate_type VARCHAR(100) NOT NULL,
+    event_type VARCHAR(100) NOT NULL,
+    event_version INTEGER NOT NULL,
+    version BIGINT NOT NULL,
+    payload TEXT,
+    payload_bytes BYTEA,
+    codec VARCHAR(20),
+    metadata TEXT,
+    occurred_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    created_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    CONSTRAINT uk_account_events_aggregate_version UNIQUE (aggregate_id, version)
+);
+
+CREATE INDEX idx_account_events_timestamp ON account_events (occurred_at);
+
+-- Snapshots
+CREATE TABLE account_snapshots (
+    snapshot_id UUID PRIMARY KEY,
+    aggregate_id UUID NOT NULL,
+    version BIGINT NOT NULL,
+    snapshot_version INTEGER NOT NULL,
+    payload TEXT NOT NULL,
+    created_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    CONSTRAINT uk_account_snapshots_version UNIQUE (aggregate_id, version)
+);
+
+CREATE INDEX idx_account_snapshots_latest ON account_snapshots (aggregate_id, version DESC);
+
+-- Read model
+CREATE TABLE account_summary (
+    account_id UUID PRIMARY KEY,
+    account_number VARCHAR(30) NOT NULL,
+    customer_id UUID NOT NULL,
+    account_type VARCHAR(30) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    balance NUMERIC(19, 4) NOT NULL,
+    currency VARCHAR(3) NOT NULL,
+    created_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    updated_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    version BIGINT NOT NULL,
+    CONSTRAINT uk_account_summary_number UNIQUE (account_number)
+);
+
+CREATE INDEX idx_account_summary_customer ON account_summary (customer_id, created_at, account_id);
+CREATE INDEX idx_account_summary_created ON account_summary (created_at, account_id);
+
+CREATE TABLE account_number_index (
+    account_number VARCHAR(30) PRIMARY KEY,
+    account_id UUID NOT NULL UNIQUE
+);
+
+-- Idempotency
+CREATE TABLE account_idempotency (
+    account_id UUID NOT NULL,
+    transaction_reference VARCHAR(100) NOT NULL,
+    operation VARCHAR(20) NOT NULL,
+    amount NUMERIC(38, 18) NOT NULL,
+    counterparty_id UUID,
+    response TEXT NOT NULL,
+    created_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (account_id, transaction_reference)
+);
+
+CREATE INDEX idx_account_idempotency_created ON account_idempotency (created_at);
+
+-- Leased number sequences
+CREATE TABLE number_blocks (
+    name VARCHAR(50) PRIMARY KEY,
+    next_value BIGINT NOT NULL
+);
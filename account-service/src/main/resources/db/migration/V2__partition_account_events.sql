@@ -0,0 +1,118 @@
+-- ============================================================
+-- V2: Time-partitioned event store with an archive tier
+-- ============================================================
+-- account_events becomes a table range-partitioned by month on occurred_at.
+-- Old partitions are detached into the archive schema by the
+-- EventPartitionMaintenance job once snapshots cover them.
+--
+-- A unique index on a partitioned table must include the partition key, so
+-- (aggregate_id, version) can no longer be enforced by an index. Instead,
+-- account_streams keeps the head version of every aggregate and a trigger
+-- only lets each append advance it by exactly one, raising the same
+-- unique_violation (23505) the EventStore already treats as a conflict.
+-- Requires PostgreSQL 11 or later.
+
+CREATE SCHEMA IF NOT EXISTS archive;
+
+ALTER TABLE account_events RENAME TO account_events_legacy;
+ALTER TABLE account_events_legacy RENAME CONSTRAINT uk_account_events_aggregate_version TO uk_account_events_legacy_version;
+ALTER INDEX idx_account_events_timestamp RENAME TO idx_account_events_legacy_timestamp;
+
+CREATE TABLE account_events (
+    event_id UUID NOT NULL,
+    aggregate_id UUID NOT NULL,
+    aggregate_type VARCHAR(100) NOT NULL,
+    event_type VARCHAR(100) NOT NULL,
+    event_version INTEGER NOT NULL,
+    version BIGINT NOT NULL,
+    payload TEXT,
+    payload_bytes BYTEA,
+    codec VARCHAR(20),
+    metadata TEXT,
+    occurred_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    created_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (event_id, occurred_at)
+) PARTITION BY RANGE (occurred_at);
+
+-- Aggregate loads: per-partition B-tree
+CREATE INDEX idx_account_events_aggregate ON account_events (aggregate_id, version);
+
+-- Time-range scans: events arrive in occurred_at order, so a BRIN index stays tiny
+CREATE INDEX idx_account_events_occurred_brin ON account_events USING BRIN (occurred_at);
+
+-- Catches rows outside every monthly partition (e.g. far-future clock skew)
+CREATE TABLE account_events_default PARTITION OF account_events DEFAULT;
+
+-- Same shape, for archived months; reads fall back to it transparently
+CREATE TABLE archive.account_events (LIKE account_events INCLUDING DEFAULTS)
+    PARTITION BY RANGE (occurred_at);
+CREATE INDEX idx_archive_account_events_aggregate ON archive.account_events (aggregate_id, version);
+
+-- Create monthly partitions starting at first_month, months ahead inclusive
+CREATE OR REPLACE FUNCTION account_events_create_partitions(first_month DATE, months INTEGER)
+RETURNS VOID AS $$
+DECLARE
+    month_start DATE;
+BEGIN
+    FOR i IN 0..months LOOP
+        month_start := (date_trunc('month', first_month) + make_interval(months => i))::DATE;
+        EXECUTE format(
+            'CREATE TABLE IF NOT EXISTS %I PARTITION OF account_events FOR VALUES FROM (%L) TO (%L)',
+            'account_events_p' || to_char(month_start, 'YYYYMM'),
+            month_start,
+            (month_start + INTERVAL '1 month')::DATE);
+    END LOOP;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Cover every month that already holds events, plus three months ahead
+DO $$
+DECLARE
+    oldest DATE := date_trunc('month', COALESCE((SELECT MIN(occurred_at) FROM account_events_legacy), now()))::DATE;
+    span INTERVAL := age(date_trunc('month', now()), oldest);
+BEGIN
+    PERFORM account_events_create_partitions(oldest,
+        (EXTRACT(YEAR FROM span) * 12 + EXTRACT(MONTH FROM span))::INTEGER + 3);
+END;
+$$;
+
+INSERT INTO account_events
+SELECT event_id, aggregate_id, aggregate_type, event_type, event_version, version,
+       payload, payload_bytes, codec, metadata, occurred_at, created_at
+FROM account_events_legacy;
+
+-- Head version per aggregate, the new home of the (aggregate_id, version) uniqueness
+CREATE TABLE account_streams (
+    aggregate_id UUID PRIMARY KEY,
+    version BIGINT NOT NULL
+);
+
+INSERT INTO account_streams (aggregate_id, version)
+SELECT aggregate_id, MAX(version) FROM account_events_legacy GROUP BY aggregate_id;
+
+DROP TABLE account_events_legacy;
+
+-- Concurrent appenders of the same version serialize on the account_streams
+-- row; the loser re-checks the WHERE clause after the winner commits, finds
+-- the head moved and fails
+CREATE OR REPLACE FUNCTION account_events_advance_stream()
+RETURNS TRIGGER AS $$
+BEGIN
+    INSERT INTO account_streams AS s (aggregate_id, version)
+    VALUES (NEW.aggregate_id, NEW.version)
+    ON CONFLICT (aggregate_id) DO UPDATE
+        SET version = EXCLUDED.version
+        WHERE s.version = EXCLUDED.version - 1;
+
+    IF NOT FOUND THEN
+        RAISE EXCEPTION 'Version % of aggregate % already exists', NEW.version, NEW.aggregate_id
+            USING ERRCODE = 'unique_violation',
+                  CONSTRAINT = 'uk_account_events_aggregate_version';
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_account_events_advance_stream
+    AFTER INSERT ON account_events
+    FOR EACH ROW EXECUTE FUNCTION account_events_advance_stream();
@@ -0,0 +1,51 @@
+-- ============================================================
+-- V3: Global event position and subscription checkpoints
+-- ============================================================
+-- A sequence default rather than an identity column: identity columns are
+-- not supported on partitioned tables before PostgreSQL 17.
+
+CREATE SEQUENCE account_events_global_position_seq;
+
+ALTER TABLE account_events ADD COLUMN global_position BIGINT;
+ALTER TABLE archive.account_events ADD COLUMN global_position BIGINT;
+
+-- Number existing events in occurrence order, archived months first
+UPDATE archive.account_events e SET global_position = o.position
+FROM (SELECT event_id, occurred_at,
+             row_number() OVER (ORDER BY occurred_at, aggregate_id, version) AS position
+      FROM archive.account_events) o
+WHERE e.event_id = o.event_id AND e.occurred_at = o.occurred_at;
+
+UPDATE account_events e SET global_position = o.position
+FROM (SELECT event_id, occurred_at,
+             (SELECT COUNT(*) FROM archive.account_events)
+                 + row_number() OVER (ORDER BY occurred_at, aggregate_id, version) AS position
+      FROM account_events) o
+WHERE e.event_id = o.event_id AND e.occurred_at = o.occurred_at;
+
+-- Continue after the highest number; on an empty store the first event gets 1
+SELECT setval('account_events_global_position_seq', GREATEST(numbered.max_position, 1), numbered.max_position > 0)
+FROM (SELECT GREATEST((SELECT COALESCE(MAX(global_position), 0) FROM account_events),
+                      (SELECT COALESCE(MAX(global_position), 0) FROM archive.account_events)) AS max_position) numbered;
+
+ALTER TABLE account_events ALTER COLUMN global_position SET DEFAULT nextval('account_events_global_position_seq');
+ALTER TABLE account_events ALTER COLUMN global_position SET NOT NULL;
+ALTER SEQUENCE account_events_global_position_seq OWNED BY account_events.global_position;
+
+CREATE INDEX idx_account_events_global_position ON account_events (global_position);
+CREATE INDEX idx_archive_account_events_global_position ON archive.account_events (global_position);
+
+-- Subscriber checkpoints
+CREATE TABLE event_subscriptions (
+    name VARCHAR(100) PRIMARY KEY,
+    position BIGINT NOT NULL,
+    updated_at TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+-- Positions a subscriber skipped as gaps, re-scanned for late commits
+CREATE TABLE event_subscription_gaps (
+    name VARCHAR(100) NOT NULL,
+    position BIGINT NOT NULL,
+    skipped_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (name, position)
+);
@@ -0,0 +1,20 @@
+-- ============================================================
+-- V4: Transactional outbox for published account events
+-- ============================================================
+
+CREATE TABLE account_outbox (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    event_id UUID NOT NULL,
+    aggregate_id UUID NOT NULL,
+    event_type VARCHAR(100) NOT NULL,
+    version BIGINT NOT NULL,
+    payload TEXT NOT NULL,
+    created_at TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+-- One relay drains the outbox at a time, so events leave in id order and only once
+CREATE TABLE account_outbox_lease (
+    name VARCHAR(50) PRIMARY KEY,
+    owner VARCHAR(64) NOT NULL,
+    expires_at TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
@@ -0,0 +1,15 @@
+-- ============================================================
+-- V5: Per-account time indexes for point-in-time balance queries
+-- ============================================================
+-- "Last posting of this account at or before T" is a backward scan of
+-- this index with LIMIT 1. Created on the partitioned parent, so every
+-- existing and future monthly partition gets its own copy.
+
+CREATE INDEX idx_account_events_aggregate_occurred ON account_events (aggregate_id, occurred_at);
+CREATE INDEX idx_archive_account_events_aggregate_occurred ON archive.account_events (aggregate_id, occurred_at);
+
+-- "Last status change of this account at or before T" seeks on the event
+-- type as well. On (aggregate_id, occurred_at) alone it would filter out
+-- every posting since that status change before LIMIT 1 applies.
+CREATE INDEX idx_account_events_aggregate_type_occurred ON account_events (aggregate_id, event_type, occurred_at, version);
+CREATE INDEX idx_archive_account_events_aggregate_type_occurred ON archive.account_events (aggregate_id, event_type, occurred_at, version);
@@ -0,0 +1,9 @@
+-- ============================================================
+-- V6: Per-account, per-type index for latest-state loads
+-- ============================================================
+-- "Latest event of this type for this account" is a backward scan of
+-- this index with LIMIT 1, which lets an aggregate be rebuilt from its
+-- creation event, last status change and last posting alone.
+
+CREATE INDEX idx_account_events_aggregate_type ON account_events (aggregate_id, event_type, version);
+CREATE INDEX idx_archive_account_events_aggregate_type ON archive.account_events (aggregate_id, event_type, version);
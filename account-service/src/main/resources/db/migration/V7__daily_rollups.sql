@@ -0,0 +1,35 @@
+-- ============================================================
+-- V7: Daily balance and volume rollups
+-- ============================================================
+-- Maintained by the daily-rollups subscription and rebuilt by the
+-- backfill. Days are UTC. account_daily_rollups holds one row per account
+-- and day with activity; bank_daily_rollups aggregates the same postings
+-- per currency and account type, plus the day's net balance change so
+-- bank-wide closing balances are a running sum.
+
+CREATE TABLE account_daily_rollups (
+    account_id UUID NOT NULL,
+    rollup_date DATE NOT NULL,
+    currency VARCHAR(3) NOT NULL,
+    account_type VARCHAR(30) NOT NULL,
+    closing_balance NUMERIC(19, 4) NOT NULL,
+    last_version BIGINT NOT NULL,
+    deposit_total NUMERIC(19, 4) NOT NULL,
+    deposit_count BIGINT NOT NULL,
+    withdrawal_total NUMERIC(19, 4) NOT NULL,
+    withdrawal_count BIGINT NOT NULL,
+    PRIMARY KEY (account_id, rollup_date)
+);
+
+CREATE TABLE bank_daily_rollups (
+    rollup_date DATE NOT NULL,
+    currency VARCHAR(3) NOT NULL,
+    account_type VARCHAR(30) NOT NULL,
+    deposit_total NUMERIC(19, 4) NOT NULL,
+    deposit_count BIGINT NOT NULL,
+    withdrawal_total NUMERIC(19, 4) NOT NULL,
+    withdrawal_count BIGINT NOT NULL,
+    net_change NUMERIC(19, 4) NOT NULL,
+    accounts_opened BIGINT NOT NULL,
+    PRIMARY KEY (rollup_date, currency, account_type)
+);
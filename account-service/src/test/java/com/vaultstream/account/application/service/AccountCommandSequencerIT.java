@@ -0,0 +1,117 @@
+package com.vaultstream.account.application.service;
+
+import com.vaultstream.account.application.command.CreateAccountCommand;
+import com.vaultstream.account.application.command.DepositMoneyCommand;
+import com.vaultstream.account.application.command.WithdrawMoneyCommand;
+import com.vaultstream.account.application.dto.AccountDto;
+import com.vaultstream.account.domain.model.Account;
+import com.vaultstream.account.domain.model.AccountType;
+import com.vaultstream.account.infrastructure.persistence.EventStore;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Integration tests for the per-account command sequencer using H2 (No Docker).
+ */
+@QuarkusTest
+@DisplayName("AccountCommandSequencer Integration")
+class AccountCommandSequencerIT {
+
+    private static final int BURST = 50;
+
+    @Inject
+    AccountCommandHandler commandHandler;
+
+    @Inject
+    AccountQueryHandler queryHandler;
+
+    @Inject
+    AccountCommandSequencer sequencer;
+
+    @Inject
+    EventStore eventStore;
+
+    @Test
+    @DisplayName("a concurrent burst on one account should commit every command without conflicts")
+    void concurrentBurstShouldCommitEveryCommand() {
+        UUID accountId = createAccount(BigDecimal.valueOf(100));
+
+        List<CompletableFuture<AccountDto>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(16)) {
+            for (int i = 0; i < BURST; i++) {
+                results.add(CompletableFuture.supplyAsync(() -> commandHandler.deposit(DepositMoneyCommand.builder()
+                        .accountId(accountId)
+                        .amount(BigDecimal.ONE)
+                        .description("Burst")
+                        .build()), executor));
+            }
+            results.forEach(CompletableFuture::join);
+        }
+
+        assertThat(queryHandler.getAccountById(accountId).getBalance())
+                .isEqualByComparingTo(BigDecimal.valueOf(100 + BURST));
+        assertThat(eventStore.getCurrentVersion(accountId)).isEqualTo(2 + BURST);
+    }
+
+    @Test
+    @DisplayName("a rejected command should not affect the next command on the same account")
+    void rejectedCommandShouldNotLeakState() {
+        UUID accountId = createAccount(BigDecimal.valueOf(10));
+
+        assertThatThrownBy(() -> commandHandler.withdraw(WithdrawMoneyCommand.builder()
+                .accountId(accountId)
+                .amount(BigDecimal.valueOf(50))
+                .description("Too much")
+                .build()))
+                .isInstanceOf(IllegalStateException.class);
+
+        AccountDto result = commandHandler.withdraw(WithdrawMoneyCommand.builder()
+                .accountId(accountId)
+                .amount(BigDecimal.valueOf(4))
+                .description("Fine")
+                .build());
+
+        assertThat(result.getBalance()).isEqualByComparingTo(BigDecimal.valueOf(6));
+    }
+
+    @Test
+    @DisplayName("a command calling execute() should be rejected instead of deadlocking its stripe")
+    void nestedExecuteShouldBeRejected() {
+        UUID accountId = createAccount(BigDecimal.valueOf(10));
+
+        assertThatThrownBy(() -> sequencer.execute(accountId, account -> sequencer.execute(accountId, Account::activate)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("inside a sequenced command");
+
+        assertThat(commandHandler.withdraw(WithdrawMoneyCommand.builder()
+                .accountId(accountId)
+                .amount(BigDecimal.ONE)
+                .description("Still usable")
+                .build()).getBalance()).isEqualByComparingTo(BigDecimal.valueOf(9));
+    }
+
+    // Helper methods
+
+    private UUID createAccount(BigDecimal initialDeposit) {
+        AccountDto account = commandHandler.createAccount(CreateAccountCommand.builder()
+                .customerId(UUID.randomUUID())
+                .accountType(AccountType.CHECKING)
+                .currency("USD")
+                .initialDeposit(initialDeposit)
+                .build());
+        return UUID.fromString(account.getId());
+    }
+}
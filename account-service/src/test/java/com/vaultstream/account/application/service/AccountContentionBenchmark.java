@@ -0,0 +1,107 @@
+package com.vaultstream.account.application.service;
+
+import com.vaultstream.account.application.command.CreateAccountCommand;
+import com.vaultstream.account.application.command.WithdrawMoneyCommand;
+import com.vaultstream.account.application.dto.AccountDto;
+import com.vaultstream.account.domain.model.AccountType;
+import com.vaultstream.common.exception.ConcurrencyException;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Many threads withdrawing from one account: checks that optimistic appends
+ * never overdraw and reports throughput and conflict rate.
+ * 
+ * Run with: mvn -pl account-service test -Pbenchmark
+ */
+@QuarkusTest
+@DisplayName("Single-account contention benchmark")
+class AccountContentionBenchmark {
+
+    private static final int THREADS = 32;
+    private static final int ATTEMPTS_PER_THREAD = 50;
+    private static final int MAX_RETRIES = 20;
+    private static final BigDecimal INITIAL_BALANCE = BigDecimal.valueOf(1000);
+
+    @Inject
+    AccountCommandHandler commandHandler;
+
+    @Inject
+    AccountQueryHandler queryHandler;
+
+    @Test
+    @DisplayName("concurrent withdrawals should never overdraw the account")
+    void concurrentWithdrawalsShouldNotOverdraw() throws InterruptedException {
+        AccountDto account = commandHandler.createAccount(CreateAccountCommand.builder()
+                .customerId(UUID.randomUUID())
+                .accountType(AccountType.CHECKING)
+                .currency("USD")
+                .initialDeposit(INITIAL_BALANCE)
+                .build());
+        UUID accountId = UUID.fromString(account.getId());
+
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicInteger conflicts = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        for (int t = 0; t < THREADS; t++) {
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < ATTEMPTS_PER_THREAD; i++) {
+                    withdrawWithRetry(accountId, succeeded, rejected, conflicts);
+                }
+                return null;
+            });
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.MINUTES)).isTrue();
+        double seconds = (System.nanoTime() - begin) / 1e9;
+
+        AccountDto result = queryHandler.getAccountById(accountId);
+        BigDecimal expected = INITIAL_BALANCE.subtract(BigDecimal.valueOf(succeeded.get()));
+
+        assertThat(result.getBalance()).isEqualByComparingTo(expected);
+        assertThat(result.getBalance().signum()).isGreaterThanOrEqualTo(0);
+
+        System.out.printf("threads=%d committed=%d rejected=%d conflicts=%d throughput=%.1f cmd/s%n",
+                THREADS, succeeded.get(), rejected.get(), conflicts.get(),
+                (succeeded.get() + rejected.get()) / seconds);
+    }
+
+    private void withdrawWithRetry(UUID accountId, AtomicInteger succeeded,
+                                   AtomicInteger rejected, AtomicInteger conflicts) {
+        for (int attempt = 0; attempt < MAX_RETRIES; attempt++) {
+            try {
+                commandHandler.withdraw(WithdrawMoneyCommand.builder()
+                        .accountId(accountId)
+                        .amount(BigDecimal.ONE)
+                        .description("Contention")
+                        .build());
+                succeeded.incrementAndGet();
+                return;
+            } catch (ConcurrencyException e) {
+                conflicts.incrementAndGet();
+            } catch (IllegalStateException e) {
+                rejected.incrementAndGet();
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.vaultstream.account.application.service;
+
+import com.vaultstream.account.application.command.CreateAccountCommand;
+import com.vaultstream.account.application.command.DepositMoneyCommand;
+import com.vaultstream.account.application.command.WithdrawMoneyCommand;
+import com.vaultstream.account.application.dto.AccountDailyRollupDto;
+import com.vaultstream.account.application.dto.AccountDto;
+import com.vaultstream.account.application.dto.BankDailyRollupDto;
+import com.vaultstream.account.application.dto.RollupBackfillDto;
+import com.vaultstream.account.domain.model.AccountType;
+import com.vaultstream.account.infrastructure.persistence.rollup.DailyRollupBackfill;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for daily rollups using H2 (No Docker).
+ */
+@QuarkusTest
+@DisplayName("Daily rollup Integration")
+class DailyRollupIT {
+
+    @Inject
+    AccountCommandHandler commandHandler;
+
+    @Inject
+    AccountQueryHandler queryHandler;
+
+    @Test
+    @DisplayName("the subscription should roll postings up into the day's row")
+    void subscriptionShouldRollUpPostings() throws InterruptedException {
+        UUID accountId = createAccount("USD", BigDecimal.valueOf(100));
+        deposit(accountId, BigDecimal.valueOf(50));
+        withdraw(accountId, BigDecimal.valueOf(30));
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+
+        List<AccountDailyRollupDto> days = await(() -> queryHandler.getDailyRollups(accountId, today, today),
+                rows -> rows.size() == 1 && rows.get(0).getWithdrawalCount() == 1);
+
+        AccountDailyRollupDto day = days.get(0);
+        assertThat(day.getDate()).isEqualTo(today);
+        assertThat(day.getClosingBalance()).isEqualByComparingTo("120");
+        assertThat(day.getDepositTotal()).isEqualByComparingTo("50");
+        assertThat(day.getDepositCount()).isEqualTo(1);
+        assertThat(day.getWithdrawalTotal()).isEqualByComparingTo("30");
+    }
+
+    @Test
+    @DisplayName("should leave out days before the account was opened")
+    void shouldSkipDaysBeforeOpening() throws InterruptedException {
+        UUID accountId = createAccount("USD", BigDecimal.valueOf(10));
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+
+        List<AccountDailyRollupDto> days = await(
+                () -> queryHandler.getDailyRollups(accountId, today.minusDays(7), today.plusDays(7)),
+                rows -> !rows.isEmpty());
+
+        assertThat(days).extracting(AccountDailyRollupDto::getDate).containsExactly(today);
+        assertThat(days.get(0).getClosingBalance()).isEqualByComparingTo("10");
+    }
+
+    @Test
+    @DisplayName("a backfill should rebuild the same rows without counting events twice")
+    void backfillShouldRebuildSameRows() throws InterruptedException {
+        UUID accountId = createAccount("USD", BigDecimal.valueOf(200));
+        deposit(accountId, BigDecimal.valueOf(25));
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        await(() -> queryHandler.getDailyRollups(accountId, today, today),
+                rows -> rows.size() == 1 && rows.get(0).getDepositCount() == 1);
+
+        assertThat(commandHandler.rebuildDailyRollups().getState()).isEqualTo(DailyRollupBackfill.State.RUNNING);
+        RollupBackfillDto backfill = await(commandHandler::getDailyRollupBackfill,
+                status -> status.getState() != DailyRollupBackfill.State.RUNNING);
+        assertThat(backfill.getState()).isEqualTo(DailyRollupBackfill.State.COMPLETED);
+        assertThat(backfill.getAccountsRebuilt()).isPositive();
+        deposit(accountId, BigDecimal.valueOf(5));
+
+        List<AccountDailyRollupDto> days = await(() -> queryHandler.getDailyRollups(accountId, today, today),
+                rows -> rows.size() == 1 && rows.get(0).getDepositCount() >= 2);
+
+        assertThat(days.get(0).getDepositCount()).isEqualTo(2);
+        assertThat(days.get(0).getDepositTotal()).isEqualByComparingTo("30");
+        assertThat(days.get(0).getClosingBalance()).isEqualByComparingTo("230");
+    }
+
+    @Test
+    @DisplayName("should total the bank per currency and account type")
+    void shouldTotalBank() throws InterruptedException {
+        UUID first = createAccount("NOK", BigDecimal.valueOf(100));
+        UUID second = createAccount("NOK", BigDecimal.valueOf(40));
+        deposit(first, BigDecimal.valueOf(10));
+        withdraw(second, BigDecimal.valueOf(15));
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+
+        List<BankDailyRollupDto> days = await(() -> queryHandler.getBankDailyRollups(today, today, "NOK"),
+                rows -> rows.size() == 1 && rows.get(0).getWithdrawalCount() == 1);
+
+        BankDailyRollupDto day = days.get(0);
+        assertThat(day.getCurrency()).isEqualTo("NOK");
+        assertThat(day.getAccountType()).isEqualTo(AccountType.CHECKING);
+        assertThat(day.getAccountsOpened()).isEqualTo(2);
+        assertThat(day.getDepositTotal()).isEqualByComparingTo("10");
+        assertThat(day.getWithdrawalTotal()).isEqualByComparingTo("15");
+        assertThat(day.getClosingBalance()).isEqualByComparingTo("135");
+    }
+
+    // Helper methods
+
+    /**
+     * Rollups are written by the subscription in the background
+     */
+    private static <T> T await(Supplier<T> query, Predicate<T> done) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        T result = query.get();
+        while (!done.test(result) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            result = query.get();
+        }
+        return result;
+    }
+
+    private UUID createAccount(String currency, BigDecimal initialDeposit) {
+        AccountDto account = commandHandler.createAccount(CreateAccountCommand.builder()
+                .customerId(UUID.randomUUID())
+                .accountType(AccountType.CHECKING)
+                .currency(currency)
+                .initialDeposit(initialDeposit)
+                .build());
+        return UUID.fromString(account.getId());
+    }
+
+    private void deposit(UUID accountId, BigDecimal amount) {
+        commandHandler.deposit(DepositMoneyCommand.builder()
+                .accountId(accountId)
+                .amount(amount)
+                .description("Deposit")
+                .build());
+    }
+
+    private void withdraw(UUID accountId, BigDecimal amount) {
+        commandHandler.withdraw(WithdrawMoneyCommand.builder()
+                .accountId(accountId)
+                .amount(amount)
+                .description("Withdrawal")
+                .build());
+    }
+}
@@ -0,0 +1,105 @@
+package com.vaultstream.account.application.service;
+
+import com.vaultstream.account.application.command.CreateAccountCommand;
+import com.vaultstream.account.domain.model.AccountType;
+import com.vaultstream.account.domain.model.Money;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Deposits from many concurrent callers through the group commit pipeline:
+ * reports throughput and p99 caller latency per maximum batch size.
+ * Batch size 1 is the one-commit-per-command baseline.
+ *
+ * Run with: mvn -pl account-service test -Pbenchmark
+ */
+@QuarkusTest
+@DisplayName("Group commit benchmark")
+class GroupCommitBenchmark {
+
+    private static final int ACCOUNTS = 256;
+    private static final int DEPOSITS = 8_192;
+    private static final Duration WINDOW = Duration.ofMillis(2);
+
+    @Inject
+    AccountCommandHandler commandHandler;
+
+    @Inject
+    AccountQueryHandler queryHandler;
+
+    @Inject
+    AccountBatchApplier batchApplier;
+
+    @Inject
+    AccountCommandSequencer sequencer;
+
+    @ParameterizedTest(name = "maxBatchSize={0}")
+    @ValueSource(ints = {1, 16, 128, 1024})
+    @DisplayName("group-committed deposits should all be applied")
+    void groupCommitThroughput(int maxBatchSize) throws Exception {
+        List<UUID> accounts = createAccounts();
+        long[] latencies = new long[DEPOSITS];
+
+        long begin;
+        long elapsed;
+        try (GroupCommitPipeline pipeline = new GroupCommitPipeline(batchApplier, sequencer, WINDOW, maxBatchSize);
+             ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>(DEPOSITS);
+            begin = System.nanoTime();
+            for (int i = 0; i < DEPOSITS; i++) {
+                int index = i;
+                UUID accountId = accounts.get(i % ACCOUNTS);
+                futures.add(callers.submit(() -> {
+                    long start = System.nanoTime();
+                    pipeline.submit(accountId, account ->
+                            account.deposit(Money.usd(BigDecimal.ONE), "Payroll", null));
+                    latencies[index] = System.nanoTime() - start;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            elapsed = System.nanoTime() - begin;
+        }
+
+        for (UUID accountId : accounts) {
+            assertThat(queryHandler.getAccountById(accountId).getBalance())
+                    .isEqualByComparingTo(BigDecimal.valueOf(1 + DEPOSITS / ACCOUNTS));
+        }
+
+        Arrays.sort(latencies);
+        System.out.printf("maxBatchSize=%d deposits=%d throughput=%.0f cmd/s p50=%.2f ms p99=%.2f ms%n",
+                maxBatchSize, DEPOSITS, DEPOSITS / (elapsed / 1e9),
+                latencies[DEPOSITS / 2] / 1e6, latencies[(int) (DEPOSITS * 0.99)] / 1e6);
+    }
+
+    // Helper methods
+
+    private List<UUID> createAccounts() {
+        List<UUID> accounts = new ArrayList<>(ACCOUNTS);
+        for (int i = 0; i < ACCOUNTS; i++) {
+            accounts.add(UUID.fromString(commandHandler.createAccount(CreateAccountCommand.builder()
+                    .customerId(UUID.randomUUID())
+                    .accountType(AccountType.CHECKING)
+                    .currency("USD")
+                    .initialDeposit(BigDecimal.ONE)
+                    .build()).getId()));
+        }
+        return accounts;
+    }
+}
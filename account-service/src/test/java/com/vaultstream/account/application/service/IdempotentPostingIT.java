@@ -0,0 +1,126 @@
+package com.vaultstream.account.application.service;
+
+import com.vaultstream.account.application.command.CreateAccountCommand;
+import com.vaultstream.account.application.command.DepositMoneyCommand;
+import com.vaultstream.account.application.command.WithdrawMoneyCommand;
+import com.vaultstream.account.application.dto.AccountDto;
+import com.vaultstream.account.domain.model.AccountType;
+import com.vaultstream.account.infrastructure.persistence.EventStore;
+import com.vaultstream.common.exception.IdempotencyConflictException;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Integration tests for transaction-reference idempotency using H2 (No Docker).
+ */
+@QuarkusTest
+@DisplayName("Idempotent posting Integration")
+class IdempotentPostingIT {
+
+    @Inject
+    AccountCommandHandler commandHandler;
+
+    @Inject
+    AccountQueryHandler queryHandler;
+
+    @Inject
+    EventStore eventStore;
+
+    @Test
+    @DisplayName("a retried deposit should return the original result without posting again")
+    void retriedDepositShouldNotDoublePost() {
+        UUID accountId = createAccount(BigDecimal.valueOf(100));
+        DepositMoneyCommand deposit = DepositMoneyCommand.builder()
+                .accountId(accountId)
+                .amount(BigDecimal.valueOf(25))
+                .description("Payroll")
+                .transactionReference("PAY-" + UUID.randomUUID())
+                .build();
+
+        AccountDto first = commandHandler.deposit(deposit);
+        AccountDto retry = commandHandler.deposit(deposit);
+
+        assertThat(retry).isEqualTo(first);
+        assertThat(queryHandler.getAccountById(accountId).getBalance()).isEqualByComparingTo(BigDecimal.valueOf(125));
+        assertThat(eventStore.getCurrentVersion(accountId)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("a reused reference with another amount or operation should be rejected")
+    void reusedReferenceWithDifferentRequestShouldConflict() {
+        UUID accountId = createAccount(BigDecimal.valueOf(100));
+        String reference = "PAY-" + UUID.randomUUID();
+        commandHandler.deposit(DepositMoneyCommand.builder()
+                .accountId(accountId)
+                .amount(BigDecimal.valueOf(25))
+                .description("Payroll")
+                .transactionReference(reference)
+                .build());
+
+        assertThatThrownBy(() -> commandHandler.deposit(DepositMoneyCommand.builder()
+                .accountId(accountId)
+                .amount(BigDecimal.valueOf(30))
+                .description("Payroll")
+                .transactionReference(reference)
+                .build()))
+                .isInstanceOf(IdempotencyConflictException.class);
+        assertThatThrownBy(() -> commandHandler.withdraw(withdrawal(accountId, reference)))
+                .isInstanceOf(IdempotencyConflictException.class);
+
+        assertThat(queryHandler.getAccountById(accountId).getBalance()).isEqualByComparingTo(BigDecimal.valueOf(125));
+    }
+
+    @Test
+    @DisplayName("the same reference on another account should be posted independently")
+    void referenceShouldBeScopedToAccount() {
+        UUID first = createAccount(BigDecimal.valueOf(100));
+        UUID second = createAccount(BigDecimal.valueOf(100));
+        String reference = "WD-" + UUID.randomUUID();
+
+        commandHandler.withdraw(withdrawal(first, reference));
+        commandHandler.withdraw(withdrawal(second, reference));
+
+        assertThat(queryHandler.getAccountById(first).getBalance()).isEqualByComparingTo(BigDecimal.valueOf(90));
+        assertThat(queryHandler.getAccountById(second).getBalance()).isEqualByComparingTo(BigDecimal.valueOf(90));
+    }
+
+    @Test
+    @DisplayName("commands without a reference should never be deduplicated")
+    void commandsWithoutReferenceShouldAlwaysPost() {
+        UUID accountId = createAccount(BigDecimal.valueOf(100));
+
+        commandHandler.withdraw(withdrawal(accountId, null));
+        commandHandler.withdraw(withdrawal(accountId, null));
+
+        assertThat(queryHandler.getAccountById(accountId).getBalance()).isEqualByComparingTo(BigDecimal.valueOf(80));
+    }
+
+    // Helper methods
+
+    private WithdrawMoneyCommand withdrawal(UUID accountId, String reference) {
+        return WithdrawMoneyCommand.builder()
+                .accountId(accountId)
+                .amount(BigDecimal.TEN)
+                .description("ATM")
+                .transactionReference(reference)
+                .build();
+    }
+
+    private UUID createAccount(BigDecimal initialDeposit) {
+        AccountDto account = commandHandler.createAccount(CreateAccountCommand.builder()
+                .customerId(UUID.randomUUID())
+                .accountType(AccountType.CHECKING)
+                .currency("USD")
+                .initialDeposit(initialDeposit)
+                .build());
+        return UUID.fromString(account.getId());
+    }
+}
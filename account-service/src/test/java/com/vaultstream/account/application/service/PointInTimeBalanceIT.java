@@ -0,0 +1,134 @@
+package com.vaultstream.account.application.service;
+
+import com.vaultstream.account.application.command.CreateAccountCommand;
+import com.vaultstream.account.application.command.DepositMoneyCommand;
+import com.vaultstream.account.application.command.WithdrawMoneyCommand;
+import com.vaultstream.account.application.dto.AccountDto;
+import com.vaultstream.account.application.dto.BalanceDto;
+import com.vaultstream.account.domain.model.AccountStatus;
+import com.vaultstream.account.domain.model.AccountType;
+import com.vaultstream.common.exception.ResourceNotFoundException;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Integration tests for point-in-time balances using H2 (No Docker).
+ */
+@QuarkusTest
+@DisplayName("Point-in-time balance Integration")
+class PointInTimeBalanceIT {
+
+    @Inject
+    AccountCommandHandler commandHandler;
+
+    @Inject
+    AccountQueryHandler queryHandler;
+
+    @Test
+    @DisplayName("should answer the balance and status in force at each instant")
+    void shouldAnswerBalanceAtEachInstant() throws InterruptedException {
+        UUID accountId = createAccount(BigDecimal.valueOf(100));
+        Instant afterOpening = tick();
+        deposit(accountId, BigDecimal.valueOf(50));
+        Instant afterDeposit = tick();
+        withdraw(accountId, BigDecimal.valueOf(30));
+        commandHandler.freezeAccount(accountId, "Dispute");
+        Instant afterFreeze = tick();
+        commandHandler.activateAccount(accountId);
+
+        BalanceDto opening = queryHandler.getBalanceAsOf(accountId, afterOpening);
+        BalanceDto deposited = queryHandler.getBalanceAsOf(accountId, afterDeposit);
+        BalanceDto frozen = queryHandler.getBalanceAsOf(accountId, afterFreeze);
+
+        assertThat(opening.getBalance()).isEqualByComparingTo("100");
+        assertThat(opening.getStatus()).isEqualTo(AccountStatus.ACTIVE);
+        assertThat(opening.getVersion()).isEqualTo(2);
+        assertThat(deposited.getBalance()).isEqualByComparingTo("150");
+        assertThat(deposited.getVersion()).isEqualTo(3);
+        assertThat(frozen.getBalance()).isEqualByComparingTo("120");
+        assertThat(frozen.getStatus()).isEqualTo(AccountStatus.FROZEN);
+        assertThat(frozen.getVersion()).isEqualTo(5);
+        assertThat(frozen.getCurrency()).isEqualTo("USD");
+    }
+
+    @Test
+    @DisplayName("should report an account that did not exist yet as not found")
+    void shouldRejectInstantBeforeOpening() throws InterruptedException {
+        Instant beforeOpening = tick();
+        UUID accountId = createAccount(BigDecimal.valueOf(100));
+
+        assertThatThrownBy(() -> queryHandler.getBalanceAsOf(accountId, beforeOpening))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> queryHandler.getBalanceAsOf(UUID.randomUUID(), Instant.now()))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("should answer several accounts at once in request order")
+    void shouldAnswerBulkInRequestOrder() throws InterruptedException {
+        UUID first = createAccount(BigDecimal.valueOf(10));
+        UUID second = createAccount(BigDecimal.valueOf(20));
+        deposit(first, BigDecimal.valueOf(5));
+        Instant periodEnd = tick();
+        deposit(first, BigDecimal.valueOf(1000));
+        UUID openedLater = createAccount(BigDecimal.valueOf(30));
+
+        List<BalanceDto> balances = queryHandler.getBalancesAsOf(
+                List.of(second, openedLater, first, UUID.randomUUID()), periodEnd);
+
+        assertThat(balances).extracting(BalanceDto::getAccountId)
+                .containsExactly(second.toString(), first.toString());
+        assertThat(balances).extracting(BalanceDto::getBalance)
+                .usingElementComparator(BigDecimal::compareTo)
+                .containsExactly(new BigDecimal("20"), new BigDecimal("15"));
+        assertThat(balances).extracting(BalanceDto::getAsOf).containsOnly(periodEnd);
+    }
+
+    // Helper methods
+
+    /**
+     * An instant strictly between the events written before and after the call
+     */
+    private static Instant tick() throws InterruptedException {
+        Thread.sleep(5);
+        Instant now = Instant.now();
+        Thread.sleep(5);
+        return now;
+    }
+
+    private UUID createAccount(BigDecimal initialDeposit) {
+        AccountDto account = commandHandler.createAccount(CreateAccountCommand.builder()
+                .customerId(UUID.randomUUID())
+                .accountType(AccountType.CHECKING)
+                .currency("USD")
+                .initialDeposit(initialDeposit)
+                .build());
+        return UUID.fromString(account.getId());
+    }
+
+    private void deposit(UUID accountId, BigDecimal amount) {
+        commandHandler.deposit(DepositMoneyCommand.builder()
+                .accountId(accountId)
+                .amount(amount)
+                .description("Deposit")
+                .build());
+    }
+
+    private void withdraw(UUID accountId, BigDecimal amount) {
+        commandHandler.withdraw(WithdrawMoneyCommand.builder()
+                .accountId(accountId)
+                .amount(amount)
+                .description("Withdrawal")
+                .build());
+    }
+}
@@ -0,0 +1,139 @@
+package com.vaultstream.account.application.service;
+
+import com.vaultstream.account.application.command.CreateAccountCommand;
+import com.vaultstream.account.application.command.DepositMoneyCommand;
+import com.vaultstream.account.application.command.WithdrawMoneyCommand;
+import com.vaultstream.account.application.dto.AccountDto;
+import com.vaultstream.account.application.dto.TransactionDto;
+import com.vaultstream.account.domain.model.AccountType;
+import com.vaultstream.common.dto.CursorPageResponse;
+import com.vaultstream.common.exception.ResourceNotFoundException;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Integration tests for the transaction history using H2 (No Docker).
+ */
+@QuarkusTest
+@DisplayName("Transaction history Integration")
+class TransactionHistoryIT {
+
+    @Inject
+    AccountCommandHandler commandHandler;
+
+    @Inject
+    AccountQueryHandler queryHandler;
+
+    @Test
+    @DisplayName("should page through deposits and withdrawals with the version cursor")
+    void shouldPageWithCursor() {
+        UUID accountId = createAccountWithPostings(5);
+
+        CursorPageResponse<TransactionDto> first = queryHandler.getTransactions(accountId, 0, null, null, 3);
+        long after = Long.parseLong(first.getNextCursor());
+        CursorPageResponse<TransactionDto> second = queryHandler.getTransactions(accountId, after, null, null, 3);
+
+        assertThat(first.getContent()).hasSize(3);
+        assertThat(first.isHasMore()).isTrue();
+        assertThat(second.getContent()).hasSize(2);
+        assertThat(second.isHasMore()).isFalse();
+        assertThat(second.getNextCursor()).isNull();
+        assertThat(first.getContent().get(0).getVersion()).isEqualTo(3);
+        assertThat(second.getContent()).extracting(TransactionDto::getVersion).containsExactly(6L, 7L);
+    }
+
+    @Test
+    @DisplayName("should leave out lifecycle events and describe each posting")
+    void shouldOnlyListPostings() {
+        UUID accountId = createAccountWithPostings(2);
+        commandHandler.freezeAccount(accountId, "Review");
+
+        List<TransactionDto> transactions = queryHandler.getTransactions(accountId, 0, null, null, 20).getContent();
+
+        assertThat(transactions).extracting(TransactionDto::getType)
+                .containsExactly(TransactionDto.DEPOSIT, TransactionDto.WITHDRAWAL);
+        assertThat(transactions.get(0).getAmount()).isEqualByComparingTo("10");
+        assertThat(transactions.get(0).getBalanceAfter()).isEqualByComparingTo("110");
+        assertThat(transactions.get(1).getBalanceAfter()).isEqualByComparingTo("100");
+        assertThat(transactions.get(1).getTransactionReference()).isEqualTo("TXN-2");
+    }
+
+    @Test
+    @DisplayName("should filter by the occurredAt range")
+    void shouldFilterByDateRange() {
+        Instant start = Instant.now().minusSeconds(1);
+        UUID accountId = createAccountWithPostings(3);
+        Instant end = Instant.now().plusSeconds(1);
+
+        assertThat(queryHandler.getTransactions(accountId, 0, start, end, 20).getContent()).hasSize(3);
+        assertThat(queryHandler.getTransactions(accountId, 0, end, null, 20).getContent()).isEmpty();
+        assertThat(queryHandler.getTransactions(accountId, 0, null, start, 20).getContent()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should stream the whole history oldest first")
+    void shouldStreamWholeHistory() {
+        UUID accountId = createAccountWithPostings(25);
+        List<TransactionDto> streamed = new ArrayList<>();
+
+        queryHandler.streamTransactions(accountId, null, Instant.now().plus(Duration.ofMinutes(1)), streamed::add);
+
+        assertThat(streamed).hasSize(25);
+        assertThat(streamed).extracting(TransactionDto::getVersion).isSorted();
+        assertThat(streamed.get(24).getBalanceAfter())
+                .isEqualByComparingTo(queryHandler.getAccountById(accountId).getBalance());
+    }
+
+    @Test
+    @DisplayName("should reject an unknown account")
+    void shouldRejectUnknownAccount() {
+        assertThatThrownBy(() -> queryHandler.getTransactions(UUID.randomUUID(), 0, null, null, 20))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    // Helper methods
+
+    /**
+     * Alternates deposits and withdrawals of 10, starting with a deposit
+     */
+    private UUID createAccountWithPostings(int postings) {
+        AccountDto account = commandHandler.createAccount(CreateAccountCommand.builder()
+                .customerId(UUID.randomUUID())
+                .accountType(AccountType.CHECKING)
+                .currency("USD")
+                .initialDeposit(BigDecimal.valueOf(100))
+                .build());
+        UUID accountId = UUID.fromString(account.getId());
+
+        for (int i = 1; i <= postings; i++) {
+            if (i % 2 == 1) {
+                commandHandler.deposit(DepositMoneyCommand.builder()
+                        .accountId(accountId)
+                        .amount(BigDecimal.TEN)
+                        .description("Deposit " + i)
+                        .transactionReference("TXN-" + i)
+                        .build());
+            } else {
+                commandHandler.withdraw(WithdrawMoneyCommand.builder()
+                        .accountId(accountId)
+                        .amount(BigDecimal.TEN)
+                        .description("Withdrawal " + i)
+                        .transactionReference("TXN-" + i)
+                        .build());
+            }
+        }
+        return accountId;
+    }
+}
@@ -0,0 +1,133 @@
+package com.vaultstream.account.application.service;
+
+import com.vaultstream.account.application.command.CreateAccountCommand;
+import com.vaultstream.account.application.command.TransferMoneyCommand;
+import com.vaultstream.account.application.dto.AccountDto;
+import com.vaultstream.account.application.dto.TransferDto;
+import com.vaultstream.account.domain.event.AccountEvent;
+import com.vaultstream.account.domain.event.MoneyDepositedEvent;
+import com.vaultstream.account.domain.event.MoneyWithdrawnEvent;
+import com.vaultstream.account.domain.model.AccountType;
+import com.vaultstream.account.infrastructure.persistence.EventStore;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Integration tests for account-to-account transfers using H2 (No Docker).
+ */
+@QuarkusTest
+@DisplayName("Transfer Integration")
+class TransferMoneyIT {
+
+    @Inject
+    AccountCommandHandler commandHandler;
+
+    @Inject
+    AccountQueryHandler queryHandler;
+
+    @Inject
+    EventStore eventStore;
+
+    @Test
+    @DisplayName("should debit and credit both accounts with linked events")
+    void shouldTransferWithLinkedEvents() {
+        UUID source = createAccount(BigDecimal.valueOf(100));
+        UUID target = createAccount(BigDecimal.valueOf(10));
+
+        TransferDto transfer = commandHandler.transfer(transfer(source, target, BigDecimal.valueOf(40)));
+
+        assertThat(transfer.getSource().getBalance()).isEqualByComparingTo(BigDecimal.valueOf(60));
+        assertThat(transfer.getTarget().getBalance()).isEqualByComparingTo(BigDecimal.valueOf(50));
+        assertThat(queryHandler.getAccountById(source).getBalance()).isEqualByComparingTo(BigDecimal.valueOf(60));
+        assertThat(queryHandler.getAccountById(target).getBalance()).isEqualByComparingTo(BigDecimal.valueOf(50));
+
+        UUID transferId = UUID.fromString(transfer.getTransferId());
+        MoneyWithdrawnEvent debit = (MoneyWithdrawnEvent) last(eventStore.loadEvents(source));
+        MoneyDepositedEvent credit = (MoneyDepositedEvent) last(eventStore.loadEvents(target));
+        assertThat(debit.getTransferId()).isEqualTo(transferId);
+        assertThat(debit.getCounterpartyAccountId()).isEqualTo(target);
+        assertThat(credit.getTransferId()).isEqualTo(transferId);
+        assertThat(credit.getCounterpartyAccountId()).isEqualTo(source);
+    }
+
+    @Test
+    @DisplayName("should leave both accounts untouched when the debit is rejected")
+    void shouldNotCreditWhenDebitFails() {
+        UUID source = createAccount(BigDecimal.valueOf(20));
+        UUID target = createAccount(BigDecimal.valueOf(20));
+
+        assertThatThrownBy(() -> commandHandler.transfer(transfer(source, target, BigDecimal.valueOf(50))))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Insufficient funds");
+
+        assertThat(eventStore.getCurrentVersion(source)).isEqualTo(2);
+        assertThat(eventStore.getCurrentVersion(target)).isEqualTo(2);
+        assertThat(queryHandler.getAccountById(target).getBalance()).isEqualByComparingTo(BigDecimal.valueOf(20));
+    }
+
+    @Test
+    @DisplayName("a retried transfer should return the original result without moving money again")
+    void retriedTransferShouldNotMoveMoneyTwice() {
+        UUID source = createAccount(BigDecimal.valueOf(100));
+        UUID target = createAccount(BigDecimal.valueOf(10));
+        TransferMoneyCommand command = TransferMoneyCommand.builder()
+                .sourceAccountId(source)
+                .targetAccountId(target)
+                .amount(BigDecimal.valueOf(40))
+                .description("Rent")
+                .transactionReference("TRF-" + UUID.randomUUID())
+                .build();
+
+        TransferDto first = commandHandler.transfer(command);
+        TransferDto retry = commandHandler.transfer(command);
+
+        assertThat(retry.getTransferId()).isEqualTo(first.getTransferId());
+        assertThat(queryHandler.getAccountById(source).getBalance()).isEqualByComparingTo(BigDecimal.valueOf(60));
+        assertThat(queryHandler.getAccountById(target).getBalance()).isEqualByComparingTo(BigDecimal.valueOf(50));
+        assertThat(eventStore.getCurrentVersion(source)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("should reject a transfer to the same account")
+    void shouldRejectSelfTransfer() {
+        UUID account = createAccount(BigDecimal.valueOf(20));
+
+        assertThatThrownBy(() -> commandHandler.transfer(transfer(account, account, BigDecimal.ONE)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("same account");
+    }
+
+    // Helper methods
+
+    private TransferMoneyCommand transfer(UUID source, UUID target, BigDecimal amount) {
+        return TransferMoneyCommand.builder()
+                .sourceAccountId(source)
+                .targetAccountId(target)
+                .amount(amount)
+                .description("Rent")
+                .build();
+    }
+
+    private static AccountEvent last(List<AccountEvent> events) {
+        return events.get(events.size() - 1);
+    }
+
+    private UUID createAccount(BigDecimal initialDeposit) {
+        AccountDto account = commandHandler.createAccount(CreateAccountCommand.builder()
+                .customerId(UUID.randomUUID())
+                .accountType(AccountType.CHECKING)
+                .currency("USD")
+                .initialDeposit(initialDeposit)
+                .build());
+        return UUID.fromString(account.getId());
+    }
+}
@@ -0,0 +1,141 @@
+package com.vaultstream.account.application.service;
+
+import com.vaultstream.account.application.command.CreateAccountCommand;
+import com.vaultstream.account.application.command.TransferMoneyCommand;
+import com.vaultstream.account.application.dto.AccountDto;
+import com.vaultstream.account.domain.model.Account;
+import com.vaultstream.account.domain.model.AccountType;
+import com.vaultstream.account.domain.model.Money;
+import com.vaultstream.account.infrastructure.persistence.EventStore;
+import com.vaultstream.common.exception.ConcurrencyException;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Many threads transferring random amounts between random pairs of 1,000
+ * accounts: checks that money is neither created nor lost and reports
+ * throughput and conflict rate.
+ *
+ * Run with: mvn -pl account-service test -Pbenchmark
+ */
+@QuarkusTest
+@DisplayName("Random transfer stress benchmark")
+class TransferStressBenchmark {
+
+    private static final int ACCOUNTS = 1_000;
+    private static final int THREADS = 32;
+    private static final int TRANSFERS_PER_THREAD = 200;
+    private static final BigDecimal INITIAL_BALANCE = BigDecimal.valueOf(1000);
+
+    @Inject
+    AccountCommandHandler commandHandler;
+
+    @Inject
+    AccountQueryHandler queryHandler;
+
+    @Inject
+    EventStore eventStore;
+
+    @Test
+    @DisplayName("concurrent random transfers should conserve the total balance")
+    void randomTransfersShouldConserveMoney() throws InterruptedException {
+        List<UUID> accounts = createAccounts();
+        BigDecimal expectedTotal = INITIAL_BALANCE.multiply(BigDecimal.valueOf(ACCOUNTS));
+
+        AtomicInteger committed = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicInteger conflicts = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        for (int t = 0; t < THREADS; t++) {
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < TRANSFERS_PER_THREAD; i++) {
+                    randomTransfer(accounts, committed, rejected, conflicts);
+                }
+                return null;
+            });
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.MINUTES)).isTrue();
+        double seconds = (System.nanoTime() - begin) / 1e9;
+
+        assertThat(storedTotal(accounts)).isEqualByComparingTo(expectedTotal);
+        assertThat(summaryTotal(accounts)).isEqualByComparingTo(expectedTotal);
+
+        System.out.printf("accounts=%d threads=%d committed=%d rejected=%d conflicts=%d throughput=%.1f transfers/s%n",
+                ACCOUNTS, THREADS, committed.get(), rejected.get(), conflicts.get(), committed.get() / seconds);
+    }
+
+    // Helper methods
+
+    private void randomTransfer(List<UUID> accounts, AtomicInteger committed,
+                                AtomicInteger rejected, AtomicInteger conflicts) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        UUID source = accounts.get(random.nextInt(ACCOUNTS));
+        UUID target = accounts.get(random.nextInt(ACCOUNTS));
+        if (source.equals(target)) {
+            return;
+        }
+        try {
+            commandHandler.transfer(TransferMoneyCommand.builder()
+                    .sourceAccountId(source)
+                    .targetAccountId(target)
+                    .amount(BigDecimal.valueOf(random.nextLong(1, 50_000), 2))
+                    .description("Stress")
+                    .build());
+            committed.incrementAndGet();
+        } catch (ConcurrencyException e) {
+            conflicts.incrementAndGet();
+        } catch (IllegalStateException e) {
+            rejected.incrementAndGet();
+        }
+    }
+
+    private BigDecimal storedTotal(List<UUID> accounts) {
+        return QuarkusTransaction.requiringNew().call(() -> eventStore.loadAggregates(accounts).values().stream()
+                .map(Account::getBalance)
+                .map(Money::amount)
+                .reduce(BigDecimal.ZERO, BigDecimal::add));
+    }
+
+    private BigDecimal summaryTotal(List<UUID> accounts) {
+        return queryHandler.getAccountsByIds(accounts).stream()
+                .map(AccountDto::getBalance)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    private List<UUID> createAccounts() {
+        List<UUID> accounts = new ArrayList<>(ACCOUNTS);
+        for (int i = 0; i < ACCOUNTS; i++) {
+            AccountDto account = commandHandler.createAccount(CreateAccountCommand.builder()
+                    .customerId(UUID.randomUUID())
+                    .accountType(AccountType.CHECKING)
+                    .currency("USD")
+                    .initialDeposit(INITIAL_BALANCE)
+                    .build());
+            accounts.add(UUID.fromString(account.getId()));
+        }
+        return accounts;
+    }
+}
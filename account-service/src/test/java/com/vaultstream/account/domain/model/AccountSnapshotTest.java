@@ -0,0 +1,133 @@
+package com.vaultstream.account.domain.model;
+
+import com.vaultstream.account.domain.event.AccountEvent;
+import com.vaultstream.account.domain.event.AccountStatusChangedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Replay-equivalence tests for Account snapshots.
+ */
+@DisplayName("Account Snapshot")
+class AccountSnapshotTest {
+
+    private static final UUID CUSTOMER_ID = UUID.randomUUID();
+
+    @Test
+    @DisplayName("snapshot plus tail should rebuild the same state as full replay at every version")
+    void snapshotReplayShouldMatchFullReplay() {
+        List<AccountEvent> history = buildHistory(50);
+        Account fullReplay = Account.fromHistory(history);
+
+        for (int snapshotAt = 1; snapshotAt <= history.size(); snapshotAt++) {
+            AccountSnapshot snapshot = Account.fromHistory(history.subList(0, snapshotAt)).toSnapshot();
+            Account rebuilt = Account.fromSnapshot(snapshot, history.subList(snapshotAt, history.size()));
+
+            assertThat(rebuilt.toSnapshot())
+                    .as("snapshot taken at version %d", snapshotAt)
+                    .isEqualTo(fullReplay.toSnapshot());
+        }
+    }
+
+    @Test
+    @DisplayName("snapshot should carry the committed version")
+    void snapshotShouldCarryCommittedVersion() {
+        Account account = Account.create("ACC-SNAP", CUSTOMER_ID, AccountType.CHECKING, Money.usd(BigDecimal.TEN));
+        account.activate();
+
+        assertThat(account.toSnapshot().version()).isZero();
+
+        account.markEventsAsCommitted();
+
+        assertThat(account.toSnapshot().version()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("rebuilt account should accept further commands")
+    void rebuiltAccountShouldAcceptCommands() {
+        List<AccountEvent> history = buildHistory(10);
+        Account rebuilt = Account.fromSnapshot(Account.fromHistory(history).toSnapshot(), List.of());
+
+        rebuilt.deposit(Money.usd(BigDecimal.ONE), "After snapshot", "TXN-SNAP");
+
+        assertThat(rebuilt.getUncommittedEvents()).hasSize(1);
+        assertThat(rebuilt.getVersion()).isEqualTo(history.size());
+    }
+
+    @Test
+    @DisplayName("latest deciding events should rebuild the same state as full replay at every version")
+    void latestEventsShouldMatchFullReplay() {
+        List<AccountEvent> history = buildHistory(30);
+
+        for (int version = 1; version <= history.size(); version++) {
+            List<AccountEvent> prefix = history.subList(0, version);
+            Account rebuilt = Account.fromLatestEvents(decidingEvents(prefix), version);
+
+            assertThat(rebuilt.toSnapshot())
+                    .as("state at version %d", version)
+                    .isEqualTo(Account.fromHistory(prefix).toSnapshot());
+        }
+    }
+
+    @Test
+    @DisplayName("latest-state load should require the creation event first")
+    void latestEventsShouldStartWithCreation() {
+        List<AccountEvent> history = buildHistory(3);
+
+        assertThatThrownBy(() -> Account.fromLatestEvents(history.subList(1, history.size()), history.size()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * The creation event plus the last status change and last posting, in version order
+     */
+    private static List<AccountEvent> decidingEvents(List<AccountEvent> history) {
+        int lastStatus = -1;
+        int lastPosting = -1;
+        for (int i = 1; i < history.size(); i++) {
+            if (history.get(i) instanceof AccountStatusChangedEvent) {
+                lastStatus = i;
+            } else {
+                lastPosting = i;
+            }
+        }
+        List<AccountEvent> deciding = new ArrayList<>(List.of(history.get(0)));
+        for (int i = 1; i < history.size(); i++) {
+            if (i == lastStatus || i == lastPosting) {
+                deciding.add(history.get(i));
+            }
+        }
+        return deciding;
+    }
+
+    private List<AccountEvent> buildHistory(int operations) {
+        Account account = Account.create("ACC-SNAP", CUSTOMER_ID, AccountType.SAVINGS, Money.usd(BigDecimal.valueOf(1000)));
+        account.activate();
+        List<AccountEvent> history = new ArrayList<>(account.getUncommittedEvents());
+        account.markEventsAsCommitted();
+
+        for (int i = 0; i < operations; i++) {
+            if (i % 3 == 2) {
+                account.withdraw(Money.usd(BigDecimal.valueOf(7)), "Withdrawal " + i, "TXN-W-" + i);
+            } else {
+                account.deposit(Money.usd(new BigDecimal("12.34")), "Deposit " + i, "TXN-D-" + i);
+            }
+            if (i == operations / 2) {
+                account.freeze("Review");
+                history.addAll(account.getUncommittedEvents());
+                account.markEventsAsCommitted();
+                account.activate();
+            }
+            history.addAll(account.getUncommittedEvents());
+            account.markEventsAsCommitted();
+        }
+        return history;
+    }
+}
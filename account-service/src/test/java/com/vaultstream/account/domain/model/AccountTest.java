@@ -119,6 +119,29 @@ class AccountTest {
                     .isInstanceOf(IllegalArgumentException.class)
                     .hasMessageContaining("positive");
         }
+
+        @Test
+        @DisplayName("should throw when amount is finer than the currency's minor unit")
+        void shouldThrowWhenSubMinorUnitAmount() {
+            Account account = createActiveAccount();
+
+            assertThatThrownBy(() ->
+                    account.deposit(Money.usd(new BigDecimal("10.005")), "Test", "TXN"))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("decimal places");
+        }
+
+        @Test
+        @DisplayName("should accept trailing zeros beyond the currency's minor unit")
+        void shouldAcceptTrailingZeros() {
+            Account account = createActiveAccount();
+            BigDecimal initialBalance = account.getBalance().amount();
+
+            account.deposit(Money.usd(new BigDecimal("10.0500")), "Test", "TXN");
+
+            assertThat(account.getBalance().amount())
+                    .isEqualByComparingTo(initialBalance.add(new BigDecimal("10.05")));
+        }
     }
 
     @Nested
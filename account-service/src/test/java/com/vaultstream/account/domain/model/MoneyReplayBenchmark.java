@@ -0,0 +1,110 @@
+package com.vaultstream.account.domain.model;
+
+import com.vaultstream.account.domain.event.AccountEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Reports aggregate replay time and the cost of Money arithmetic on the
+ * fixed-point path against plain BigDecimal arithmetic.
+ *
+ * Run with: mvn -pl account-service test -Pbenchmark
+ */
+@DisplayName("Money replay benchmark")
+class MoneyReplayBenchmark {
+
+    private static final int EVENTS_PER_ACCOUNT = 1_000;
+    private static final int WARMUP_ITERATIONS = 2_000;
+    private static final int MEASURED_ITERATIONS = 10_000;
+    private static final int ARITHMETIC_OPERATIONS = 10_000_000;
+
+    @Test
+    @DisplayName("replay nanoseconds per event")
+    void replay() {
+        List<AccountEvent> history = history();
+        long sink = 0;
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            sink += Account.fromHistory(history).getVersion();
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            sink += Account.fromHistory(history).getVersion();
+        }
+        double nanosPerEvent = (System.nanoTime() - start) / ((double) MEASURED_ITERATIONS * history.size());
+
+        assertThat(Account.fromHistory(history).getBalance().isFixedPoint()).isTrue();
+        System.out.printf("replay: events=%d %.1f ns/event (%d)%n", history.size(), nanosPerEvent, sink & 1);
+    }
+
+    @Test
+    @DisplayName("add/compare nanoseconds: Money vs BigDecimal")
+    void arithmetic() {
+        Money step = Money.usd(new BigDecimal("0.01"));
+        BigDecimal decimalStep = new BigDecimal("0.01");
+
+        // Warm up both paths
+        sumMoney(step, ARITHMETIC_OPERATIONS / 10);
+        sumDecimal(decimalStep, ARITHMETIC_OPERATIONS / 10);
+
+        long start = System.nanoTime();
+        Money money = sumMoney(step, ARITHMETIC_OPERATIONS);
+        double moneyNanos = (System.nanoTime() - start) / (double) ARITHMETIC_OPERATIONS;
+
+        start = System.nanoTime();
+        BigDecimal decimal = sumDecimal(decimalStep, ARITHMETIC_OPERATIONS);
+        double decimalNanos = (System.nanoTime() - start) / (double) ARITHMETIC_OPERATIONS;
+
+        assertThat(money.amount()).isEqualByComparingTo(decimal);
+        System.out.printf("arithmetic: money=%.2f ns/op bigdecimal=%.2f ns/op%n", moneyNanos, decimalNanos);
+    }
+
+    // Helper methods
+
+    private List<AccountEvent> history() {
+        Account account = Account.create("ACC-REPLAY", UUID.randomUUID(), AccountType.CHECKING,
+                Money.usd(new BigDecimal("1000.00")));
+        account.activate();
+        Money deposit = Money.usd(new BigDecimal("12.34"));
+        Money withdrawal = Money.usd(new BigDecimal("5.67"));
+        for (int i = 0; account.getUncommittedEvents().size() < EVENTS_PER_ACCOUNT; i++) {
+            if (i % 3 == 2) {
+                account.withdraw(withdrawal, "Replay benchmark", null);
+            } else {
+                account.deposit(deposit, "Replay benchmark", null);
+            }
+        }
+        return List.copyOf(account.getUncommittedEvents());
+    }
+
+    private static Money sumMoney(Money step, int operations) {
+        Money total = Money.zero(Money.USD);
+        Money limit = Money.usd(BigDecimal.valueOf(operations));
+        for (int i = 0; i < operations; i++) {
+            total = total.add(step);
+            if (total.isGreaterThanOrEqual(limit)) {
+                total = total.subtract(limit);
+            }
+        }
+        return total;
+    }
+
+    private static BigDecimal sumDecimal(BigDecimal step, int operations) {
+        BigDecimal total = BigDecimal.ZERO;
+        BigDecimal limit = BigDecimal.valueOf(operations);
+        for (int i = 0; i < operations; i++) {
+            total = total.add(step);
+            if (total.compareTo(limit) >= 0) {
+                total = total.subtract(limit);
+            }
+        }
+        return total;
+    }
+}
@@ -16,6 +16,7 @@ class MoneyTest {
 
     private static final Currency USD = Currency.getInstance("USD");
     private static final Currency EUR = Currency.getInstance("EUR");
+    private static final Currency JPY = Currency.getInstance("JPY");
 
     @Test
     @DisplayName("should create money with amount and currency")
@@ -123,4 +124,77 @@ class MoneyTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("cannot be null");
     }
+
+    @Test
+    @DisplayName("should hold ordinary amounts as minor units")
+    void shouldHoldMinorUnits() {
+        Money money = Money.usd(new BigDecimal("12.5"));
+
+        assertThat(money.isFixedPoint()).isTrue();
+        assertThat(money.minorUnits()).isEqualTo(1250);
+        assertThat(money.amount()).isEqualTo(new BigDecimal("12.50"));
+        assertThat(Money.ofMinor(1250, USD)).isEqualTo(money);
+    }
+
+    @Test
+    @DisplayName("should scale minor units to the currency")
+    void shouldScaleMinorUnitsToCurrency() {
+        Money yen = Money.of(new BigDecimal("1500"), JPY);
+
+        assertThat(yen.minorUnits()).isEqualTo(1500);
+        assertThat(yen.amount().scale()).isZero();
+        assertThat(Money.of(new BigDecimal("1500.000"), JPY).isFixedPoint()).isTrue();
+    }
+
+    @Test
+    @DisplayName("should keep amounts finer than the minor unit exact")
+    void shouldKeepSubMinorAmountsExact() {
+        Money fraction = Money.usd(new BigDecimal("0.005"));
+
+        Money result = fraction.add(Money.usd(new BigDecimal("1.00")));
+
+        assertThat(fraction.isFixedPoint()).isFalse();
+        assertThat(result.amount()).isEqualByComparingTo("1.005");
+        assertThatThrownBy(fraction::minorUnits).isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    @DisplayName("should fall back to BigDecimal when arithmetic overflows")
+    void shouldFallBackOnOverflow() {
+        Money large = Money.ofMinor(Long.MAX_VALUE, USD);
+        Money small = Money.ofMinor(Long.MIN_VALUE, USD);
+
+        Money sum = large.add(Money.ofMinor(1, USD));
+        Money difference = small.subtract(Money.ofMinor(1, USD));
+
+        assertThat(sum.isFixedPoint()).isFalse();
+        assertThat(sum.amount()).isEqualByComparingTo(
+                BigDecimal.valueOf(Long.MAX_VALUE, 2).add(new BigDecimal("0.01")));
+        assertThat(difference.isFixedPoint()).isFalse();
+        assertThat(difference.amount()).isEqualByComparingTo(
+                BigDecimal.valueOf(Long.MIN_VALUE, 2).subtract(new BigDecimal("0.01")));
+        assertThat(sum.subtract(Money.ofMinor(1, USD)).isFixedPoint()).isTrue();
+    }
+
+    @Test
+    @DisplayName("should compare across representations")
+    void shouldCompareAcrossRepresentations() {
+        Money exact = Money.usd(new BigDecimal("10.001"));
+        Money fixed = Money.usd(BigDecimal.TEN);
+
+        assertThat(exact.isGreaterThanOrEqual(fixed)).isTrue();
+        assertThat(fixed.isGreaterThanOrEqual(exact)).isFalse();
+        assertThat(exact.subtract(Money.usd(new BigDecimal("0.001")))).isEqualTo(fixed);
+    }
+
+    @Test
+    @DisplayName("should be equal regardless of scale")
+    void shouldBeEqualRegardlessOfScale() {
+        Money a = Money.usd(new BigDecimal("100"));
+        Money b = Money.usd(new BigDecimal("100.000"));
+
+        assertThat(a).isEqualTo(b);
+        assertThat(a.hashCode()).isEqualTo(b.hashCode());
+        assertThat(a).isNotEqualTo(Money.of(new BigDecimal("100"), EUR));
+    }
 }
@@ -0,0 +1,206 @@
+package com.vaultstream.account.infrastructure.messaging;
+
+import com.vaultstream.account.domain.model.Account;
+import com.vaultstream.account.domain.model.AccountType;
+import com.vaultstream.account.domain.model.Money;
+import com.vaultstream.account.infrastructure.persistence.EventStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import io.smallrye.reactive.messaging.kafka.api.OutgoingKafkaRecordMetadata;
+import io.smallrye.reactive.messaging.memory.InMemoryConnector;
+import io.smallrye.reactive.messaging.memory.InMemorySink;
+import jakarta.enterprise.inject.Any;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import org.eclipse.microprofile.reactive.messaging.Emitter;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the outbox relay using H2 and the in-memory connector (No Docker).
+ */
+@QuarkusTest
+@DisplayName("Account Event Relay Integration")
+class AccountEventRelayIT {
+
+    @Inject
+    @Any
+    InMemoryConnector connector;
+
+    @Inject
+    EventStore eventStore;
+
+    @Inject
+    EntityManager em;
+
+    @Test
+    @DisplayName("appended events should be published in order, keyed by account, and leave the outbox")
+    void shouldPublishAppendedEvents() throws InterruptedException {
+        InMemorySink<String> sink = connector.sink("account-events-out");
+        Account account = Account.create("ACC-OUT-" + UUID.randomUUID().toString().substring(0, 8), UUID.randomUUID(),
+                AccountType.CHECKING, Money.usd(BigDecimal.valueOf(100)));
+        account.activate();
+        account.deposit(Money.usd(BigDecimal.TEN), "Outbox", null);
+        QuarkusTransaction.requiringNew().run(() -> eventStore.saveEvents(account));
+
+        waitUntil(() -> messagesFor(sink, account.getId()).size() == 3);
+
+        List<Message<String>> messages = messagesFor(sink, account.getId());
+        assertThat(messages).extracting(message -> message.getPayload().contains("AccountCreated"))
+                .containsExactly(true, false, false);
+        assertThat(messages.get(2).getPayload()).contains("MoneyDeposited");
+
+        waitUntil(() -> outboxRows(account.getId()) == 0);
+        assertThat(outboxRows(account.getId())).isZero();
+    }
+
+    @Test
+    @DisplayName("two relays draining one outbox should publish every event exactly once")
+    void concurrentRelaysShouldPublishEachEventOnce() throws Exception {
+        InMemorySink<String> sink = connector.sink("account-events-out");
+        RecordingEmitter firstSent = new RecordingEmitter();
+        RecordingEmitter secondSent = new RecordingEmitter();
+        AccountEventRelay first = relay(firstSent);
+        AccountEventRelay second = relay(secondSent);
+
+        List<UUID> accountIds = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            Account account = Account.create("ACC-RLY-" + UUID.randomUUID().toString().substring(0, 8),
+                    UUID.randomUUID(), AccountType.CHECKING, Money.usd(BigDecimal.valueOf(100)));
+            account.activate();
+            account.deposit(Money.usd(BigDecimal.TEN), "Outbox", null);
+            QuarkusTransaction.requiringNew().run(() -> eventStore.saveEvents(account));
+            accountIds.add(account.getId());
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<?>> drains = new ArrayList<>();
+            for (AccountEventRelay relay : List.of(first, second)) {
+                drains.add(pool.submit(() -> {
+                    long deadline = System.currentTimeMillis() + 10_000;
+                    while (outboxRows(accountIds) > 0 && System.currentTimeMillis() < deadline) {
+                        relay.relayPending();
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> drain : drains) {
+                drain.get(20, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        List<String> eventIds = new ArrayList<>();
+        eventIds.addAll(eventIds(firstSent.sent, accountIds));
+        eventIds.addAll(eventIds(secondSent.sent, accountIds));
+        eventIds.addAll(eventIds(sink.received(), accountIds));
+        assertThat(outboxRows(accountIds)).isZero();
+        assertThat(eventIds).hasSize(accountIds.size() * 3).doesNotHaveDuplicates();
+    }
+
+    // Helper methods
+
+    private AccountEventRelay relay(RecordingEmitter emitter) {
+        return new AccountEventRelay(em, emitter, new SimpleMeterRegistry(), false, 5, Duration.ZERO,
+                Duration.ofMillis(50), Duration.ofSeconds(5), Duration.ofSeconds(10));
+    }
+
+    private static List<String> eventIds(List<? extends Message<?>> messages, List<UUID> accountIds) {
+        Set<String> keys = accountIds.stream().map(UUID::toString).collect(Collectors.toSet());
+        return messages.stream()
+                .map(message -> message.getMetadata(OutgoingKafkaRecordMetadata.class).orElseThrow())
+                .filter(metadata -> keys.contains(String.valueOf(metadata.getKey())))
+                .map(metadata -> new String(metadata.getHeaders().lastHeader("eventId").value(), StandardCharsets.UTF_8))
+                .toList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Message<String>> messagesFor(InMemorySink<String> sink, UUID accountId) {
+        return sink.received().stream()
+                .filter(message -> message.getMetadata(OutgoingKafkaRecordMetadata.class)
+                        .map(metadata -> accountId.toString().equals(metadata.getKey()))
+                        .orElse(false))
+                .map(message -> (Message<String>) message)
+                .toList();
+    }
+
+    private long outboxRows(UUID accountId) {
+        return QuarkusTransaction.requiringNew().call(() -> em.createQuery(
+                        "SELECT COUNT(o) FROM AccountOutboxEntity o WHERE o.aggregateId = :id", Long.class)
+                .setParameter("id", accountId)
+                .getSingleResult());
+    }
+
+    private long outboxRows(List<UUID> accountIds) {
+        return QuarkusTransaction.requiringNew().call(() -> em.createQuery(
+                        "SELECT COUNT(o) FROM AccountOutboxEntity o WHERE o.aggregateId IN :ids", Long.class)
+                .setParameter("ids", accountIds)
+                .getSingleResult());
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+    }
+
+    /**
+     * Stands in for a second replica's channel; the broker acknowledges at once
+     */
+    private static final class RecordingEmitter implements Emitter<String> {
+
+        final List<Message<? extends String>> sent = new CopyOnWriteArrayList<>();
+
+        @Override
+        public CompletionStage<Void> send(String payload) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <M extends Message<? extends String>> void send(M message) {
+            sent.add(message);
+            message.ack();
+        }
+
+        @Override
+        public void complete() {
+        }
+
+        @Override
+        public void error(Exception e) {
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return false;
+        }
+
+        @Override
+        public boolean hasRequests() {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.vaultstream.account.infrastructure.persistence;
+
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.PreparedStatement;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Shows that account number lookups stay flat as the index grows to 1M accounts.
+ * 
+ * Run with: mvn -pl account-service test -Pbenchmark
+ */
+@QuarkusTest
+@DisplayName("Account number lookup benchmark")
+class AccountNumberLookupBenchmark {
+
+    private static final int[] INDEX_SIZES = {1_000, 10_000, 100_000, 1_000_000};
+    private static final int INSERT_CHUNK = 10_000;
+    private static final int LOOKUPS = 20_000;
+    private static final String PREFIX = "ACC-L-";
+
+    /**
+     * A B-tree gains about one level from 1k to 1M keys; anything beyond this
+     * means lookups are no longer index seeks
+     */
+    private static final double MAX_LATENCY_RATIO = 3.0;
+
+    @Inject
+    AccountNumberIndex accountNumberIndex;
+
+    @Inject
+    EntityManager em;
+
+    @Test
+    @DisplayName("uncached lookup latency at 1k, 10k, 100k and 1M accounts")
+    void lookupShouldStayFlat() {
+        int indexed = 0;
+        double[] latencies = new double[INDEX_SIZES.length];
+
+        for (int step = 0; step < INDEX_SIZES.length; step++) {
+            int size = INDEX_SIZES[step];
+            while (indexed < size) {
+                int from = indexed;
+                int to = Math.min(size, indexed + INSERT_CHUNK);
+                QuarkusTransaction.requiringNew().run(() -> insertRange(from, to));
+                indexed = to;
+            }
+
+            int population = indexed;
+            latencies[step] = QuarkusTransaction.requiringNew().call(() -> measureLookups(population));
+            System.out.printf("accounts=%,d lookup=%.2f us%n", size, latencies[step]);
+        }
+
+        double ratio = latencies[latencies.length - 1] / latencies[0];
+        System.out.printf("1M/1k latency ratio=%.2f (max %.1f)%n", ratio, MAX_LATENCY_RATIO);
+        assertThat(accountNumberIndex.lookup(number(INDEX_SIZES[INDEX_SIZES.length - 1] - 1))).isPresent();
+        assertThat(ratio).isLessThanOrEqualTo(MAX_LATENCY_RATIO);
+    }
+
+    private double measureLookups(int population) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < LOOKUPS / 10; i++) {
+            accountNumberIndex.lookup(number(random.nextInt(population)));
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < LOOKUPS; i++) {
+            accountNumberIndex.lookup(number(random.nextInt(population)));
+            if (i % 1000 == 0) {
+                em.clear();
+            }
+        }
+        return (System.nanoTime() - start) / 1e3 / LOOKUPS;
+    }
+
+    private void insertRange(int from, int to) {
+        em.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "INSERT INTO account_number_index (account_number, account_id) VALUES (?, ?)")) {
+                for (int i = from; i < to; i++) {
+                    statement.setString(1, number(i));
+                    statement.setObject(2, UUID.randomUUID());
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+        });
+    }
+
+    private static String number(int i) {
+        return PREFIX + i;
+    }
+}
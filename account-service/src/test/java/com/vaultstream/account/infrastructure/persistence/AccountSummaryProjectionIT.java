@@ -0,0 +1,114 @@
+package com.vaultstream.account.infrastructure.persistence;
+
+import com.vaultstream.account.application.command.CreateAccountCommand;
+import com.vaultstream.account.application.command.DepositMoneyCommand;
+import com.vaultstream.account.application.dto.AccountCursor;
+import com.vaultstream.account.application.dto.AccountDto;
+import com.vaultstream.account.application.service.AccountCommandHandler;
+import com.vaultstream.account.application.service.AccountQueryHandler;
+import com.vaultstream.account.domain.model.AccountStatus;
+import com.vaultstream.account.domain.model.AccountType;
+import com.vaultstream.common.dto.CursorPageResponse;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the account_summary read model using H2 (No Docker).
+ */
+@QuarkusTest
+@DisplayName("AccountSummaryProjection Integration")
+class AccountSummaryProjectionIT {
+
+    @Inject
+    AccountCommandHandler commandHandler;
+
+    @Inject
+    AccountQueryHandler queryHandler;
+
+    @Inject
+    EntityManager em;
+
+    @Test
+    @DisplayName("commands should update the summary in the same transaction")
+    void commandsShouldUpdateSummary() {
+        UUID customerId = UUID.randomUUID();
+        AccountDto created = createAccount(customerId, BigDecimal.valueOf(100));
+        UUID accountId = UUID.fromString(created.getId());
+
+        commandHandler.deposit(DepositMoneyCommand.builder()
+                .accountId(accountId)
+                .amount(BigDecimal.valueOf(25))
+                .description("Projection test")
+                .build());
+
+        AccountDto byId = queryHandler.getAccountById(accountId);
+        assertThat(byId.getBalance()).isEqualByComparingTo(BigDecimal.valueOf(125));
+        assertThat(byId.getStatus()).isEqualTo(AccountStatus.ACTIVE);
+        assertThat(queryHandler.getAccountByNumber(created.getAccountNumber()).getId()).isEqualTo(created.getId());
+        assertThat(queryHandler.getAccountsByCustomerId(customerId)).extracting(AccountDto::getId)
+                .containsExactly(created.getId());
+    }
+
+    @Test
+    @DisplayName("rebuild() should restore summaries from the event store")
+    void rebuildShouldRestoreSummaries() {
+        AccountDto created = createAccount(UUID.randomUUID(), BigDecimal.valueOf(40));
+        UUID accountId = UUID.fromString(created.getId());
+
+        QuarkusTransaction.requiringNew().run(() ->
+                em.createQuery("DELETE FROM AccountSummaryEntity s WHERE s.accountId = :id")
+                        .setParameter("id", accountId)
+                        .executeUpdate());
+
+        long rebuilt = commandHandler.rebuildAccountSummaries();
+
+        assertThat(rebuilt).isPositive();
+        AccountDto restored = queryHandler.getAccountById(accountId);
+        assertThat(restored.getBalance()).isEqualByComparingTo(BigDecimal.valueOf(40));
+        assertThat(restored.getAccountNumber()).isEqualTo(created.getAccountNumber());
+    }
+
+    @Test
+    @DisplayName("getAccountsAfter() should walk every account exactly once")
+    void cursorPagesShouldCoverEveryAccount() {
+        for (int i = 0; i < 5; i++) {
+            createAccount(UUID.randomUUID(), BigDecimal.TEN);
+        }
+
+        Set<String> seen = new HashSet<>();
+        CursorPageResponse<AccountDto> page = queryHandler.getAccountsAfter(null, 2, true);
+        long total = page.getTotalElements();
+        seen.addAll(page.getContent().stream().map(AccountDto::getId).toList());
+
+        while (page.isHasMore()) {
+            page = queryHandler.getAccountsAfter(AccountCursor.decode(page.getNextCursor()), 2, false);
+            assertThat(page.getTotalElements()).isNull();
+            for (AccountDto account : page.getContent()) {
+                assertThat(seen.add(account.getId())).isTrue();
+            }
+        }
+
+        assertThat(page.getNextCursor()).isNull();
+        assertThat((long) seen.size()).isEqualTo(total);
+    }
+
+    private AccountDto createAccount(UUID customerId, BigDecimal initialDeposit) {
+        return commandHandler.createAccount(CreateAccountCommand.builder()
+                .customerId(customerId)
+                .accountType(AccountType.SAVINGS)
+                .currency("USD")
+                .initialDeposit(initialDeposit)
+                .build());
+    }
+}
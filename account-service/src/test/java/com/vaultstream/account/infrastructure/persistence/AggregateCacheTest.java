@@ -0,0 +1,88 @@
+package com.vaultstream.account.infrastructure.persistence;
+
+import com.vaultstream.account.domain.model.AccountSnapshot;
+import com.vaultstream.account.domain.model.AccountStatus;
+import com.vaultstream.account.domain.model.AccountType;
+import com.vaultstream.account.domain.model.Money;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the aggregate cache.
+ */
+@DisplayName("Aggregate Cache")
+class AggregateCacheTest {
+
+    private SimpleMeterRegistry registry;
+    private AggregateCache cache;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        cache = new AggregateCache(registry, true, 100);
+    }
+
+    @Test
+    @DisplayName("should keep the newest version on concurrent writes")
+    void shouldKeepNewestVersion() {
+        UUID accountId = UUID.randomUUID();
+
+        cache.put(state(accountId, 5));
+        cache.put(state(accountId, 3));
+
+        assertThat(cache.get(accountId)).get().extracting(AccountSnapshot::version).isEqualTo(5L);
+
+        cache.put(state(accountId, 6));
+
+        assertThat(cache.get(accountId)).get().extracting(AccountSnapshot::version).isEqualTo(6L);
+    }
+
+    @Test
+    @DisplayName("should write through committed appends")
+    void shouldWriteThroughCommittedAppends() {
+        UUID accountId = UUID.randomUUID();
+
+        cache.onEventsAppended(new AccountEventsAppended(state(accountId, 2), List.of()));
+
+        assertThat(cache.get(accountId)).isPresent();
+    }
+
+    @Test
+    @DisplayName("should record hits and misses")
+    void shouldRecordHitsAndMisses() {
+        UUID accountId = UUID.randomUUID();
+        cache.get(accountId);
+        cache.put(state(accountId, 1));
+        cache.get(accountId);
+
+        assertThat(registry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(1.0);
+        assertThat(registry.get("cache.gets").tag("result", "miss").functionCounter().count()).isEqualTo(1.0);
+        assertThat(registry.get("vaultstream.account.aggregate-cache.memory.estimated").gauge().value())
+                .isEqualTo(AggregateCache.ESTIMATED_ENTRY_BYTES);
+    }
+
+    @Test
+    @DisplayName("should bypass storage when disabled")
+    void shouldBypassWhenDisabled() {
+        AggregateCache disabled = new AggregateCache(new SimpleMeterRegistry(), false, 100);
+        UUID accountId = UUID.randomUUID();
+
+        disabled.put(state(accountId, 1));
+
+        assertThat(disabled.get(accountId)).isEmpty();
+    }
+
+    private AccountSnapshot state(UUID accountId, long version) {
+        return new AccountSnapshot(accountId, "ACC-CACHE", UUID.randomUUID(), AccountType.CHECKING,
+                AccountStatus.ACTIVE, BigDecimal.TEN, Money.USD, Instant.now(), Instant.now(), version);
+    }
+}
@@ -0,0 +1,117 @@
+package com.vaultstream.account.infrastructure.persistence;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vaultstream.account.domain.event.AccountEvent;
+import com.vaultstream.account.domain.model.Account;
+import com.vaultstream.account.domain.model.AccountType;
+import com.vaultstream.account.domain.model.Money;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares per-event em.persist appends against the batched JDBC append path.
+ * 
+ * Run with: mvn -pl account-service test -Pbenchmark
+ */
+@QuarkusTest
+@DisplayName("EventStore append benchmark")
+class EventAppendBenchmark {
+
+    private static final int ACCOUNTS = 200;
+    private static final int EVENTS_PER_ACCOUNT = 10;
+    private static final int ROUNDS = 5;
+
+    @Inject
+    EventStore eventStore;
+
+    @Inject
+    EntityManager em;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("events per second: per-event persist vs batched insert")
+    void compareAppendThroughput() {
+        // Warm up both paths
+        appendPerEvent(prepareAccounts());
+        appendBatched(prepareAccounts());
+
+        long perEventNanos = 0;
+        long batchedNanos = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            perEventNanos += appendPerEvent(prepareAccounts());
+            batchedNanos += appendBatched(prepareAccounts());
+        }
+
+        long totalEvents = (long) ACCOUNTS * EVENTS_PER_ACCOUNT * ROUNDS;
+        double perEventRate = totalEvents / (perEventNanos / 1e9);
+        double batchedRate = totalEvents / (batchedNanos / 1e9);
+
+        System.out.printf("events=%d per-event=%.0f ev/s batched=%.0f ev/s speedup=%.1fx%n",
+                totalEvents, perEventRate, batchedRate, batchedRate / perEventRate);
+        assertThat(batchedRate).isPositive();
+    }
+
+    private long appendPerEvent(List<Account> accounts) {
+        long start = System.nanoTime();
+        QuarkusTransaction.requiringNew().run(() -> {
+            for (Account account : accounts) {
+                long version = account.getVersion();
+                for (AccountEvent event : account.getUncommittedEvents()) {
+                    em.persist(toEntity(event, ++version));
+                }
+                account.markEventsAsCommitted();
+            }
+        });
+        return System.nanoTime() - start;
+    }
+
+    private long appendBatched(List<Account> accounts) {
+        long start = System.nanoTime();
+        QuarkusTransaction.requiringNew().run(() -> eventStore.saveEvents(accounts));
+        return System.nanoTime() - start;
+    }
+
+    private List<Account> prepareAccounts() {
+        List<Account> accounts = new ArrayList<>(ACCOUNTS);
+        for (int i = 0; i < ACCOUNTS; i++) {
+            Account account = Account.create("ACC-APPEND-" + UUID.randomUUID().toString().substring(0, 8), UUID.randomUUID(),
+                    AccountType.CHECKING, Money.usd(BigDecimal.valueOf(100)));
+            account.activate();
+            while (account.getUncommittedEvents().size() < EVENTS_PER_ACCOUNT) {
+                account.deposit(Money.usd(BigDecimal.ONE), "Append benchmark", null);
+            }
+            accounts.add(account);
+        }
+        return accounts;
+    }
+
+    private EventStoreEntity toEntity(AccountEvent event, long version) {
+        try {
+            return EventStoreEntity.builder()
+                    .eventId(event.getEventId())
+                    .aggregateId(event.getAccountId())
+                    .aggregateType("Account")
+                    .eventType(event.getEventType())
+                    .eventVersion(event.getEventVersion())
+                    .version(version)
+                    .payload(objectMapper.writeValueAsString(event))
+                    .occurredAt(event.getOccurredAt())
+                    .build();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
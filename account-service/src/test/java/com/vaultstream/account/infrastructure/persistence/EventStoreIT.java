@@ -0,0 +1,137 @@
+package com.vaultstream.account.infrastructure.persistence;
+
+import com.vaultstream.account.domain.model.Account;
+import com.vaultstream.account.domain.model.AccountType;
+import com.vaultstream.account.domain.model.Money;
+import com.vaultstream.common.exception.ConcurrencyException;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Integration tests for the EventStore using H2 (No Docker).
+ */
+@QuarkusTest
+@DisplayName("EventStore Integration")
+class EventStoreIT {
+
+    @Inject
+    EventStore eventStore;
+
+    @Test
+    @DisplayName("saveEvents() should persist events and advance the aggregate version")
+    void saveEventsShouldAdvanceVersion() {
+        Account account = createActiveAccount(BigDecimal.valueOf(100));
+
+        assertThat(account.getVersion()).isEqualTo(2);
+        assertThat(eventStore.getCurrentVersion(account.getId())).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("loadAggregate() should rebuild the persisted state")
+    void loadAggregateShouldRebuildState() {
+        Account account = createActiveAccount(BigDecimal.valueOf(100));
+
+        Account loaded = QuarkusTransaction.requiringNew()
+                .call(() -> eventStore.loadAggregate(account.getId()).orElseThrow());
+
+        assertThat(loaded.toSnapshot()).isEqualTo(account.toSnapshot());
+    }
+
+    @Test
+    @DisplayName("saveEvents() should reject an append based on a stale version")
+    void saveEventsShouldRejectStaleAppend() {
+        UUID accountId = createActiveAccount(BigDecimal.valueOf(100)).getId();
+
+        Account first = QuarkusTransaction.requiringNew()
+                .call(() -> eventStore.loadAggregate(accountId).orElseThrow());
+        Account second = QuarkusTransaction.requiringNew()
+                .call(() -> eventStore.loadAggregate(accountId).orElseThrow());
+
+        first.withdraw(Money.usd(BigDecimal.valueOf(80)), "First", "TXN-1");
+        second.withdraw(Money.usd(BigDecimal.valueOf(80)), "Second", "TXN-2");
+
+        QuarkusTransaction.requiringNew().run(() -> eventStore.saveEvents(first));
+
+        assertThatThrownBy(() -> QuarkusTransaction.requiringNew().run(() -> eventStore.saveEvents(second)))
+                .isInstanceOf(ConcurrencyException.class);
+
+        Account reloaded = QuarkusTransaction.requiringNew()
+                .call(() -> eventStore.loadAggregate(accountId).orElseThrow());
+        assertThat(reloaded.getBalance().amount()).isEqualByComparingTo(BigDecimal.valueOf(20));
+        assertThat(reloaded.getVersion()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("loadAggregates() should match loadAggregate() for every requested ID")
+    void loadAggregatesShouldMatchSingleLoads() {
+        Account first = createActiveAccount(BigDecimal.valueOf(100));
+        Account second = createActiveAccount(BigDecimal.valueOf(250));
+        UUID unknown = UUID.randomUUID();
+
+        Map<UUID, Account> loaded = QuarkusTransaction.requiringNew()
+                .call(() -> eventStore.loadAggregates(List.of(first.getId(), unknown, second.getId())));
+
+        assertThat(loaded).containsOnlyKeys(first.getId(), second.getId());
+        assertThat(loaded.get(first.getId()).toSnapshot()).isEqualTo(first.toSnapshot());
+        assertThat(loaded.get(second.getId()).toSnapshot()).isEqualTo(second.toSnapshot());
+    }
+
+    @Test
+    @DisplayName("loadAggregates() should read each tail from that aggregate's own base version")
+    void loadAggregatesShouldReadTailsFromEachBase() {
+        Account first = createActiveAccount(BigDecimal.valueOf(100));
+        Account second = createActiveAccount(BigDecimal.valueOf(250));
+        first.deposit(Money.usd(BigDecimal.valueOf(40)), "Deposit", "TXN-D");
+        first.withdraw(Money.usd(BigDecimal.valueOf(15)), "Withdrawal", "TXN-W");
+        QuarkusTransaction.requiringNew().run(() -> eventStore.saveEvents(first));
+
+        Map<UUID, Account> loaded = QuarkusTransaction.requiringNew()
+                .call(() -> eventStore.loadAggregates(List.of(first.getId(), second.getId())));
+
+        assertThat(loaded.get(first.getId()).toSnapshot()).isEqualTo(first.toSnapshot());
+        assertThat(loaded.get(first.getId()).getVersion()).isEqualTo(4);
+        assertThat(loaded.get(second.getId()).toSnapshot()).isEqualTo(second.toSnapshot());
+    }
+
+    @Test
+    @DisplayName("loadLatestState() should match full replay without reading the whole stream")
+    void loadLatestStateShouldMatchReplay() {
+        Account account = createActiveAccount(BigDecimal.valueOf(100));
+        account.deposit(Money.usd(BigDecimal.valueOf(40)), "Deposit", "TXN-D");
+        account.freeze("Review");
+        account.activate();
+        account.withdraw(Money.usd(BigDecimal.valueOf(15)), "Withdrawal", "TXN-W");
+        account.deposit(Money.usd(BigDecimal.valueOf(5)), "Deposit", "TXN-D2");
+        QuarkusTransaction.requiringNew().run(() -> eventStore.saveEvents(account));
+
+        Account loaded = QuarkusTransaction.requiringNew()
+                .call(() -> eventStore.loadLatestState(account.getId()).orElseThrow());
+        Account replayed = QuarkusTransaction.requiringNew()
+                .call(() -> Account.fromHistory(eventStore.loadEvents(account.getId())));
+
+        assertThat(loaded.toSnapshot()).isEqualTo(replayed.toSnapshot());
+        assertThat(loaded.getVersion()).isEqualTo(7);
+        assertThat(loaded.getBalance().amount()).isEqualByComparingTo(BigDecimal.valueOf(130));
+        assertThat(QuarkusTransaction.requiringNew().call(() -> eventStore.loadLatestState(UUID.randomUUID())))
+                .isEmpty();
+    }
+
+    private Account createActiveAccount(BigDecimal balance) {
+        Account account = Account.create("ACC-IT-" + UUID.randomUUID().toString().substring(0, 8), UUID.randomUUID(),
+                AccountType.CHECKING, Money.usd(balance));
+        account.activate();
+        QuarkusTransaction.requiringNew().run(() -> eventStore.saveEvents(account));
+        return account;
+    }
+}
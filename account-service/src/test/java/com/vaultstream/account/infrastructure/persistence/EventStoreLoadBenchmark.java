@@ -0,0 +1,113 @@
+package com.vaultstream.account.infrastructure.persistence;
+
+import com.vaultstream.account.domain.model.Account;
+import com.vaultstream.account.domain.model.AccountType;
+import com.vaultstream.account.domain.model.Money;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares full event replay against snapshot-based and latest-state loading.
+ * 
+ * Run with: mvn -pl account-service test -Pbenchmark
+ */
+@QuarkusTest
+@TestProfile(EventStoreLoadBenchmark.ManualSnapshots.class)
+@DisplayName("EventStore load benchmark")
+class EventStoreLoadBenchmark {
+
+    private static final int SEED_CHUNK = 1000;
+    private static final int TAIL_EVENTS = 5;
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 10;
+
+    @Inject
+    EventStore eventStore;
+
+    @Inject
+    SnapshotStore snapshotStore;
+
+    @ParameterizedTest(name = "{0} events")
+    @ValueSource(ints = {10, 1_000, 100_000})
+    @DisplayName("load time: full replay vs snapshot vs latest state")
+    void compareLoadTimes(int eventCount) {
+        UUID accountId = seedAccount(eventCount);
+
+        long replayNanos = measure(() -> Account.fromHistory(eventStore.loadEvents(accountId)));
+        long snapshotNanos = measure(() -> eventStore.loadAggregate(accountId).orElseThrow());
+        long latestNanos = measure(() -> eventStore.loadLatestState(accountId).orElseThrow());
+
+        Account replayed = Account.fromHistory(eventStore.loadEvents(accountId));
+        Account loaded = eventStore.loadAggregate(accountId).orElseThrow();
+        Account latest = eventStore.loadLatestState(accountId).orElseThrow();
+        assertThat(loaded.toSnapshot()).isEqualTo(replayed.toSnapshot());
+        assertThat(latest.toSnapshot()).isEqualTo(replayed.toSnapshot());
+
+        System.out.printf("events=%d full-replay=%.3f ms snapshot=%.3f ms latest-state=%.3f ms speedup=%.1fx / %.1fx%n",
+                eventCount, replayNanos / 1e6, snapshotNanos / 1e6, latestNanos / 1e6,
+                (double) replayNanos / snapshotNanos, (double) replayNanos / latestNanos);
+    }
+
+    private UUID seedAccount(int eventCount) {
+        Account account = Account.create("ACC-BENCH-" + eventCount, UUID.randomUUID(),
+                AccountType.CHECKING, Money.usd(BigDecimal.valueOf(100)));
+        account.activate();
+
+        int remaining = eventCount - account.getUncommittedEvents().size() - TAIL_EVENTS;
+        while (remaining > 0) {
+            int chunk = Math.min(SEED_CHUNK, remaining);
+            for (int i = 0; i < chunk; i++) {
+                account.deposit(Money.usd(BigDecimal.ONE), "Seed", null);
+            }
+            QuarkusTransaction.requiringNew().run(() -> eventStore.saveEvents(account));
+            remaining -= chunk;
+        }
+        if (!account.getUncommittedEvents().isEmpty()) {
+            QuarkusTransaction.requiringNew().run(() -> eventStore.saveEvents(account));
+        }
+
+        snapshotStore.save(account.toSnapshot());
+
+        for (int i = 0; i < TAIL_EVENTS; i++) {
+            account.deposit(Money.usd(BigDecimal.ONE), "Tail", null);
+        }
+        QuarkusTransaction.requiringNew().run(() -> eventStore.saveEvents(account));
+        return account.getId();
+    }
+
+    private long measure(Runnable load) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            QuarkusTransaction.requiringNew().run(load);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            QuarkusTransaction.requiringNew().run(load);
+        }
+        return (System.nanoTime() - start) / MEASURED_ROUNDS;
+    }
+
+    /**
+     * Disables the background writer so snapshot positions are deterministic,
+     * and the aggregate cache so every load goes to the database
+     */
+    public static class ManualSnapshots implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of(
+                    "vaultstream.event-store.snapshot.enabled", "false",
+                    "vaultstream.event-store.cache.enabled", "false");
+        }
+    }
+}
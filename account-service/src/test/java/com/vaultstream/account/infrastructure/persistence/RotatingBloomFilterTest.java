@@ -0,0 +1,87 @@
+package com.vaultstream.account.infrastructure.persistence;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the time-rotating Bloom filter.
+ */
+@DisplayName("Rotating Bloom Filter")
+class RotatingBloomFilterTest {
+
+    private static final long SPAN = 1_000;
+
+    private AtomicLong clock;
+    private RotatingBloomFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong();
+        filter = new RotatingBloomFilter(4, SPAN, 10_000, 0.01, clock::get);
+    }
+
+    @Test
+    @DisplayName("should never miss a key that was added")
+    void shouldHaveNoFalseNegatives() {
+        for (long i = 0; i < 10_000; i++) {
+            filter.add(i * 31, i * 17 | 1);
+        }
+
+        for (long i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain(i * 31, i * 17 | 1)).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("should keep false positives near the configured rate")
+    void shouldKeepFalsePositivesLow() {
+        for (long i = 0; i < 10_000; i++) {
+            filter.add(mix(i), mix(~i) | 1);
+        }
+
+        int falsePositives = 0;
+        for (long i = 10_000; i < 20_000; i++) {
+            if (filter.mightContain(mix(i), mix(~i) | 1)) {
+                falsePositives++;
+            }
+        }
+
+        assertThat(falsePositives).isLessThan(300);
+    }
+
+    @Test
+    @DisplayName("should keep keys for at least (generations - 1) spans and drop them after the ring turns")
+    void shouldExpireKeysByGeneration() {
+        filter.add(42, 7);
+
+        clock.set(3 * SPAN - 1);
+        assertThat(filter.mightContain(42, 7)).isTrue();
+
+        clock.set(4 * SPAN);
+        assertThat(filter.mightContain(42, 7)).isFalse();
+    }
+
+    @Test
+    @DisplayName("should clear every generation after a long idle period")
+    void shouldClearAfterIdle() {
+        filter.add(42, 7);
+
+        clock.set(100 * SPAN);
+
+        assertThat(filter.mightContain(42, 7)).isFalse();
+    }
+
+    // Helper methods
+
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xFF51AFD7ED558CCDL;
+        value ^= value >>> 33;
+        return value;
+    }
+}
@@ -0,0 +1,158 @@
+package com.vaultstream.account.infrastructure.persistence.codec;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vaultstream.account.domain.event.*;
+import com.vaultstream.account.domain.model.AccountStatus;
+import com.vaultstream.account.domain.model.AccountType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Currency;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for the binary event codec.
+ */
+@DisplayName("Binary Event Codec")
+class BinaryEventCodecTest {
+
+    /**
+     * Format byte, flags byte, type tag, then the schema version
+     */
+    private static final int HEADER_OFFSET_SCHEMA_VERSION = 3;
+
+    private final BinaryEventCodec codec = new BinaryEventCodec(256);
+
+    @Test
+    @DisplayName("should round-trip every account event type")
+    void shouldRoundTripAllEventTypes() {
+        UUID accountId = UUID.randomUUID();
+        List<AccountEvent> events = List.of(
+                AccountCreatedEvent.builder()
+                        .accountId(accountId)
+                        .accountNumber("ACC-00000042")
+                        .customerId(UUID.randomUUID())
+                        .accountType(AccountType.MONEY_MARKET)
+                        .status(AccountStatus.PENDING)
+                        .initialBalance(new BigDecimal("1500.00"))
+                        .currency(Currency.getInstance("EUR"))
+                        .build(),
+                MoneyDepositedEvent.builder()
+                        .accountId(accountId)
+                        .amount(new BigDecimal("12.34"))
+                        .balanceAfter(new BigDecimal("1512.34"))
+                        .description("Salary")
+                        .transactionReference("TXN-1")
+                        .build(),
+                MoneyWithdrawnEvent.builder()
+                        .accountId(accountId)
+                        .amount(new BigDecimal("-0.5"))
+                        .balanceAfter(new BigDecimal("123456789012345678901234567890.123"))
+                        .description(null)
+                        .transactionReference(null)
+                        .build(),
+                MoneyWithdrawnEvent.builder()
+                        .accountId(accountId)
+                        .amount(new BigDecimal("75.00"))
+                        .balanceAfter(new BigDecimal("1437.34"))
+                        .description("Rent")
+                        .transactionReference("TRF-1")
+                        .transferId(UUID.randomUUID())
+                        .counterpartyAccountId(UUID.randomUUID())
+                        .build(),
+                AccountStatusChangedEvent.builder()
+                        .accountId(accountId)
+                        .previousStatus(null)
+                        .newStatus(AccountStatus.FROZEN)
+                        .reason("Révision ✓")
+                        .build());
+
+        for (AccountEvent event : events) {
+            byte[] encoded = codec.encode(event);
+            AccountEvent decoded = codec.decode(event.getEventType(), event.getEventVersion(), encoded);
+
+            assertThat(decoded).isEqualTo(event);
+        }
+    }
+
+    @Test
+    @DisplayName("should decode version 1 postings without a transfer link")
+    void shouldDecodeVersionOnePostings() {
+        MoneyDepositedEvent event = MoneyDepositedEvent.builder()
+                .accountId(UUID.randomUUID())
+                .amount(new BigDecimal("5.00"))
+                .balanceAfter(new BigDecimal("105.00"))
+                .description("Cashback")
+                .transactionReference("TXN-V1")
+                .transferId(UUID.randomUUID())
+                .counterpartyAccountId(UUID.randomUUID())
+                .build();
+        byte[] encoded = codec.encode(event);
+        // A version 1 body is the version 2 body without the two trailing link fields
+        byte[] versionOne = Arrays.copyOf(encoded, encoded.length - 2 * (1 + 16));
+        versionOne[HEADER_OFFSET_SCHEMA_VERSION] = 1;
+
+        MoneyDepositedEvent decoded = (MoneyDepositedEvent) codec.decode(event.getEventType(), 1, versionOne);
+
+        assertThat(decoded.getAmount()).isEqualByComparingTo("5.00");
+        assertThat(decoded.getTransactionReference()).isEqualTo("TXN-V1");
+        assertThat(decoded.getTransferId()).isNull();
+        assertThat(decoded.getCounterpartyAccountId()).isNull();
+    }
+
+    @Test
+    @DisplayName("should compress large payloads and still decode them")
+    void shouldCompressLargePayloads() {
+        MoneyDepositedEvent event = MoneyDepositedEvent.builder()
+                .accountId(UUID.randomUUID())
+                .amount(BigDecimal.TEN)
+                .balanceAfter(BigDecimal.TEN)
+                .description("Settlement batch ".repeat(40))
+                .transactionReference("TXN-LARGE")
+                .build();
+
+        byte[] encoded = codec.encode(event);
+
+        assertThat(encoded[1] & BinaryEventCodec.FLAG_COMPRESSED).isNotZero();
+        assertThat(encoded.length).isLessThan(event.getDescription().length());
+        assertThat(codec.decode(event.getEventType(), 1, encoded)).isEqualTo(event);
+    }
+
+    @Test
+    @DisplayName("should be smaller than the JSON encoding")
+    void shouldBeSmallerThanJson() {
+        JsonEventCodec json = new JsonEventCodec(objectMapper());
+        MoneyDepositedEvent event = MoneyDepositedEvent.builder()
+                .accountId(UUID.randomUUID())
+                .amount(new BigDecimal("25.00"))
+                .balanceAfter(new BigDecimal("1025.00"))
+                .description("ATM deposit")
+                .transactionReference("TXN-ATM-7")
+                .build();
+
+        assertThat(codec.encode(event).length).isLessThan(json.encode(event).length / 2);
+    }
+
+    @Test
+    @DisplayName("should reject payloads in an unknown format")
+    void shouldRejectUnknownFormat() {
+        assertThatThrownBy(() -> codec.decode("MoneyDeposited", 1, new byte[]{9, 0, 2}))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unsupported binary event format");
+    }
+
+    /**
+     * Mirrors the Quarkus defaults for the shared ObjectMapper
+     */
+    private static ObjectMapper objectMapper() {
+        return new ObjectMapper()
+                .findAndRegisterModules()
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    }
+}
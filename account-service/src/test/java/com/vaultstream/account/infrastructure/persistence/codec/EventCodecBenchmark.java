@@ -0,0 +1,113 @@
+package com.vaultstream.account.infrastructure.persistence.codec;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vaultstream.account.domain.event.AccountCreatedEvent;
+import com.vaultstream.account.domain.event.AccountEvent;
+import com.vaultstream.account.domain.event.AccountStatusChangedEvent;
+import com.vaultstream.account.domain.event.MoneyDepositedEvent;
+import com.vaultstream.account.domain.event.MoneyWithdrawnEvent;
+import com.vaultstream.account.domain.model.AccountStatus;
+import com.vaultstream.account.domain.model.AccountType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Reports bytes per event and encode/decode time for each codec.
+ * 
+ * Run with: mvn -pl account-service test -Pbenchmark
+ */
+@DisplayName("Event codec benchmark")
+class EventCodecBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 200_000;
+    private static final int MEASURED_ITERATIONS = 1_000_000;
+
+    @Test
+    @DisplayName("bytes per event and encode/decode nanoseconds")
+    void compareCodecs() {
+        Map<String, EventCodec> codecs = new LinkedHashMap<>();
+        codecs.put("json", new JsonEventCodec(objectMapper()));
+        codecs.put("binary", new BinaryEventCodec(0));
+        codecs.put("binary+deflate", new BinaryEventCodec(1));
+
+        for (AccountEvent event : sampleEvents()) {
+            codecs.forEach((label, codec) -> report(label, codec, event));
+        }
+    }
+
+    private void report(String label, EventCodec codec, AccountEvent event) {
+        byte[] encoded = codec.encode(event);
+        long sink = 0;
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            sink += codec.encode(event).length;
+            sink += codec.decode(event.getEventType(), 1, encoded).hashCode();
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            sink += codec.encode(event).length;
+        }
+        double encodeNanos = (System.nanoTime() - start) / (double) MEASURED_ITERATIONS;
+
+        start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            sink += codec.decode(event.getEventType(), 1, encoded).hashCode();
+        }
+        double decodeNanos = (System.nanoTime() - start) / (double) MEASURED_ITERATIONS;
+
+        System.out.printf("%-22s %-15s bytes=%4d encode=%7.1f ns decode=%7.1f ns (%d)%n",
+                event.getEventType(), label, encoded.length, encodeNanos, decodeNanos, sink & 1);
+    }
+
+    private List<AccountEvent> sampleEvents() {
+        UUID accountId = UUID.randomUUID();
+        return List.of(
+                AccountCreatedEvent.builder()
+                        .accountId(accountId)
+                        .accountNumber("ACC-00001234")
+                        .customerId(UUID.randomUUID())
+                        .accountType(AccountType.CHECKING)
+                        .status(AccountStatus.PENDING)
+                        .initialBalance(new BigDecimal("100.00"))
+                        .currency(Currency.getInstance("USD"))
+                        .build(),
+                MoneyDepositedEvent.builder()
+                        .accountId(accountId)
+                        .amount(new BigDecimal("49.99"))
+                        .balanceAfter(new BigDecimal("149.99"))
+                        .description("Card top-up")
+                        .transactionReference("TXN-20260101-000001")
+                        .build(),
+                MoneyWithdrawnEvent.builder()
+                        .accountId(accountId)
+                        .amount(new BigDecimal("20.00"))
+                        .balanceAfter(new BigDecimal("129.99"))
+                        .description("ATM withdrawal")
+                        .transactionReference("TXN-20260101-000002")
+                        .build(),
+                AccountStatusChangedEvent.builder()
+                        .accountId(accountId)
+                        .previousStatus(AccountStatus.PENDING)
+                        .newStatus(AccountStatus.ACTIVE)
+                        .reason("Account activated")
+                        .build());
+    }
+
+    /**
+     * Mirrors the Quarkus defaults for the shared ObjectMapper
+     */
+    private static ObjectMapper objectMapper() {
+        return new ObjectMapper()
+                .findAndRegisterModules()
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    }
+}
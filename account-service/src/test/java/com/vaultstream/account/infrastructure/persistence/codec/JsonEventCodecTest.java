@@ -0,0 +1,53 @@
+package com.vaultstream.account.infrastructure.persistence.codec;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vaultstream.account.domain.event.AccountEvent;
+import com.vaultstream.account.domain.event.MoneyWithdrawnEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for the JSON event codec used by legacy rows.
+ */
+@DisplayName("JSON Event Codec")
+class JsonEventCodecTest {
+
+    private final JsonEventCodec codec = new JsonEventCodec(new ObjectMapper()
+            .findAndRegisterModules()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false));
+
+    @Test
+    @DisplayName("should decode a payload in the pre-codec JSON row format")
+    void shouldDecodeLegacyRow() {
+        UUID eventId = UUID.randomUUID();
+        UUID accountId = UUID.randomUUID();
+        String legacyPayload = "{\"eventId\":\"" + eventId + "\",\"accountId\":\"" + accountId + "\","
+                + "\"amount\":25.50,\"balanceAfter\":74.50,\"description\":\"ATM\","
+                + "\"transactionReference\":\"TXN-9\",\"occurredAt\":\"2025-03-01T10:15:30Z\","
+                + "\"eventType\":\"MoneyWithdrawn\",\"eventVersion\":1}";
+
+        AccountEvent event = codec.decode("MoneyWithdrawn", 1, legacyPayload.getBytes(StandardCharsets.UTF_8));
+
+        assertThat(event).isInstanceOfSatisfying(MoneyWithdrawnEvent.class, withdrawn -> {
+            assertThat(withdrawn.getEventId()).isEqualTo(eventId);
+            assertThat(withdrawn.getAccountId()).isEqualTo(accountId);
+            assertThat(withdrawn.getBalanceAfter()).isEqualByComparingTo(new BigDecimal("74.50"));
+            assertThat(withdrawn.getTransactionReference()).isEqualTo("TXN-9");
+        });
+    }
+
+    @Test
+    @DisplayName("should reject unknown event types")
+    void shouldRejectUnknownEventType() {
+        assertThatThrownBy(() -> codec.decode("AccountRenamed", 1, "{}".getBytes(StandardCharsets.UTF_8)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unknown event type");
+    }
+}
@@ -0,0 +1,143 @@
+package com.vaultstream.account.infrastructure.persistence.rollup;
+
+import com.vaultstream.account.domain.event.AccountCreatedEvent;
+import com.vaultstream.account.domain.event.AccountStatusChangedEvent;
+import com.vaultstream.account.domain.event.MoneyDepositedEvent;
+import com.vaultstream.account.domain.event.MoneyWithdrawnEvent;
+import com.vaultstream.account.domain.model.AccountStatus;
+import com.vaultstream.account.domain.model.AccountType;
+import com.vaultstream.account.infrastructure.persistence.rollup.DailyRollupFold.AccountDay;
+import com.vaultstream.account.infrastructure.persistence.rollup.DailyRollupFold.AccountDayKey;
+import com.vaultstream.account.infrastructure.persistence.rollup.DailyRollupFold.BankDay;
+import com.vaultstream.account.infrastructure.persistence.rollup.DailyRollupFold.BankDayKey;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Currency;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the in-memory daily rollup fold.
+ */
+@DisplayName("Daily Rollup Fold")
+class DailyRollupFoldTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 3, 10);
+
+    @Test
+    @DisplayName("should total postings per account and UTC day")
+    void shouldTotalPostingsPerAccountAndDay() {
+        UUID accountId = UUID.randomUUID();
+        DailyRollupFold fold = new DailyRollupFold();
+
+        fold.add(accountId, 1, created(accountId, "100", "2024-03-10T08:00:00Z"), AccountType.CHECKING, "USD");
+        fold.add(accountId, 2, deposited(accountId, "50", "150", "2024-03-10T09:00:00Z"), AccountType.CHECKING, "USD");
+        fold.add(accountId, 3, withdrawn(accountId, "30", "120", "2024-03-10T23:59:59Z"), AccountType.CHECKING, "USD");
+        fold.add(accountId, 4, deposited(accountId, "5", "125", "2024-03-11T00:00:00Z"), AccountType.CHECKING, "USD");
+
+        AccountDay first = fold.accountDays().get(new AccountDayKey(accountId, DAY));
+        AccountDay second = fold.accountDays().get(new AccountDayKey(accountId, DAY.plusDays(1)));
+
+        assertThat(first.closingBalance).isEqualByComparingTo("120");
+        assertThat(first.lastVersion).isEqualTo(3);
+        assertThat(first.depositTotal).isEqualByComparingTo("50");
+        assertThat(first.depositCount).isEqualTo(1);
+        assertThat(first.withdrawalTotal).isEqualByComparingTo("30");
+        assertThat(first.withdrawalCount).isEqualTo(1);
+        assertThat(second.closingBalance).isEqualByComparingTo("125");
+        assertThat(second.depositCount).isEqualTo(1);
+        assertThat(second.withdrawalCount).isZero();
+    }
+
+    @Test
+    @DisplayName("should close the day on the highest version whatever the fold order")
+    void shouldCloseOnHighestVersion() {
+        UUID accountId = UUID.randomUUID();
+        DailyRollupFold fold = new DailyRollupFold();
+
+        fold.add(accountId, 3, withdrawn(accountId, "30", "120", "2024-03-10T12:00:00Z"), AccountType.SAVINGS, "EUR");
+        fold.add(accountId, 2, deposited(accountId, "50", "150", "2024-03-10T11:00:00Z"), AccountType.SAVINGS, "EUR");
+
+        AccountDay day = fold.accountDays().get(new AccountDayKey(accountId, DAY));
+        assertThat(day.closingBalance).isEqualByComparingTo("120");
+        assertThat(day.lastVersion).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("should total the bank per currency and account type and ignore status changes")
+    void shouldTotalBankPerCurrencyAndType() {
+        UUID checking = UUID.randomUUID();
+        UUID savings = UUID.randomUUID();
+        DailyRollupFold fold = new DailyRollupFold();
+
+        fold.add(checking, 1, created(checking, "100", "2024-03-10T08:00:00Z"), AccountType.CHECKING, "USD");
+        fold.add(checking, 2, statusChanged(checking, "2024-03-10T08:01:00Z"), AccountType.CHECKING, "USD");
+        fold.add(checking, 3, withdrawn(checking, "40", "60", "2024-03-10T10:00:00Z"), AccountType.CHECKING, "USD");
+        fold.add(savings, 1, created(savings, "0", "2024-03-10T08:00:00Z"), AccountType.SAVINGS, "USD");
+
+        DailyRollupFold other = new DailyRollupFold();
+        UUID another = UUID.randomUUID();
+        other.add(another, 4, deposited(another, "25", "525", "2024-03-10T15:00:00Z"), AccountType.CHECKING, "USD");
+        fold.mergeBankDays(other);
+
+        BankDay usdChecking = fold.bankDays().get(new BankDayKey(DAY, "USD", AccountType.CHECKING));
+        BankDay usdSavings = fold.bankDays().get(new BankDayKey(DAY, "USD", AccountType.SAVINGS));
+
+        assertThat(fold.bankDays()).hasSize(2);
+        assertThat(usdChecking.accountsOpened).isEqualTo(1);
+        assertThat(usdChecking.depositTotal).isEqualByComparingTo("25");
+        assertThat(usdChecking.depositCount).isEqualTo(1);
+        assertThat(usdChecking.withdrawalTotal).isEqualByComparingTo("40");
+        assertThat(usdChecking.withdrawalCount).isEqualTo(1);
+        assertThat(usdChecking.netChange).isEqualByComparingTo("85");
+        assertThat(usdSavings.accountsOpened).isEqualTo(1);
+        assertThat(usdSavings.netChange).isEqualByComparingTo("0");
+    }
+
+    // Helper methods
+
+    private static AccountCreatedEvent created(UUID accountId, String balance, String at) {
+        return AccountCreatedEvent.builder()
+                .accountId(accountId)
+                .accountNumber("ACC-ROLLUP")
+                .customerId(UUID.randomUUID())
+                .accountType(AccountType.CHECKING)
+                .status(AccountStatus.PENDING)
+                .initialBalance(new BigDecimal(balance))
+                .currency(Currency.getInstance("USD"))
+                .occurredAt(Instant.parse(at))
+                .build();
+    }
+
+    private static MoneyDepositedEvent deposited(UUID accountId, String amount, String balanceAfter, String at) {
+        return MoneyDepositedEvent.builder()
+                .accountId(accountId)
+                .amount(new BigDecimal(amount))
+                .balanceAfter(new BigDecimal(balanceAfter))
+                .occurredAt(Instant.parse(at))
+                .build();
+    }
+
+    private static MoneyWithdrawnEvent withdrawn(UUID accountId, String amount, String balanceAfter, String at) {
+        return MoneyWithdrawnEvent.builder()
+                .accountId(accountId)
+                .amount(new BigDecimal(amount))
+                .balanceAfter(new BigDecimal(balanceAfter))
+                .occurredAt(Instant.parse(at))
+                .build();
+    }
+
+    private static AccountStatusChangedEvent statusChanged(UUID accountId, String at) {
+        return AccountStatusChangedEvent.builder()
+                .accountId(accountId)
+                .previousStatus(AccountStatus.PENDING)
+                .newStatus(AccountStatus.ACTIVE)
+                .occurredAt(Instant.parse(at))
+                .build();
+    }
+}
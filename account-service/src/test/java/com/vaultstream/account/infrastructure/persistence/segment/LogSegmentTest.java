@@ -0,0 +1,206 @@
+package com.vaultstream.account.infrastructure.persistence.segment;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for memory-mapped log segments and their records.
+ */
+@DisplayName("Log Segment")
+class LogSegmentTest {
+
+    private static final int CAPACITY = 4096;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("should read back appended records")
+    void shouldReadBackAppendedRecords() {
+        try (LogSegment segment = LogSegment.create(directory.resolve("segment.log"), 0, CAPACITY)) {
+            int first = segment.append(bytes("first"));
+            int second = segment.append(bytes("second"));
+
+            assertThat(segment.read(first)).isEqualTo(bytes("first"));
+            assertThat(segment.read(second)).isEqualTo(bytes("second"));
+        }
+    }
+
+    @Test
+    @DisplayName("should recover every record after reopening")
+    void shouldRecoverRecords() {
+        Path file = directory.resolve("segment.log");
+        try (LogSegment segment = LogSegment.create(file, 0, CAPACITY)) {
+            segment.append(bytes("one"));
+            segment.append(bytes("two"));
+        }
+
+        List<String> recovered = new ArrayList<>();
+        try (LogSegment segment = LogSegment.open(file, 0)) {
+            assertThat(segment.recover((offset, payload) -> recovered.add(text(payload)))).isEqualTo(2);
+        }
+
+        assertThat(recovered).containsExactly("one", "two");
+    }
+
+    @Test
+    @DisplayName("should drop a corrupted tail and keep appending after it")
+    void shouldTruncateCorruptedTail() throws Exception {
+        Path file = directory.resolve("segment.log");
+        int corrupted;
+        try (LogSegment segment = LogSegment.create(file, 0, CAPACITY)) {
+            segment.append(bytes("kept"));
+            corrupted = segment.append(bytes("torn"));
+        }
+        try (RandomAccessFile raw = new RandomAccessFile(file.toFile(), "rw")) {
+            raw.seek(corrupted + LogSegment.FRAME_SIZE);
+            raw.write('X');
+        }
+
+        List<String> recovered = new ArrayList<>();
+        try (LogSegment segment = LogSegment.open(file, 0)) {
+            segment.recover((offset, payload) -> recovered.add(text(payload)));
+            assertThat(segment.writePosition()).isEqualTo(corrupted);
+            segment.append(bytes("after"));
+        }
+        try (LogSegment segment = LogSegment.open(file, 0)) {
+            segment.recover((offset, payload) -> recovered.add(text(payload)));
+        }
+
+        assertThat(recovered).containsExactly("kept", "kept", "after");
+    }
+
+    @Test
+    @DisplayName("should discard a batch whose commit frame never reached the file")
+    void shouldDiscardUncommittedBatch() throws Exception {
+        Path file = directory.resolve("segment.log");
+        int batchStart;
+        int marker;
+        try (LogSegment segment = LogSegment.create(file, 0, CAPACITY)) {
+            segment.append(bytes("committed"));
+            int[] offsets = segment.append(List.of(bytes("first"), bytes("second")));
+            batchStart = offsets[0];
+            marker = offsets[1] + LogSegment.FRAME_SIZE + bytes("second").length;
+        }
+        try (RandomAccessFile raw = new RandomAccessFile(file.toFile(), "rw")) {
+            raw.seek(marker);
+            raw.write(new byte[LogSegment.FRAME_SIZE]);
+        }
+
+        List<String> recovered = new ArrayList<>();
+        try (LogSegment segment = LogSegment.open(file, 0)) {
+            assertThat(segment.recover((offset, payload) -> recovered.add(text(payload)))).isEqualTo(1);
+            assertThat(segment.writePosition()).isEqualTo(batchStart);
+        }
+
+        assertThat(recovered).containsExactly("committed");
+    }
+
+    @Test
+    @DisplayName("should leave no trace of a batch that failed part way")
+    void shouldRollBackFailedBatch() {
+        Path file = directory.resolve("segment.log");
+        try (LogSegment segment = LogSegment.create(file, 0, CAPACITY)) {
+            segment.append(bytes("kept"));
+            int before = segment.writePosition();
+
+            List<byte[]> failing = new ArrayList<>();
+            failing.add(bytes("written"));
+            failing.add(null);
+            assertThatThrownBy(() -> segment.append(failing)).isInstanceOf(NullPointerException.class);
+            assertThat(segment.writePosition()).isEqualTo(before);
+
+            segment.append(bytes("after"));
+        }
+
+        List<String> recovered = new ArrayList<>();
+        try (LogSegment segment = LogSegment.open(file, 0)) {
+            segment.recover((offset, payload) -> recovered.add(text(payload)));
+        }
+
+        assertThat(recovered).containsExactly("kept", "after");
+    }
+
+    @Test
+    @DisplayName("should report when a record no longer fits")
+    void shouldReportWhenFull() {
+        try (LogSegment segment = LogSegment.create(directory.resolve("segment.log"), 0, CAPACITY)) {
+            byte[] large = new byte[LogSegment.maxPayload(CAPACITY)];
+
+            assertThat(segment.fits(LogSegment.batchLength(List.of(large)))).isTrue();
+            segment.append(large);
+            assertThat(segment.fits(LogSegment.batchLength(List.of(new byte[1])))).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("should round-trip a stored event record")
+    void shouldRoundTripRecord() {
+        SegmentRecord record = new SegmentRecord(UUID.randomUUID(), 42, 1, "binary", "MoneyDeposited", bytes("data"));
+
+        SegmentRecord decoded = SegmentRecord.decode(record.encode());
+
+        assertThat(decoded.aggregateId()).isEqualTo(record.aggregateId());
+        assertThat(decoded.version()).isEqualTo(42);
+        assertThat(decoded.eventVersion()).isEqualTo(1);
+        assertThat(decoded.codec()).isEqualTo("binary");
+        assertThat(decoded.eventType()).isEqualTo("MoneyDeposited");
+        assertThat(decoded.data()).isEqualTo(bytes("data"));
+
+        SegmentRecord.Header header = SegmentRecord.decodeHeader(record.encode());
+        assertThat(header).isEqualTo(new SegmentRecord.Header(record.aggregateId(), 42, "MoneyDeposited"));
+    }
+
+    @Test
+    @DisplayName("should track the versions that decide the latest state")
+    void shouldTrackLatestDecidingVersions() {
+        StreamIndex index = new StreamIndex();
+        index.add(StreamIndex.position(0, 8), "AccountCreated");
+        index.add(StreamIndex.position(0, 100), "AccountStatusChanged");
+        for (int i = 0; i < 50; i++) {
+            index.add(StreamIndex.position(0, 200 + i * 100), i % 2 == 0 ? "MoneyDeposited" : "MoneyWithdrawn");
+        }
+
+        assertThat(index.latest()).isEqualTo(new StreamIndex.Latest(52, 2, 52));
+
+        index.add(StreamIndex.position(1, 8), "AccountStatusChanged");
+        assertThat(index.latest()).isEqualTo(new StreamIndex.Latest(53, 53, 52));
+    }
+
+    @Test
+    @DisplayName("should index positions by version")
+    void shouldIndexPositionsByVersion() {
+        StreamIndex index = new StreamIndex();
+        for (int i = 0; i < 20; i++) {
+            index.add(StreamIndex.position(i / 10, i * 100), "MoneyDeposited");
+        }
+
+        long[] tail = index.after(18);
+
+        assertThat(index.version()).isEqualTo(20);
+        assertThat(tail).hasSize(2);
+        assertThat(StreamIndex.segmentOf(tail[0])).isEqualTo(1);
+        assertThat(StreamIndex.offsetOf(tail[0])).isEqualTo(1800);
+    }
+
+    // Helper methods
+
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String text(byte[] bytes) {
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
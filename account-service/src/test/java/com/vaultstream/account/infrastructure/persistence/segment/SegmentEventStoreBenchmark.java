@@ -0,0 +1,146 @@
+package com.vaultstream.account.infrastructure.persistence.segment;
+
+import com.vaultstream.account.domain.model.Account;
+import com.vaultstream.account.domain.model.AccountType;
+import com.vaultstream.account.domain.model.Money;
+import com.vaultstream.account.infrastructure.persistence.AccountEventsAppended;
+import com.vaultstream.account.infrastructure.persistence.AggregateCache;
+import com.vaultstream.account.infrastructure.persistence.EventStore;
+import com.vaultstream.account.infrastructure.persistence.codec.EventCodecs;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.runtime.configuration.MemorySize;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.enterprise.event.Event;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares append and load throughput of the segment-file engine against
+ * the JPA engine, both running in the same application.
+ *
+ * Run with: mvn -pl account-service test -Pbenchmark
+ */
+@QuarkusTest
+@TestProfile(SegmentEventStoreBenchmark.NoCaching.class)
+@DisplayName("Segment event store benchmark")
+class SegmentEventStoreBenchmark {
+
+    private static final int ACCOUNTS = 500;
+    private static final int EVENTS_PER_ACCOUNT = 50;
+    private static final int ACCOUNTS_PER_BATCH = 50;
+
+    @Inject
+    EventStore jpaStore;
+
+    @Inject
+    EventCodecs eventCodecs;
+
+    @Inject
+    AggregateCache aggregateCache;
+
+    @Inject
+    Event<AccountEventsAppended> eventsAppended;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("events per second: JPA vs segment file")
+    void compareThroughput() {
+        SegmentFileEventStore segmentStore = openSegmentStore();
+        try {
+            // Warm up both engines
+            append(jpaStore, prepareAccounts());
+            append(segmentStore, prepareAccounts());
+
+            List<Account> jpaAccounts = prepareAccounts();
+            List<Account> segmentAccounts = prepareAccounts();
+            long jpaAppend = append(jpaStore, jpaAccounts);
+            long segmentAppend = append(segmentStore, segmentAccounts);
+            long jpaLoad = load(jpaStore, jpaAccounts);
+            long segmentLoad = load(segmentStore, segmentAccounts);
+
+            for (Account account : segmentAccounts) {
+                assertThat(segmentStore.getCurrentVersion(account.getId())).isEqualTo(EVENTS_PER_ACCOUNT);
+            }
+
+            long events = (long) ACCOUNTS * EVENTS_PER_ACCOUNT;
+            System.out.printf("append: jpa=%.0f ev/s segment=%.0f ev/s | load: jpa=%.0f agg/s segment=%.0f agg/s%n",
+                    events / (jpaAppend / 1e9), events / (segmentAppend / 1e9),
+                    ACCOUNTS / (jpaLoad / 1e9), ACCOUNTS / (segmentLoad / 1e9));
+        } finally {
+            segmentStore.close();
+        }
+    }
+
+    // Helper methods
+
+    private SegmentFileEventStore openSegmentStore() {
+        SegmentFileEventStore store = new SegmentFileEventStore();
+        store.eventCodecs = eventCodecs;
+        store.aggregateCache = aggregateCache;
+        store.eventsAppended = eventsAppended;
+        store.directory = directory.toString();
+        store.segmentSize = new MemorySize(BigInteger.valueOf(16L * 1024 * 1024));
+        store.forceOnAppend = true;
+        store.open();
+        return store;
+    }
+
+    private long append(EventStore store, List<Account> accounts) {
+        long start = System.nanoTime();
+        for (int from = 0; from < accounts.size(); from += ACCOUNTS_PER_BATCH) {
+            List<Account> batch = accounts.subList(from, Math.min(accounts.size(), from + ACCOUNTS_PER_BATCH));
+            QuarkusTransaction.requiringNew().run(() -> store.saveEvents(batch));
+        }
+        return System.nanoTime() - start;
+    }
+
+    private long load(EventStore store, List<Account> accounts) {
+        long start = System.nanoTime();
+        for (Account account : accounts) {
+            QuarkusTransaction.requiringNew().run(() -> store.loadAggregate(account.getId()).orElseThrow());
+        }
+        return System.nanoTime() - start;
+    }
+
+    private List<Account> prepareAccounts() {
+        List<Account> accounts = new ArrayList<>(ACCOUNTS);
+        for (int i = 0; i < ACCOUNTS; i++) {
+            Account account = Account.create("ACC-SEG-" + UUID.randomUUID().toString().substring(0, 8), UUID.randomUUID(),
+                    AccountType.CHECKING, Money.usd(BigDecimal.valueOf(100)));
+            account.activate();
+            while (account.getUncommittedEvents().size() < EVENTS_PER_ACCOUNT) {
+                account.deposit(Money.usd(BigDecimal.ONE), "Segment benchmark", null);
+            }
+            accounts.add(account);
+        }
+        return accounts;
+    }
+
+    /**
+     * Disables the aggregate cache and background snapshots so every load replays the stored events
+     */
+    public static class NoCaching implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of(
+                    "vaultstream.event-store.snapshot.enabled", "false",
+                    "vaultstream.event-store.cache.enabled", "false");
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.vaultstream.account.infrastructure.persistence.segment;
+
+import com.vaultstream.account.domain.event.AccountEvent;
+import com.vaultstream.account.domain.event.MoneyDepositedEvent;
+import com.vaultstream.account.domain.model.Account;
+import com.vaultstream.account.domain.model.AccountStatus;
+import com.vaultstream.account.domain.model.AccountType;
+import com.vaultstream.account.domain.model.Money;
+import com.vaultstream.account.infrastructure.persistence.AccountEventsAppended;
+import com.vaultstream.account.infrastructure.persistence.AggregateCache;
+import com.vaultstream.account.infrastructure.persistence.StateEvents;
+import com.vaultstream.account.infrastructure.persistence.codec.EventCodecs;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.runtime.configuration.MemorySize;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.enterprise.event.Event;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the read paths of the segment-file engine, opened
+ * next to the JPA engine of the test application (No Docker).
+ */
+@QuarkusTest
+@DisplayName("Segment file event store Integration")
+class SegmentFileEventStoreIT {
+
+    @Inject
+    EventCodecs eventCodecs;
+
+    @Inject
+    AggregateCache aggregateCache;
+
+    @Inject
+    Event<AccountEventsAppended> eventsAppended;
+
+    @TempDir
+    Path directory;
+
+    private SegmentFileEventStore store;
+
+    @BeforeEach
+    void openStore() {
+        store = new SegmentFileEventStore();
+        store.eventCodecs = eventCodecs;
+        store.aggregateCache = aggregateCache;
+        store.eventsAppended = eventsAppended;
+        store.directory = directory.toString();
+        store.segmentSize = new MemorySize(BigInteger.valueOf(1024 * 1024));
+        store.forceOnAppend = false;
+        store.open();
+    }
+
+    @AfterEach
+    void closeStore() {
+        store.close();
+    }
+
+    @Test
+    @DisplayName("should read postings in version order, skipping status changes")
+    void shouldReadPostings() {
+        Account account = saveAccountWithPostings();
+
+        List<Long> versions = new ArrayList<>();
+        int read = store.readPostings(account.getId(), 0, null, null, 0, (event, version) -> versions.add(version));
+
+        assertThat(read).isEqualTo(3);
+        assertThat(versions).containsExactly(3L, 4L, 5L);
+    }
+
+    @Test
+    @DisplayName("should page postings after a version and honour the time range")
+    void shouldPageAndFilterPostings() {
+        Account account = saveAccountWithPostings();
+
+        List<AccountEvent> page = new ArrayList<>();
+        store.readPostings(account.getId(), 3, null, null, 1, (event, version) -> page.add(event));
+        int future = store.readPostings(account.getId(), 0, Instant.now().plus(1, ChronoUnit.DAYS), null, 0,
+                (event, version) -> { });
+
+        assertThat(page).extracting(AccountEvent::getEventType).containsExactly("MoneyWithdrawn");
+        assertThat(future).isZero();
+        assertThat(store.readPostings(UUID.randomUUID(), 0, null, null, 0, (event, version) -> { })).isZero();
+    }
+
+    @Test
+    @DisplayName("should find the state-deciding events as of a past instant")
+    void shouldLoadStateAtInstant() throws InterruptedException {
+        Instant beforeOpening = Instant.now();
+        Thread.sleep(5);
+        Account account = Account.create("ACC-SEG-" + UUID.randomUUID().toString().substring(0, 8), UUID.randomUUID(),
+                AccountType.CHECKING, Money.usd(BigDecimal.valueOf(100)));
+        account.activate();
+        account.deposit(Money.usd(BigDecimal.TEN), "Segment", null);
+        Thread.sleep(5);
+        Instant afterDeposit = Instant.now();
+        Thread.sleep(5);
+        account.withdraw(Money.usd(BigDecimal.valueOf(5)), "Segment", null);
+        QuarkusTransaction.requiringNew().run(() -> store.saveEvents(account));
+
+        StateEvents state = store.loadStatesAt(List.of(account.getId()), afterDeposit).get(account.getId());
+
+        assertThat(state.version()).isEqualTo(3);
+        assertThat(state.lastStatusChange().getNewStatus()).isEqualTo(AccountStatus.ACTIVE);
+        assertThat(((MoneyDepositedEvent) state.lastPosting()).getBalanceAfter()).isEqualByComparingTo("110");
+        assertThat(store.loadStatesAt(List.of(account.getId()), beforeOpening)).isEmpty();
+        assertThat(store.loadStatesAt(List.of(account.getId()), Instant.now()).get(account.getId()).version())
+                .isEqualTo(4);
+    }
+
+    // Helper methods
+
+    /**
+     * Created, activated, then deposit, withdrawal, deposit at versions 3 to 5
+     */
+    private Account saveAccountWithPostings() {
+        Account account = Account.create("ACC-SEG-" + UUID.randomUUID().toString().substring(0, 8), UUID.randomUUID(),
+                AccountType.CHECKING, Money.usd(BigDecimal.valueOf(100)));
+        account.activate();
+        account.deposit(Money.usd(BigDecimal.TEN), "Segment", null);
+        account.withdraw(Money.usd(BigDecimal.valueOf(5)), "Segment", null);
+        account.deposit(Money.usd(BigDecimal.ONE), "Segment", null);
+        QuarkusTransaction.requiringNew().run(() -> store.saveEvents(account));
+        return account;
+    }
+}
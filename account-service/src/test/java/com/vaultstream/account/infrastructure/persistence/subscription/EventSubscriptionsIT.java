@@ -0,0 +1,169 @@
+package com.vaultstream.account.infrastructure.persistence.subscription;
+
+import com.vaultstream.account.domain.model.Account;
+import com.vaultstream.account.domain.model.AccountType;
+import com.vaultstream.account.domain.model.Money;
+import com.vaultstream.account.infrastructure.persistence.EventStore;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Integration tests for checkpointed event subscriptions using H2 (No Docker).
+ */
+@QuarkusTest
+@DisplayName("Event Subscriptions Integration")
+class EventSubscriptionsIT {
+
+    @Inject
+    EventSubscriptions subscriptions;
+
+    @Inject
+    EventStore eventStore;
+
+    @Test
+    @DisplayName("catchUp() should deliver events in global order and resume from the checkpoint")
+    void catchUpShouldResumeFromCheckpoint() {
+        RecordingSubscriber subscriber = new RecordingSubscriber("it-" + UUID.randomUUID());
+        Account account = createActiveAccount();
+
+        subscriptions.catchUp(subscriber);
+
+        assertThat(subscriber.versionsOf(account.getId())).containsExactly(1L, 2L);
+        assertThat(subscriber.positions()).isSorted().doesNotHaveDuplicates();
+        assertThat(subscriptions.checkpoint(subscriber.name())).isEqualTo(subscriber.lastPosition());
+
+        account.deposit(Money.usd(BigDecimal.TEN), "Top-up", null);
+        QuarkusTransaction.requiringNew().run(() -> eventStore.saveEvents(account));
+
+        assertThat(subscriptions.catchUp(subscriber)).isEqualTo(1);
+        assertThat(subscriber.versionsOf(account.getId())).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("a failing batch should not advance the checkpoint")
+    void failedBatchShouldBeRedelivered() {
+        String name = "it-" + UUID.randomUUID();
+        Account account = createActiveAccount();
+        EventSubscriber failing = new EventSubscriber() {
+            @Override
+            public String name() {
+                return name;
+            }
+
+            @Override
+            public void handle(List<PositionedEvent> events) {
+                throw new IllegalStateException("Projection failure");
+            }
+        };
+
+        assertThatThrownBy(() -> subscriptions.catchUp(failing)).isInstanceOf(IllegalStateException.class);
+        assertThat(subscriptions.checkpoint(name)).isZero();
+
+        RecordingSubscriber recovered = new RecordingSubscriber(name);
+        subscriptions.catchUp(recovered);
+        assertThat(recovered.versionsOf(account.getId())).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("an event committed after its position was skipped should still be delivered")
+    void lateCommitShouldBeDeliveredAfterGapSkip() throws Exception {
+        RecordingSubscriber subscriber = new RecordingSubscriber("it-" + UUID.randomUUID());
+        subscriptions.catchUp(subscriber);
+
+        Account slow = Account.create("ACC-SUB-" + UUID.randomUUID().toString().substring(0, 8), UUID.randomUUID(),
+                AccountType.CHECKING, Money.usd(BigDecimal.valueOf(100)));
+        CountDownLatch appended = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> slowCommit = CompletableFuture.runAsync(() -> QuarkusTransaction.requiringNew().run(() -> {
+            eventStore.saveEvents(slow);
+            appended.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        assertThat(appended.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // Commits a higher position while the slow transaction is still open; the gap timeout is 0s in tests
+        Account fast = createActiveAccount();
+        subscriptions.catchUp(subscriber);
+        assertThat(subscriber.versionsOf(fast.getId())).containsExactly(1L, 2L);
+        assertThat(subscriber.versionsOf(slow.getId())).isEmpty();
+
+        release.countDown();
+        slowCommit.get(10, TimeUnit.SECONDS);
+        subscriptions.catchUp(subscriber);
+        assertThat(subscriber.versionsOf(slow.getId())).containsExactly(1L);
+
+        subscriptions.catchUp(subscriber);
+        assertThat(subscriber.versionsOf(slow.getId())).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("a started subscriber should receive new events live")
+    void startedSubscriberShouldReceiveLiveEvents() throws InterruptedException {
+        RecordingSubscriber subscriber = new RecordingSubscriber("it-" + UUID.randomUUID());
+        subscriptions.start(subscriber);
+
+        Account account = createActiveAccount();
+
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (subscriber.versionsOf(account.getId()).size() < 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(subscriber.versionsOf(account.getId())).containsExactly(1L, 2L);
+    }
+
+    // Helper methods
+
+    private Account createActiveAccount() {
+        Account account = Account.create("ACC-SUB-" + UUID.randomUUID().toString().substring(0, 8), UUID.randomUUID(),
+                AccountType.CHECKING, Money.usd(BigDecimal.valueOf(100)));
+        account.activate();
+        QuarkusTransaction.requiringNew().run(() -> eventStore.saveEvents(account));
+        return account;
+    }
+
+    private record RecordingSubscriber(String name, List<PositionedEvent> received) implements EventSubscriber {
+
+        RecordingSubscriber(String name) {
+            this(name, new CopyOnWriteArrayList<>());
+        }
+
+        @Override
+        public void handle(List<PositionedEvent> events) {
+            received.addAll(events);
+        }
+
+        List<Long> versionsOf(UUID aggregateId) {
+            return received.stream()
+                    .filter(event -> event.aggregateId().equals(aggregateId))
+                    .map(PositionedEvent::version)
+                    .toList();
+        }
+
+        List<Long> positions() {
+            return new ArrayList<>(received.stream().map(PositionedEvent::globalPosition).toList());
+        }
+
+        long lastPosition() {
+            return received.get(received.size() - 1).globalPosition();
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.vaultstream.account.infrastructure.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vaultstream.account.application.command.CreateAccountCommand;
+import com.vaultstream.account.application.dto.AccountDto;
+import com.vaultstream.account.application.dto.PostingResultDto;
+import com.vaultstream.account.application.service.AccountBatchApplier;
+import com.vaultstream.account.application.service.AccountBatchApplier.BatchCommand;
+import com.vaultstream.account.application.service.AccountCommandHandler;
+import com.vaultstream.account.application.service.AccountQueryHandler;
+import com.vaultstream.account.domain.model.AccountType;
+import com.vaultstream.account.infrastructure.persistence.EventStore;
+import com.vaultstream.common.exception.ConcurrencyException;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.mockito.InjectSpy;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
+
+/**
+ * Integration tests for bulk postings using H2 (No Docker).
+ */
+@QuarkusTest
+@DisplayName("Bulk posting Integration")
+class BatchPostingIT {
+
+    private static final int CHUNK_SIZE = 2;
+
+    @Inject
+    AccountCommandHandler commandHandler;
+
+    @Inject
+    AccountQueryHandler queryHandler;
+
+    @Inject
+    EventStore eventStore;
+
+    @InjectSpy
+    AccountBatchApplier batchApplier;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("should post every line and answer one result per line in order")
+    void shouldPostEveryLine() throws IOException {
+        UUID first = createAccount(BigDecimal.valueOf(100));
+        UUID second = createAccount(BigDecimal.valueOf(50));
+
+        List<PostingResultDto> results = post("""
+                {"accountId":"%1$s","type":"DEPOSIT","amount":10,"description":"Settlement"}
+                {"accountId":"%2$s","type":"WITHDRAWAL","amount":20,"description":"Settlement"}
+                {"accountId":"%1$s","type":"WITHDRAWAL","amount":30,"description":"Settlement"}
+                {"accountId":"%1$s","type":"DEPOSIT","amount":5,"description":"Settlement"}
+                {"accountId":"%2$s","type":"DEPOSIT","amount":1,"description":"Settlement"}
+                """.formatted(first, second));
+
+        assertThat(results).extracting(PostingResultDto::getLine).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(results).extracting(PostingResultDto::getStatus).containsOnly(PostingResultDto.APPLIED);
+        assertThat(results.get(3).getBalance()).isEqualByComparingTo("85");
+        assertThat(queryHandler.getAccountById(first).getBalance()).isEqualByComparingTo("85");
+        assertThat(queryHandler.getAccountById(second).getBalance()).isEqualByComparingTo("31");
+    }
+
+    @Test
+    @DisplayName("should reject bad lines on their own")
+    void shouldRejectBadLinesAlone() throws IOException {
+        UUID accountId = createAccount(BigDecimal.valueOf(10));
+
+        List<PostingResultDto> results = post("""
+                [{"accountId":"%1$s","type":"WITHDRAWAL","amount":50,"description":"Too much"},
+                 {"accountId":"%2$s","type":"DEPOSIT","amount":5,"description":"Unknown"},
+                 {"accountId":"%1$s","type":"DEPOSIT","amount":-1,"description":"Negative"},
+                 {"accountId":"%1$s","type":"DEPOSIT","amount":5,"description":"Fine"}]
+                """.formatted(accountId, UUID.randomUUID()));
+
+        assertThat(results).extracting(PostingResultDto::getStatus).containsExactly(
+                PostingResultDto.REJECTED, PostingResultDto.REJECTED, PostingResultDto.REJECTED, PostingResultDto.APPLIED);
+        assertThat(results.get(0).getError()).contains("Insufficient funds");
+        assertThat(queryHandler.getAccountById(accountId).getBalance()).isEqualByComparingTo("15");
+    }
+
+    @Test
+    @DisplayName("a repeated transaction reference should be posted once")
+    void repeatedReferenceShouldPostOnce() throws IOException {
+        UUID accountId = createAccount(BigDecimal.valueOf(100));
+        String reference = "SETTLE-" + UUID.randomUUID();
+        String line = """
+                {"accountId":"%s","type":"DEPOSIT","amount":25,"description":"Settlement","transactionReference":"%s"}
+                """.formatted(accountId, reference);
+
+        List<PostingResultDto> results = post(line + line + line);
+
+        assertThat(results).extracting(PostingResultDto::getStatus).containsOnly(PostingResultDto.APPLIED);
+        assertThat(queryHandler.getAccountById(accountId).getBalance()).isEqualByComparingTo("125");
+        assertThat(eventStore.getCurrentVersion(accountId)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("should post line by line when a chunk transaction fails")
+    void shouldFallBackWhenChunkFails() throws IOException {
+        UUID accountId = createAccount(BigDecimal.valueOf(100));
+        doThrow(new IllegalStateException("Connection reset")).when(batchApplier).apply(anyList());
+
+        List<PostingResultDto> results = post("""
+                {"accountId":"%1$s","type":"DEPOSIT","amount":10,"description":"Settlement"}
+                {"accountId":"%1$s","type":"WITHDRAWAL","amount":500,"description":"Too much"}
+                {"accountId":"%1$s","type":"WITHDRAWAL","amount":30,"description":"Settlement"}
+                """.formatted(accountId));
+
+        assertThat(results).extracting(PostingResultDto::getLine).containsExactly(1L, 2L, 3L);
+        assertThat(results).extracting(PostingResultDto::getStatus).containsExactly(
+                PostingResultDto.APPLIED, PostingResultDto.REJECTED, PostingResultDto.APPLIED);
+        assertThat(results.get(1).getError()).contains("Insufficient funds");
+        assertThat(queryHandler.getAccountById(accountId).getBalance()).isEqualByComparingTo("80");
+    }
+
+    @Test
+    @DisplayName("should split a chunk that keeps conflicting instead of rejecting it")
+    void shouldSplitContendedChunk() throws IOException {
+        UUID quiet = createAccount(BigDecimal.valueOf(100));
+        UUID contended = createAccount(BigDecimal.valueOf(100));
+        doThrow(new ConcurrencyException("Concurrent update"))
+                .when(batchApplier).apply(argThat((List<BatchCommand> commands) -> commands.size() > 1
+                        && commands.stream().anyMatch(command -> command.accountId().equals(contended))));
+
+        List<PostingResultDto> results = post("""
+                {"accountId":"%1$s","type":"DEPOSIT","amount":10,"description":"Settlement"}
+                {"accountId":"%2$s","type":"DEPOSIT","amount":20,"description":"Settlement"}
+                """.formatted(quiet, contended));
+
+        assertThat(results).extracting(PostingResultDto::getStatus).containsOnly(PostingResultDto.APPLIED);
+        assertThat(queryHandler.getAccountById(quiet).getBalance()).isEqualByComparingTo("110");
+        assertThat(queryHandler.getAccountById(contended).getBalance()).isEqualByComparingTo("120");
+    }
+
+    // Helper methods
+
+    private List<PostingResultDto> post(String body) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        new BatchPostingOutput(commandHandler, objectMapper,
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), CHUNK_SIZE).write(output);
+
+        List<PostingResultDto> results = new ArrayList<>();
+        for (String line : output.toString(StandardCharsets.UTF_8).split("\n")) {
+            results.add(objectMapper.readValue(line, PostingResultDto.class));
+        }
+        return results;
+    }
+
+    private UUID createAccount(BigDecimal initialDeposit) {
+        AccountDto account = commandHandler.createAccount(CreateAccountCommand.builder()
+                .customerId(UUID.randomUUID())
+                .accountType(AccountType.CHECKING)
+                .currency("USD")
+                .initialDeposit(initialDeposit)
+                .build());
+        return UUID.fromString(account.getId());
+    }
+}
@@ -0,0 +1,98 @@
+package com.vaultstream.account.infrastructure.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vaultstream.account.application.command.PostingCommand;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for reading bulk postings from NDJSON and JSON arrays.
+ */
+@DisplayName("Posting Stream Reader")
+class PostingStreamReaderTest {
+
+    private static final UUID ACCOUNT_ID = UUID.randomUUID();
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("should read NDJSON postings and skip blank lines")
+    void shouldReadNdjson() {
+        List<PostingStreamReader.Line> lines = readAll("""
+                {"accountId":"%1$s","type":"DEPOSIT","amount":12.34,"description":"Payroll"}
+
+                {"accountId":"%1$s","type":"WITHDRAWAL","amount":"5","transactionReference":"REF-1"}
+                """.formatted(ACCOUNT_ID));
+
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0).number()).isEqualTo(1);
+        assertThat(lines.get(0).posting().getType()).isEqualTo(PostingCommand.Type.DEPOSIT);
+        assertThat(lines.get(0).posting().getAmount()).isEqualByComparingTo("12.34");
+        assertThat(lines.get(1).number()).isEqualTo(3);
+        assertThat(lines.get(1).posting().getTransactionReference()).isEqualTo("REF-1");
+    }
+
+    @Test
+    @DisplayName("should read a JSON array of postings")
+    void shouldReadJsonArray() {
+        List<PostingStreamReader.Line> lines = readAll("""
+                  [ {"accountId":"%1$s","type":"DEPOSIT","amount":1},
+                    {"accountId":"%1$s","type":"DEPOSIT","amount":0.1} ]
+                """.formatted(ACCOUNT_ID));
+
+        assertThat(lines).extracting(PostingStreamReader.Line::number).containsExactly(1L, 2L);
+        assertThat(lines.get(1).posting().getAmount()).isEqualTo(new BigDecimal("0.1"));
+    }
+
+    @Test
+    @DisplayName("should reject a malformed NDJSON line and keep reading")
+    void shouldRejectMalformedLine() {
+        List<PostingStreamReader.Line> lines = readAll("""
+                {"accountId":"%1$s","type":"DEPOSIT","amount":
+                {"accountId":"not-a-uuid","type":"DEPOSIT","amount":1}
+                {"accountId":"%1$s","type":"REFUND","amount":1}
+                {"accountId":"%1$s","type":"DEPOSIT","amount":1}
+                """.formatted(ACCOUNT_ID));
+
+        assertThat(lines).hasSize(4);
+        assertThat(lines.get(0).error()).startsWith("Malformed posting");
+        assertThat(lines.get(1).isValid()).isFalse();
+        assertThat(lines.get(2).isValid()).isFalse();
+        assertThat(lines.get(3).isValid()).isTrue();
+    }
+
+    @Test
+    @DisplayName("should stop at a syntax error inside a JSON array")
+    void shouldStopAtBrokenArray() {
+        List<PostingStreamReader.Line> lines = readAll("""
+                [{"accountId":"%1$s","type":"DEPOSIT","amount":1}, {"accountId": ]
+                """.formatted(ACCOUNT_ID));
+
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0).isValid()).isTrue();
+        assertThat(lines.get(1).error()).startsWith("Malformed posting array");
+    }
+
+    // Helper methods
+
+    private List<PostingStreamReader.Line> readAll(String body) {
+        List<PostingStreamReader.Line> lines = new ArrayList<>();
+        try (PostingStreamReader reader = new PostingStreamReader(objectMapper,
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)))) {
+            PostingStreamReader.Line line;
+            while ((line = reader.next()) != null) {
+                lines.add(line);
+            }
+        }
+        return lines;
+    }
+}
@@ -1,13 +1,15 @@
 package com.vaultstream.customer.application.service;
 
-import com.vaultstream.customer.domain.repository.CustomerRepository;
+import com.vaultstream.common.util.BlockAllocator;
+import com.vaultstream.common.util.BusinessNumberFormat;
+import com.vaultstream.common.util.RangeSource;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Service for generating unique customer numbers.
@@ -17,57 +19,52 @@ import java.util.concurrent.atomic.AtomicLong;
  * 
  * Where:
  * - YYYYMMDD is the current date
- * - XXXXX is a 5-digit sequence number
+ * - XXXXX is a sequence number of at least 5 digits
+ * 
+ * Sequence numbers come from blocks leased from the shared number_blocks
+ * sequence, so they are unique across restarts and replicas and no lookup
+ * is needed per customer.
  */
 @Slf4j
 @ApplicationScoped
 public class CustomerNumberGenerator {
 
+    static final String SEQUENCE = "customer-number";
+
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.BASIC_ISO_DATE;
     private static final String PREFIX = "CUST-";
     private static final int SEQUENCE_LENGTH = 5;
 
-    private final AtomicLong counter = new AtomicLong(1);
+    private final BlockAllocator allocator;
+    private volatile DatePrefix datePrefix = new DatePrefix(LocalDate.MIN, PREFIX);
 
     @Inject
-    CustomerRepository repository;
+    public CustomerNumberGenerator(
+            RangeSource rangeSource,
+            @ConfigProperty(name = "vaultstream.numbering.block-size", defaultValue = "100") int blockSize) {
+        this.allocator = new BlockAllocator(rangeSource, SEQUENCE, blockSize);
+    }
 
     /**
      * Generate a unique customer number.
      * 
-     * This method is thread-safe and will retry if a collision is detected
-     * (which should be extremely rare).
-     * 
      * @return A unique customer number
      */
     public String generate() {
-        String datePart = LocalDate.now().format(DATE_FORMATTER);
-        String candidate;
-        int attempts = 0;
-        final int maxAttempts = 100;
-
-        do {
-            long sequence = counter.getAndIncrement();
-            String sequencePart = String.format("%0" + SEQUENCE_LENGTH + "d", sequence % 100000);
-            candidate = PREFIX + datePart + "-" + sequencePart;
-
-            attempts++;
-            if (attempts >= maxAttempts) {
-                log.error("Failed to generate unique customer number after {} attempts", maxAttempts);
-                throw new IllegalStateException(
-                        "Unable to generate unique customer number. Please try again.");
-            }
-
-        } while (repository.existsByCustomerNumber(candidate));
-
+        String candidate = BusinessNumberFormat.format(prefixFor(LocalDate.now()), allocator.next(), SEQUENCE_LENGTH);
         log.debug("Generated customer number: {}", candidate);
         return candidate;
     }
 
-    /**
-     * Reset the counter (for testing purposes only)
-     */
-    void resetCounter() {
-        counter.set(1);
+    private String prefixFor(LocalDate today) {
+        DatePrefix current = datePrefix;
+        if (!current.date().equals(today)) {
+            current = new DatePrefix(today, PREFIX + today.format(DATE_FORMATTER) + "-");
+            datePrefix = current;
+        }
+        return current.prefix();
+    }
+
+    private record DatePrefix(LocalDate date, String prefix) {
     }
 }
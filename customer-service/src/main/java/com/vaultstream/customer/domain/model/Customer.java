@@ -4,6 +4,7 @@ import com.vaultstream.common.exception.InvalidEmailException;
 import com.vaultstream.common.exception.InvalidPhoneNumberException;
 import com.vaultstream.common.exception.InvalidStatusTransitionException;
 import com.vaultstream.common.exception.MinimumAgeRequiredException;
+import com.vaultstream.common.util.IdGenerator;
 import lombok.Getter;
 
 import java.time.LocalDate;
@@ -136,7 +137,7 @@ public class Customer {
         }
 
         return new Customer(
-                UUID.randomUUID(),
+                IdGenerator.generateTimeOrderedUUID(),
                 customerNumber,
                 firstName.trim(),
                 lastName.trim(),
@@ -1,5 +1,6 @@
 package com.vaultstream.customer.infrastructure.persistence;
 
+import com.vaultstream.common.util.IdGenerator;
 import com.vaultstream.customer.domain.model.CustomerStatus;
 import com.vaultstream.customer.domain.model.CustomerType;
 import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
@@ -103,7 +104,7 @@ public class CustomerEntity extends PanacheEntityBase {
     @PrePersist
     public void prePersist() {
         if (id == null) {
-            id = UUID.randomUUID();
+            id = IdGenerator.generateTimeOrderedUUID();
         }
         if (createdAt == null) {
             createdAt = LocalDateTime.now();
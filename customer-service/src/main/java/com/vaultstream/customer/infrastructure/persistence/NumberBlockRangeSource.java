@@ -0,0 +1,48 @@
+package com.vaultstream.customer.infrastructure.persistence;
+
+import com.vaultstream.common.util.RangeSource;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * PostgreSQL implementation of RangeSource backed by the number_blocks table.
+ * 
+ * Each lease row-locks the sequence in its own short transaction, so replicas
+ * never receive overlapping ranges.
+ */
+@Slf4j
+@ApplicationScoped
+public class NumberBlockRangeSource implements RangeSource {
+
+    @Inject
+    EntityManager em;
+
+    @Override
+    public long reserve(String name, int size) {
+        try {
+            return QuarkusTransaction.requiringNew().call(() -> lease(name, size));
+        } catch (PersistenceException e) {
+            // Another replica created the sequence row first; it exists now
+            log.debug("Concurrent creation of number sequence {}, retrying", name);
+            return QuarkusTransaction.requiringNew().call(() -> lease(name, size));
+        }
+    }
+
+    private long lease(String name, int size) {
+        NumberBlockEntity block = em.find(NumberBlockEntity.class, name, LockModeType.PESSIMISTIC_WRITE);
+        if (block == null) {
+            block = NumberBlockEntity.builder().name(name).nextValue(1).build();
+            em.persist(block);
+            em.flush();
+        }
+        long first = block.getNextValue();
+        block.setNextValue(first + size);
+        log.debug("Leased {} numbers of {} starting at {}", size, name, first);
+        return first;
+    }
+}
@@ -0,0 +1,16 @@
+-- ============================================================
+-- V4: Leased number sequences
+-- ============================================================
+-- Customer numbers are handed out from blocks leased from this table,
+-- replacing the in-memory counter that restarted at 1 on every boot.
+
+CREATE TABLE number_blocks (
+    name VARCHAR(50) PRIMARY KEY,
+    next_value BIGINT NOT NULL
+);
+
+-- Continue after the highest sequence issued by the old generator
+INSERT INTO number_blocks (name, next_value)
+SELECT 'customer-number', COALESCE(MAX(CAST(SUBSTRING(customer_number FROM 15) AS BIGINT)), 0) + 1
+FROM customers
+WHERE customer_number ~ '^CUST-[0-9]{8}-[0-9]+$';
@@ -1,43 +1,50 @@
 package com.vaultstream.customer.application.service;
 
+import com.vaultstream.common.util.RangeSource;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
-import java.util.HashSet;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
 import java.util.Set;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
-@org.junit.jupiter.api.extension.ExtendWith(org.mockito.junit.jupiter.MockitoExtension.class)
 @DisplayName("Customer Number Generator")
 class CustomerNumberGeneratorTest {
 
-    @org.mockito.Mock
-    com.vaultstream.customer.domain.repository.CustomerRepository customerRepository;
+    private static final int BLOCK_SIZE = 10;
 
-    @org.mockito.InjectMocks
-    CustomerNumberGenerator generator;
+    private final AtomicLong sequence = new AtomicLong(1);
+    private final AtomicInteger reservations = new AtomicInteger();
+
+    private CustomerNumberGenerator generator;
+
+    @BeforeEach
+    void setUp() {
+        RangeSource rangeSource = (name, size) -> {
+            reservations.incrementAndGet();
+            return sequence.getAndAdd(size);
+        };
+        generator = new CustomerNumberGenerator(rangeSource, BLOCK_SIZE);
+    }
 
     @Test
     @DisplayName("should generate valid customer number format")
     void shouldGenerateValidFormat() {
-        org.mockito.Mockito.when(customerRepository.existsByCustomerNumber(org.mockito.ArgumentMatchers.anyString()))
-                .thenReturn(false);
-
         String number = generator.generate();
 
-        assertThat(number).startsWith("CUST-");
-        assertThat(number.length()).isGreaterThan(10);
+        String today = LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE);
+        assertThat(number).isEqualTo("CUST-" + today + "-00001");
     }
 
     @Test
     @DisplayName("should generate unique numbers concurrently")
-    void shouldGenerateUniqueNumbers() throws InterruptedException, ExecutionException {
-        // For concurrency test, we need to ensure mock behaves correctly across threads
-        org.mockito.Mockito.when(customerRepository.existsByCustomerNumber(org.mockito.ArgumentMatchers.anyString()))
-                .thenReturn(false);
-
+    void shouldGenerateUniqueNumbers() throws InterruptedException {
         int threadCount = 100;
         ExecutorService executor = Executors.newFixedThreadPool(10);
         Set<String> numbers = ConcurrentHashMap.newKeySet();
@@ -46,9 +53,7 @@ class CustomerNumberGeneratorTest {
         for (int i = 0; i < threadCount; i++) {
             executor.submit(() -> {
                 try {
-                    String num = generator.generate();
-                    if (num != null)
-                        numbers.add(num);
+                    numbers.add(generator.generate());
                 } finally {
                     latch.countDown();
                 }
@@ -59,4 +64,14 @@ class CustomerNumberGeneratorTest {
         assertThat(numbers).hasSize(threadCount);
         executor.shutdown();
     }
+
+    @Test
+    @DisplayName("should lease one block per block size instead of querying per number")
+    void shouldLeaseOncePerBlock() {
+        for (int i = 0; i < BLOCK_SIZE * 5; i++) {
+            generator.generate();
+        }
+
+        assertThat(reservations).hasValue(5);
+    }
 }
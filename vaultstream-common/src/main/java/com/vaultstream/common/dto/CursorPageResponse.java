@@ -0,0 +1,39 @@
+package com.vaultstream.common.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Keyset-paginated response wrapper.
+ * 
+ * Pass nextCursor back to get the following page; it is null on the last
+ * page. totalElements is only present when the caller asked for it.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CursorPageResponse<T> {
+
+    private List<T> content;
+    private int size;
+    private String nextCursor;
+    private boolean hasMore;
+    private Long totalElements;
+
+    public static <T> CursorPageResponse<T> of(List<T> content, int size, String nextCursor, Long totalElements) {
+        return CursorPageResponse.<T>builder()
+                .content(content)
+                .size(size)
+                .nextCursor(nextCursor)
+                .hasMore(nextCursor != null)
+                .totalElements(totalElements)
+                .build();
+    }
+}
@@ -2,6 +2,7 @@ package com.vaultstream.common.event;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.vaultstream.common.util.IdGenerator;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -70,7 +71,7 @@ public abstract class DomainEvent {
      * Initialize event metadata
      */
     protected void initializeEventMetadata(UUID aggregateId, String aggregateType, int version) {
-        this.eventId = UUID.randomUUID();
+        this.eventId = IdGenerator.generateTimeOrderedUUID();
         this.aggregateId = aggregateId;
         this.aggregateType = aggregateType;
         this.version = version;
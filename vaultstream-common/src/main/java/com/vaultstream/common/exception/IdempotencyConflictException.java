@@ -0,0 +1,14 @@
+package com.vaultstream.common.exception;
+
+/**
+ * Exception thrown when a transaction reference is reused for a different request.
+ */
+public class IdempotencyConflictException extends VaultStreamException {
+
+    private static final String ERROR_CODE = "IDEMPOTENCY_KEY_REUSED";
+
+    public IdempotencyConflictException(String transactionReference) {
+        super(ERROR_CODE, String.format(
+                "Transaction reference %s was already used for a different request", transactionReference));
+    }
+}
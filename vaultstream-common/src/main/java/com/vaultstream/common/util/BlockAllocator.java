@@ -0,0 +1,61 @@
+package com.vaultstream.common.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hands out unique numbers from blocks leased from a {@link RangeSource}.
+ * 
+ * Numbers within a block are taken with a single atomic increment; only the
+ * thread that exhausts a block goes back to the source, once per block. Every
+ * replica leases its own blocks, so numbers are unique cluster-wide but only
+ * increase within a block, and the unused rest of a block is skipped when the
+ * process stops.
+ */
+public final class BlockAllocator {
+
+    private final RangeSource source;
+    private final String name;
+    private final int blockSize;
+
+    private volatile Block block = new Block(0, 0);
+
+    public BlockAllocator(RangeSource source, String name, int blockSize) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("Block size must be positive");
+        }
+        this.source = source;
+        this.name = name;
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * Get the next unique number
+     */
+    public long next() {
+        while (true) {
+            Block current = block;
+            long value = current.next.getAndIncrement();
+            if (value < current.end) {
+                return value;
+            }
+            refill(current);
+        }
+    }
+
+    private synchronized void refill(Block exhausted) {
+        if (block == exhausted) {
+            long first = source.reserve(name, blockSize);
+            block = new Block(first, first + blockSize);
+        }
+    }
+
+    private static final class Block {
+        final AtomicLong next;
+        final long end;
+
+        Block(long first, long end) {
+            this.next = new AtomicLong(first);
+            this.end = end;
+        }
+    }
+}
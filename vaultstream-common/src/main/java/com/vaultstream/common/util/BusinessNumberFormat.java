@@ -0,0 +1,48 @@
+package com.vaultstream.common.util;
+
+/**
+ * Formats business numbers such as ACC-00000042 or CUST-20250101-00042.
+ * 
+ * Writes the prefix and zero-padded digits straight into one char array,
+ * avoiding the format-string parsing and boxing of String.format on the
+ * create path.
+ */
+public final class BusinessNumberFormat {
+
+    private BusinessNumberFormat() {
+        // Utility class
+    }
+
+    /**
+     * Append a number to a prefix, zero-padded to at least {@code width}
+     * digits. Larger numbers keep all their digits rather than wrapping.
+     */
+    public static String format(String prefix, long value, int width) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Value must not be negative: " + value);
+        }
+        int digits = digitCount(value);
+        int length = prefix.length() + Math.max(width, digits);
+        char[] chars = new char[length];
+        prefix.getChars(0, prefix.length(), chars, 0);
+
+        int position = length;
+        long remaining = value;
+        do {
+            chars[--position] = (char) ('0' + (remaining % 10));
+            remaining /= 10;
+        } while (remaining > 0);
+        while (position > prefix.length()) {
+            chars[--position] = '0';
+        }
+        return new String(chars);
+    }
+
+    private static int digitCount(long value) {
+        int digits = 1;
+        for (long limit = 10; digits < 19 && value >= limit; limit *= 10) {
+            digits++;
+        }
+        return digits;
+    }
+}
@@ -1,12 +1,23 @@
 package com.vaultstream.common.util;
 
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Utility class for generating IDs.
  */
 public final class IdGenerator {
 
+    private static final int COUNTER_BITS = 12;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+
+    /**
+     * Last issued (unix millis << 12 | counter), shared so time-ordered IDs
+     * stay strictly increasing across threads
+     */
+    private static final AtomicLong lastTimeAndCounter = new AtomicLong();
+
     private IdGenerator() {
         // Utility class
     }
@@ -25,6 +36,51 @@ public final class IdGenerator {
         return UUID.randomUUID();
     }
 
+    /**
+     * Generate a time-ordered UUID (version 7, RFC 9562).
+     * 
+     * The top 48 bits are the unix time in milliseconds and the next 12 bits
+     * a counter, so IDs from this process are strictly increasing and
+     * inserts land at the right edge of B-tree indexes. The remaining 62
+     * bits come from ThreadLocalRandom rather than SecureRandom, so these
+     * IDs are unique but not unguessable; do not use them as secrets.
+     */
+    public static UUID generateTimeOrderedUUID() {
+        long timeAndCounter = nextTimeAndCounter();
+        long mostSigBits = (timeAndCounter >>> COUNTER_BITS) << 16
+                | 0x7000L
+                | (timeAndCounter & COUNTER_MASK);
+        long leastSigBits = ThreadLocalRandom.current().nextLong() >>> 2 | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    /**
+     * Extract the creation time in unix milliseconds from a version 7 UUID
+     */
+    public static long timestampOf(UUID timeOrderedId) {
+        if (timeOrderedId.version() != 7) {
+            throw new IllegalArgumentException("Not a time-ordered UUID: " + timeOrderedId);
+        }
+        return timeOrderedId.getMostSignificantBits() >>> 16;
+    }
+
+    /**
+     * Counter restarts at a random point below half its range each
+     * millisecond; if it runs out, the value borrows from the next
+     * millisecond instead of repeating
+     */
+    private static long nextTimeAndCounter() {
+        while (true) {
+            long last = lastTimeAndCounter.get();
+            long fresh = System.currentTimeMillis() << COUNTER_BITS
+                    | ThreadLocalRandom.current().nextInt(1 << (COUNTER_BITS - 1));
+            long next = Math.max(fresh, last + 1);
+            if (lastTimeAndCounter.compareAndSet(last, next)) {
+                return next;
+            }
+        }
+    }
+
     /**
      * Parse a string to UUID
      */
@@ -0,0 +1,17 @@
+package com.vaultstream.common.util;
+
+/**
+ * Source of contiguous number ranges for a {@link BlockAllocator}.
+ * 
+ * Implementations must never hand out overlapping ranges for the same name,
+ * whether the callers are threads in one process or replicas of a service.
+ */
+public interface RangeSource {
+
+    /**
+     * Reserve the next {@code size} consecutive numbers of a named sequence
+     *
+     * @return the first number of the reserved range
+     */
+    long reserve(String name, int size);
+}
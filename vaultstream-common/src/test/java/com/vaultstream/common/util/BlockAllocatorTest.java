@@ -0,0 +1,73 @@
+package com.vaultstream.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Block Allocator")
+class BlockAllocatorTest {
+
+    private static final int BLOCK_SIZE = 50;
+
+    private final AtomicLong sequence = new AtomicLong(1);
+    private final AtomicInteger reservations = new AtomicInteger();
+    private final RangeSource source = (name, size) -> {
+        reservations.incrementAndGet();
+        return sequence.getAndAdd(size);
+    };
+
+    @Test
+    @DisplayName("should hand out consecutive numbers from a leased block")
+    void shouldHandOutConsecutiveNumbers() {
+        BlockAllocator allocator = new BlockAllocator(source, "test", BLOCK_SIZE);
+
+        assertThat(allocator.next()).isEqualTo(1);
+        assertThat(allocator.next()).isEqualTo(2);
+        assertThat(reservations).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("should reserve one block per block size allocations")
+    void shouldReserveOncePerBlock() {
+        BlockAllocator allocator = new BlockAllocator(source, "test", BLOCK_SIZE);
+
+        for (int i = 0; i < BLOCK_SIZE * 3; i++) {
+            allocator.next();
+        }
+
+        assertThat(reservations).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("should never repeat a number across allocators and threads")
+    void shouldBeUniqueAcrossAllocatorsAndThreads() throws InterruptedException {
+        BlockAllocator first = new BlockAllocator(source, "test", BLOCK_SIZE);
+        BlockAllocator second = new BlockAllocator(source, "test", BLOCK_SIZE);
+        Set<Long> numbers = ConcurrentHashMap.newKeySet();
+        int perThread = 1_000;
+        int threads = 8;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int t = 0; t < threads; t++) {
+            BlockAllocator allocator = t % 2 == 0 ? first : second;
+            executor.submit(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    numbers.add(allocator.next());
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(numbers).hasSize(perThread * threads);
+    }
+}
@@ -0,0 +1,41 @@
+package com.vaultstream.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Business Number Format")
+class BusinessNumberFormatTest {
+
+    @Test
+    @DisplayName("should zero-pad to the requested width")
+    void shouldZeroPad() {
+        assertThat(BusinessNumberFormat.format("ACC-", 42, 8)).isEqualTo("ACC-00000042");
+        assertThat(BusinessNumberFormat.format("CUST-20250101-", 0, 5)).isEqualTo("CUST-20250101-00000");
+    }
+
+    @Test
+    @DisplayName("should match String.format for every digit count")
+    void shouldMatchStringFormat() {
+        for (long value = 1; value > 0 && value < Long.MAX_VALUE / 10; value = value * 10 + 7) {
+            assertThat(BusinessNumberFormat.format("ACC-", value, 8))
+                    .isEqualTo(String.format("ACC-%08d", value));
+        }
+        assertThat(BusinessNumberFormat.format("", Long.MAX_VALUE, 1)).isEqualTo(Long.toString(Long.MAX_VALUE));
+    }
+
+    @Test
+    @DisplayName("should keep all digits of numbers wider than the width")
+    void shouldNotTruncate() {
+        assertThat(BusinessNumberFormat.format("CUST-20250101-", 123456, 5)).isEqualTo("CUST-20250101-123456");
+    }
+
+    @Test
+    @DisplayName("should reject negative numbers")
+    void shouldRejectNegative() {
+        assertThatThrownBy(() -> BusinessNumberFormat.format("ACC-", -1, 8))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
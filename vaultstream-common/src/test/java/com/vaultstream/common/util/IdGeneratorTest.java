@@ -0,0 +1,81 @@
+package com.vaultstream.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Id Generator")
+class IdGeneratorTest {
+
+    @Test
+    @DisplayName("should generate RFC 9562 version 7 UUIDs")
+    void shouldSetVersionAndVariant() {
+        UUID id = IdGenerator.generateTimeOrderedUUID();
+
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should embed the current time in milliseconds")
+    void shouldEmbedTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID id = IdGenerator.generateTimeOrderedUUID();
+        long after = System.currentTimeMillis();
+
+        assertThat(IdGenerator.timestampOf(id)).isBetween(before, after + 1);
+    }
+
+    @Test
+    @DisplayName("should be strictly increasing within a thread")
+    void shouldBeMonotonic() {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            ids.add(IdGenerator.generateTimeOrderedUUID());
+        }
+
+        for (int i = 1; i < ids.size(); i++) {
+            assertThat(ids.get(i)).isGreaterThan(ids.get(i - 1));
+            assertThat(ids.get(i).toString()).isGreaterThan(ids.get(i - 1).toString());
+        }
+    }
+
+    @Test
+    @DisplayName("should be unique across threads")
+    void shouldBeUniqueAcrossThreads() throws InterruptedException {
+        Set<UUID> ids = ConcurrentHashMap.newKeySet();
+        int threads = 8;
+        int perThread = 50_000;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    ids.add(IdGenerator.generateTimeOrderedUUID());
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(ids).hasSize(threads * perThread);
+    }
+
+    @Test
+    @DisplayName("timestampOf() should reject random UUIDs")
+    void timestampOfShouldRejectRandomUuids() {
+        assertThatThrownBy(() -> IdGenerator.timestampOf(UUID.randomUUID()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}